@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto;
+
+import io.nem.core.crypto.ed25519.Ed25519CryptoEngine;
+import io.nem.core.crypto.ed25519.Ed25519PublicKeyCache;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519IntFieldBackend;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519LongFieldBackend;
+
+/**
+ * Names of the crypto engines that are compared by the benchmarks.
+ */
+public final class BenchmarkEngines {
+
+    /**
+     * The ED25519 engine with radix 2^25.5 field arithmetic.
+     */
+    public static final String ED25519 = "ed25519";
+
+    /**
+     * The ED25519 engine with radix 2^51 field arithmetic.
+     */
+    public static final String ED25519_RADIX51 = "ed25519Radix51";
+
+    private BenchmarkEngines() {
+    }
+
+    /**
+     * Gets a crypto engine by name.
+     *
+     * @param name The name of the engine.
+     * @return The crypto engine.
+     */
+    public static CryptoEngine get(final String name) {
+        switch (name) {
+            case ED25519:
+                return CryptoEngines.ed25519Engine();
+            case ED25519_RADIX51:
+                return CryptoEngines.ed25519Radix51Engine();
+            default:
+                throw new IllegalArgumentException("unknown engine " + name);
+        }
+    }
+
+    /**
+     * Gets a new crypto engine by name that does not cache decoded public keys,
+     * so that every verification pays for decoding the public key.
+     *
+     * @param name The name of the engine.
+     * @return The crypto engine.
+     */
+    public static CryptoEngine getUncached(final String name) {
+        switch (name) {
+            case ED25519:
+                return new Ed25519CryptoEngine(new Ed25519PublicKeyCache(0), new Ed25519IntFieldBackend());
+            case ED25519_RADIX51:
+                return new Ed25519CryptoEngine(new Ed25519PublicKeyCache(0), new Ed25519LongFieldBackend());
+            default:
+                throw new IllegalArgumentException("unknown engine " + name);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashesBenchmark {
+
+    @Param({"32", "256", "4096", "65536"})
+    public int size;
+
+    private byte[] input;
+
+    @Setup
+    public void setup() {
+        this.input = new byte[this.size];
+        new SecureRandom().nextBytes(this.input);
+    }
+
+    @Benchmark
+    public byte[] sha3_256() {
+        return Hashes.sha3_256(this.input);
+    }
+
+    @Benchmark
+    public byte[] sha3_512() {
+        return Hashes.sha3_512(this.input);
+    }
+
+    @Benchmark
+    public byte[] ripemd160() {
+        return Hashes.ripemd160(this.input);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.*;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519IntFieldBackend;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519BlockCipherBenchmark {
+
+    @Param({"64", "1024", "65536"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean isSharedSecretCached;
+
+    private BlockCipher blockCipher;
+    private byte[] data;
+    private byte[] encryptedData;
+
+    @Setup
+    public void setup() {
+        final CryptoEngine engine = CryptoEngines.ed25519Engine();
+        final KeyPair sender = KeyPair.random(engine);
+        final KeyPair recipient = KeyPair.random(engine);
+        this.blockCipher = new Ed25519BlockCipher(
+                sender,
+                recipient,
+                new Ed25519IntFieldBackend(),
+                new Ed25519SharedSecretCache(this.isSharedSecretCached ? 16 : 0));
+        this.data = new byte[this.size];
+        new SecureRandom().nextBytes(this.data);
+        this.encryptedData = this.blockCipher.encrypt(this.data);
+    }
+
+    @Benchmark
+    public byte[] encrypt() {
+        return this.blockCipher.encrypt(this.data);
+    }
+
+    @Benchmark
+    public byte[] decrypt() {
+        return this.blockCipher.decrypt(this.encryptedData);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519DsaSignerBenchmark {
+
+    @Param({BenchmarkEngines.ED25519, BenchmarkEngines.ED25519_RADIX51})
+    public String engine;
+
+    @Param({"32", "256", "4096"})
+    public int size;
+
+    private DsaSigner signer;
+    private byte[] data;
+    private Signature signature;
+
+    @Setup
+    public void setup() {
+        final CryptoEngine engine = BenchmarkEngines.get(this.engine);
+        this.signer = engine.createDsaSigner(KeyPair.random(engine));
+        this.data = new byte[this.size];
+        new SecureRandom().nextBytes(this.data);
+        this.signature = this.signer.sign(this.data);
+    }
+
+    @Benchmark
+    public Signature sign() {
+        return this.signer.sign(this.data);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return this.signer.verify(this.data, this.signature);
+    }
+
+    /**
+     * Verifies a batch of signatures of distinct signers at once.
+     */
+    @Benchmark
+    public int verifyBatch(final Batch batch) {
+        return batch.verifier.verifyBatch(batch.data, batch.publicKeys, batch.signatures);
+    }
+
+    /**
+     * Verifies the same signatures as {@link #verifyBatch(Batch)} one by one (baseline).
+     */
+    @Benchmark
+    public int verifyEach(final Batch batch) {
+        for (int i = 0; i < batch.batchSize; ++i) {
+            if (!batch.signers.get(i).verify(batch.data.get(i), batch.signatures.get(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Signatures of distinct signers, verified by engines that do not cache decoded public keys.
+     */
+    @State(Scope.Benchmark)
+    public static class Batch {
+
+        @Param({"16", "64", "256"})
+        public int batchSize;
+
+        private DsaSigner verifier;
+        private final List<DsaSigner> signers = new ArrayList<>();
+        private final List<byte[]> data = new ArrayList<>();
+        private final List<PublicKey> publicKeys = new ArrayList<>();
+        private final List<Signature> signatures = new ArrayList<>();
+
+        @Setup
+        public void setup(final Ed25519DsaSignerBenchmark benchmark) {
+            final CryptoEngine engine = BenchmarkEngines.getUncached(benchmark.engine);
+            final SecureRandom random = new SecureRandom();
+            this.verifier = engine.createDsaSigner(KeyPair.random(engine));
+            for (int i = 0; i < this.batchSize; ++i) {
+                final KeyPair keyPair = KeyPair.random(engine);
+                final byte[] input = new byte[benchmark.size];
+                random.nextBytes(input);
+                this.signers.add(engine.createDsaSigner(new KeyPair(keyPair.getPublicKey(), engine)));
+                this.data.add(input);
+                this.publicKeys.add(keyPair.getPublicKey());
+                this.signatures.add(engine.createDsaSigner(keyPair).sign(input));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519KeyGeneratorBenchmark {
+
+    @Param({BenchmarkEngines.ED25519, BenchmarkEngines.ED25519_RADIX51})
+    public String engine;
+
+    private KeyGenerator generator;
+    private PrivateKey privateKey;
+
+    @Setup
+    public void setup() {
+        final CryptoEngine engine = BenchmarkEngines.get(this.engine);
+        this.generator = engine.createKeyGenerator();
+        this.privateKey = KeyPair.random(engine).getPrivateKey();
+    }
+
+    @Benchmark
+    public PublicKey derivePublicKey() {
+        return this.generator.derivePublicKey(this.privateKey);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import io.nem.core.crypto.CryptoEngines;
+import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.ed25519.Ed25519Utils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519GroupElementBenchmark {
+    private final Ed25519FieldBackend intBackend = new Ed25519IntFieldBackend();
+    private final Ed25519FieldBackend longBackend = new Ed25519LongFieldBackend();
+    private Ed25519GroupElement A;
+    private Ed25519EncodedFieldElement a;
+
+    @Setup
+    public void setup() {
+        final KeyPair keyPair = KeyPair.random(CryptoEngines.ed25519Engine());
+        this.A = new Ed25519EncodedGroupElement(keyPair.getPublicKey().getRaw()).decode();
+        this.A.precomputeForScalarMultiplication();
+        this.a = Ed25519Utils.prepareForScalarMultiply(KeyPair.random(CryptoEngines.ed25519Engine()).getPrivateKey());
+    }
+
+    @Benchmark
+    public Ed25519GroupElement scalarMultiply() {
+        return this.A.scalarMultiply(this.a);
+    }
+
+    @Benchmark
+    public Ed25519GroupElement scalarMultiplyBasePoint() {
+        return Ed25519Group.BASE_POINT.scalarMultiply(this.a);
+    }
+
+    @Benchmark
+    public Ed25519EncodedGroupElement scalarMultiplyIntBackend() {
+        return this.intBackend.scalarMultiply(this.A, this.a);
+    }
+
+    @Benchmark
+    public Ed25519EncodedGroupElement scalarMultiplyLongBackend() {
+        return this.longBackend.scalarMultiply(this.A, this.a);
+    }
+}
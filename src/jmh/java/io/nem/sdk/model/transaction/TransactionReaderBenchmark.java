@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.XEM;
+import org.bouncycastle.util.encoders.Hex;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionReaderBenchmark {
+
+    @Param({"0", "1", "50"})
+    public int innerTransactions;
+
+    private byte[] payload;
+    private ByteBuffer buffer;
+    private String hexPayload;
+
+    @Setup
+    public void setup() {
+        Account account = new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", NetworkType.MIJIN_TEST);
+        Address recipient = new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST);
+        TransferTransaction transfer = TransferTransaction.create(new Deadline(2, ChronoUnit.HOURS), recipient,
+                Collections.singletonList(XEM.createRelative(BigInteger.TEN)), PlainMessage.create("benchmark"), NetworkType.MIJIN_TEST);
+        Transaction transaction = transfer;
+        if (0 != this.innerTransactions) {
+            List<Transaction> inner = new ArrayList<>();
+            for (int i = 0; i < this.innerTransactions; i++) {
+                inner.add(transfer.toAggregate(account.getPublicAccount()));
+            }
+
+            transaction = AggregateTransaction.createComplete(new Deadline(2, ChronoUnit.HOURS), inner, NetworkType.MIJIN_TEST);
+        }
+
+        this.hexPayload = transaction.signWith(account).getPayload();
+        this.payload = Hex.decode(this.hexPayload);
+        this.buffer = ByteBuffer.wrap(this.payload);
+    }
+
+    @Benchmark
+    public Transaction readBytes() {
+        return TransactionReader.read(this.payload);
+    }
+
+    @Benchmark
+    public Transaction readBuffer() {
+        return TransactionReader.read(this.buffer);
+    }
+
+    @Benchmark
+    public Transaction readHex() {
+        return TransactionReader.read(Hex.decode(this.hexPayload));
+    }
+}
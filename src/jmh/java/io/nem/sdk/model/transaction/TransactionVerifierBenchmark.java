@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.PublicKey;
+import io.nem.core.crypto.Signature;
+import io.nem.core.crypto.Signer;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.XEM;
+import org.bouncycastle.util.encoders.Hex;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionVerifierBenchmark {
+    private static final int TRANSACTIONS = 1000;
+
+    // fetched transactions of distinct signers, as read from their signed payloads
+    private final List<Transaction> transactions = new ArrayList<>();
+    private ForkJoinPool pool;
+    private TransactionVerifier verifier;
+
+    @Setup
+    public void setup() {
+        Address recipient = new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            Account account = new Account(new KeyPair(), NetworkType.MIJIN_TEST);
+            TransferTransaction transfer = TransferTransaction.create(new Deadline(2, ChronoUnit.HOURS), recipient,
+                    Collections.singletonList(XEM.createRelative(BigInteger.valueOf(i))), PlainMessage.create("benchmark"), NetworkType.MIJIN_TEST);
+            this.transactions.add(TransactionReader.read(Hex.decode(transfer.signWith(account).getPayload())));
+        }
+
+        this.pool = new ForkJoinPool(1);
+        this.verifier = new TransactionVerifier(this.pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Verifies the transactions in batches on a single worker thread.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTIONS)
+    public int indexOfInvalid() {
+        return this.verifier.indexOfInvalid(this.transactions);
+    }
+
+    /**
+     * Verifies the same transactions one by one (baseline).
+     */
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTIONS)
+    public int verifyEach() {
+        for (int i = 0; i < TRANSACTIONS; ++i) {
+            Transaction transaction = this.transactions.get(i);
+            byte[] bytes = transaction.generateBytes();
+            Signer signer = new Signer(new KeyPair(PublicKey.fromHexString(transaction.getSigner().get().getPublicKey())));
+            Signature signature = new Signature(Hex.decode(transaction.getSignature().get()));
+            if (!signer.verify(Arrays.copyOfRange(bytes, 100, bytes.length), signature)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
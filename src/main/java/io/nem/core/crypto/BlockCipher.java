@@ -16,6 +16,10 @@
 
 package io.nem.core.crypto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 /**
  * Interface for encryption and decryption of data.
  */
@@ -36,4 +40,26 @@ public interface BlockCipher {
      * @return The decrypted message or null if decryption failed.
      */
     byte[] decrypt(final byte[] input);
+
+    /**
+     * Encrypts a message read from a stream without buffering the whole message.
+     * The streams are not closed.
+     *
+     * @param input  The stream of the message to encrypt.
+     * @param output The stream the encrypted message is written to.
+     * @throws IOException if reading or writing a stream failed.
+     */
+    void encrypt(final InputStream input, final OutputStream output) throws IOException;
+
+    /**
+     * Decrypts a message read from a stream without buffering the whole message.
+     * The streams are not closed. Since decrypted data is written before the end of the message is reached,
+     * everything written to the output must be discarded if decryption fails.
+     *
+     * @param input  The stream of the message to decrypt.
+     * @param output The stream the decrypted message is written to.
+     * @throws IOException     if reading or writing a stream failed.
+     * @throws CryptoException if decryption failed.
+     */
+    void decrypt(final InputStream input, final OutputStream output) throws IOException;
 }
@@ -16,6 +16,10 @@
 
 package io.nem.core.crypto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 /**
  * Wraps IES encryption and decryption logic.
  */
@@ -61,4 +65,14 @@ public class Cipher implements BlockCipher {
     public byte[] decrypt(final byte[] input) {
         return this.cipher.decrypt(input);
     }
+
+    @Override
+    public void encrypt(final InputStream input, final OutputStream output) throws IOException {
+        this.cipher.encrypt(input, output);
+    }
+
+    @Override
+    public void decrypt(final InputStream input, final OutputStream output) throws IOException {
+        this.cipher.decrypt(input, output);
+    }
 }
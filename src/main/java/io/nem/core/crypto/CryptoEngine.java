@@ -36,6 +36,14 @@ public interface CryptoEngine {
      */
     DsaSigner createDsaSigner(final KeyPair keyPair);
 
+    /**
+     * Creates a prepared signer that derives the signing secrets from the private key only once.
+     *
+     * @param keyPair The key pair (must contain a private key).
+     * @return The prepared signer.
+     */
+    PreparedSigner createPreparedSigner(final KeyPair keyPair);
+
     /**
      * Creates a key generator.
      *
@@ -17,6 +17,8 @@
 package io.nem.core.crypto;
 
 import io.nem.core.crypto.ed25519.Ed25519CryptoEngine;
+import io.nem.core.crypto.ed25519.Ed25519PublicKeyCache;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519LongFieldBackend;
 
 /**
  * Static class that exposes crypto engines.
@@ -24,10 +26,14 @@ import io.nem.core.crypto.ed25519.Ed25519CryptoEngine;
 public class CryptoEngines {
 
     private static final CryptoEngine ED25519_ENGINE;
+    private static final CryptoEngine ED25519_RADIX51_ENGINE;
     private static final CryptoEngine DEFAULT_ENGINE;
 
     static {
         ED25519_ENGINE = new Ed25519CryptoEngine();
+        ED25519_RADIX51_ENGINE = new Ed25519CryptoEngine(
+                new Ed25519PublicKeyCache(Ed25519CryptoEngine.DEFAULT_PUBLIC_KEY_CACHE_BUDGET),
+                new Ed25519LongFieldBackend());
         DEFAULT_ENGINE = ED25519_ENGINE;
     }
 
@@ -48,4 +54,14 @@ public class CryptoEngines {
     public static CryptoEngine ed25519Engine() {
         return ED25519_ENGINE;
     }
+
+    /**
+     * Gets the ED25519 crypto engine that uses 51 bit limbs stored in longs for the field arithmetic.
+     * It creates the same keys and signatures as the ED25519 crypto engine.
+     *
+     * @return The ED25519 crypto engine with radix 2^51 field arithmetic.
+     */
+    public static CryptoEngine ed25519Radix51Engine() {
+        return ED25519_RADIX51_ENGINE;
+    }
 }
@@ -16,6 +16,8 @@
 
 package io.nem.core.crypto;
 
+import java.util.List;
+
 /**
  * Interface that supports signing and verification of arbitrarily sized message.
  */
@@ -38,6 +40,20 @@ public interface DsaSigner {
      */
     boolean verify(final byte[] data, final Signature signature);
 
+    /**
+     * Verifies a batch of signatures created by (possibly) different signers.
+     * The i-th signature is checked against the i-th message and the i-th public key.
+     * An implementation may accept a batch by an equation that is weaker than {@link #verify} for signatures that
+     * only an owner of the private key can create, like the cofactored Ed25519 equation; the index of an invalid
+     * signature is always decided by {@link #verify}.
+     *
+     * @param data       The original messages.
+     * @param publicKeys The public keys of the signers.
+     * @param signatures The generated signatures.
+     * @return -1 if all signatures are valid, otherwise the index of the first invalid signature.
+     */
+    int verifyBatch(final List<byte[]> data, final List<PublicKey> publicKeys, final List<Signature> signatures);
+
     /**
      * Determines if the signature is canonical.
      *
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto;
+
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable, streaming hash function.
+ * <br>
+ * The state is reset after each digest, so a single instance can calculate any number of hashes.
+ * Instances are not thread safe.
+ */
+public final class Hasher {
+    private static final int BUFFER_SIZE = 1024;
+
+    private final Digest digest;
+    private byte[] buffer;
+
+    private Hasher(final Digest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Creates a SHA3-256 hasher.
+     *
+     * @return The hasher.
+     */
+    public static Hasher sha3_256() {
+        return new Hasher(new SHA3Digest(256));
+    }
+
+    /**
+     * Creates a SHA3-512 hasher.
+     *
+     * @return The hasher.
+     */
+    public static Hasher sha3_512() {
+        return new Hasher(new SHA3Digest(512));
+    }
+
+    /**
+     * Creates a RIPEMD160 hasher.
+     *
+     * @return The hasher.
+     */
+    public static Hasher ripemd160() {
+        return new Hasher(new RIPEMD160Digest());
+    }
+
+    /**
+     * Gets the length of the hashes in bytes.
+     *
+     * @return The hash length.
+     */
+    public int getHashLength() {
+        return this.digest.getDigestSize();
+    }
+
+    /**
+     * Appends a byte array to the hashed input.
+     *
+     * @param input The input.
+     * @return This hasher.
+     */
+    public Hasher update(final byte[] input) {
+        return this.update(input, 0, input.length);
+    }
+
+    /**
+     * Appends a part of a byte array to the hashed input.
+     *
+     * @param input  The input.
+     * @param offset The offset of the first byte to hash.
+     * @param length The number of bytes to hash.
+     * @return This hasher.
+     */
+    public Hasher update(final byte[] input, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > input.length - length) {
+            throw new IndexOutOfBoundsException("offset and length must describe a range of the input");
+        }
+
+        this.digest.update(input, offset, length);
+        return this;
+    }
+
+    /**
+     * Appends the remaining bytes of a buffer to the hashed input.
+     * The position of the buffer is advanced to its limit.
+     * Heap buffers (and slices of them) are hashed in place, other buffers are copied in small chunks.
+     *
+     * @param input The input.
+     * @return This hasher.
+     */
+    public Hasher update(final ByteBuffer input) {
+        final int length = input.remaining();
+        if (input.hasArray()) {
+            this.digest.update(input.array(), input.arrayOffset() + input.position(), length);
+            input.position(input.limit());
+            return this;
+        }
+
+        if (null == this.buffer) {
+            this.buffer = new byte[BUFFER_SIZE];
+        }
+
+        while (input.hasRemaining()) {
+            final int chunkLength = Math.min(input.remaining(), this.buffer.length);
+            input.get(this.buffer, 0, chunkLength);
+            this.digest.update(this.buffer, 0, chunkLength);
+        }
+
+        return this;
+    }
+
+    /**
+     * Finishes the hash calculation and resets the hasher.
+     *
+     * @return The hash.
+     */
+    public byte[] digest() {
+        final byte[] hash = new byte[this.getHashLength()];
+        this.digest.doFinal(hash, 0);
+        return hash;
+    }
+
+    /**
+     * Finishes the hash calculation, writes the hash into an array and resets the hasher.
+     *
+     * @param output The array receiving the hash.
+     * @param offset The offset in the array at which the hash is written.
+     * @return The hash length.
+     * @throws IllegalArgumentException if the hash does not fit into the array at the offset.
+     */
+    public int digest(final byte[] output, final int offset) {
+        final int length = this.getHashLength();
+        if (offset < 0 || offset > output.length - length) {
+            throw new IllegalArgumentException("output is too small for hash");
+        }
+
+        return this.digest.doFinal(output, offset);
+    }
+
+    /**
+     * Creates an independent hasher that starts with the current state of this hasher.
+     * This can be used to absorb a common prefix once and hash many inputs with that prefix.
+     *
+     * @return The copy.
+     */
+    public Hasher copy() {
+        if (this.digest instanceof SHA3Digest) {
+            return new Hasher(new SHA3Digest((SHA3Digest) this.digest));
+        }
+
+        return new Hasher(new RIPEMD160Digest((RIPEMD160Digest) this.digest));
+    }
+
+    /**
+     * Discards the input hashed so far.
+     */
+    public void reset() {
+        this.digest.reset();
+    }
+}
@@ -16,16 +16,20 @@
 
 package io.nem.core.crypto;
 
-import io.nem.core.utils.ExceptionUtils;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
-import java.security.MessageDigest;
+import java.nio.ByteBuffer;
 import java.security.Security;
 
 /**
  * Static class that exposes hash functions.
+ * <br>
+ * The byte array functions reuse one hasher per algorithm and thread instead of creating a new digest for each call.
  */
 public class Hashes {
+    private static final ThreadLocal<Hasher> SHA3_256 = ThreadLocal.withInitial(Hasher::sha3_256);
+    private static final ThreadLocal<Hasher> SHA3_512 = ThreadLocal.withInitial(Hasher::sha3_512);
+    private static final ThreadLocal<Hasher> RIPEMD160 = ThreadLocal.withInitial(Hasher::ripemd160);
 
     static {
         Security.addProvider(new BouncyCastleProvider());
@@ -36,10 +40,21 @@ public class Hashes {
      *
      * @param inputs The byte arrays to concatenate and hash.
      * @return The hash of the concatenated inputs.
-     * @throws CryptoException if the hash operation failed.
      */
     public static byte[] sha3_256(final byte[]... inputs) {
-        return hash("SHA3-256", inputs);
+        return hash(SHA3_256, inputs);
+    }
+
+    /**
+     * Performs a SHA3-256 hash of the remaining bytes of a buffer and writes it into an array.
+     * The position of the buffer is advanced to its limit.
+     *
+     * @param input  The input.
+     * @param output The array receiving the hash.
+     * @param offset The offset in the array at which the 32 byte hash is written.
+     */
+    public static void sha3_256(final ByteBuffer input, final byte[] output, final int offset) {
+        hash(SHA3_256, input, output, offset);
     }
 
     /**
@@ -47,10 +62,21 @@ public class Hashes {
      *
      * @param inputs The byte arrays to concatenate and hash.
      * @return The hash of the concatenated inputs.
-     * @throws CryptoException if the hash operation failed.
      */
     public static byte[] sha3_512(final byte[]... inputs) {
-        return hash("SHA3-512", inputs);
+        return hash(SHA3_512, inputs);
+    }
+
+    /**
+     * Performs a SHA3-512 hash of the remaining bytes of a buffer and writes it into an array.
+     * The position of the buffer is advanced to its limit.
+     *
+     * @param input  The input.
+     * @param output The array receiving the hash.
+     * @param offset The offset in the array at which the 64 byte hash is written.
+     */
+    public static void sha3_512(final ByteBuffer input, final byte[] output, final int offset) {
+        hash(SHA3_512, input, output, offset);
     }
 
     /**
@@ -58,23 +84,45 @@ public class Hashes {
      *
      * @param inputs The byte arrays to concatenate and hash.
      * @return The hash of the concatenated inputs.
-     * @throws CryptoException if the hash operation failed.
      */
     public static byte[] ripemd160(final byte[]... inputs) {
-        return hash("RIPEMD160", inputs);
+        return hash(RIPEMD160, inputs);
+    }
+
+    /**
+     * Performs a RIPEMD160 hash of the remaining bytes of a buffer and writes it into an array.
+     * The position of the buffer is advanced to its limit.
+     *
+     * @param input  The input.
+     * @param output The array receiving the hash.
+     * @param offset The offset in the array at which the 20 byte hash is written.
+     */
+    public static void ripemd160(final ByteBuffer input, final byte[] output, final int offset) {
+        hash(RIPEMD160, input, output, offset);
     }
 
-    private static byte[] hash(final String algorithm, final byte[]... inputs) {
-        return ExceptionUtils.propagate(
-                () -> {
-                    final MessageDigest digest = MessageDigest.getInstance(algorithm, "BC");
+    private static byte[] hash(final ThreadLocal<Hasher> threadLocalHasher, final byte[]... inputs) {
+        final Hasher hasher = threadLocalHasher.get();
+        try {
+            for (final byte[] input : inputs) {
+                hasher.update(input);
+            }
 
-                    for (final byte[] input : inputs) {
-                        digest.update(input);
-                    }
+            return hasher.digest();
+        } catch (final RuntimeException e) {
+            // don't leave partial input behind for the next hash on this thread
+            hasher.reset();
+            throw e;
+        }
+    }
 
-                    return digest.digest();
-                },
-                CryptoException::new);
+    private static void hash(final ThreadLocal<Hasher> threadLocalHasher, final ByteBuffer input, final byte[] output, final int offset) {
+        final Hasher hasher = threadLocalHasher.get();
+        try {
+            hasher.update(input).digest(output, offset);
+        } catch (final RuntimeException e) {
+            hasher.reset();
+            throw e;
+        }
     }
 }
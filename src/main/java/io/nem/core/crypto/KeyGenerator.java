@@ -16,6 +16,8 @@
 
 package io.nem.core.crypto;
 
+import java.util.List;
+
 /**
  * Interface for generating keys.
  */
@@ -35,4 +37,13 @@ public interface KeyGenerator {
      * @return The public key.
      */
     PublicKey derivePublicKey(final PrivateKey privateKey);
+
+    /**
+     * Derives the public keys of private keys.
+     * Deriving a batch of public keys is faster than deriving them one by one.
+     *
+     * @param privateKeys the private keys.
+     * @return The public keys in the order of the private keys.
+     */
+    List<PublicKey> derivePublicKeys(final List<PrivateKey> privateKeys);
 }
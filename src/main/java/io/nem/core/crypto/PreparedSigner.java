@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto;
+
+/**
+ * A signer that is bound to a single key pair and keeps the secrets derived from its private key between signatures.
+ * It must be closed when it is no longer needed so that the derived secrets are erased.
+ */
+public interface PreparedSigner extends AutoCloseable {
+
+    /**
+     * Gets the public key of the signer.
+     *
+     * @return The public key.
+     */
+    PublicKey getPublicKey();
+
+    /**
+     * Signs the SHA3 hash of an arbitrarily sized message.
+     *
+     * @param data The message to sign.
+     * @return The generated signature.
+     * @throws CryptoException if the signer has been closed.
+     */
+    Signature sign(final byte[] data);
+
+    /**
+     * Erases the secrets derived from the private key.
+     */
+    @Override
+    void close();
+}
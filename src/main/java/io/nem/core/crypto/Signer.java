@@ -16,6 +16,8 @@
 
 package io.nem.core.crypto;
 
+import java.util.List;
+
 /**
  * Wraps DSA signing and verification logic.
  */
@@ -60,6 +62,11 @@ public class Signer implements DsaSigner {
         return this.signer.verify(data, signature);
     }
 
+    @Override
+    public int verifyBatch(final List<byte[]> data, final List<PublicKey> publicKeys, final List<Signature> signatures) {
+        return this.signer.verifyBatch(data, publicKeys, signatures);
+    }
+
     @Override
     public boolean isCanonicalSignature(final Signature signature) {
         return this.signer.isCanonicalSignature(signature);
@@ -18,9 +18,12 @@ package io.nem.core.crypto.ed25519;
 
 import io.nem.core.crypto.*;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519FieldBackend;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519IntFieldBackend;
 import org.bouncycastle.crypto.BufferedBlockCipher;
 import org.bouncycastle.crypto.CipherParameters;
+import org.bouncycastle.crypto.DataLengthException;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.bouncycastle.crypto.engines.AESEngine;
 import org.bouncycastle.crypto.modes.CBCBlockCipher;
@@ -30,6 +33,9 @@ import org.bouncycastle.crypto.paddings.PaddedBufferedBlockCipher;
 import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.crypto.params.ParametersWithIV;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.SecureRandom;
 import java.util.Arrays;
 
@@ -37,16 +43,50 @@ import java.util.Arrays;
  * Implementation of the block cipher for Ed25519.
  */
 public class Ed25519BlockCipher implements BlockCipher {
+    private static final int IV_LENGTH = 16;
+    private static final int STREAM_BUFFER_SIZE = 4096;
+
     private final KeyPair senderKeyPair;
     private final KeyPair recipientKeyPair;
     private final SecureRandom random;
     private final int keyLength;
+    private final Ed25519FieldBackend backend;
+    private final Ed25519SharedSecretCache sharedSecretCache;
 
     public Ed25519BlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
+        this(senderKeyPair, recipientKeyPair, new Ed25519IntFieldBackend());
+    }
+
+    /**
+     * Creates a block cipher with a custom field backend.
+     *
+     * @param senderKeyPair    The sender key pair.
+     * @param recipientKeyPair The recipient key pair.
+     * @param backend          The field backend used for deriving the shared key.
+     */
+    public Ed25519BlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair, final Ed25519FieldBackend backend) {
+        this(senderKeyPair, recipientKeyPair, backend, new Ed25519SharedSecretCache(0));
+    }
+
+    /**
+     * Creates a block cipher with a custom field backend and a cache of shared points.
+     *
+     * @param senderKeyPair     The sender key pair.
+     * @param recipientKeyPair  The recipient key pair.
+     * @param backend           The field backend used for deriving the shared key.
+     * @param sharedSecretCache The cache of the shared points of sender and recipient.
+     */
+    public Ed25519BlockCipher(
+            final KeyPair senderKeyPair,
+            final KeyPair recipientKeyPair,
+            final Ed25519FieldBackend backend,
+            final Ed25519SharedSecretCache sharedSecretCache) {
         this.senderKeyPair = senderKeyPair;
         this.recipientKeyPair = recipientKeyPair;
         this.random = new SecureRandom();
         this.keyLength = recipientKeyPair.getPublicKey().getRaw().length;
+        this.backend = backend;
+        this.sharedSecretCache = sharedSecretCache;
     }
 
     @Override
@@ -59,7 +99,7 @@ public class Ed25519BlockCipher implements BlockCipher {
         final byte[] sharedKey = this.getSharedKey(this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey(), salt);
 
         // Setup IV.
-        final byte[] ivData = new byte[16];
+        final byte[] ivData = new byte[IV_LENGTH];
         this.random.nextBytes(ivData);
 
         // Setup block cipher.
@@ -98,6 +138,48 @@ public class Ed25519BlockCipher implements BlockCipher {
         return this.transform(cipher, encData);
     }
 
+    @Override
+    public void encrypt(final InputStream input, final OutputStream output) throws IOException {
+        // Setup salt.
+        final byte[] salt = new byte[this.keyLength];
+        this.random.nextBytes(salt);
+
+        // Derive shared key.
+        final byte[] sharedKey = this.getSharedKey(this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey(), salt);
+
+        // Setup IV.
+        final byte[] ivData = new byte[IV_LENGTH];
+        this.random.nextBytes(ivData);
+
+        // Setup block cipher.
+        final BufferedBlockCipher cipher = this.setupBlockCipher(sharedKey, ivData, true);
+
+        // Encode.
+        output.write(salt);
+        output.write(ivData);
+        this.transform(cipher, input, output);
+    }
+
+    @Override
+    public void decrypt(final InputStream input, final OutputStream output) throws IOException {
+        final byte[] header = new byte[this.keyLength + IV_LENGTH];
+        if (readFully(input, header) < header.length) {
+            throw new CryptoException("encrypted message is too short");
+        }
+
+        final byte[] salt = Arrays.copyOfRange(header, 0, this.keyLength);
+        final byte[] ivData = Arrays.copyOfRange(header, this.keyLength, header.length);
+
+        // Derive shared key.
+        final byte[] sharedKey = this.getSharedKey(this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey(), salt);
+
+        // Setup block cipher.
+        final BufferedBlockCipher cipher = this.setupBlockCipher(sharedKey, ivData, false);
+
+        // Decode.
+        this.transform(cipher, input, output);
+    }
+
     private byte[] transform(final BufferedBlockCipher cipher, final byte[] data) {
         final byte[] buf = new byte[cipher.getOutputSize(data.length)];
         int length = cipher.processBytes(data, 0, data.length, buf, 0);
@@ -110,6 +192,37 @@ public class Ed25519BlockCipher implements BlockCipher {
         return Arrays.copyOf(buf, length);
     }
 
+    private void transform(final BufferedBlockCipher cipher, final InputStream input, final OutputStream output) throws IOException {
+        final byte[] inputBuffer = new byte[STREAM_BUFFER_SIZE];
+        final byte[] outputBuffer = new byte[cipher.getUpdateOutputSize(STREAM_BUFFER_SIZE) + 2 * cipher.getBlockSize()];
+        int bytesRead;
+        while (-1 != (bytesRead = input.read(inputBuffer))) {
+            final int length = cipher.processBytes(inputBuffer, 0, bytesRead, outputBuffer, 0);
+            output.write(outputBuffer, 0, length);
+        }
+
+        try {
+            final int length = cipher.doFinal(outputBuffer, 0);
+            output.write(outputBuffer, 0, length);
+        } catch (final InvalidCipherTextException | DataLengthException e) {
+            throw new CryptoException("decryption failed", e);
+        }
+    }
+
+    private static int readFully(final InputStream input, final byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            final int bytesRead = input.read(buffer, offset, buffer.length - offset);
+            if (-1 == bytesRead) {
+                break;
+            }
+
+            offset += bytesRead;
+        }
+
+        return offset;
+    }
+
     private BufferedBlockCipher setupBlockCipher(final byte[] sharedKey, final byte[] ivData, final boolean forEncryption) {
         // Setup cipher parameters with key and IV.
         final KeyParameter keyParam = new KeyParameter(sharedKey);
@@ -124,13 +237,21 @@ public class Ed25519BlockCipher implements BlockCipher {
     }
 
     private byte[] getSharedKey(final PrivateKey privateKey, final PublicKey publicKey, final byte[] salt) {
-        final Ed25519GroupElement senderA = new Ed25519EncodedGroupElement(publicKey.getRaw()).decode();
-        senderA.precomputeForScalarMultiplication();
-        final byte[] sharedKey = senderA.scalarMultiply(Ed25519Utils.prepareForScalarMultiply(privateKey)).encode().getRaw();
-        for (int i = 0; i < this.keyLength; i++) {
-            sharedKey[i] ^= salt[i];
+        final byte[] sharedKey = this.sharedSecretCache.get(privateKey, publicKey, () -> this.deriveSharedPoint(privateKey, publicKey));
+        try {
+            for (int i = 0; i < this.keyLength; i++) {
+                sharedKey[i] ^= salt[i];
+            }
+
+            return Hashes.sha3_256(sharedKey);
+        } finally {
+            Arrays.fill(sharedKey, (byte) 0);
         }
+    }
 
-        return Hashes.sha3_256(sharedKey);
+    private byte[] deriveSharedPoint(final PrivateKey privateKey, final PublicKey publicKey) {
+        final Ed25519GroupElement senderA = new Ed25519EncodedGroupElement(publicKey.getRaw()).decode();
+        senderA.precomputeForScalarMultiplication();
+        return this.backend.scalarMultiply(senderA, Ed25519Utils.prepareForScalarMultiply(privateKey)).getRaw();
     }
 }
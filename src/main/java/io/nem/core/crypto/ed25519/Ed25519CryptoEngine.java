@@ -17,12 +17,97 @@
 package io.nem.core.crypto.ed25519;
 
 import io.nem.core.crypto.*;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519FieldBackend;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519IntFieldBackend;
 
 /**
  * Class that wraps the Ed25519 specific implementation.
  */
 public class Ed25519CryptoEngine implements CryptoEngine {
 
+    /**
+     * The default memory budget of the public key cache (about 5000 public keys).
+     */
+    public static final long DEFAULT_PUBLIC_KEY_CACHE_BUDGET = 16 * 1024 * 1024;
+
+    /**
+     * The default capacity of the shared secret cache.
+     */
+    public static final int DEFAULT_SHARED_SECRET_CACHE_CAPACITY = 1024;
+
+    private final Ed25519PublicKeyCache publicKeyCache;
+    private final Ed25519SharedSecretCache sharedSecretCache;
+    private final Ed25519FieldBackend backend;
+
+    /**
+     * Creates an engine with a public key cache of the default size.
+     */
+    public Ed25519CryptoEngine() {
+        this(new Ed25519PublicKeyCache(DEFAULT_PUBLIC_KEY_CACHE_BUDGET));
+    }
+
+    /**
+     * Creates an engine.
+     *
+     * @param publicKeyCache The cache of decoded public keys shared by all DSA signers created by this engine.
+     */
+    public Ed25519CryptoEngine(final Ed25519PublicKeyCache publicKeyCache) {
+        this(publicKeyCache, new Ed25519IntFieldBackend());
+    }
+
+    /**
+     * Creates an engine with a custom field backend.
+     *
+     * @param publicKeyCache The cache of decoded public keys shared by all DSA signers created by this engine.
+     * @param backend        The field backend used by all signers, key generators and block ciphers created by this engine.
+     */
+    public Ed25519CryptoEngine(final Ed25519PublicKeyCache publicKeyCache, final Ed25519FieldBackend backend) {
+        this(publicKeyCache, new Ed25519SharedSecretCache(DEFAULT_SHARED_SECRET_CACHE_CAPACITY), backend);
+    }
+
+    /**
+     * Creates an engine with a custom shared secret cache and field backend.
+     *
+     * @param publicKeyCache    The cache of decoded public keys shared by all DSA signers created by this engine.
+     * @param sharedSecretCache The cache of shared points shared by all block ciphers created by this engine.
+     * @param backend           The field backend used by all signers, key generators and block ciphers created by this engine.
+     */
+    public Ed25519CryptoEngine(
+            final Ed25519PublicKeyCache publicKeyCache,
+            final Ed25519SharedSecretCache sharedSecretCache,
+            final Ed25519FieldBackend backend) {
+        this.publicKeyCache = publicKeyCache;
+        this.sharedSecretCache = sharedSecretCache;
+        this.backend = backend;
+    }
+
+    /**
+     * Gets the cache of decoded public keys.
+     *
+     * @return The public key cache.
+     */
+    public Ed25519PublicKeyCache getPublicKeyCache() {
+        return this.publicKeyCache;
+    }
+
+    /**
+     * Gets the cache of shared points.
+     *
+     * @return The shared secret cache.
+     */
+    public Ed25519SharedSecretCache getSharedSecretCache() {
+        return this.sharedSecretCache;
+    }
+
+    /**
+     * Gets the field backend.
+     *
+     * @return The field backend.
+     */
+    public Ed25519FieldBackend getBackend() {
+        return this.backend;
+    }
+
     @Override
     public Curve getCurve() {
         return Ed25519Curve.ed25519();
@@ -30,17 +115,22 @@ public class Ed25519CryptoEngine implements CryptoEngine {
 
     @Override
     public DsaSigner createDsaSigner(final KeyPair keyPair) {
-        return new Ed25519DsaSigner(keyPair);
+        return new Ed25519DsaSigner(keyPair, this.publicKeyCache, this.backend);
+    }
+
+    @Override
+    public PreparedSigner createPreparedSigner(final KeyPair keyPair) {
+        return new Ed25519PreparedSigner(keyPair, this.backend);
     }
 
     @Override
     public KeyGenerator createKeyGenerator() {
-        return new Ed25519KeyGenerator();
+        return new Ed25519KeyGenerator(this.backend);
     }
 
     @Override
     public BlockCipher createBlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
-        return new Ed25519BlockCipher(senderKeyPair, recipientKeyPair);
+        return new Ed25519BlockCipher(senderKeyPair, recipientKeyPair, this.backend, this.sharedSecretCache);
     }
 
     @Override
@@ -19,27 +19,58 @@ package io.nem.core.crypto.ed25519;
 import io.nem.core.crypto.*;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519FieldBackend;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519Group;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519IntFieldBackend;
 import io.nem.core.utils.ArrayUtils;
 
 import java.math.BigInteger;
+import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Implementation of the DSA signer for Ed25519.
  */
 public class Ed25519DsaSigner implements DsaSigner {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Ed25519EncodedFieldElement ZERO_SCALAR = new Ed25519EncodedFieldElement(new byte[32]);
 
     private final KeyPair keyPair;
+    private final Ed25519PublicKeyCache publicKeyCache;
+    private final Ed25519FieldBackend backend;
 
     /**
-     * Creates a Ed25519 DSA signer.
+     * Creates a Ed25519 DSA signer that does not cache decoded public keys.
      *
      * @param keyPair The key pair to use.
      */
     public Ed25519DsaSigner(final KeyPair keyPair) {
+        this(keyPair, new Ed25519PublicKeyCache(0));
+    }
+
+    /**
+     * Creates a Ed25519 DSA signer.
+     *
+     * @param keyPair        The key pair to use.
+     * @param publicKeyCache The cache of decoded public keys used during verification.
+     */
+    public Ed25519DsaSigner(final KeyPair keyPair, final Ed25519PublicKeyCache publicKeyCache) {
+        this(keyPair, publicKeyCache, new Ed25519IntFieldBackend());
+    }
+
+    /**
+     * Creates a Ed25519 DSA signer with a custom field backend.
+     *
+     * @param keyPair        The key pair to use.
+     * @param publicKeyCache The cache of decoded public keys used during verification.
+     * @param backend        The field backend used for signing and (single) verification.
+     */
+    public Ed25519DsaSigner(final KeyPair keyPair, final Ed25519PublicKeyCache publicKeyCache, final Ed25519FieldBackend backend) {
         this.keyPair = keyPair;
+        this.publicKeyCache = publicKeyCache;
+        this.backend = backend;
     }
 
     /**
@@ -51,6 +82,15 @@ public class Ed25519DsaSigner implements DsaSigner {
         return this.keyPair;
     }
 
+    /**
+     * Gets the field backend.
+     *
+     * @return The field backend.
+     */
+    public Ed25519FieldBackend getBackend() {
+        return this.backend;
+    }
+
     @Override
     public Signature sign(final byte[] data) {
         if (!this.getKeyPair().hasPrivateKey()) {
@@ -69,8 +109,7 @@ public class Ed25519DsaSigner implements DsaSigner {
         final Ed25519EncodedFieldElement rModQ = r.modQ();
 
         // R = rModQ * base point.
-        final Ed25519GroupElement R = Ed25519Group.BASE_POINT.scalarMultiply(rModQ);
-        final Ed25519EncodedGroupElement encodedR = R.encode();
+        final Ed25519EncodedGroupElement encodedR = this.getBackend().scalarMultiplyBasePoint(rModQ);
 
         // S = (r + H(encodedR, encodedA, data) * a) mod group order where
         // encodedR and encodedA are the little endian encodings of the group element R and the public key A and
@@ -99,13 +138,42 @@ public class Ed25519DsaSigner implements DsaSigner {
             return false;
         }
 
-        if (1 == ArrayUtils.isEqualConstantTime(this.getKeyPair().getPublicKey().getRaw(), new byte[32])) {
+        return this.verify(this.getKeyPair().getPublicKey().getRaw(), data, signature);
+    }
+
+    @Override
+    public int verifyBatch(final List<byte[]> data, final List<PublicKey> publicKeys, final List<Signature> signatures) {
+        if (data.size() != publicKeys.size() || data.size() != signatures.size()) {
+            throw new IllegalArgumentException("number of messages, public keys and signatures must match");
+        }
+
+        if (this.isBatchValid(data, publicKeys, signatures)) {
+            return -1;
+        }
+
+        // the batch equation does not tell which signature is bad, so fall back to verifying one by one
+        for (int i = 0; i < data.size(); ++i) {
+            final Signature signature = signatures.get(i);
+            try {
+                if (!this.isCanonicalSignature(signature) || !this.verify(publicKeys.get(i).getRaw(), data.get(i), signature)) {
+                    return i;
+                }
+            } catch (final IllegalArgumentException e) {
+                // the public key is not a point on the curve
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean verify(final byte[] rawEncodedA, final byte[] data, final Signature signature) {
+        if (1 == ArrayUtils.isEqualConstantTime(rawEncodedA, new byte[32])) {
             return false;
         }
 
         // h = H(encodedR, encodedA, data).
         final byte[] rawEncodedR = signature.getBinaryR();
-        final byte[] rawEncodedA = this.getKeyPair().getPublicKey().getRaw();
         final Ed25519EncodedFieldElement h = new Ed25519EncodedFieldElement(Hashes.sha3_512(
                 rawEncodedR,
                 rawEncodedA,
@@ -114,22 +182,96 @@ public class Ed25519DsaSigner implements DsaSigner {
         // hReduced = h mod group order
         final Ed25519EncodedFieldElement hModQ = h.modQ();
 
-        // Must compute A.
-        final Ed25519GroupElement A = new Ed25519EncodedGroupElement(rawEncodedA).decode();
-        A.precomputeForDoubleScalarMultiplication();
+        // Must compute A (or get it from the cache).
+        final Ed25519GroupElement A = this.publicKeyCache.get(rawEncodedA);
 
         // R = encodedS * B - H(encodedR, encodedA, data) * A
-        final Ed25519GroupElement calculatedR = Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(
+        final Ed25519EncodedGroupElement calculatedR = this.getBackend().doubleScalarMultiplyBasePointVariableTime(
                 A,
                 hModQ,
                 new Ed25519EncodedFieldElement(signature.getBinaryS()));
 
         // Compare calculated R to given R.
-        final byte[] encodedCalculatedR = calculatedR.encode().getRaw();
+        final byte[] encodedCalculatedR = calculatedR.getRaw();
         final int result = ArrayUtils.isEqualConstantTime(encodedCalculatedR, rawEncodedR);
         return 1 == result;
     }
 
+    /**
+     * Checks all signatures at once with a single randomized multi scalar multiplication.
+     * Every single signature satisfies encodedS_i * B - h_i * A_i = R_i, so for random 128 bit
+     * coefficients z_i the batch is valid if
+     * 8 * ((sum z_i * encodedS_i) * B - sum (z_i * h_i) * A_i - sum z_i * R_i)
+     * is the neutral element.
+     * <br>
+     * The factor 8 clears the torsion components of R_i and A_i, which could otherwise cancel each other out.
+     * The batch therefore decides the cofactored equation: it also accepts a signature whose R or A carries a small
+     * order component that the cofactorless single verification rejects. Such a signature still needs the private
+     * key, and honest signers never create one. A batch that fails is verified one by one with the single equation.
+     */
+    private boolean isBatchValid(final List<byte[]> data, final List<PublicKey> publicKeys, final List<Signature> signatures) {
+        final int size = data.size();
+        final Ed25519GroupElement[] points = new Ed25519GroupElement[2 * size];
+        final Ed25519EncodedFieldElement[] scalars = new Ed25519EncodedFieldElement[2 * size];
+        Ed25519EncodedFieldElement sumOfS = ZERO_SCALAR;
+        for (int i = 0; i < size; ++i) {
+            final Signature signature = signatures.get(i);
+            final byte[] rawEncodedA = publicKeys.get(i).getRaw();
+            final byte[] rawEncodedR = signature.getBinaryR();
+            if (!this.isCanonicalSignature(signature) || 1 == ArrayUtils.isEqualConstantTime(rawEncodedA, new byte[32])) {
+                return false;
+            }
+
+            final Ed25519GroupElement A;
+            final Ed25519GroupElement R;
+            try {
+                A = this.publicKeyCache.get(rawEncodedA);
+                R = new Ed25519EncodedGroupElement(rawEncodedR).decode();
+            } catch (final IllegalArgumentException e) {
+                return false;
+            }
+
+            // a single verification compares encodings, so R must be given in its canonical encoding.
+            if (!isCanonicalEncoding(R, rawEncodedR)) {
+                return false;
+            }
+
+            final Ed25519EncodedFieldElement hModQ = new Ed25519EncodedFieldElement(Hashes.sha3_512(
+                    rawEncodedR,
+                    rawEncodedA,
+                    data.get(i))).modQ();
+            final Ed25519EncodedFieldElement z = createBatchCoefficient();
+            points[2 * i] = A;
+            scalars[2 * i] = hModQ.multiplyAndAddModQ(z, ZERO_SCALAR);
+            points[2 * i + 1] = R;
+            scalars[2 * i + 1] = z;
+            sumOfS = z.multiplyAndAddModQ(new Ed25519EncodedFieldElement(signature.getBinaryS()), sumOfS);
+        }
+
+        final Ed25519GroupElement sum = Ed25519Group.BASE_POINT.multiScalarMultiplyVariableTime(points, scalars, sumOfS);
+        return sum.toP2().dbl().toP2().dbl().toP2().dbl().isNeutral();
+    }
+
+    private static boolean isCanonicalEncoding(final Ed25519GroupElement decoded, final byte[] rawEncoded) {
+        final byte[] encodedY = decoded.getY().encode().getRaw();
+        encodedY[31] |= (byte) (rawEncoded[31] & 0x80);
+        if (0 == ArrayUtils.getBit(rawEncoded, 255)) {
+            return 1 == ArrayUtils.isEqualConstantTime(encodedY, rawEncoded);
+        }
+
+        // the sign bit of x = 0 is never set in a canonical encoding.
+        return decoded.getX().isNonZero() && 1 == ArrayUtils.isEqualConstantTime(encodedY, rawEncoded);
+    }
+
+    private static Ed25519EncodedFieldElement createBatchCoefficient() {
+        // uniform 128 bit coefficient
+        final byte[] z = new byte[32];
+        final byte[] random = new byte[16];
+        RANDOM.nextBytes(random);
+        System.arraycopy(random, 0, z, 0, random.length);
+        return new Ed25519EncodedFieldElement(z);
+    }
+
     @Override
     public boolean isCanonicalSignature(final Signature signature) {
         return -1 == signature.getS().compareTo(Ed25519Group.GROUP_ORDER) &&
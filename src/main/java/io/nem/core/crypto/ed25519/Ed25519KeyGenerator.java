@@ -18,20 +18,34 @@ package io.nem.core.crypto.ed25519;
 
 import io.nem.core.crypto.*;
 import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
-import io.nem.core.crypto.ed25519.arithmetic.Ed25519Group;
-import io.nem.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519FieldBackend;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519IntFieldBackend;
 import io.nem.core.utils.ArrayUtils;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Implementation of the key generator for Ed25519.
  */
 public class Ed25519KeyGenerator implements KeyGenerator {
     private final SecureRandom random;
+    private final Ed25519FieldBackend backend;
 
     public Ed25519KeyGenerator() {
+        this(new Ed25519IntFieldBackend());
+    }
+
+    /**
+     * Creates a key generator with a custom field backend.
+     *
+     * @param backend The field backend used for deriving public keys.
+     */
+    public Ed25519KeyGenerator(final Ed25519FieldBackend backend) {
         this.random = new SecureRandom();
+        this.backend = backend;
     }
 
     @Override
@@ -50,10 +64,28 @@ public class Ed25519KeyGenerator implements KeyGenerator {
         final Ed25519EncodedFieldElement a = Ed25519Utils.prepareForScalarMultiply(privateKey);
 
         // a * base point is the public key.
-        final Ed25519GroupElement pubKey = Ed25519Group.BASE_POINT.scalarMultiply(a);
+        final Ed25519EncodedGroupElement pubKey = this.backend.scalarMultiplyBasePoint(a);
 
         // verification of signatures will be about twice as fast when pre-calculating
         // a suitable table of group elements.
-        return new PublicKey(pubKey.encode().getRaw());
+        return new PublicKey(pubKey.getRaw());
+    }
+
+    @Override
+    public List<PublicKey> derivePublicKeys(final List<PrivateKey> privateKeys) {
+        final Ed25519EncodedFieldElement[] a = new Ed25519EncodedFieldElement[privateKeys.size()];
+        int i = 0;
+        for (final PrivateKey privateKey : privateKeys) {
+            a[i++] = Ed25519Utils.prepareForScalarMultiply(privateKey);
+        }
+
+        // the points are encoded together so that the whole batch needs a single field inversion.
+        final Ed25519EncodedGroupElement[] pubKeys = this.backend.scalarMultiplyBasePoints(a);
+        final List<PublicKey> publicKeys = new ArrayList<>(pubKeys.length);
+        for (final Ed25519EncodedGroupElement pubKey : pubKeys) {
+            publicKeys.add(new PublicKey(pubKey.getRaw()));
+        }
+
+        return publicKeys;
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.*;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519FieldBackend;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519IntFieldBackend;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Implementation of the prepared signer for Ed25519.
+ * <br>
+ * The private key is hashed only once: the clamped lower half of the hash (the scalar a) is kept and the upper half
+ * (the nonce prefix) is absorbed into a SHA3-512 state, so that each signature only needs to hash the message
+ * twice and to multiply the base point once. The signatures are the same as the ones created by Ed25519DsaSigner.
+ * <br>
+ * Signing is thread safe, but the signer must not be closed while signatures are created.
+ */
+public class Ed25519PreparedSigner implements PreparedSigner {
+    private final PublicKey publicKey;
+    private final byte[] scalar;
+    private final Hasher noncePrefixHasher;
+    private final Ed25519FieldBackend backend;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a prepared signer.
+     *
+     * @param keyPair The key pair to use.
+     */
+    public Ed25519PreparedSigner(final KeyPair keyPair) {
+        this(keyPair, new Ed25519IntFieldBackend());
+    }
+
+    /**
+     * Creates a prepared signer with a custom field backend.
+     *
+     * @param keyPair The key pair to use.
+     * @param backend The field backend used for multiplying the base point.
+     */
+    public Ed25519PreparedSigner(final KeyPair keyPair, final Ed25519FieldBackend backend) {
+        if (!keyPair.hasPrivateKey()) {
+            throw new CryptoException("cannot sign without private key");
+        }
+
+        this.publicKey = keyPair.getPublicKey();
+        this.backend = backend;
+
+        final byte[] hash = Hashes.sha3_512(keyPair.getPrivateKey().getBytes());
+        try {
+            // same clamping as Ed25519Utils.prepareForScalarMultiply
+            this.scalar = Arrays.copyOfRange(hash, 0, 32);
+            this.scalar[31] &= 0x7F;
+            this.scalar[31] |= 0x40;
+            this.scalar[0] &= 0xF8;
+
+            this.noncePrefixHasher = Hasher.sha3_512().update(hash, 32, 32);
+        } finally {
+            Arrays.fill(hash, (byte) 0);
+        }
+    }
+
+    @Override
+    public PublicKey getPublicKey() {
+        return this.publicKey;
+    }
+
+    @Override
+    public Signature sign(final byte[] data) {
+        if (this.isClosed) {
+            throw new CryptoException("cannot sign with closed signer");
+        }
+
+        // r = H(hash_b,...,hash_2b-1, data) where b=256.
+        final byte[] r = this.noncePrefixHasher.copy().update(data).digest();
+        final Ed25519EncodedFieldElement rModQ = new Ed25519EncodedFieldElement(r).modQ();
+        Arrays.fill(r, (byte) 0);
+
+        // R = rModQ * base point.
+        final Ed25519EncodedGroupElement encodedR = this.backend.scalarMultiplyBasePoint(rModQ);
+
+        // S = (r + H(encodedR, encodedA, data) * a) mod group order
+        final Ed25519EncodedFieldElement h = new Ed25519EncodedFieldElement(Hashes.sha3_512(
+                encodedR.getRaw(),
+                this.publicKey.getRaw(),
+                data));
+        final Ed25519EncodedFieldElement encodedS = h.modQ().multiplyAndAddModQ(
+                new Ed25519EncodedFieldElement(this.scalar),
+                rModQ);
+        Arrays.fill(rModQ.getRaw(), (byte) 0);
+
+        // Signature is (encodedR, encodedS)
+        final Signature signature = new Signature(encodedR.getRaw(), encodedS.getRaw());
+        if (-1 != signature.getS().compareTo(Ed25519Group.GROUP_ORDER) || 1 != signature.getS().compareTo(BigInteger.ZERO)) {
+            throw new CryptoException("Generated signature is not canonical");
+        }
+
+        return signature;
+    }
+
+    /**
+     * Gets a value indicating whether or not the signer has been closed.
+     *
+     * @return true if the signer has been closed.
+     */
+    public boolean isClosed() {
+        return this.isClosed;
+    }
+
+    @Override
+    public void close() {
+        this.isClosed = true;
+        Arrays.fill(this.scalar, (byte) 0);
+
+        // resetting the digest clears the absorbed nonce prefix
+        this.noncePrefixHasher.reset();
+    }
+}
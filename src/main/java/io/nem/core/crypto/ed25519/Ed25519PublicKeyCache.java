@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.PublicKey;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size bounded, thread safe LRU cache of decoded public keys.
+ * <br>
+ * Each entry holds the decoded group element of a public key together with its table for double scalar multiplication,
+ * so that verifying signatures of a known signer neither needs the square root of the decoding nor the field inversions
+ * of the precomputation.
+ * <br>
+ * Large caches are split into segments with independent locks and least recently used eviction per segment,
+ * small caches use a single segment so that eviction is exactly least recently used.
+ */
+public class Ed25519PublicKeyCache {
+
+    /**
+     * The estimated number of bytes used by a single entry (decoded group element with a flat table of 8 precomputed group elements).
+     */
+    public static final int ESTIMATED_ENTRY_SIZE = 1536;
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final Segment[] segments;
+    private final int capacity;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a cache.
+     *
+     * @param memoryBudget The (approximate) maximum number of bytes used by the cached entries.
+     */
+    public Ed25519PublicKeyCache(final long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("memory budget must be non-negative");
+        }
+
+        this.capacity = (int) Math.min(Integer.MAX_VALUE, memoryBudget / ESTIMATED_ENTRY_SIZE);
+        final int numSegments = Math.max(1, Math.min(MAX_SEGMENTS, this.capacity / MIN_SEGMENT_CAPACITY));
+        this.segments = new Segment[numSegments];
+        for (int i = 0; i < numSegments; ++i) {
+            this.segments[i] = new Segment(this.capacity / numSegments + (i < this.capacity % numSegments ? 1 : 0));
+        }
+    }
+
+    /**
+     * Gets the decoded group element of a public key which is precomputed for double scalar multiplication.
+     * The group element is decoded and added to the cache if it is not cached yet.
+     * The returned group element is shared and must not be modified.
+     *
+     * @param rawEncodedPublicKey The raw (encoded) public key.
+     * @return The decoded group element.
+     * @throws IllegalArgumentException if the public key is not a valid encoded group element.
+     */
+    public Ed25519GroupElement get(final byte[] rawEncodedPublicKey) {
+        final PublicKey key = new PublicKey(rawEncodedPublicKey);
+        final Segment segment = this.segments[(key.hashCode() & 0x7FFFFFFF) % this.segments.length];
+        Ed25519GroupElement A = segment.get(key);
+        if (null != A) {
+            this.hits.incrementAndGet();
+            return A;
+        }
+
+        this.misses.incrementAndGet();
+        A = new Ed25519EncodedGroupElement(rawEncodedPublicKey).decode();
+        A.precomputeForDoubleScalarMultiplication();
+        segment.put(new PublicKey(rawEncodedPublicKey.clone()), A);
+        return A;
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment segment : this.segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Gets the number of lookups that were served from the cache.
+     *
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that needed to decode the public key.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Removes all entries from the cache and resets the counters.
+     */
+    public void clear() {
+        for (final Segment segment : this.segments) {
+            segment.clear();
+        }
+
+        this.hits.set(0);
+        this.misses.set(0);
+    }
+
+    private static class Segment {
+        private final Map<PublicKey, Ed25519GroupElement> map;
+
+        private Segment(final int capacity) {
+            this.map = new LinkedHashMap<PublicKey, Ed25519GroupElement>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<PublicKey, Ed25519GroupElement> eldest) {
+                    return this.size() > capacity;
+                }
+            };
+        }
+
+        private synchronized Ed25519GroupElement get(final PublicKey key) {
+            return this.map.get(key);
+        }
+
+        private synchronized void put(final PublicKey key, final Ed25519GroupElement value) {
+            this.map.put(key, value);
+        }
+
+        private synchronized int size() {
+            return this.map.size();
+        }
+
+        private synchronized void clear() {
+            this.map.clear();
+        }
+    }
+}
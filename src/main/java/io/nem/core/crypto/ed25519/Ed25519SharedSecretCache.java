@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.Hashes;
+import io.nem.core.crypto.PrivateKey;
+import io.nem.core.crypto.PublicKey;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A size bounded, thread safe LRU cache of the shared points of pairs of parties.
+ * <br>
+ * An entry holds the raw encoded product of a private key and the public key of the other party, which is the
+ * Diffie-Hellman point before it is salted and hashed into a message key. Entries are keyed by a SHA3-256 fingerprint
+ * of both keys, so the cache never holds a private key. Evicted and cleared points are overwritten with zeros.
+ */
+public class Ed25519SharedSecretCache {
+    private final Map<Key, byte[]> map;
+    private final int capacity;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity The maximum number of cached shared points. A capacity of zero disables caching.
+     */
+    public Ed25519SharedSecretCache(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must be non-negative");
+        }
+
+        this.capacity = capacity;
+        this.map = new LinkedHashMap<Key, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, byte[]> eldest) {
+                if (this.size() <= capacity) {
+                    return false;
+                }
+
+                Arrays.fill(eldest.getValue(), (byte) 0);
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets the shared point of a private key and a public key.
+     * The shared point is derived and added to the cache if it is not cached yet.
+     * The returned array is a copy owned by the caller, which should overwrite it after use.
+     *
+     * @param privateKey          The private key.
+     * @param publicKey           The public key of the other party.
+     * @param sharedPointSupplier The supplier deriving the shared point if it is not cached.
+     * @return The raw encoded shared point.
+     */
+    public byte[] get(final PrivateKey privateKey, final PublicKey publicKey, final Supplier<byte[]> sharedPointSupplier) {
+        final Key key = new Key(fingerprint(privateKey, publicKey));
+        synchronized (this.map) {
+            final byte[] sharedPoint = this.map.get(key);
+            if (null != sharedPoint) {
+                this.hits.incrementAndGet();
+                return sharedPoint.clone();
+            }
+        }
+
+        this.misses.incrementAndGet();
+        final byte[] sharedPoint = sharedPointSupplier.get();
+        if (0 < this.capacity) {
+            synchronized (this.map) {
+                final byte[] previous = this.map.put(key, sharedPoint.clone());
+                if (null != previous) {
+                    Arrays.fill(previous, (byte) 0);
+                }
+            }
+        }
+
+        return sharedPoint;
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        synchronized (this.map) {
+            return this.map.size();
+        }
+    }
+
+    /**
+     * Gets the number of lookups that were served from the cache.
+     *
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that needed to derive the shared point.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Overwrites and removes all entries from the cache and resets the counters.
+     */
+    public void clear() {
+        synchronized (this.map) {
+            for (final byte[] sharedPoint : this.map.values()) {
+                Arrays.fill(sharedPoint, (byte) 0);
+            }
+
+            this.map.clear();
+        }
+
+        this.hits.set(0);
+        this.misses.set(0);
+    }
+
+    private static byte[] fingerprint(final PrivateKey privateKey, final PublicKey publicKey) {
+        final byte[] privateKeyBytes = privateKey.getBytes();
+        try {
+            return Hashes.sha3_256(privateKeyBytes, publicKey.getRaw());
+        } finally {
+            Arrays.fill(privateKeyBytes, (byte) 0);
+        }
+    }
+
+    private static class Key {
+        private final byte[] fingerprint;
+        private final int hashCode;
+
+        private Key(final byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+            this.hashCode = Arrays.hashCode(fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key && Arrays.equals(this.fingerprint, ((Key) obj).fingerprint);
+        }
+    }
+}
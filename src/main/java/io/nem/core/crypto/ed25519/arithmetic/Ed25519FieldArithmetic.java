@@ -0,0 +1,607 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+/**
+ * In-place arithmetic on elements of the finite field with p=2^255-19 elements.
+ * <br>
+ * Field elements are given in the same 2^25.5 bit representation as in Ed25519FieldElement (int arrays of length 10).
+ * The result is written to the caller supplied array h, so no objects are allocated.
+ * Unless stated otherwise h may be the same array as one of the inputs.
+ * <br>
+ * Ed25519FieldElement delegates to these methods, so both produce the same representation bit for bit.
+ */
+public final class Ed25519FieldArithmetic {
+
+    private Ed25519FieldArithmetic() {
+    }
+
+    /**
+     * Copies a field element.
+     * <b>h = f</b>
+     *
+     * @param h The result.
+     * @param f The field element to copy.
+     */
+    public static void copy(final int[] h, final int[] f) {
+        System.arraycopy(f, 0, h, 0, 10);
+    }
+
+    /**
+     * Copies a field element stored at an offset of a larger array.
+     * <b>h = f[offset, offset + 10)</b>
+     *
+     * @param h      The result.
+     * @param f      The array holding the field element to copy.
+     * @param offset The offset of the first limb of the field element.
+     */
+    public static void copy(final int[] h, final int[] f, final int offset) {
+        System.arraycopy(f, offset, h, 0, 10);
+    }
+
+    /**
+     * Sets a field element to zero.
+     * <b>h = 0</b>
+     *
+     * @param h The result.
+     */
+    public static void zero(final int[] h) {
+        for (int i = 0; i < 10; i++) {
+            h[i] = 0;
+        }
+    }
+
+    /**
+     * Sets a field element to one.
+     * <b>h = 1</b>
+     *
+     * @param h The result.
+     */
+    public static void one(final int[] h) {
+        zero(h);
+        h[0] = 1;
+    }
+
+    /**
+     * Adds two field elements.
+     * <b>h = f + g</b>
+     * See Ed25519FieldElement.add() for bounds.
+     *
+     * @param h The result.
+     * @param f The first summand.
+     * @param g The second summand.
+     */
+    public static void add(final int[] h, final int[] f, final int[] g) {
+        for (int i = 0; i < 10; i++) {
+            h[i] = f[i] + g[i];
+        }
+    }
+
+    /**
+     * Subtracts two field elements.
+     * <b>h = f - g</b>
+     * See Ed25519FieldElement.subtract() for bounds.
+     *
+     * @param h The result.
+     * @param f The minuend.
+     * @param g The subtrahend.
+     */
+    public static void subtract(final int[] h, final int[] f, final int[] g) {
+        for (int i = 0; i < 10; i++) {
+            h[i] = f[i] - g[i];
+        }
+    }
+
+    /**
+     * Negates a field element.
+     * <b>h = -f</b>
+     *
+     * @param h The result.
+     * @param f The field element to negate.
+     */
+    public static void negate(final int[] h, final int[] f) {
+        for (int i = 0; i < 10; i++) {
+            h[i] = -f[i];
+        }
+    }
+
+    /**
+     * Multiplies two field elements.
+     * <b>h = f * g</b>
+     * See Ed25519FieldElement.multiply() for bounds and implementation strategy.
+     *
+     * @param h The result.
+     * @param f The first factor.
+     * @param g The second factor.
+     */
+    public static void multiply(final int[] h, final int[] f, final int[] g) {
+        final int f0 = f[0];
+        final int f1 = f[1];
+        final int f2 = f[2];
+        final int f3 = f[3];
+        final int f4 = f[4];
+        final int f5 = f[5];
+        final int f6 = f[6];
+        final int f7 = f[7];
+        final int f8 = f[8];
+        final int f9 = f[9];
+        final int g0 = g[0];
+        final int g1 = g[1];
+        final int g2 = g[2];
+        final int g3 = g[3];
+        final int g4 = g[4];
+        final int g5 = g[5];
+        final int g6 = g[6];
+        final int g7 = g[7];
+        final int g8 = g[8];
+        final int g9 = g[9];
+        final int g1_19 = 19 * g1; /* 1.959375*2^29 */
+        final int g2_19 = 19 * g2; /* 1.959375*2^30; still ok */
+        final int g3_19 = 19 * g3;
+        final int g4_19 = 19 * g4;
+        final int g5_19 = 19 * g5;
+        final int g6_19 = 19 * g6;
+        final int g7_19 = 19 * g7;
+        final int g8_19 = 19 * g8;
+        final int g9_19 = 19 * g9;
+        final int f1_2 = 2 * f1;
+        final int f3_2 = 2 * f3;
+        final int f5_2 = 2 * f5;
+        final int f7_2 = 2 * f7;
+        final int f9_2 = 2 * f9;
+        final long f0g0 = f0 * (long) g0;
+        final long f0g1 = f0 * (long) g1;
+        final long f0g2 = f0 * (long) g2;
+        final long f0g3 = f0 * (long) g3;
+        final long f0g4 = f0 * (long) g4;
+        final long f0g5 = f0 * (long) g5;
+        final long f0g6 = f0 * (long) g6;
+        final long f0g7 = f0 * (long) g7;
+        final long f0g8 = f0 * (long) g8;
+        final long f0g9 = f0 * (long) g9;
+        final long f1g0 = f1 * (long) g0;
+        final long f1g1_2 = f1_2 * (long) g1;
+        final long f1g2 = f1 * (long) g2;
+        final long f1g3_2 = f1_2 * (long) g3;
+        final long f1g4 = f1 * (long) g4;
+        final long f1g5_2 = f1_2 * (long) g5;
+        final long f1g6 = f1 * (long) g6;
+        final long f1g7_2 = f1_2 * (long) g7;
+        final long f1g8 = f1 * (long) g8;
+        final long f1g9_38 = f1_2 * (long) g9_19;
+        final long f2g0 = f2 * (long) g0;
+        final long f2g1 = f2 * (long) g1;
+        final long f2g2 = f2 * (long) g2;
+        final long f2g3 = f2 * (long) g3;
+        final long f2g4 = f2 * (long) g4;
+        final long f2g5 = f2 * (long) g5;
+        final long f2g6 = f2 * (long) g6;
+        final long f2g7 = f2 * (long) g7;
+        final long f2g8_19 = f2 * (long) g8_19;
+        final long f2g9_19 = f2 * (long) g9_19;
+        final long f3g0 = f3 * (long) g0;
+        final long f3g1_2 = f3_2 * (long) g1;
+        final long f3g2 = f3 * (long) g2;
+        final long f3g3_2 = f3_2 * (long) g3;
+        final long f3g4 = f3 * (long) g4;
+        final long f3g5_2 = f3_2 * (long) g5;
+        final long f3g6 = f3 * (long) g6;
+        final long f3g7_38 = f3_2 * (long) g7_19;
+        final long f3g8_19 = f3 * (long) g8_19;
+        final long f3g9_38 = f3_2 * (long) g9_19;
+        final long f4g0 = f4 * (long) g0;
+        final long f4g1 = f4 * (long) g1;
+        final long f4g2 = f4 * (long) g2;
+        final long f4g3 = f4 * (long) g3;
+        final long f4g4 = f4 * (long) g4;
+        final long f4g5 = f4 * (long) g5;
+        final long f4g6_19 = f4 * (long) g6_19;
+        final long f4g7_19 = f4 * (long) g7_19;
+        final long f4g8_19 = f4 * (long) g8_19;
+        final long f4g9_19 = f4 * (long) g9_19;
+        final long f5g0 = f5 * (long) g0;
+        final long f5g1_2 = f5_2 * (long) g1;
+        final long f5g2 = f5 * (long) g2;
+        final long f5g3_2 = f5_2 * (long) g3;
+        final long f5g4 = f5 * (long) g4;
+        final long f5g5_38 = f5_2 * (long) g5_19;
+        final long f5g6_19 = f5 * (long) g6_19;
+        final long f5g7_38 = f5_2 * (long) g7_19;
+        final long f5g8_19 = f5 * (long) g8_19;
+        final long f5g9_38 = f5_2 * (long) g9_19;
+        final long f6g0 = f6 * (long) g0;
+        final long f6g1 = f6 * (long) g1;
+        final long f6g2 = f6 * (long) g2;
+        final long f6g3 = f6 * (long) g3;
+        final long f6g4_19 = f6 * (long) g4_19;
+        final long f6g5_19 = f6 * (long) g5_19;
+        final long f6g6_19 = f6 * (long) g6_19;
+        final long f6g7_19 = f6 * (long) g7_19;
+        final long f6g8_19 = f6 * (long) g8_19;
+        final long f6g9_19 = f6 * (long) g9_19;
+        final long f7g0 = f7 * (long) g0;
+        final long f7g1_2 = f7_2 * (long) g1;
+        final long f7g2 = f7 * (long) g2;
+        final long f7g3_38 = f7_2 * (long) g3_19;
+        final long f7g4_19 = f7 * (long) g4_19;
+        final long f7g5_38 = f7_2 * (long) g5_19;
+        final long f7g6_19 = f7 * (long) g6_19;
+        final long f7g7_38 = f7_2 * (long) g7_19;
+        final long f7g8_19 = f7 * (long) g8_19;
+        final long f7g9_38 = f7_2 * (long) g9_19;
+        final long f8g0 = f8 * (long) g0;
+        final long f8g1 = f8 * (long) g1;
+        final long f8g2_19 = f8 * (long) g2_19;
+        final long f8g3_19 = f8 * (long) g3_19;
+        final long f8g4_19 = f8 * (long) g4_19;
+        final long f8g5_19 = f8 * (long) g5_19;
+        final long f8g6_19 = f8 * (long) g6_19;
+        final long f8g7_19 = f8 * (long) g7_19;
+        final long f8g8_19 = f8 * (long) g8_19;
+        final long f8g9_19 = f8 * (long) g9_19;
+        final long f9g0 = f9 * (long) g0;
+        final long f9g1_38 = f9_2 * (long) g1_19;
+        final long f9g2_19 = f9 * (long) g2_19;
+        final long f9g3_38 = f9_2 * (long) g3_19;
+        final long f9g4_19 = f9 * (long) g4_19;
+        final long f9g5_38 = f9_2 * (long) g5_19;
+        final long f9g6_19 = f9 * (long) g6_19;
+        final long f9g7_38 = f9_2 * (long) g7_19;
+        final long f9g8_19 = f9 * (long) g8_19;
+        final long f9g9_38 = f9_2 * (long) g9_19;
+
+        /**
+         * Remember: 2^255 congruent 19 modulo p.
+         * h = h0 * 2^0 + h1 * 2^26 + h2 * 2^(26+25) + h3 * 2^(26+25+26) + ... + h9 * 2^(5*26+5*25).
+         * So to get the real number we would have to multiply the coefficients with the corresponding powers of 2.
+         * To get an idea what is going on below, look at the calculation of h0:
+         * h0 is the coefficient to the power 2^0 so it collects (sums) all products that have the power 2^0.
+         * f0 * g0 really is f0 * 2^0 * g0 * 2^0 = (f0 * g0) * 2^0.
+         * f1 * g9 really is f1 * 2^26 * g9 * 2^230 = f1 * g9 * 2^256 = 2 * f1 * g9 * 2^255 congruent 2 * 19 * f1 * g9 * 2^0 modulo p.
+         * f2 * g8 really is f2 * 2^51 * g8 * 2^204 = f2 * g8 * 2^255 congruent 19 * f2 * g8 * 2^0 modulo p.
+         * and so on...
+         */
+        long h0 = f0g0 + f1g9_38 + f2g8_19 + f3g7_38 + f4g6_19 + f5g5_38 + f6g4_19 + f7g3_38 + f8g2_19 + f9g1_38;
+        long h1 = f0g1 + f1g0 + f2g9_19 + f3g8_19 + f4g7_19 + f5g6_19 + f6g5_19 + f7g4_19 + f8g3_19 + f9g2_19;
+        long h2 = f0g2 + f1g1_2 + f2g0 + f3g9_38 + f4g8_19 + f5g7_38 + f6g6_19 + f7g5_38 + f8g4_19 + f9g3_38;
+        long h3 = f0g3 + f1g2 + f2g1 + f3g0 + f4g9_19 + f5g8_19 + f6g7_19 + f7g6_19 + f8g5_19 + f9g4_19;
+        long h4 = f0g4 + f1g3_2 + f2g2 + f3g1_2 + f4g0 + f5g9_38 + f6g8_19 + f7g7_38 + f8g6_19 + f9g5_38;
+        long h5 = f0g5 + f1g4 + f2g3 + f3g2 + f4g1 + f5g0 + f6g9_19 + f7g8_19 + f8g7_19 + f9g6_19;
+        long h6 = f0g6 + f1g5_2 + f2g4 + f3g3_2 + f4g2 + f5g1_2 + f6g0 + f7g9_38 + f8g8_19 + f9g7_38;
+        long h7 = f0g7 + f1g6 + f2g5 + f3g4 + f4g3 + f5g2 + f6g1 + f7g0 + f8g9_19 + f9g8_19;
+        long h8 = f0g8 + f1g7_2 + f2g6 + f3g5_2 + f4g4 + f5g3_2 + f6g2 + f7g1_2 + f8g0 + f9g9_38;
+        long h9 = f0g9 + f1g8 + f2g7 + f3g6 + f4g5 + f5g4 + f6g3 + f7g2 + f8g1 + f9g0;
+        long carry0;
+        final long carry1;
+        final long carry2;
+        final long carry3;
+        long carry4;
+        final long carry5;
+        final long carry6;
+        final long carry7;
+        final long carry8;
+        final long carry9;
+
+        /**
+         * |h0| <= (1.65*1.65*2^52*(1+19+19+19+19)+1.65*1.65*2^50*(38+38+38+38+38))
+         * i.e. |h0| <= 1.4*2^60; narrower ranges for h2, h4, h6, h8
+         * |h1| <= (1.65*1.65*2^51*(1+1+19+19+19+19+19+19+19+19))
+         * i.e. |h1| <= 1.7*2^59; narrower ranges for h3, h5, h7, h9
+         */
+
+        carry0 = (h0 + (long) (1 << 25)) >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+        carry4 = (h4 + (long) (1 << 25)) >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+        /* |h0| <= 2^25 */
+        /* |h4| <= 2^25 */
+        /* |h1| <= 1.71*2^59 */
+        /* |h5| <= 1.71*2^59 */
+
+        carry1 = (h1 + (long) (1 << 24)) >> 25;
+        h2 += carry1;
+        h1 -= carry1 << 25;
+        carry5 = (h5 + (long) (1 << 24)) >> 25;
+        h6 += carry5;
+        h5 -= carry5 << 25;
+        /* |h1| <= 2^24; from now on fits into int32 */
+        /* |h5| <= 2^24; from now on fits into int32 */
+        /* |h2| <= 1.41*2^60 */
+        /* |h6| <= 1.41*2^60 */
+
+        carry2 = (h2 + (long) (1 << 25)) >> 26;
+        h3 += carry2;
+        h2 -= carry2 << 26;
+        carry6 = (h6 + (long) (1 << 25)) >> 26;
+        h7 += carry6;
+        h6 -= carry6 << 26;
+        /* |h2| <= 2^25; from now on fits into int32 unchanged */
+        /* |h6| <= 2^25; from now on fits into int32 unchanged */
+        /* |h3| <= 1.71*2^59 */
+        /* |h7| <= 1.71*2^59 */
+
+        carry3 = (h3 + (long) (1 << 24)) >> 25;
+        h4 += carry3;
+        h3 -= carry3 << 25;
+        carry7 = (h7 + (long) (1 << 24)) >> 25;
+        h8 += carry7;
+        h7 -= carry7 << 25;
+        /* |h3| <= 2^24; from now on fits into int32 unchanged */
+        /* |h7| <= 2^24; from now on fits into int32 unchanged */
+        /* |h4| <= 1.72*2^34 */
+        /* |h8| <= 1.41*2^60 */
+
+        carry4 = (h4 + (long) (1 << 25)) >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+        carry8 = (h8 + (long) (1 << 25)) >> 26;
+        h9 += carry8;
+        h8 -= carry8 << 26;
+        /* |h4| <= 2^25; from now on fits into int32 unchanged */
+        /* |h8| <= 2^25; from now on fits into int32 unchanged */
+        /* |h5| <= 1.01*2^24 */
+        /* |h9| <= 1.71*2^59 */
+
+        carry9 = (h9 + (long) (1 << 24)) >> 25;
+        h0 += carry9 * 19;
+        h9 -= carry9 << 25;
+        /* |h9| <= 2^24; from now on fits into int32 unchanged */
+        /* |h0| <= 1.1*2^39 */
+
+        carry0 = (h0 + (long) (1 << 25)) >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+        /* |h0| <= 2^25; from now on fits into int32 unchanged */
+        /* |h1| <= 1.01*2^24 */
+
+        h[0] = (int) h0;
+        h[1] = (int) h1;
+        h[2] = (int) h2;
+        h[3] = (int) h3;
+        h[4] = (int) h4;
+        h[5] = (int) h5;
+        h[6] = (int) h6;
+        h[7] = (int) h7;
+        h[8] = (int) h8;
+        h[9] = (int) h9;
+    }
+
+    /**
+     * Squares a field element.
+     * <b>h = f * f</b>
+     *
+     * @param h The result.
+     * @param f The field element to square.
+     */
+    public static void square(final int[] h, final int[] f) {
+        squareAndOptionalDouble(h, f, false);
+    }
+
+    /**
+     * Squares a field element and multiplies by two.
+     * <b>h = 2 * f * f</b>
+     *
+     * @param h The result.
+     * @param f The field element to square.
+     */
+    public static void squareAndDouble(final int[] h, final int[] f) {
+        squareAndOptionalDouble(h, f, true);
+    }
+
+    private static void squareAndOptionalDouble(final int[] h, final int[] f, final boolean dbl) {
+        final int f0 = f[0];
+        final int f1 = f[1];
+        final int f2 = f[2];
+        final int f3 = f[3];
+        final int f4 = f[4];
+        final int f5 = f[5];
+        final int f6 = f[6];
+        final int f7 = f[7];
+        final int f8 = f[8];
+        final int f9 = f[9];
+        final int f0_2 = 2 * f0;
+        final int f1_2 = 2 * f1;
+        final int f2_2 = 2 * f2;
+        final int f3_2 = 2 * f3;
+        final int f4_2 = 2 * f4;
+        final int f5_2 = 2 * f5;
+        final int f6_2 = 2 * f6;
+        final int f7_2 = 2 * f7;
+        final int f5_38 = 38 * f5; /* 1.959375*2^30 */
+        final int f6_19 = 19 * f6; /* 1.959375*2^30 */
+        final int f7_38 = 38 * f7; /* 1.959375*2^30 */
+        final int f8_19 = 19 * f8; /* 1.959375*2^30 */
+        final int f9_38 = 38 * f9; /* 1.959375*2^30 */
+        final long f0f0 = f0 * (long) f0;
+        final long f0f1_2 = f0_2 * (long) f1;
+        final long f0f2_2 = f0_2 * (long) f2;
+        final long f0f3_2 = f0_2 * (long) f3;
+        final long f0f4_2 = f0_2 * (long) f4;
+        final long f0f5_2 = f0_2 * (long) f5;
+        final long f0f6_2 = f0_2 * (long) f6;
+        final long f0f7_2 = f0_2 * (long) f7;
+        final long f0f8_2 = f0_2 * (long) f8;
+        final long f0f9_2 = f0_2 * (long) f9;
+        final long f1f1_2 = f1_2 * (long) f1;
+        final long f1f2_2 = f1_2 * (long) f2;
+        final long f1f3_4 = f1_2 * (long) f3_2;
+        final long f1f4_2 = f1_2 * (long) f4;
+        final long f1f5_4 = f1_2 * (long) f5_2;
+        final long f1f6_2 = f1_2 * (long) f6;
+        final long f1f7_4 = f1_2 * (long) f7_2;
+        final long f1f8_2 = f1_2 * (long) f8;
+        final long f1f9_76 = f1_2 * (long) f9_38;
+        final long f2f2 = f2 * (long) f2;
+        final long f2f3_2 = f2_2 * (long) f3;
+        final long f2f4_2 = f2_2 * (long) f4;
+        final long f2f5_2 = f2_2 * (long) f5;
+        final long f2f6_2 = f2_2 * (long) f6;
+        final long f2f7_2 = f2_2 * (long) f7;
+        final long f2f8_38 = f2_2 * (long) f8_19;
+        final long f2f9_38 = f2 * (long) f9_38;
+        final long f3f3_2 = f3_2 * (long) f3;
+        final long f3f4_2 = f3_2 * (long) f4;
+        final long f3f5_4 = f3_2 * (long) f5_2;
+        final long f3f6_2 = f3_2 * (long) f6;
+        final long f3f7_76 = f3_2 * (long) f7_38;
+        final long f3f8_38 = f3_2 * (long) f8_19;
+        final long f3f9_76 = f3_2 * (long) f9_38;
+        final long f4f4 = f4 * (long) f4;
+        final long f4f5_2 = f4_2 * (long) f5;
+        final long f4f6_38 = f4_2 * (long) f6_19;
+        final long f4f7_38 = f4 * (long) f7_38;
+        final long f4f8_38 = f4_2 * (long) f8_19;
+        final long f4f9_38 = f4 * (long) f9_38;
+        final long f5f5_38 = f5 * (long) f5_38;
+        final long f5f6_38 = f5_2 * (long) f6_19;
+        final long f5f7_76 = f5_2 * (long) f7_38;
+        final long f5f8_38 = f5_2 * (long) f8_19;
+        final long f5f9_76 = f5_2 * (long) f9_38;
+        final long f6f6_19 = f6 * (long) f6_19;
+        final long f6f7_38 = f6 * (long) f7_38;
+        final long f6f8_38 = f6_2 * (long) f8_19;
+        final long f6f9_38 = f6 * (long) f9_38;
+        final long f7f7_38 = f7 * (long) f7_38;
+        final long f7f8_38 = f7_2 * (long) f8_19;
+        final long f7f9_76 = f7_2 * (long) f9_38;
+        final long f8f8_19 = f8 * (long) f8_19;
+        final long f8f9_38 = f8 * (long) f9_38;
+        final long f9f9_38 = f9 * (long) f9_38;
+        long h0 = f0f0 + f1f9_76 + f2f8_38 + f3f7_76 + f4f6_38 + f5f5_38;
+        long h1 = f0f1_2 + f2f9_38 + f3f8_38 + f4f7_38 + f5f6_38;
+        long h2 = f0f2_2 + f1f1_2 + f3f9_76 + f4f8_38 + f5f7_76 + f6f6_19;
+        long h3 = f0f3_2 + f1f2_2 + f4f9_38 + f5f8_38 + f6f7_38;
+        long h4 = f0f4_2 + f1f3_4 + f2f2 + f5f9_76 + f6f8_38 + f7f7_38;
+        long h5 = f0f5_2 + f1f4_2 + f2f3_2 + f6f9_38 + f7f8_38;
+        long h6 = f0f6_2 + f1f5_4 + f2f4_2 + f3f3_2 + f7f9_76 + f8f8_19;
+        long h7 = f0f7_2 + f1f6_2 + f2f5_2 + f3f4_2 + f8f9_38;
+        long h8 = f0f8_2 + f1f7_4 + f2f6_2 + f3f5_4 + f4f4 + f9f9_38;
+        long h9 = f0f9_2 + f1f8_2 + f2f7_2 + f3f6_2 + f4f5_2;
+        long carry0;
+        final long carry1;
+        final long carry2;
+        final long carry3;
+        long carry4;
+        final long carry5;
+        final long carry6;
+        final long carry7;
+        final long carry8;
+        final long carry9;
+
+        if (dbl) {
+            h0 += h0;
+            h1 += h1;
+            h2 += h2;
+            h3 += h3;
+            h4 += h4;
+            h5 += h5;
+            h6 += h6;
+            h7 += h7;
+            h8 += h8;
+            h9 += h9;
+        }
+
+        carry0 = (h0 + (long) (1 << 25)) >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+        carry4 = (h4 + (long) (1 << 25)) >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+
+        carry1 = (h1 + (long) (1 << 24)) >> 25;
+        h2 += carry1;
+        h1 -= carry1 << 25;
+        carry5 = (h5 + (long) (1 << 24)) >> 25;
+        h6 += carry5;
+        h5 -= carry5 << 25;
+
+        carry2 = (h2 + (long) (1 << 25)) >> 26;
+        h3 += carry2;
+        h2 -= carry2 << 26;
+        carry6 = (h6 + (long) (1 << 25)) >> 26;
+        h7 += carry6;
+        h6 -= carry6 << 26;
+
+        carry3 = (h3 + (long) (1 << 24)) >> 25;
+        h4 += carry3;
+        h3 -= carry3 << 25;
+        carry7 = (h7 + (long) (1 << 24)) >> 25;
+        h8 += carry7;
+        h7 -= carry7 << 25;
+
+        carry4 = (h4 + (long) (1 << 25)) >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+        carry8 = (h8 + (long) (1 << 25)) >> 26;
+        h9 += carry8;
+        h8 -= carry8 << 26;
+
+        carry9 = (h9 + (long) (1 << 24)) >> 25;
+        h0 += carry9 * 19;
+        h9 -= carry9 << 25;
+
+        carry0 = (h0 + (long) (1 << 25)) >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+
+        h[0] = (int) h0;
+        h[1] = (int) h1;
+        h[2] = (int) h2;
+        h[3] = (int) h3;
+        h[4] = (int) h4;
+        h[5] = (int) h5;
+        h[6] = (int) h6;
+        h[7] = (int) h7;
+        h[8] = (int) h8;
+        h[9] = (int) h9;
+    }
+
+    /**
+     * Constant-time conditional move.
+     * Replaces h with f if b == 1.
+     * Leaves h unchanged if b == 0.
+     *
+     * @param h The field element to (conditionally) replace.
+     * @param f The field element to move.
+     * @param b in {0, 1}
+     */
+    public static void cmov(final int[] h, final int[] f, final int b) {
+        final int mask = -b;
+        for (int i = 0; i < 10; i++) {
+            h[i] ^= mask & (h[i] ^ f[i]);
+        }
+    }
+
+    /**
+     * Constant-time conditional move of a field element stored at an offset of a larger array.
+     * Replaces h with f[offset, offset + 10) if b == 1.
+     * Leaves h unchanged if b == 0.
+     *
+     * @param h      The field element to (conditionally) replace.
+     * @param f      The array holding the field element to move.
+     * @param offset The offset of the first limb of the field element.
+     * @param b      in {0, 1}
+     */
+    public static void cmov(final int[] h, final int[] f, final int offset, final int b) {
+        final int mask = -b;
+        for (int i = 0; i < 10; i++) {
+            h[i] ^= mask & (h[i] ^ f[offset + i]);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+/**
+ * Interface for the scalar multiplications needed by the Ed25519 signer, key generator and block cipher.
+ * Implementations differ in the representation of the field elements used for the calculations.
+ */
+public interface Ed25519FieldBackend {
+
+    /**
+     * Calculates a * B where B is the base point.
+     * Constant time.
+     *
+     * @param a The encoded field element.
+     * @return The encoded group element.
+     */
+    Ed25519EncodedGroupElement scalarMultiplyBasePoint(final Ed25519EncodedFieldElement a);
+
+    /**
+     * Calculates a[i] * B for all a[i] where B is the base point.
+     * The results are encoded with a single field inversion for the whole batch.
+     * Constant time per element.
+     *
+     * @param a The encoded field elements.
+     * @return The encoded group elements in the order of the field elements.
+     */
+    Ed25519EncodedGroupElement[] scalarMultiplyBasePoints(final Ed25519EncodedFieldElement[] a);
+
+    /**
+     * Calculates a * A.
+     * A must have been previously precomputed for scalar multiplication.
+     * Constant time.
+     *
+     * @param A The group element.
+     * @param a The encoded field element.
+     * @return The encoded group element.
+     */
+    Ed25519EncodedGroupElement scalarMultiply(final Ed25519GroupElement A, final Ed25519EncodedFieldElement a);
+
+    /**
+     * Calculates b * B - a * A where B is the base point.
+     * A must have been previously precomputed for double scalar multiplication.
+     *
+     * @param A The group element.
+     * @param a The first encoded field element.
+     * @param b The second encoded field element.
+     * @return The encoded group element.
+     */
+    Ed25519EncodedGroupElement doubleScalarMultiplyBasePointVariableTime(
+            final Ed25519GroupElement A,
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b);
+}
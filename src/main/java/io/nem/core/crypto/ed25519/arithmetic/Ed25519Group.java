@@ -47,6 +47,7 @@ public class Ed25519Group {
         final Ed25519GroupElement basePoint = new Ed25519EncodedGroupElement(rawEncodedGroupElement).decode();
         basePoint.precomputeForScalarMultiplication();
         basePoint.precomputeForDoubleScalarMultiplication();
+        basePoint.precomputeForFixedBaseScalarMultiplication();
         return basePoint;
     }
 }
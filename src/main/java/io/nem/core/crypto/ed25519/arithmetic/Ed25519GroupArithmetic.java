@@ -0,0 +1,609 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import io.nem.core.utils.ByteUtils;
+
+/**
+ * In-place group arithmetic for Ed25519.
+ * <br>
+ * An instance owns all scratch field elements and digit arrays needed by the group operations,
+ * so once it is created none of the operations allocates memory (except for the methods returning
+ * an immutable Ed25519GroupElement, which only allocate the result).
+ * The formulas are the same as the ones of Ed25519GroupElement (see there for a derivation),
+ * so both produce the same coordinates bit for bit.
+ * <br>
+ * Instances are not thread safe, use forCurrentThread() to get an instance bound to the calling thread.
+ */
+public final class Ed25519GroupArithmetic {
+    private static final ThreadLocal<Ed25519GroupArithmetic> THREAD_LOCAL = ThreadLocal.withInitial(Ed25519GroupArithmetic::new);
+
+    private final int[] t0 = new int[10];
+    private final int[] t1 = new int[10];
+    private final int[] t2 = new int[10];
+    private final int[] t3 = new int[10];
+
+    private final Ed25519MutableGroupElement p1xp1 = new Ed25519MutableGroupElement();
+    private final Ed25519MutableGroupElement p3 = new Ed25519MutableGroupElement();
+    private final Ed25519MutableGroupElement selected = new Ed25519MutableGroupElement();
+    private final Ed25519MutableGroupElement selectedNegated = new Ed25519MutableGroupElement();
+    private final Ed25519MutableGroupElement result = new Ed25519MutableGroupElement();
+
+    private final byte[] radix16 = new byte[64];
+    private final int[] radixFixedBase = new int[Ed25519GroupElement.FIXED_BASE_DIGITS];
+    private final byte[] aSlide = new byte[256];
+    private final byte[] bSlide = new byte[256];
+
+    /**
+     * Gets the instance bound to the calling thread.
+     *
+     * @return The group arithmetic.
+     */
+    public static Ed25519GroupArithmetic forCurrentThread() {
+        return THREAD_LOCAL.get();
+    }
+
+    //region group operations
+
+    /**
+     * Doubles a group element.
+     * r = 2 * p where p must be given in P^2 or P^3 coordinate system, r is in P x P coordinate system.
+     * <br>
+     * r and p may be the same group element.
+     *
+     * @param r The result.
+     * @param p The group element to double.
+     */
+    public void dbl(final Ed25519MutableGroupElement r, final Ed25519MutableGroupElement p) {
+        checkDoubleable(p.getCoordinateSystem());
+        this.dbl(r.getX(), r.getY(), r.getZ(), r.getT(), p.getX(), p.getY(), p.getZ());
+        r.setCoordinateSystem(CoordinateSystem.P1xP1);
+    }
+
+    /**
+     * Adds a group element.
+     * r = p + g where p must be given in P^3 coordinate system and g in CACHED or PRECOMPUTED coordinate system,
+     * r is in P x P coordinate system.
+     * <br>
+     * r and p may be the same group element.
+     *
+     * @param r The result.
+     * @param p The first summand.
+     * @param g The second summand.
+     */
+    public void add(final Ed25519MutableGroupElement r, final Ed25519MutableGroupElement p, final Ed25519GroupElement g) {
+        this.addOrSubtract(r, p, g, false);
+    }
+
+    /**
+     * Subtracts a group element.
+     * r = p - g where p must be given in P^3 coordinate system and g in CACHED or PRECOMPUTED coordinate system,
+     * r is in P x P coordinate system.
+     * <br>
+     * r and p may be the same group element.
+     *
+     * @param r The result.
+     * @param p The minuend.
+     * @param g The subtrahend.
+     */
+    public void subtract(final Ed25519MutableGroupElement r, final Ed25519MutableGroupElement p, final Ed25519GroupElement g) {
+        this.addOrSubtract(r, p, g, true);
+    }
+
+    /**
+     * Converts a group element from P x P to P^2 coordinate system.
+     * r and p must not be the same group element.
+     *
+     * @param r The result.
+     * @param p The group element in P x P coordinate system.
+     */
+    public void toP2(final Ed25519MutableGroupElement r, final Ed25519MutableGroupElement p) {
+        checkConvertible(r, p);
+        toP2(r.getX(), r.getY(), r.getZ(), p.getX(), p.getY(), p.getZ(), p.getT());
+        r.setCoordinateSystem(CoordinateSystem.P2);
+    }
+
+    /**
+     * Converts a group element from P x P to P^3 coordinate system.
+     * r and p must not be the same group element.
+     *
+     * @param r The result.
+     * @param p The group element in P x P coordinate system.
+     */
+    public void toP3(final Ed25519MutableGroupElement r, final Ed25519MutableGroupElement p) {
+        checkConvertible(r, p);
+        toP3(r.getX(), r.getY(), r.getZ(), r.getT(), p.getX(), p.getY(), p.getZ(), p.getT());
+        r.setCoordinateSystem(CoordinateSystem.P3);
+    }
+
+    //endregion
+
+    //region scalar multiplication
+
+    /**
+     * r = a * B where a = a[0]+256*a[1]+...+256^31 a[31] and B must have been precomputed for
+     * (fixed base) scalar multiplication. r is in P^3 coordinate system.
+     * With a fixed base table one addition per signed 2^w digit and no doublings are needed.
+     * Constant time.
+     *
+     * @param r The result.
+     * @param B The group element.
+     * @param a The encoded field element.
+     */
+    public void scalarMultiply(final Ed25519MutableGroupElement r, final Ed25519GroupElement B, final Ed25519EncodedFieldElement a) {
+        r.setNeutralP3();
+
+        final Ed25519PrecomputedTable fixedBaseTable = B.getPrecomputedForFixedBase();
+        if (null != fixedBaseTable) {
+            final int[] e = this.radixFixedBase;
+            Ed25519GroupElement.toRadixFixedBase(a, e);
+            for (int i = 0; i < e.length; i++) {
+                this.select(fixedBaseTable, i, e[i]);
+                this.addSelected(r);
+            }
+
+            return;
+        }
+
+        final Ed25519PrecomputedTable table = B.getPrecomputedForSingle();
+        final byte[] e = this.radix16;
+        Ed25519GroupElement.toRadix16(a, e);
+        for (int i = 1; i < 64; i += 2) {
+            this.select(table, i / 2, e[i]);
+            this.addSelected(r);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            this.dbl(this.p1xp1, r);
+            if (i < 3) {
+                this.toP2(r, this.p1xp1);
+            } else {
+                this.toP3(r, this.p1xp1);
+            }
+        }
+
+        for (int i = 0; i < 64; i += 2) {
+            this.select(table, i / 2, e[i]);
+            this.addSelected(r);
+        }
+    }
+
+    /**
+     * r = b * B - a * A where a and b are encoded field elements and r is in P^2 coordinate system.
+     * A and B must have been previously precomputed for double scalar multiplication.
+     *
+     * @param r The result.
+     * @param B The first group element.
+     * @param A The second group element.
+     * @param a The first encoded field element.
+     * @param b The second encoded field element.
+     */
+    public void doubleScalarMultiplyVariableTime(
+            final Ed25519MutableGroupElement r,
+            final Ed25519GroupElement B,
+            final Ed25519GroupElement A,
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b) {
+        final Ed25519PrecomputedTable aTable = A.getPrecomputedForDouble();
+        final Ed25519PrecomputedTable bTable = B.getPrecomputedForDouble();
+        Ed25519GroupElement.slide(a, this.aSlide);
+        Ed25519GroupElement.slide(b, this.bSlide);
+        r.setNeutralP2();
+
+        int i;
+        for (i = 255; i >= 0; --i) {
+            if (this.aSlide[i] != 0 || this.bSlide[i] != 0) {
+                break;
+            }
+        }
+
+        final Ed25519MutableGroupElement t = this.p1xp1;
+        final Ed25519MutableGroupElement u = this.p3;
+        for (; i >= 0; --i) {
+            this.dbl(t, r);
+
+            if (this.aSlide[i] > 0) {
+                this.toP3(u, t);
+                this.addOrSubtract(t, u, aTable, this.aSlide[i] / 2, true);
+            } else if (this.aSlide[i] < 0) {
+                this.toP3(u, t);
+                this.addOrSubtract(t, u, aTable, (-this.aSlide[i]) / 2, false);
+            }
+
+            if (this.bSlide[i] > 0) {
+                this.toP3(u, t);
+                this.addOrSubtract(t, u, bTable, this.bSlide[i] / 2, false);
+            } else if (this.bSlide[i] < 0) {
+                this.toP3(u, t);
+                this.addOrSubtract(t, u, bTable, (-this.bSlide[i]) / 2, true);
+            }
+
+            this.toP2(r, t);
+        }
+    }
+
+    /**
+     * r = b * B - (a_1 * A_1 + ... + a_n * A_n) where r is in P^2 coordinate system.
+     * B must have been previously precomputed for double scalar multiplication.
+     *
+     * @param r      The result.
+     * @param B      The group element B.
+     * @param tables The odd multiples 1 * A_j, 3 * A_j, ..., 15 * A_j in CACHED coordinate system for each point A_j.
+     * @param slides The sliding window representations of the scalars a_j.
+     * @param b      The encoded field element b.
+     */
+    void multiScalarMultiplyVariableTime(
+            final Ed25519MutableGroupElement r,
+            final Ed25519GroupElement B,
+            final Ed25519GroupElement[][] tables,
+            final byte[][] slides,
+            final Ed25519EncodedFieldElement b) {
+        final Ed25519PrecomputedTable bTable = B.getPrecomputedForDouble();
+        Ed25519GroupElement.slide(b, this.bSlide);
+        r.setNeutralP2();
+
+        int i;
+        for (i = 255; i >= 0; --i) {
+            if (this.bSlide[i] != 0 || isAnyNonZero(slides, i)) {
+                break;
+            }
+        }
+
+        final Ed25519MutableGroupElement t = this.p1xp1;
+        final Ed25519MutableGroupElement u = this.p3;
+        for (; i >= 0; --i) {
+            this.dbl(t, r);
+
+            for (int j = 0; j < tables.length; ++j) {
+                final byte digit = slides[j][i];
+                if (digit > 0) {
+                    this.toP3(u, t);
+                    this.subtract(t, u, tables[j][digit / 2]);
+                } else if (digit < 0) {
+                    this.toP3(u, t);
+                    this.add(t, u, tables[j][(-digit) / 2]);
+                }
+            }
+
+            if (this.bSlide[i] > 0) {
+                this.toP3(u, t);
+                this.addOrSubtract(t, u, bTable, this.bSlide[i] / 2, false);
+            } else if (this.bSlide[i] < 0) {
+                this.toP3(u, t);
+                this.addOrSubtract(t, u, bTable, (-this.bSlide[i]) / 2, true);
+            }
+
+            this.toP2(r, t);
+        }
+    }
+
+    //endregion
+
+    //region operations returning immutable group elements
+
+    Ed25519GroupElement dbl(final Ed25519GroupElement p) {
+        final int[] X = new int[10];
+        final int[] Y = new int[10];
+        final int[] Z = new int[10];
+        final int[] T = new int[10];
+        this.dbl(X, Y, Z, T, p.getX().getRaw(), p.getY().getRaw(), p.getZ().getRaw());
+        return Ed25519GroupElement.p1xp1(new Ed25519FieldElement(X), new Ed25519FieldElement(Y), new Ed25519FieldElement(Z), new Ed25519FieldElement(T));
+    }
+
+    Ed25519GroupElement addCached(final Ed25519GroupElement p, final Ed25519GroupElement g, final boolean subtract) {
+        final int[] X = new int[10];
+        final int[] Y = new int[10];
+        final int[] Z = new int[10];
+        final int[] T = new int[10];
+        this.addCached(
+                X, Y, subtract ? T : Z, subtract ? Z : T,
+                p.getX().getRaw(), p.getY().getRaw(), p.getZ().getRaw(), p.getT().getRaw(),
+                subtract ? g.getY().getRaw() : g.getX().getRaw(),
+                subtract ? g.getX().getRaw() : g.getY().getRaw(),
+                g.getZ().getRaw(),
+                g.getT().getRaw());
+        return Ed25519GroupElement.p1xp1(new Ed25519FieldElement(X), new Ed25519FieldElement(Y), new Ed25519FieldElement(Z), new Ed25519FieldElement(T));
+    }
+
+    Ed25519GroupElement scalarMultiply(final Ed25519GroupElement B, final Ed25519EncodedFieldElement a) {
+        this.scalarMultiply(this.result, B, a);
+        return this.result.toGroupElement();
+    }
+
+    Ed25519GroupElement doubleScalarMultiplyVariableTime(
+            final Ed25519GroupElement B,
+            final Ed25519GroupElement A,
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b) {
+        this.doubleScalarMultiplyVariableTime(this.result, B, A, a, b);
+        return this.result.toGroupElement();
+    }
+
+    Ed25519GroupElement multiScalarMultiplyVariableTime(
+            final Ed25519GroupElement B,
+            final Ed25519GroupElement[][] tables,
+            final byte[][] slides,
+            final Ed25519EncodedFieldElement b) {
+        this.multiScalarMultiplyVariableTime(this.result, B, tables, slides, b);
+        return this.result.toGroupElement();
+    }
+
+    //endregion
+
+    //region private helpers
+
+    private static boolean isAnyNonZero(final byte[][] slides, final int index) {
+        for (final byte[] slide : slides) {
+            if (0 != slide[index]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void addOrSubtract(
+            final Ed25519MutableGroupElement r,
+            final Ed25519MutableGroupElement p,
+            final Ed25519GroupElement g,
+            final boolean subtract) {
+        if (p.getCoordinateSystem() != CoordinateSystem.P3) {
+            throw new UnsupportedOperationException();
+        }
+
+        // negating g means swapping its first two coordinates and the signs of the last two results
+        final int[] gFirst = subtract ? g.getY().getRaw() : g.getX().getRaw();
+        final int[] gSecond = subtract ? g.getX().getRaw() : g.getY().getRaw();
+        final int[] rZ = subtract ? r.getT() : r.getZ();
+        final int[] rT = subtract ? r.getZ() : r.getT();
+        switch (g.getCoordinateSystem()) {
+            case CACHED:
+                this.addCached(r.getX(), r.getY(), rZ, rT, p.getX(), p.getY(), p.getZ(), p.getT(), gFirst, gSecond, g.getZ().getRaw(), g.getT().getRaw());
+                break;
+            case PRECOMPUTED:
+                this.addPrecomputed(r.getX(), r.getY(), rZ, rT, p.getX(), p.getY(), p.getZ(), p.getT(), gFirst, gSecond, g.getZ().getRaw());
+                break;
+            default:
+                throw new IllegalArgumentException();
+        }
+
+        r.setCoordinateSystem(CoordinateSystem.P1xP1);
+    }
+
+    /**
+     * r = p + g or r = p - g where g is the entry of a single row precomputed table at the given index.
+     * The entry is copied into selected because the field arithmetic expects each coordinate in its own array.
+     */
+    private void addOrSubtract(
+            final Ed25519MutableGroupElement r,
+            final Ed25519MutableGroupElement p,
+            final Ed25519PrecomputedTable table,
+            final int index,
+            final boolean subtract) {
+        final int[] limbs = table.getLimbs();
+        final int offset = table.offset(0, index);
+        final int[] gX = this.selected.getX();
+        final int[] gY = this.selected.getY();
+        final int[] gZ = this.selected.getZ();
+        Ed25519FieldArithmetic.copy(gX, limbs, offset);
+        Ed25519FieldArithmetic.copy(gY, limbs, offset + 10);
+        Ed25519FieldArithmetic.copy(gZ, limbs, offset + 20);
+
+        // see addOrSubtract() above for how g is negated
+        final int[] rZ = subtract ? r.getT() : r.getZ();
+        final int[] rT = subtract ? r.getZ() : r.getT();
+        this.addPrecomputed(r.getX(), r.getY(), rZ, rT, p.getX(), p.getY(), p.getZ(), p.getT(), subtract ? gY : gX, subtract ? gX : gY, gZ);
+        r.setCoordinateSystem(CoordinateSystem.P1xP1);
+    }
+
+    /**
+     * Selects 2^(w * i) r_i B from a row of the precomputed table (r_i = b) into selected.
+     * No secret array indices, no secret branching.
+     * Constant time.
+     *
+     * @param table The precomputed table whose row i holds the multiples 2^(w * i) B, ..., 2^(w * i) * 2^(w - 1) B.
+     * @param i The row index.
+     * @param b The signed digit r_i.
+     */
+    private void select(final Ed25519PrecomputedTable table, final int i, final int b) {
+        // Is r_i negative?
+        final int bNegative = ByteUtils.isNegativeConstantTime(b);
+        // |r_i|
+        final int bAbs = b - (((-bNegative) & b) << 1);
+
+        // 2^(w * i) |r_i| B
+        final int[] X = this.selected.getX();
+        final int[] Y = this.selected.getY();
+        final int[] Z = this.selected.getZ();
+        Ed25519FieldArithmetic.one(X);
+        Ed25519FieldArithmetic.one(Y);
+        Ed25519FieldArithmetic.zero(Z);
+        final int[] limbs = table.getLimbs();
+        final int rowOffset = table.offset(i, 0);
+        for (int j = 0; j < table.getRowLength(); j++) {
+            final int isEqual = ByteUtils.isEqualConstantTime(bAbs, j + 1);
+            final int offset = rowOffset + j * Ed25519PrecomputedTable.ENTRY_LENGTH;
+            Ed25519FieldArithmetic.cmov(X, limbs, offset, isEqual);
+            Ed25519FieldArithmetic.cmov(Y, limbs, offset + 10, isEqual);
+            Ed25519FieldArithmetic.cmov(Z, limbs, offset + 20, isEqual);
+        }
+
+        // -2^(w * i) |r_i| B
+        final int[] XMinus = this.selectedNegated.getX();
+        final int[] YMinus = this.selectedNegated.getY();
+        final int[] ZMinus = this.selectedNegated.getZ();
+        Ed25519FieldArithmetic.copy(XMinus, Y);
+        Ed25519FieldArithmetic.copy(YMinus, X);
+        Ed25519FieldArithmetic.negate(ZMinus, Z);
+
+        // 2^(w * i) r_i B
+        Ed25519FieldArithmetic.cmov(X, XMinus, bNegative);
+        Ed25519FieldArithmetic.cmov(Y, YMinus, bNegative);
+        Ed25519FieldArithmetic.cmov(Z, ZMinus, bNegative);
+    }
+
+    /**
+     * r = r + selected where r is in P^3 coordinate system.
+     *
+     * @param r The group element to add the selected group element to.
+     */
+    private void addSelected(final Ed25519MutableGroupElement r) {
+        final Ed25519MutableGroupElement t = this.p1xp1;
+        this.addPrecomputed(
+                t.getX(), t.getY(), t.getZ(), t.getT(),
+                r.getX(), r.getY(), r.getZ(), r.getT(),
+                this.selected.getX(), this.selected.getY(), this.selected.getZ());
+        toP3(r.getX(), r.getY(), r.getZ(), r.getT(), t.getX(), t.getY(), t.getZ(), t.getT());
+    }
+
+    /**
+     * (rX, rY, rZ, rT) = 2 * (X, Y, Z).
+     * See Ed25519GroupElement.dbl() for the formula.
+     */
+    private void dbl(
+            final int[] rX, final int[] rY, final int[] rZ, final int[] rT,
+            final int[] X, final int[] Y, final int[] Z) {
+        // X^2, Y^2, 2 * Z^2, (X + Y)^2
+        Ed25519FieldArithmetic.square(this.t0, X);
+        Ed25519FieldArithmetic.square(this.t1, Y);
+        Ed25519FieldArithmetic.squareAndDouble(this.t2, Z);
+        Ed25519FieldArithmetic.add(this.t3, X, Y);
+        Ed25519FieldArithmetic.square(this.t3, this.t3);
+
+        Ed25519FieldArithmetic.add(rY, this.t1, this.t0);
+        Ed25519FieldArithmetic.subtract(rZ, this.t1, this.t0);
+        Ed25519FieldArithmetic.subtract(rX, this.t3, rY);
+        Ed25519FieldArithmetic.subtract(rT, this.t2, rZ);
+    }
+
+    /**
+     * (rX, rY, rZ, rT) = (X, Y, Z, T) + (gX, gY, gZ, gT) where g is in CACHED coordinate system.
+     * See Ed25519GroupElement.add() for the formula.
+     */
+    private void addCached(
+            final int[] rX, final int[] rY, final int[] rZ, final int[] rT,
+            final int[] X, final int[] Y, final int[] Z, final int[] T,
+            final int[] gX, final int[] gY, final int[] gZ, final int[] gT) {
+        // A, B, C, D
+        Ed25519FieldArithmetic.add(this.t0, Y, X);
+        Ed25519FieldArithmetic.subtract(this.t1, Y, X);
+        Ed25519FieldArithmetic.multiply(this.t0, this.t0, gX);
+        Ed25519FieldArithmetic.multiply(this.t1, this.t1, gY);
+        Ed25519FieldArithmetic.multiply(this.t2, gT, T);
+        Ed25519FieldArithmetic.multiply(this.t3, Z, gZ);
+        Ed25519FieldArithmetic.add(this.t3, this.t3, this.t3);
+
+        this.combine(rX, rY, rZ, rT);
+    }
+
+    /**
+     * Ed25519GroupElement addition using the twisted Edwards addition law for extended coordinates.
+     * (X, Y, Z, T) must be given in P^3 coordinate system and g in PRECOMPUTED coordinate system.
+     * r = p + g where p = (X1 : Y1 : Z1 : T1), g = (g.X, g.Y, g.Z) = (Y2/Z2 + X2/Z2, Y2/Z2 - X2/Z2, 2 * d * X2/Z2 * Y2/Z2)
+     * <br>
+     * r in P x P coordinate system:
+     * <br>
+     * r = ((X' : Z'), (Y' : T')) where
+     * X' = (Y1 + X1) * g.X - (Y1 - X1) * q.Y = ((Y1 + X1) * (Y2 + X2) - (Y1 - X1) * (Y2 - X2)) * 1/Z2
+     * Y' = (Y1 + X1) * g.X + (Y1 - X1) * q.Y = ((Y1 + X1) * (Y2 + X2) + (Y1 - X1) * (Y2 - X2)) * 1/Z2
+     * Z' = 2 * Z1 + T1 * g.Z = 2 * Z1 + T1 * 2 * d * X2 * Y2 * 1/Z2^2 = (2 * Z1 * Z2 + 2 * d * T1 * T2) * 1/Z2
+     * T' = 2 * Z1 - T1 * g.Z = 2 * Z1 - T1 * 2 * d * X2 * Y2 * 1/Z2^2 = (2 * Z1 * Z2 - 2 * d * T1 * T2) * 1/Z2
+     * <br>
+     * Formula for the P x P coordinate system is in agreement with the formula given in
+     * file ge25519.c method add_p1p1() in ref implementation.
+     * Setting A = (Y1 - X1) * (Y2 - X2), B = (Y1 + X1) * (Y2 + X2), C = 2 * d * T1 * T2, D = 2 * Z1 * Z2 we get
+     * X' = (B - A) * 1/Z2
+     * Y' = (B + A) * 1/Z2
+     * Z' = (D + C) * 1/Z2
+     * T' = (D - C) * 1/Z2
+     * <br>
+     * r converted from P x P to P^2 coordinate system:
+     * <br>
+     * r = (X'' : Y'' : Z'' : T'') where
+     * X'' = X' * T' = (B - A) * (D - C) * 1/Z2^2
+     * Y'' = Y' * Z' = (B + A) * (D + C) * 1/Z2^2
+     * Z'' = Z' * T' = (D + C) * (D - C) * 1/Z2^2
+     * T'' = X' * Y' = (B - A) * (B + A) * 1/Z2^2
+     * <br>
+     * Formula above for the P^2 coordinate system is in agreement with the formula given in [2] page 6
+     * (the common factor 1/Z2^2 does not matter)
+     * E = B - A, F = D - C, G = D + C, H = B + A
+     * X3 = E * F = (B - A) * (D - C);
+     * Y3 = G * H = (D + C) * (B + A);
+     * Z3 = F * G = (D - C) * (D + C);
+     * T3 = E * H = (B - A) * (B + A);
+     */
+    private void addPrecomputed(
+            final int[] rX, final int[] rY, final int[] rZ, final int[] rT,
+            final int[] X, final int[] Y, final int[] Z, final int[] T,
+            final int[] gX, final int[] gY, final int[] gZ) {
+        // A, B, C, D
+        Ed25519FieldArithmetic.add(this.t0, Y, X);
+        Ed25519FieldArithmetic.subtract(this.t1, Y, X);
+        Ed25519FieldArithmetic.multiply(this.t0, this.t0, gX);
+        Ed25519FieldArithmetic.multiply(this.t1, this.t1, gY);
+        Ed25519FieldArithmetic.multiply(this.t2, gZ, T);
+        Ed25519FieldArithmetic.add(this.t3, Z, Z);
+
+        this.combine(rX, rY, rZ, rT);
+    }
+
+    /**
+     * (rX, rY, rZ, rT) = (A - B, A + B, D + C, D - C).
+     */
+    private void combine(final int[] rX, final int[] rY, final int[] rZ, final int[] rT) {
+        Ed25519FieldArithmetic.subtract(rX, this.t0, this.t1);
+        Ed25519FieldArithmetic.add(rY, this.t0, this.t1);
+        Ed25519FieldArithmetic.add(rZ, this.t3, this.t2);
+        Ed25519FieldArithmetic.subtract(rT, this.t3, this.t2);
+    }
+
+    private static void toP2(
+            final int[] rX, final int[] rY, final int[] rZ,
+            final int[] X, final int[] Y, final int[] Z, final int[] T) {
+        Ed25519FieldArithmetic.multiply(rX, X, T);
+        Ed25519FieldArithmetic.multiply(rY, Y, Z);
+        Ed25519FieldArithmetic.multiply(rZ, Z, T);
+    }
+
+    private static void toP3(
+            final int[] rX, final int[] rY, final int[] rZ, final int[] rT,
+            final int[] X, final int[] Y, final int[] Z, final int[] T) {
+        Ed25519FieldArithmetic.multiply(rX, X, T);
+        Ed25519FieldArithmetic.multiply(rY, Y, Z);
+        Ed25519FieldArithmetic.multiply(rZ, Z, T);
+        Ed25519FieldArithmetic.multiply(rT, X, Y);
+    }
+
+    private static void checkDoubleable(final CoordinateSystem coordinateSystem) {
+        if (coordinateSystem != CoordinateSystem.P2 && coordinateSystem != CoordinateSystem.P3) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static void checkConvertible(final Ed25519MutableGroupElement r, final Ed25519MutableGroupElement p) {
+        if (p.getCoordinateSystem() != CoordinateSystem.P1xP1) {
+            throw new UnsupportedOperationException();
+        }
+
+        if (r == p) {
+            throw new IllegalArgumentException("result must not be the converted group element");
+        }
+    }
+
+    //endregion
+}
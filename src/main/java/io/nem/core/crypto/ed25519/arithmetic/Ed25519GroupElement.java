@@ -16,8 +16,6 @@
 
 package io.nem.core.crypto.ed25519.arithmetic;
 
-import io.nem.core.utils.ByteUtils;
-
 import java.io.Serializable;
 
 /**
@@ -34,6 +32,21 @@ import java.io.Serializable;
  */
 public class Ed25519GroupElement implements Serializable {
 
+    /**
+     * The window width w of the fixed base scalar multiplication.
+     */
+    static final int FIXED_BASE_WINDOW_WIDTH = 6;
+
+    /**
+     * The number of signed 2^w digits of a scalar.
+     */
+    static final int FIXED_BASE_DIGITS = (256 + FIXED_BASE_WINDOW_WIDTH - 1) / FIXED_BASE_WINDOW_WIDTH;
+
+    /**
+     * The number of precomputed multiples per digit position (digits are in [-2^(w-1), 2^(w-1)]).
+     */
+    private static final int FIXED_BASE_MULTIPLES = 1 << (FIXED_BASE_WINDOW_WIDTH - 1);
+
     private final CoordinateSystem coordinateSystem;
     @SuppressWarnings("NonConstantFieldWithUpperCaseName")
     private final Ed25519FieldElement X;
@@ -47,12 +60,17 @@ public class Ed25519GroupElement implements Serializable {
     /**
      * Precomputed table for a single scalar multiplication.
      */
-    private Ed25519GroupElement[][] precomputedForSingle;
+    private Ed25519PrecomputedTable precomputedForSingle;
 
     /**
      * Precomputed table for a double scalar multiplication
      */
-    private Ed25519GroupElement[] precomputedForDouble;
+    private Ed25519PrecomputedTable precomputedForDouble;
+
+    /**
+     * Precomputed (wide window) table for a fixed base scalar multiplication.
+     */
+    private Ed25519PrecomputedTable precomputedForFixedBase;
 
     //region constructors
 
@@ -183,11 +201,10 @@ public class Ed25519GroupElement implements Serializable {
      * Convert a to 2^16 bit representation.
      *
      * @param encoded The encode field element.
-     * @return 64 bytes, each between -8 and 7
+     * @param e       The array receiving the 64 digits, each between -8 and 7.
      */
-    private static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
+    static void toRadix16(final Ed25519EncodedFieldElement encoded, final byte[] e) {
         final byte[] a = encoded.getRaw();
-        final byte[] e = new byte[64];
         int i;
         for (i = 0; i < 32; i++) {
             e[2 * i] = (byte) (a[i] & 15);
@@ -203,8 +220,33 @@ public class Ed25519GroupElement implements Serializable {
             e[i] -= carry << 4;
         }
         e[63] += carry;
+    }
 
-        return e;
+    /**
+     * Convert a to a signed 2^w bit representation with w = FIXED_BASE_WINDOW_WIDTH.
+     *
+     * @param encoded The encode field element.
+     * @param e       The array receiving the FIXED_BASE_DIGITS digits, each between -2^(w-1) and 2^(w-1).
+     */
+    static void toRadixFixedBase(final Ed25519EncodedFieldElement encoded, final int[] e) {
+        final byte[] a = encoded.getRaw();
+        int i;
+        for (i = 0; i < FIXED_BASE_DIGITS; i++) {
+            e[i] = 0;
+        }
+        for (i = 0; i < 256; i++) {
+            e[i / FIXED_BASE_WINDOW_WIDTH] |= (1 & (a[i >> 3] >> (i & 7))) << (i % FIXED_BASE_WINDOW_WIDTH);
+        }
+        /* each e[i] is between 0 and 2^w - 1 */
+        /* e[FIXED_BASE_DIGITS - 1] is between 0 and 2^(w-1) - 1 */
+        int carry = 0;
+        for (i = 0; i < FIXED_BASE_DIGITS - 1; i++) {
+            e[i] += carry;
+            carry = e[i] + (1 << (FIXED_BASE_WINDOW_WIDTH - 1));
+            carry >>= FIXED_BASE_WINDOW_WIDTH;
+            e[i] -= carry << FIXED_BASE_WINDOW_WIDTH;
+        }
+        e[FIXED_BASE_DIGITS - 1] += carry;
     }
 
     /**
@@ -220,8 +262,20 @@ public class Ed25519GroupElement implements Serializable {
      * @return The byte array r in the above described form.
      */
     private static byte[] slide(final Ed25519EncodedFieldElement encoded) {
-        final byte[] a = encoded.getRaw();
         final byte[] r = new byte[256];
+        slide(encoded, r);
+        return r;
+    }
+
+    /**
+     * Calculates a sliding-windows base 2 representation for a given encoded field element a
+     * and writes it to r (see slide(encoded)).
+     *
+     * @param encoded The encoded field element.
+     * @param r       The array of length 256 receiving the representation.
+     */
+    static void slide(final Ed25519EncodedFieldElement encoded, final byte[] r) {
+        final byte[] a = encoded.getRaw();
 
         // Put each bit of 'a' into a separate byte, 0 or 1
         for (int i = 0; i < 256; ++i) {
@@ -253,8 +307,6 @@ public class Ed25519GroupElement implements Serializable {
                 }
             }
         }
-
-        return r;
     }
 
     /**
@@ -323,7 +375,7 @@ public class Ed25519GroupElement implements Serializable {
      *
      * @return The precomputed table.
      */
-    public Ed25519GroupElement[][] getPrecomputedForSingle() {
+    public Ed25519PrecomputedTable getPrecomputedForSingle() {
         return this.precomputedForSingle;
     }
 
@@ -332,10 +384,19 @@ public class Ed25519GroupElement implements Serializable {
      *
      * @return The precomputed table.
      */
-    public Ed25519GroupElement[] getPrecomputedForDouble() {
+    public Ed25519PrecomputedTable getPrecomputedForDouble() {
         return this.precomputedForDouble;
     }
 
+    /**
+     * Gets the table with the precomputed group elements for fixed base scalar multiplication.
+     *
+     * @return The precomputed table.
+     */
+    public Ed25519PrecomputedTable getPrecomputedForFixedBase() {
+        return this.precomputedForFixedBase;
+    }
+
     /**
      * Converts the group element to an encoded point on the curve.
      *
@@ -357,6 +418,51 @@ public class Ed25519GroupElement implements Serializable {
         }
     }
 
+    /**
+     * Converts group elements to encoded points on the curve.
+     * The Z coordinates of all group elements are inverted at once with Montgomery's trick,
+     * so a batch needs a single field inversion and three field multiplications per group element.
+     *
+     * @param elements The group elements.
+     * @return The encoded points in the order of the group elements.
+     */
+    public static Ed25519EncodedGroupElement[] encodeAll(final Ed25519GroupElement[] elements) {
+        final Ed25519EncodedGroupElement[] encoded = new Ed25519EncodedGroupElement[elements.length];
+        if (0 == elements.length) {
+            return encoded;
+        }
+
+        final Ed25519GroupElement[] points = new Ed25519GroupElement[elements.length];
+        for (int i = 0; i < elements.length; ++i) {
+            final CoordinateSystem coordinateSystem = elements[i].getCoordinateSystem();
+            points[i] = CoordinateSystem.P2 == coordinateSystem || CoordinateSystem.P3 == coordinateSystem
+                    ? elements[i]
+                    : elements[i].toP2();
+        }
+
+        // products[i] = Z_0 * Z_1 * ... * Z_i
+        final Ed25519FieldElement[] products = new Ed25519FieldElement[points.length];
+        products[0] = points[0].Z;
+        for (int i = 1; i < points.length; ++i) {
+            products[i] = products[i - 1].multiply(points[i].Z);
+        }
+
+        // inverse = 1 / (Z_0 * ... * Z_i) at the start of each iteration
+        Ed25519FieldElement inverse = products[points.length - 1].invert();
+        for (int i = points.length - 1; i >= 0; --i) {
+            final Ed25519FieldElement inverseZ = 0 == i ? inverse : inverse.multiply(products[i - 1]);
+            inverse = inverse.multiply(points[i].Z);
+
+            final Ed25519FieldElement x = points[i].X.multiply(inverseZ);
+            final Ed25519FieldElement y = points[i].Y.multiply(inverseZ);
+            final byte[] s = y.encode().getRaw();
+            s[s.length - 1] |= (x.isNegative() ? (byte) 0x80 : 0);
+            encoded[i] = new Ed25519EncodedGroupElement(s);
+        }
+
+        return encoded;
+    }
+
     /**
      * Converts the group element to the P2 coordinate system.
      *
@@ -456,7 +562,7 @@ public class Ed25519GroupElement implements Serializable {
         }
 
         Ed25519GroupElement Bi = this;
-        this.precomputedForSingle = new Ed25519GroupElement[32][8];
+        final Ed25519GroupElement[][] table = new Ed25519GroupElement[32][8];
 
         for (int i = 0; i < 32; i++) {
             Ed25519GroupElement Bij = Bi;
@@ -464,7 +570,7 @@ public class Ed25519GroupElement implements Serializable {
                 final Ed25519FieldElement inverse = Bij.Z.invert();
                 final Ed25519FieldElement x = Bij.X.multiply(inverse);
                 final Ed25519FieldElement y = Bij.Y.multiply(inverse);
-                this.precomputedForSingle[i][j] = precomputed(y.add(x), y.subtract(x), x.multiply(y).multiply(Ed25519Field.D_Times_TWO));
+                table[i][j] = precomputed(y.add(x), y.subtract(x), x.multiply(y).multiply(Ed25519Field.D_Times_TWO));
                 Bij = Bij.add(Bi.toCached()).toP3();
             }
             // Only every second summand is precomputed (16^2 = 256).
@@ -472,6 +578,61 @@ public class Ed25519GroupElement implements Serializable {
                 Bi = Bi.add(Bi.toCached()).toP3();
             }
         }
+
+        this.precomputedForSingle = new Ed25519PrecomputedTable(table);
+    }
+
+    /**
+     * Precomputes the group elements needed to speed up a scalar multiplication with a fixed base point.
+     * The table holds k * 2^(w * i) * B for k in {1, ..., 2^(w-1)} and every digit position i,
+     * so no doublings are needed during the multiplication. It is much larger than the table used by
+     * precomputeForScalarMultiplication() and should only be calculated for long-lived points like the base point.
+     * <br>
+     * All table entries are normalized to affine coordinates with a single field inversion (Montgomery's trick).
+     */
+    public void precomputeForFixedBaseScalarMultiplication() {
+        if (null != this.precomputedForFixedBase) {
+            return;
+        }
+
+        final Ed25519GroupElement[] multiples = new Ed25519GroupElement[FIXED_BASE_DIGITS * FIXED_BASE_MULTIPLES];
+        Ed25519GroupElement Bi = this;
+        for (int i = 0; i < FIXED_BASE_DIGITS; i++) {
+            final Ed25519GroupElement BiCached = Bi.toCached();
+            Ed25519GroupElement Bij = Bi;
+            for (int j = 0; j < FIXED_BASE_MULTIPLES; j++) {
+                multiples[i * FIXED_BASE_MULTIPLES + j] = Bij;
+                Bij = Bij.add(BiCached).toP3();
+            }
+
+            for (int k = 0; k < FIXED_BASE_WINDOW_WIDTH; k++) {
+                Bi = Bi.dbl().toP3();
+            }
+        }
+
+        // products[i] = Z_0 * ... * Z_i
+        final Ed25519FieldElement[] products = new Ed25519FieldElement[multiples.length];
+        products[0] = multiples[0].Z;
+        for (int i = 1; i < multiples.length; i++) {
+            products[i] = products[i - 1].multiply(multiples[i].Z);
+        }
+
+        final Ed25519GroupElement[][] table = new Ed25519GroupElement[FIXED_BASE_DIGITS][FIXED_BASE_MULTIPLES];
+        Ed25519FieldElement inverse = products[multiples.length - 1].invert();
+        for (int i = multiples.length - 1; i >= 0; i--) {
+            final Ed25519GroupElement g = multiples[i];
+
+            // inverse = 1 / (Z_0 * ... * Z_i)
+            final Ed25519FieldElement zInverse = 0 == i ? inverse : inverse.multiply(products[i - 1]);
+            inverse = inverse.multiply(g.Z);
+
+            final Ed25519FieldElement x = g.X.multiply(zInverse);
+            final Ed25519FieldElement y = g.Y.multiply(zInverse);
+            table[i / FIXED_BASE_MULTIPLES][i % FIXED_BASE_MULTIPLES] =
+                    precomputed(y.add(x), y.subtract(x), x.multiply(y).multiply(Ed25519Field.D_Times_TWO));
+        }
+
+        this.precomputedForFixedBase = new Ed25519PrecomputedTable(table);
     }
 
     /**
@@ -482,14 +643,16 @@ public class Ed25519GroupElement implements Serializable {
             return;
         }
         Ed25519GroupElement Bi = this;
-        this.precomputedForDouble = new Ed25519GroupElement[8];
+        final Ed25519GroupElement[] table = new Ed25519GroupElement[8];
         for (int i = 0; i < 8; i++) {
             final Ed25519FieldElement inverse = Bi.Z.invert();
             final Ed25519FieldElement x = Bi.X.multiply(inverse);
             final Ed25519FieldElement y = Bi.Y.multiply(inverse);
-            this.precomputedForDouble[i] = precomputed(y.add(x), y.subtract(x), x.multiply(y).multiply(Ed25519Field.D_Times_TWO));
+            table[i] = precomputed(y.add(x), y.subtract(x), x.multiply(y).multiply(Ed25519Field.D_Times_TWO));
             Bi = this.add(this.add(Bi.toCached()).toP3().toCached()).toP3();
         }
+
+        this.precomputedForDouble = new Ed25519PrecomputedTable(table);
     }
 
     /**
@@ -525,125 +688,12 @@ public class Ed25519GroupElement implements Serializable {
         switch (this.coordinateSystem) {
             case P2:
             case P3:
-                final Ed25519FieldElement XSquare;
-                final Ed25519FieldElement YSquare;
-                final Ed25519FieldElement B;
-                final Ed25519FieldElement A;
-                final Ed25519FieldElement ASquare;
-                final Ed25519FieldElement YSquarePlusXSquare;
-                final Ed25519FieldElement YSquareMinusXSquare;
-                XSquare = this.X.square();
-                YSquare = this.Y.square();
-                B = this.Z.squareAndDouble();
-                A = this.X.add(this.Y);
-                ASquare = A.square();
-                YSquarePlusXSquare = YSquare.add(XSquare);
-                YSquareMinusXSquare = YSquare.subtract(XSquare);
-                return p1xp1(ASquare.subtract(YSquarePlusXSquare), YSquarePlusXSquare, YSquareMinusXSquare, B.subtract(YSquareMinusXSquare));
+                return Ed25519GroupArithmetic.forCurrentThread().dbl(this);
             default:
                 throw new UnsupportedOperationException();
         }
     }
 
-    /**
-     * Ed25519GroupElement addition using the twisted Edwards addition law for extended coordinates.
-     * this must be given in P^3 coordinate system and g in PRECOMPUTED coordinate system.
-     * r = this + g where this = (X1 : Y1 : Z1 : T1), g = (g.X, g.Y, g.Z) = (Y2/Z2 + X2/Z2, Y2/Z2 - X2/Z2, 2 * d * X2/Z2 * Y2/Z2)
-     * <br>
-     * r in P x P coordinate system:
-     * <br>
-     * r = ((X' : Z'), (Y' : T')) where
-     * X' = (Y1 + X1) * g.X - (Y1 - X1) * q.Y = ((Y1 + X1) * (Y2 + X2) - (Y1 - X1) * (Y2 - X2)) * 1/Z2
-     * Y' = (Y1 + X1) * g.X + (Y1 - X1) * q.Y = ((Y1 + X1) * (Y2 + X2) + (Y1 - X1) * (Y2 - X2)) * 1/Z2
-     * Z' = 2 * Z1 + T1 * g.Z = 2 * Z1 + T1 * 2 * d * X2 * Y2 * 1/Z2^2 = (2 * Z1 * Z2 + 2 * d * T1 * T2) * 1/Z2
-     * T' = 2 * Z1 - T1 * g.Z = 2 * Z1 - T1 * 2 * d * X2 * Y2 * 1/Z2^2 = (2 * Z1 * Z2 - 2 * d * T1 * T2) * 1/Z2
-     * <br>
-     * Formula for the P x P coordinate system is in agreement with the formula given in
-     * file ge25519.c method add_p1p1() in ref implementation.
-     * Setting A = (Y1 - X1) * (Y2 - X2), B = (Y1 + X1) * (Y2 + X2), C = 2 * d * T1 * T2, D = 2 * Z1 * Z2 we get
-     * X' = (B - A) * 1/Z2
-     * Y' = (B + A) * 1/Z2
-     * Z' = (D + C) * 1/Z2
-     * T' = (D - C) * 1/Z2
-     * <br>
-     * r converted from P x P to P^2 coordinate system:
-     * <br>
-     * r = (X'' : Y'' : Z'' : T'') where
-     * X'' = X' * T' = (B - A) * (D - C) * 1/Z2^2
-     * Y'' = Y' * Z' = (B + A) * (D + C) * 1/Z2^2
-     * Z'' = Z' * T' = (D + C) * (D - C) * 1/Z2^2
-     * T'' = X' * Y' = (B - A) * (B + A) * 1/Z2^2
-     * <br>
-     * Formula above for the P^2 coordinate system is in agreement with the formula given in [2] page 6
-     * (the common factor 1/Z2^2 does not matter)
-     * E = B - A, F = D - C, G = D + C, H = B + A
-     * X3 = E * F = (B - A) * (D - C);
-     * Y3 = G * H = (D + C) * (B + A);
-     * Z3 = F * G = (D - C) * (D + C);
-     * T3 = E * H = (B - A) * (B + A);
-     *
-     * @param g The group element to add.
-     * @return The resulting group element in the P x P coordinate system.
-     */
-    private Ed25519GroupElement precomputedAdd(final Ed25519GroupElement g) {
-        if (this.coordinateSystem != CoordinateSystem.P3) {
-            throw new UnsupportedOperationException();
-        }
-        if (g.coordinateSystem != CoordinateSystem.PRECOMPUTED) {
-            throw new IllegalArgumentException();
-        }
-
-        final Ed25519FieldElement YPlusX;
-        final Ed25519FieldElement YMinusX;
-        final Ed25519FieldElement A;
-        final Ed25519FieldElement B;
-        final Ed25519FieldElement C;
-        final Ed25519FieldElement D;
-        YPlusX = this.Y.add(this.X);
-        YMinusX = this.Y.subtract(this.X);
-        A = YPlusX.multiply(g.X);
-        B = YMinusX.multiply(g.Y);
-        C = g.Z.multiply(this.T);
-        D = this.Z.add(this.Z);
-
-        return p1xp1(A.subtract(B), A.add(B), D.add(C), D.subtract(C));
-    }
-
-    /**
-     * Ed25519GroupElement subtraction using the twisted Edwards addition law for extended coordinates.
-     * this must be given in P^3 coordinate system and g in PRECOMPUTED coordinate system.
-     * r = this - g where this = (X1 : Y1 : Z1 : T1), g = (g.X, g.Y, g.Z) = (Y2/Z2 + X2/Z2, Y2/Z2 - X2/Z2, 2 * d * X2/Z2 * Y2/Z2)
-     * <br>
-     * Negating g means negating the value of X2 and T2 (the latter is irrelevant here).
-     * The formula is in accordance to the above addition.
-     *
-     * @param g he group element to subtract.
-     * @return The result in the P x P coordinate system.
-     */
-    private Ed25519GroupElement precomputedSubtract(final Ed25519GroupElement g) {
-        if (this.coordinateSystem != CoordinateSystem.P3) {
-            throw new UnsupportedOperationException();
-        }
-        if (g.coordinateSystem != CoordinateSystem.PRECOMPUTED) {
-            throw new IllegalArgumentException();
-        }
-
-        final Ed25519FieldElement YPlusX;
-        final Ed25519FieldElement YMinusX;
-        final Ed25519FieldElement A;
-        final Ed25519FieldElement B;
-        final Ed25519FieldElement C;
-        final Ed25519FieldElement D;
-        YPlusX = this.Y.add(this.X);
-        YMinusX = this.Y.subtract(this.X);
-        A = YPlusX.multiply(g.Y);
-        B = YMinusX.multiply(g.X);
-        C = g.Z.multiply(this.T);
-        D = this.Z.add(this.Z);
-
-        return p1xp1(A.subtract(B), A.add(B), D.subtract(C), D.add(C));
-    }
-
     /**
      * Ed25519GroupElement addition using the twisted Edwards addition law for extended coordinates.
      * this must be given in P^3 coordinate system and g in CACHED coordinate system.
@@ -661,7 +711,8 @@ public class Ed25519GroupElement implements Serializable {
      * Z' = (D + C)
      * T' = (D - C)
      * <br>
-     * Same result as in precomputedAdd() (up to a common factor which does not matter).
+     * Same result as the addition of a group element in PRECOMPUTED coordinate system (up to a common factor which does not matter),
+     * see Ed25519GroupArithmetic.
      *
      * @param g The group element to add.
      * @return The result in the P x P coordinate system.
@@ -674,22 +725,7 @@ public class Ed25519GroupElement implements Serializable {
             throw new IllegalArgumentException();
         }
 
-        final Ed25519FieldElement YPlusX;
-        final Ed25519FieldElement YMinusX;
-        final Ed25519FieldElement ZSquare;
-        final Ed25519FieldElement A;
-        final Ed25519FieldElement B;
-        final Ed25519FieldElement C;
-        final Ed25519FieldElement D;
-        YPlusX = this.Y.add(this.X);
-        YMinusX = this.Y.subtract(this.X);
-        A = YPlusX.multiply(g.X);
-        B = YMinusX.multiply(g.Y);
-        C = g.T.multiply(this.T);
-        ZSquare = this.Z.multiply(g.Z);
-        D = ZSquare.add(ZSquare);
-
-        return p1xp1(A.subtract(B), A.add(B), D.add(C), D.subtract(C));
+        return Ed25519GroupArithmetic.forCurrentThread().addCached(this, g, false);
     }
 
     /**
@@ -709,22 +745,7 @@ public class Ed25519GroupElement implements Serializable {
             throw new IllegalArgumentException();
         }
 
-        final Ed25519FieldElement YPlusX;
-        final Ed25519FieldElement YMinusX;
-        final Ed25519FieldElement ZSquare;
-        final Ed25519FieldElement A;
-        final Ed25519FieldElement B;
-        final Ed25519FieldElement C;
-        final Ed25519FieldElement D;
-        YPlusX = this.Y.add(this.X);
-        YMinusX = this.Y.subtract(this.X);
-        A = YPlusX.multiply(g.Y);
-        B = YMinusX.multiply(g.X);
-        C = g.T.multiply(this.T);
-        ZSquare = this.Z.multiply(g.Z);
-        D = ZSquare.add(ZSquare);
-
-        return p1xp1(A.subtract(B), A.add(B), D.subtract(C), D.add(C));
+        return Ed25519GroupArithmetic.forCurrentThread().addCached(this, g, true);
     }
 
     /**
@@ -794,89 +815,18 @@ public class Ed25519GroupElement implements Serializable {
         }
     }
 
-    /**
-     * Constant-time conditional move.
-     * Replaces this with u if b == 1.
-     * Replaces this with this if b == 0.
-     *
-     * @param u The group element to return if b == 1.
-     * @param b in {0, 1}
-     * @return u if b == 1; this if b == 0; null otherwise.
-     */
-    private Ed25519GroupElement cmov(final Ed25519GroupElement u, final int b) {
-        Ed25519GroupElement ret = null;
-        for (int i = 0; i < b; i++) {
-            // Only for b == 1
-            ret = u;
-        }
-        for (int i = 0; i < 1 - b; i++) {
-            // Only for b == 0
-            ret = this;
-        }
-        return ret;
-    }
-
-    /**
-     * Look up 16^i r_i B in the precomputed table.
-     * No secret array indices, no secret branching.
-     * Constant time.
-     * <br>
-     * Must have previously precomputed.
-     *
-     * @param pos = i/2 for i in {0, 2, 4,..., 62}
-     * @param b   = r_i
-     * @return The Ed25519GroupElement
-     */
-    private Ed25519GroupElement select(final int pos, final int b) {
-        // Is r_i negative?
-        final int bNegative = ByteUtils.isNegativeConstantTime(b);
-        // |r_i|
-        final int bAbs = b - (((-bNegative) & b) << 1);
-
-        // 16^i |r_i| B
-        final Ed25519GroupElement t = Ed25519Group.ZERO_PRECOMPUTED
-                .cmov(this.precomputedForSingle[pos][0], ByteUtils.isEqualConstantTime(bAbs, 1))
-                .cmov(this.precomputedForSingle[pos][1], ByteUtils.isEqualConstantTime(bAbs, 2))
-                .cmov(this.precomputedForSingle[pos][2], ByteUtils.isEqualConstantTime(bAbs, 3))
-                .cmov(this.precomputedForSingle[pos][3], ByteUtils.isEqualConstantTime(bAbs, 4))
-                .cmov(this.precomputedForSingle[pos][4], ByteUtils.isEqualConstantTime(bAbs, 5))
-                .cmov(this.precomputedForSingle[pos][5], ByteUtils.isEqualConstantTime(bAbs, 6))
-                .cmov(this.precomputedForSingle[pos][6], ByteUtils.isEqualConstantTime(bAbs, 7))
-                .cmov(this.precomputedForSingle[pos][7], ByteUtils.isEqualConstantTime(bAbs, 8));
-        // -16^i |r_i| B
-        //noinspection SuspiciousNameCombination
-        final Ed25519GroupElement tMinus = precomputed(t.Y, t.X, t.Z.negate());
-        // 16^i r_i B
-        return t.cmov(tMinus, bNegative);
-    }
-
     /**
      * h = a * B where a = a[0]+256*a[1]+...+256^31 a[31] and
      * B is this point. If its lookup table has not been precomputed, it
      * will be at the start of the method (and cached for later calls).
+     * If a fixed base table has been precomputed, it is used instead.
      * Constant time.
      *
      * @param a The encoded field element.
      * @return The resulting group element.
      */
     public Ed25519GroupElement scalarMultiply(final Ed25519EncodedFieldElement a) {
-        Ed25519GroupElement g;
-        int i;
-        final byte[] e = toRadix16(a);
-        Ed25519GroupElement h = Ed25519Group.ZERO_P3;
-        for (i = 1; i < 64; i += 2) {
-            g = this.select(i / 2, e[i]);
-            h = h.precomputedAdd(g).toP3();
-        }
-
-        h = h.dbl().toP2().dbl().toP2().dbl().toP2().dbl().toP3();
-
-        for (i = 0; i < 64; i += 2) {
-            g = this.select(i / 2, e[i]);
-            h = h.precomputedAdd(g).toP3();
-        }
-
-        return h;
+        return Ed25519GroupArithmetic.forCurrentThread().scalarMultiply(this, a);
     }
 
     /**
@@ -894,36 +844,78 @@ public class Ed25519GroupElement implements Serializable {
             final Ed25519GroupElement A,
             final Ed25519EncodedFieldElement a,
             final Ed25519EncodedFieldElement b) {
-        final byte[] aSlide = slide(a);
-        final byte[] bSlide = slide(b);
-        Ed25519GroupElement r = Ed25519Group.ZERO_P2;
+        return Ed25519GroupArithmetic.forCurrentThread().doubleScalarMultiplyVariableTime(this, A, a, b);
+    }
 
-        int i;
-        for (i = 255; i >= 0; --i) {
-            if (aSlide[i] != 0 || bSlide[i] != 0) {
-                break;
-            }
+    /**
+     * r = b * B - (a_1 * A_1 + ... + a_n * A_n) where
+     * a_1, ..., a_n and b are encoded field elements and
+     * B is this point.
+     * This point must have been previously precomputed for double scalar multiplication.
+     * The points A_1, ..., A_n do not need to be precomputed, a small table of odd multiples
+     * in CACHED coordinates is calculated for each of them (no field inversions needed).
+     * <br>
+     * All scalars share a single chain of doublings (Straus' interleaving method),
+     * so the costs of the doublings are amortized over all points.
+     *
+     * @param points  The points A_1, ..., A_n in P3 coordinate system.
+     * @param scalars The encoded field elements a_1, ..., a_n.
+     * @param b       The encoded field element b.
+     * @return The resulting group element.
+     */
+    public Ed25519GroupElement multiScalarMultiplyVariableTime(
+            final Ed25519GroupElement[] points,
+            final Ed25519EncodedFieldElement[] scalars,
+            final Ed25519EncodedFieldElement b) {
+        if (points.length != scalars.length) {
+            throw new IllegalArgumentException("number of points and scalars must match");
         }
 
-        for (; i >= 0; --i) {
-            Ed25519GroupElement t = r.dbl();
+        final Ed25519GroupElement[][] tables = new Ed25519GroupElement[points.length][];
+        final byte[][] slides = new byte[points.length][];
+        for (int j = 0; j < points.length; ++j) {
+            tables[j] = points[j].precomputeOddMultiplesCached();
+            slides[j] = slide(scalars[j]);
+        }
 
-            if (aSlide[i] > 0) {
-                t = t.toP3().precomputedSubtract(A.precomputedForDouble[aSlide[i] / 2]);
-            } else if (aSlide[i] < 0) {
-                t = t.toP3().precomputedAdd(A.precomputedForDouble[(-aSlide[i]) / 2]);
-            }
+        return Ed25519GroupArithmetic.forCurrentThread().multiScalarMultiplyVariableTime(this, tables, slides, b);
+    }
 
-            if (bSlide[i] > 0) {
-                t = t.toP3().precomputedAdd(this.precomputedForDouble[bSlide[i] / 2]);
-            } else if (bSlide[i] < 0) {
-                t = t.toP3().precomputedSubtract(this.precomputedForDouble[(-bSlide[i]) / 2]);
-            }
+    /**
+     * Calculates the odd multiples 1 * A, 3 * A, ..., 15 * A of this point (A) in CACHED coordinate system.
+     * This point must be given in P3 coordinate system.
+     *
+     * @return The table of odd multiples.
+     */
+    private Ed25519GroupElement[] precomputeOddMultiplesCached() {
+        if (this.coordinateSystem != CoordinateSystem.P3) {
+            throw new UnsupportedOperationException();
+        }
 
-            r = t.toP2();
+        final Ed25519GroupElement[] table = new Ed25519GroupElement[8];
+        final Ed25519GroupElement twice = this.dbl().toP3();
+        table[0] = this.toCached();
+        for (int i = 1; i < 8; i++) {
+            table[i] = twice.add(table[i - 1]).toP3().toCached();
         }
 
-        return r;
+        return table;
+    }
+
+    /**
+     * Gets a value indicating whether or not this group element is the neutral element.
+     * This group element must be given in P2 or P3 coordinate system.
+     *
+     * @return true if this is the neutral element, false otherwise.
+     */
+    public boolean isNeutral() {
+        switch (this.coordinateSystem) {
+            case P2:
+            case P3:
+                return !this.X.isNonZero() && !this.Y.subtract(this.Z).isNonZero();
+            default:
+                return this.toP2().isNeutral();
+        }
     }
 
     /**
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+/**
+ * Field backend that uses ten 25.5 bit limbs stored in int arrays (the ref10 representation of Ed25519FieldElement).
+ */
+public class Ed25519IntFieldBackend implements Ed25519FieldBackend {
+
+    @Override
+    public Ed25519EncodedGroupElement scalarMultiplyBasePoint(final Ed25519EncodedFieldElement a) {
+        return Ed25519Group.BASE_POINT.scalarMultiply(a).encode();
+    }
+
+    @Override
+    public Ed25519EncodedGroupElement[] scalarMultiplyBasePoints(final Ed25519EncodedFieldElement[] a) {
+        final Ed25519GroupElement[] points = new Ed25519GroupElement[a.length];
+        for (int i = 0; i < a.length; ++i) {
+            points[i] = Ed25519Group.BASE_POINT.scalarMultiply(a[i]);
+        }
+
+        return Ed25519GroupElement.encodeAll(points);
+    }
+
+    @Override
+    public Ed25519EncodedGroupElement scalarMultiply(final Ed25519GroupElement A, final Ed25519EncodedFieldElement a) {
+        return A.scalarMultiply(a).encode();
+    }
+
+    @Override
+    public Ed25519EncodedGroupElement doubleScalarMultiplyBasePointVariableTime(
+            final Ed25519GroupElement A,
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b) {
+        return Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(A, a, b).encode();
+    }
+}
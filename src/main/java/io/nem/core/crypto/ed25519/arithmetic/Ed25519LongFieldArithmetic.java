@@ -0,0 +1,642 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * In-place arithmetic on elements of the finite field with p=2^255-19 elements using five 51 bit limbs.
+ * <p>
+ * h[0] ... h[4] represent the integer <br>
+ * h[0] + 2^51 * h[1] + 2^102 * h[2] + 2^153 * h[3] + 2^204 * h[4]. <br>
+ * All limbs are non-negative. A limb is called reduced if it is less than 2^51 + 2^17.
+ * </p>
+ * The 102 bit limb products are calculated as (high, low) pairs of longs, the high word is calculated with
+ * Math.multiplyHigh if the JVM provides it (Java 9 and later) and with a portable fallback otherwise.
+ * <br>
+ * This is an alternative to the 2^25.5 bit representation of Ed25519FieldArithmetic for 64-bit JVMs.
+ */
+public final class Ed25519LongFieldArithmetic {
+    private static final long MASK = (1L << 51) - 1;
+
+    // 4 * p = 4 * (2^255 - 19) in radix 2^51
+    private static final long FOUR_P0 = (1L << 53) - 76;
+    private static final long FOUR_P = (1L << 53) - 4;
+
+    private static final MethodHandle MULTIPLY_HIGH = findMultiplyHigh();
+
+    private Ed25519LongFieldArithmetic() {
+    }
+
+    private static MethodHandle findMultiplyHigh() {
+        try {
+            return MethodHandles.publicLookup().findStatic(
+                    Math.class,
+                    "multiplyHigh",
+                    MethodType.methodType(long.class, long.class, long.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets a value indicating whether or not Math.multiplyHigh is used.
+     *
+     * @return true if Math.multiplyHigh is available, false if the portable fallback is used.
+     */
+    public static boolean isMultiplyHighAvailable() {
+        return null != MULTIPLY_HIGH;
+    }
+
+    /**
+     * Calculates the high 64 bits of the 128 bit product x * y.
+     *
+     * @param x The first factor.
+     * @param y The second factor.
+     * @return The high 64 bits of the product.
+     */
+    static long multiplyHigh(final long x, final long y) {
+        if (null != MULTIPLY_HIGH) {
+            try {
+                return (long) MULTIPLY_HIGH.invokeExact(x, y);
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return multiplyHighPortable(x, y);
+    }
+
+    /**
+     * Calculates the high 64 bits of the 128 bit product x * y (Hacker's Delight, 8-2).
+     *
+     * @param x The first factor.
+     * @param y The second factor.
+     * @return The high 64 bits of the product.
+     */
+    static long multiplyHighPortable(final long x, final long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & 0xFFFFFFFFL;
+        final long y1 = y >> 32;
+        final long y2 = y & 0xFFFFFFFFL;
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        final long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    //region conversion
+
+    /**
+     * Converts a field element from the 2^25.5 bit representation.
+     * The result is reduced.
+     *
+     * @param h The result.
+     * @param f The field element in 2^25.5 bit representation (int array of length 10).
+     */
+    public static void fromIntLimbs(final long[] h, final int[] f) {
+        fromIntLimbs(h, f, 0);
+    }
+
+    /**
+     * Converts a field element stored at an offset of a larger array from the 2^25.5 bit representation.
+     * The result is reduced.
+     *
+     * @param h      The result.
+     * @param f      The array holding the field element in 2^25.5 bit representation.
+     * @param offset The offset of the first limb of the field element.
+     */
+    public static void fromIntLimbs(final long[] h, final int[] f, final int offset) {
+        // adding 4 * p keeps all limbs non-negative
+        h[0] = f[offset] + ((long) f[offset + 1] << 26) + FOUR_P0;
+        for (int i = 1; i < 5; i++) {
+            h[i] = f[offset + 2 * i] + ((long) f[offset + 2 * i + 1] << 26) + FOUR_P;
+        }
+
+        carry(h);
+    }
+
+    /**
+     * Encodes a field element as 32 bytes in little endian order.
+     * The encoding is unique (the field element is fully reduced modulo p).
+     *
+     * @param s The byte array receiving the encoding.
+     * @param f The field element.
+     */
+    public static void encode(final byte[] s, final long[] f) {
+        long h0 = f[0];
+        long h1 = f[1];
+        long h2 = f[2];
+        long h3 = f[3];
+        long h4 = f[4];
+
+        // make all limbs less than 2^51
+        for (int i = 0; i < 2; i++) {
+            h1 += h0 >>> 51;
+            h0 &= MASK;
+            h2 += h1 >>> 51;
+            h1 &= MASK;
+            h3 += h2 >>> 51;
+            h2 &= MASK;
+            h4 += h3 >>> 51;
+            h3 &= MASK;
+            h0 += 19 * (h4 >>> 51);
+            h4 &= MASK;
+        }
+
+        // q = 1 if h >= p, 0 otherwise
+        long q = (h0 + 19) >>> 51;
+        q = (h1 + q) >>> 51;
+        q = (h2 + q) >>> 51;
+        q = (h3 + q) >>> 51;
+        q = (h4 + q) >>> 51;
+
+        // h - q * p = h + 19 * q - q * 2^255
+        h0 += 19 * q;
+        h1 += h0 >>> 51;
+        h0 &= MASK;
+        h2 += h1 >>> 51;
+        h1 &= MASK;
+        h3 += h2 >>> 51;
+        h2 &= MASK;
+        h4 += h3 >>> 51;
+        h3 &= MASK;
+        h4 &= MASK;
+
+        writeLong(s, 0, h0 | (h1 << 51));
+        writeLong(s, 8, (h1 >>> 13) | (h2 << 38));
+        writeLong(s, 16, (h2 >>> 26) | (h3 << 25));
+        writeLong(s, 24, (h3 >>> 39) | (h4 << 12));
+    }
+
+    private static void writeLong(final byte[] s, final int offset, final long value) {
+        for (int i = 0; i < 8; i++) {
+            s[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    //endregion
+
+    //region arithmetic
+
+    /**
+     * Copies a field element.
+     * <b>h = f</b>
+     *
+     * @param h The result.
+     * @param f The field element to copy.
+     */
+    public static void copy(final long[] h, final long[] f) {
+        System.arraycopy(f, 0, h, 0, 5);
+    }
+
+    /**
+     * Sets a field element to zero.
+     * <b>h = 0</b>
+     *
+     * @param h The result.
+     */
+    public static void zero(final long[] h) {
+        for (int i = 0; i < 5; i++) {
+            h[i] = 0;
+        }
+    }
+
+    /**
+     * Sets a field element to one.
+     * <b>h = 1</b>
+     *
+     * @param h The result.
+     */
+    public static void one(final long[] h) {
+        zero(h);
+        h[0] = 1;
+    }
+
+    /**
+     * Adds two field elements without carrying.
+     * <b>h = f + g</b>
+     * If f and g are reduced, the limbs of h are less than 2^52 + 2^18.
+     *
+     * @param h The result.
+     * @param f The first summand.
+     * @param g The second summand.
+     */
+    public static void add(final long[] h, final long[] f, final long[] g) {
+        for (int i = 0; i < 5; i++) {
+            h[i] = f[i] + g[i];
+        }
+    }
+
+    /**
+     * Subtracts two field elements.
+     * <b>h = f - g</b>
+     * The limbs of g must be less than 2^53 - 76, the result is reduced.
+     *
+     * @param h The result.
+     * @param f The minuend.
+     * @param g The subtrahend.
+     */
+    public static void subtract(final long[] h, final long[] f, final long[] g) {
+        h[0] = f[0] + FOUR_P0 - g[0];
+        for (int i = 1; i < 5; i++) {
+            h[i] = f[i] + FOUR_P - g[i];
+        }
+
+        carry(h);
+    }
+
+    /**
+     * Negates a field element.
+     * <b>h = -f</b>
+     * The limbs of f must be less than 2^53 - 76, the result is reduced.
+     *
+     * @param h The result.
+     * @param f The field element to negate.
+     */
+    public static void negate(final long[] h, final long[] f) {
+        h[0] = FOUR_P0 - f[0];
+        for (int i = 1; i < 5; i++) {
+            h[i] = FOUR_P - f[i];
+        }
+
+        carry(h);
+    }
+
+    /**
+     * Multiplies two field elements.
+     * <b>h = f * g</b>
+     * The limbs of f and g must be less than 2^53, the result is reduced.
+     *
+     * @param h The result.
+     * @param f The first factor.
+     * @param g The second factor.
+     */
+    public static void multiply(final long[] h, final long[] f, final long[] g) {
+        final long f0 = f[0];
+        final long f1 = f[1];
+        final long f2 = f[2];
+        final long f3 = f[3];
+        final long f4 = f[4];
+        final long g0 = g[0];
+        final long g1 = g[1];
+        final long g2 = g[2];
+        final long g3 = g[3];
+        final long g4 = g[4];
+        final long g1_19 = 19 * g1;
+        final long g2_19 = 19 * g2;
+        final long g3_19 = 19 * g3;
+        final long g4_19 = 19 * g4;
+        long lo;
+        long hi;
+
+        /*
+         * Remember: 2^255 congruent 19 modulo p.
+         * Each product (lo + 2^64 * hi) is split into its lowest 51 bits and the remaining bits,
+         * which are accumulated separately so that no sum overflows.
+         */
+        long lo0 = 0;
+        long hi0 = 0;
+        long lo1 = 0;
+        long hi1 = 0;
+        long lo2 = 0;
+        long hi2 = 0;
+        long lo3 = 0;
+        long hi3 = 0;
+        long lo4 = 0;
+        long hi4 = 0;
+
+        // r0
+        lo = f0 * g0;
+        hi = multiplyHigh(f0, g0);
+        lo0 += lo & MASK;
+        hi0 += (hi << 13) | (lo >>> 51);
+        lo = f1 * g4_19;
+        hi = multiplyHigh(f1, g4_19);
+        lo0 += lo & MASK;
+        hi0 += (hi << 13) | (lo >>> 51);
+        lo = f2 * g3_19;
+        hi = multiplyHigh(f2, g3_19);
+        lo0 += lo & MASK;
+        hi0 += (hi << 13) | (lo >>> 51);
+        lo = f3 * g2_19;
+        hi = multiplyHigh(f3, g2_19);
+        lo0 += lo & MASK;
+        hi0 += (hi << 13) | (lo >>> 51);
+        lo = f4 * g1_19;
+        hi = multiplyHigh(f4, g1_19);
+        lo0 += lo & MASK;
+        hi0 += (hi << 13) | (lo >>> 51);
+
+        // r1
+        lo = f0 * g1;
+        hi = multiplyHigh(f0, g1);
+        lo1 += lo & MASK;
+        hi1 += (hi << 13) | (lo >>> 51);
+        lo = f1 * g0;
+        hi = multiplyHigh(f1, g0);
+        lo1 += lo & MASK;
+        hi1 += (hi << 13) | (lo >>> 51);
+        lo = f2 * g4_19;
+        hi = multiplyHigh(f2, g4_19);
+        lo1 += lo & MASK;
+        hi1 += (hi << 13) | (lo >>> 51);
+        lo = f3 * g3_19;
+        hi = multiplyHigh(f3, g3_19);
+        lo1 += lo & MASK;
+        hi1 += (hi << 13) | (lo >>> 51);
+        lo = f4 * g2_19;
+        hi = multiplyHigh(f4, g2_19);
+        lo1 += lo & MASK;
+        hi1 += (hi << 13) | (lo >>> 51);
+
+        // r2
+        lo = f0 * g2;
+        hi = multiplyHigh(f0, g2);
+        lo2 += lo & MASK;
+        hi2 += (hi << 13) | (lo >>> 51);
+        lo = f1 * g1;
+        hi = multiplyHigh(f1, g1);
+        lo2 += lo & MASK;
+        hi2 += (hi << 13) | (lo >>> 51);
+        lo = f2 * g0;
+        hi = multiplyHigh(f2, g0);
+        lo2 += lo & MASK;
+        hi2 += (hi << 13) | (lo >>> 51);
+        lo = f3 * g4_19;
+        hi = multiplyHigh(f3, g4_19);
+        lo2 += lo & MASK;
+        hi2 += (hi << 13) | (lo >>> 51);
+        lo = f4 * g3_19;
+        hi = multiplyHigh(f4, g3_19);
+        lo2 += lo & MASK;
+        hi2 += (hi << 13) | (lo >>> 51);
+
+        // r3
+        lo = f0 * g3;
+        hi = multiplyHigh(f0, g3);
+        lo3 += lo & MASK;
+        hi3 += (hi << 13) | (lo >>> 51);
+        lo = f1 * g2;
+        hi = multiplyHigh(f1, g2);
+        lo3 += lo & MASK;
+        hi3 += (hi << 13) | (lo >>> 51);
+        lo = f2 * g1;
+        hi = multiplyHigh(f2, g1);
+        lo3 += lo & MASK;
+        hi3 += (hi << 13) | (lo >>> 51);
+        lo = f3 * g0;
+        hi = multiplyHigh(f3, g0);
+        lo3 += lo & MASK;
+        hi3 += (hi << 13) | (lo >>> 51);
+        lo = f4 * g4_19;
+        hi = multiplyHigh(f4, g4_19);
+        lo3 += lo & MASK;
+        hi3 += (hi << 13) | (lo >>> 51);
+
+        // r4
+        lo = f0 * g4;
+        hi = multiplyHigh(f0, g4);
+        lo4 += lo & MASK;
+        hi4 += (hi << 13) | (lo >>> 51);
+        lo = f1 * g3;
+        hi = multiplyHigh(f1, g3);
+        lo4 += lo & MASK;
+        hi4 += (hi << 13) | (lo >>> 51);
+        lo = f2 * g2;
+        hi = multiplyHigh(f2, g2);
+        lo4 += lo & MASK;
+        hi4 += (hi << 13) | (lo >>> 51);
+        lo = f3 * g1;
+        hi = multiplyHigh(f3, g1);
+        lo4 += lo & MASK;
+        hi4 += (hi << 13) | (lo >>> 51);
+        lo = f4 * g0;
+        hi = multiplyHigh(f4, g0);
+        lo4 += lo & MASK;
+        hi4 += (hi << 13) | (lo >>> 51);
+
+        reduce(h, lo0, hi0, lo1, hi1, lo2, hi2, lo3, hi3, lo4, hi4);
+    }
+
+    /**
+     * Squares a field element.
+     * <b>h = f * f</b>
+     * The limbs of f must be less than 2^53, the result is reduced.
+     *
+     * @param h The result.
+     * @param f The field element to square.
+     */
+    public static void square(final long[] h, final long[] f) {
+        final long f0 = f[0];
+        final long f1 = f[1];
+        final long f2 = f[2];
+        final long f3 = f[3];
+        final long f4 = f[4];
+        final long f0_2 = 2 * f0;
+        final long f1_2 = 2 * f1;
+        final long f2_2 = 2 * f2;
+        final long f3_2 = 2 * f3;
+        final long f3_19 = 19 * f3;
+        final long f4_19 = 19 * f4;
+        long lo;
+        long hi;
+
+        long lo0 = 0;
+        long hi0 = 0;
+        long lo1 = 0;
+        long hi1 = 0;
+        long lo2 = 0;
+        long hi2 = 0;
+        long lo3 = 0;
+        long hi3 = 0;
+        long lo4 = 0;
+        long hi4 = 0;
+
+        // r0
+        lo = f0 * f0;
+        hi = multiplyHigh(f0, f0);
+        lo0 += lo & MASK;
+        hi0 += (hi << 13) | (lo >>> 51);
+        lo = f1_2 * f4_19;
+        hi = multiplyHigh(f1_2, f4_19);
+        lo0 += lo & MASK;
+        hi0 += (hi << 13) | (lo >>> 51);
+        lo = f2_2 * f3_19;
+        hi = multiplyHigh(f2_2, f3_19);
+        lo0 += lo & MASK;
+        hi0 += (hi << 13) | (lo >>> 51);
+
+        // r1
+        lo = f0_2 * f1;
+        hi = multiplyHigh(f0_2, f1);
+        lo1 += lo & MASK;
+        hi1 += (hi << 13) | (lo >>> 51);
+        lo = f2_2 * f4_19;
+        hi = multiplyHigh(f2_2, f4_19);
+        lo1 += lo & MASK;
+        hi1 += (hi << 13) | (lo >>> 51);
+        lo = f3 * f3_19;
+        hi = multiplyHigh(f3, f3_19);
+        lo1 += lo & MASK;
+        hi1 += (hi << 13) | (lo >>> 51);
+
+        // r2
+        lo = f0_2 * f2;
+        hi = multiplyHigh(f0_2, f2);
+        lo2 += lo & MASK;
+        hi2 += (hi << 13) | (lo >>> 51);
+        lo = f1 * f1;
+        hi = multiplyHigh(f1, f1);
+        lo2 += lo & MASK;
+        hi2 += (hi << 13) | (lo >>> 51);
+        lo = f3_2 * f4_19;
+        hi = multiplyHigh(f3_2, f4_19);
+        lo2 += lo & MASK;
+        hi2 += (hi << 13) | (lo >>> 51);
+
+        // r3
+        lo = f0_2 * f3;
+        hi = multiplyHigh(f0_2, f3);
+        lo3 += lo & MASK;
+        hi3 += (hi << 13) | (lo >>> 51);
+        lo = f1_2 * f2;
+        hi = multiplyHigh(f1_2, f2);
+        lo3 += lo & MASK;
+        hi3 += (hi << 13) | (lo >>> 51);
+        lo = f4 * f4_19;
+        hi = multiplyHigh(f4, f4_19);
+        lo3 += lo & MASK;
+        hi3 += (hi << 13) | (lo >>> 51);
+
+        // r4
+        lo = f0_2 * f4;
+        hi = multiplyHigh(f0_2, f4);
+        lo4 += lo & MASK;
+        hi4 += (hi << 13) | (lo >>> 51);
+        lo = f1_2 * f3;
+        hi = multiplyHigh(f1_2, f3);
+        lo4 += lo & MASK;
+        hi4 += (hi << 13) | (lo >>> 51);
+        lo = f2 * f2;
+        hi = multiplyHigh(f2, f2);
+        lo4 += lo & MASK;
+        hi4 += (hi << 13) | (lo >>> 51);
+
+        reduce(h, lo0, hi0, lo1, hi1, lo2, hi2, lo3, hi3, lo4, hi4);
+    }
+
+    /**
+     * Constant-time conditional move.
+     * Replaces h with f if b == 1.
+     * Leaves h unchanged if b == 0.
+     *
+     * @param h The field element to (conditionally) replace.
+     * @param f The field element to move.
+     * @param b in {0, 1}
+     */
+    public static void cmov(final long[] h, final long[] f, final int b) {
+        final long mask = -b;
+        for (int i = 0; i < 5; i++) {
+            h[i] ^= mask & (h[i] ^ f[i]);
+        }
+    }
+
+    /**
+     * Constant-time conditional move of a field element stored at an offset of a larger array.
+     * Replaces h with f[offset, offset + 5) if b == 1.
+     * Leaves h unchanged if b == 0.
+     *
+     * @param h      The field element to (conditionally) replace.
+     * @param f      The array holding the field element to move.
+     * @param offset The offset of the first limb of the field element.
+     * @param b      in {0, 1}
+     */
+    public static void cmov(final long[] h, final long[] f, final int offset, final int b) {
+        final long mask = -b;
+        for (int i = 0; i < 5; i++) {
+            h[i] ^= mask & (h[i] ^ f[offset + i]);
+        }
+    }
+
+    //endregion
+
+    /**
+     * Combines the accumulated (low, high) parts of the coefficients r_i = lo_i + 2^51 * hi_i
+     * into a reduced field element.
+     */
+    private static void reduce(
+            final long[] h,
+            final long lo0, final long hi0,
+            final long lo1, final long hi1,
+            final long lo2, final long hi2,
+            final long lo3, final long hi3,
+            final long lo4, final long hi4) {
+        long t;
+        long c;
+        t = lo0;
+        long h0 = t & MASK;
+        c = (t >>> 51) + hi0;
+        t = lo1 + c;
+        long h1 = t & MASK;
+        c = (t >>> 51) + hi1;
+        t = lo2 + c;
+        final long h2 = t & MASK;
+        c = (t >>> 51) + hi2;
+        t = lo3 + c;
+        final long h3 = t & MASK;
+        c = (t >>> 51) + hi3;
+        t = lo4 + c;
+        final long h4 = t & MASK;
+        c = (t >>> 51) + hi4;
+
+        // c * 2^255 congruent 19 * c modulo p, c is split to avoid an overflow
+        h0 += (c & MASK) * 19;
+        h1 += (c >>> 51) * 19;
+        h1 += h0 >>> 51;
+        h0 &= MASK;
+
+        h[0] = h0;
+        h[1] = h1;
+        h[2] = h2;
+        h[3] = h3;
+        h[4] = h4;
+    }
+
+    private static void carry(final long[] h) {
+        long c;
+        c = h[0] >>> 51;
+        h[0] &= MASK;
+        h[1] += c;
+        c = h[1] >>> 51;
+        h[1] &= MASK;
+        h[2] += c;
+        c = h[2] >>> 51;
+        h[2] &= MASK;
+        h[3] += c;
+        c = h[3] >>> 51;
+        h[3] &= MASK;
+        h[4] += c;
+        c = h[4] >>> 51;
+        h[4] &= MASK;
+        h[0] += 19 * c;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+/**
+ * Field backend that uses five 51 bit limbs stored in long arrays (see Ed25519LongFieldArithmetic).
+ * <br>
+ * Group elements and their precomputed tables are still created in the int representation and are converted
+ * before the scalar multiplication, the tables of the base point are converted only once.
+ */
+public class Ed25519LongFieldBackend implements Ed25519FieldBackend {
+
+    @Override
+    public Ed25519EncodedGroupElement scalarMultiplyBasePoint(final Ed25519EncodedFieldElement a) {
+        return Ed25519LongGroupArithmetic.forCurrentThread().scalarMultiplyBasePoint(a);
+    }
+
+    @Override
+    public Ed25519EncodedGroupElement[] scalarMultiplyBasePoints(final Ed25519EncodedFieldElement[] a) {
+        return Ed25519LongGroupArithmetic.forCurrentThread().scalarMultiplyBasePoints(a);
+    }
+
+    @Override
+    public Ed25519EncodedGroupElement scalarMultiply(final Ed25519GroupElement A, final Ed25519EncodedFieldElement a) {
+        return Ed25519LongGroupArithmetic.forCurrentThread().scalarMultiply(A, a);
+    }
+
+    @Override
+    public Ed25519EncodedGroupElement doubleScalarMultiplyBasePointVariableTime(
+            final Ed25519GroupElement A,
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b) {
+        return Ed25519LongGroupArithmetic.forCurrentThread().doubleScalarMultiplyBasePointVariableTime(A, a, b);
+    }
+}
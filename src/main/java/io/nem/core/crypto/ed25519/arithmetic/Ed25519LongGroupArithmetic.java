@@ -0,0 +1,524 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import io.nem.core.utils.ByteUtils;
+
+/**
+ * Reusable workspace for group operations on group elements whose coordinates are stored in the radix 2^51
+ * representation of Ed25519LongFieldArithmetic.
+ * <br>
+ * A group element is a long[4][5] array holding the coordinates (X, Y, Z, T), a precomputed group element is a long[3][5] array
+ * holding the coordinates (y + x, y - x, 2 * d * x * y). The formulas are the same as the ones used by Ed25519GroupArithmetic.
+ * The fixed base table of the base point is a flat long array with LONG_ENTRY_LENGTH longs per entry, the tables of other
+ * points are read directly from their Ed25519PrecomputedTable and only the selected entries are converted.
+ * <br>
+ * Instances are not thread safe, use forCurrentThread() to get the workspace of the current thread.
+ */
+final class Ed25519LongGroupArithmetic {
+    private static final ThreadLocal<Ed25519LongGroupArithmetic> THREAD_LOCAL = ThreadLocal.withInitial(Ed25519LongGroupArithmetic::new);
+
+    private static final int LONG_ENTRY_LENGTH = 15;
+    private static final int FIXED_BASE_ROW_LENGTH = Ed25519Group.BASE_POINT.getPrecomputedForFixedBase().getRowLength();
+    private static final long[] BASE_POINT_FIXED_BASE_TABLE = toLong(Ed25519Group.BASE_POINT.getPrecomputedForFixedBase());
+    private static final long[][][] BASE_POINT_DOUBLE_TABLE = toLongRow(Ed25519Group.BASE_POINT.getPrecomputedForDouble());
+
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int Z = 2;
+    private static final int T = 3;
+
+    private final long[] t0 = new long[5];
+    private final long[] t1 = new long[5];
+    private final long[] t2 = new long[5];
+    private final long[] t3 = new long[5];
+    private final long[] inverse = new long[5];
+
+    private final long[][] r = new long[4][5];
+    private final long[][] p1xp1 = new long[4][5];
+    private final long[][] p3 = new long[4][5];
+    private final long[][] selected = new long[3][5];
+    private final long[][] selectedNegated = new long[3][5];
+    private final int[][] selectedIntLimbs = new int[3][10];
+
+    private final long[][][] doubleTable = new long[8][3][5];
+
+    private final byte[] radix16 = new byte[64];
+    private final int[] radixFixedBase = new int[Ed25519GroupElement.FIXED_BASE_DIGITS];
+    private final byte[] aSlide = new byte[256];
+    private final byte[] bSlide = new byte[256];
+    private final byte[] encodedX = new byte[32];
+
+    private Ed25519LongGroupArithmetic() {
+    }
+
+    /**
+     * Gets the workspace of the current thread.
+     *
+     * @return The workspace.
+     */
+    static Ed25519LongGroupArithmetic forCurrentThread() {
+        return THREAD_LOCAL.get();
+    }
+
+    //region scalar multiplication
+
+    /**
+     * Calculates a * B where B is the base point and encodes the result.
+     * Constant time.
+     *
+     * @param a The encoded field element.
+     * @return The encoded group element.
+     */
+    Ed25519EncodedGroupElement scalarMultiplyBasePoint(final Ed25519EncodedFieldElement a) {
+        this.multiplyBasePoint(a);
+        return this.encode(this.r);
+    }
+
+    /**
+     * Calculates a[i] * B for all a[i] where B is the base point and encodes the results with a single inversion.
+     * Constant time per element.
+     *
+     * @param a The encoded field elements.
+     * @return The encoded group elements.
+     */
+    Ed25519EncodedGroupElement[] scalarMultiplyBasePoints(final Ed25519EncodedFieldElement[] a) {
+        final long[][][] points = new long[a.length][3][5];
+        for (int i = 0; i < a.length; i++) {
+            this.multiplyBasePoint(a[i]);
+            Ed25519LongFieldArithmetic.copy(points[i][X], this.r[X]);
+            Ed25519LongFieldArithmetic.copy(points[i][Y], this.r[Y]);
+            Ed25519LongFieldArithmetic.copy(points[i][Z], this.r[Z]);
+        }
+
+        return this.encodeAll(points);
+    }
+
+    private void multiplyBasePoint(final Ed25519EncodedFieldElement a) {
+        this.setNeutral(this.r);
+
+        final int[] e = this.radixFixedBase;
+        Ed25519GroupElement.toRadixFixedBase(a, e);
+        for (int i = 0; i < e.length; i++) {
+            this.select(BASE_POINT_FIXED_BASE_TABLE, i * FIXED_BASE_ROW_LENGTH * LONG_ENTRY_LENGTH, FIXED_BASE_ROW_LENGTH, e[i]);
+            this.addSelected(this.r);
+        }
+    }
+
+    /**
+     * Calculates a * A and encodes the result.
+     * A must have been previously precomputed for scalar multiplication.
+     * Constant time.
+     *
+     * @param A The group element.
+     * @param a The encoded field element.
+     * @return The encoded group element.
+     */
+    Ed25519EncodedGroupElement scalarMultiply(final Ed25519GroupElement A, final Ed25519EncodedFieldElement a) {
+        final Ed25519PrecomputedTable table = A.getPrecomputedForSingle();
+        this.setNeutral(this.r);
+
+        final byte[] e = this.radix16;
+        Ed25519GroupElement.toRadix16(a, e);
+        for (int i = 1; i < 64; i += 2) {
+            this.select(table, i / 2, e[i]);
+            this.addSelected(this.r);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            this.dbl(this.p1xp1, this.r);
+            this.toP3(this.r, this.p1xp1);
+        }
+
+        for (int i = 0; i < 64; i += 2) {
+            this.select(table, i / 2, e[i]);
+            this.addSelected(this.r);
+        }
+
+        return this.encode(this.r);
+    }
+
+    /**
+     * Calculates b * B - a * A where B is the base point and encodes the result.
+     * A must have been previously precomputed for double scalar multiplication.
+     *
+     * @param A The group element.
+     * @param a The first encoded field element.
+     * @param b The second encoded field element.
+     * @return The encoded group element.
+     */
+    Ed25519EncodedGroupElement doubleScalarMultiplyBasePointVariableTime(
+            final Ed25519GroupElement A,
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b) {
+        final long[][][] aTable = this.doubleTable;
+        final Ed25519PrecomputedTable precomputed = A.getPrecomputedForDouble();
+        for (int i = 0; i < aTable.length; i++) {
+            toLong(aTable[i], precomputed, i);
+        }
+
+        final long[][][] bTable = BASE_POINT_DOUBLE_TABLE;
+        Ed25519GroupElement.slide(a, this.aSlide);
+        Ed25519GroupElement.slide(b, this.bSlide);
+        this.setNeutral(this.r);
+
+        int i;
+        for (i = 255; i >= 0; --i) {
+            if (this.aSlide[i] != 0 || this.bSlide[i] != 0) {
+                break;
+            }
+        }
+
+        final long[][] t = this.p1xp1;
+        final long[][] u = this.p3;
+        for (; i >= 0; --i) {
+            this.dbl(t, this.r);
+
+            if (this.aSlide[i] > 0) {
+                this.toP3(u, t);
+                this.addPrecomputed(t, u, aTable[this.aSlide[i] / 2], true);
+            } else if (this.aSlide[i] < 0) {
+                this.toP3(u, t);
+                this.addPrecomputed(t, u, aTable[(-this.aSlide[i]) / 2], false);
+            }
+
+            if (this.bSlide[i] > 0) {
+                this.toP3(u, t);
+                this.addPrecomputed(t, u, bTable[this.bSlide[i] / 2], false);
+            } else if (this.bSlide[i] < 0) {
+                this.toP3(u, t);
+                this.addPrecomputed(t, u, bTable[(-this.bSlide[i]) / 2], true);
+            }
+
+            this.toP2(this.r, t);
+        }
+
+        return this.encode(this.r);
+    }
+
+    //endregion
+
+    //region private helpers
+
+    private static long[] toLong(final Ed25519PrecomputedTable table) {
+        final int[] limbs = table.getLimbs();
+        final long[] result = new long[limbs.length / 2];
+        final long[] h = new long[5];
+        for (int i = 0; i < limbs.length; i += 10) {
+            Ed25519LongFieldArithmetic.fromIntLimbs(h, limbs, i);
+            System.arraycopy(h, 0, result, i / 2, 5);
+        }
+
+        return result;
+    }
+
+    private static long[][][] toLongRow(final Ed25519PrecomputedTable table) {
+        final long[][][] result = new long[table.getRowLength()][3][5];
+        for (int i = 0; i < result.length; i++) {
+            toLong(result[i], table, i);
+        }
+
+        return result;
+    }
+
+    private static void toLong(final long[][] r, final Ed25519PrecomputedTable table, final int index) {
+        final int[] limbs = table.getLimbs();
+        final int offset = table.offset(0, index);
+        Ed25519LongFieldArithmetic.fromIntLimbs(r[0], limbs, offset);
+        Ed25519LongFieldArithmetic.fromIntLimbs(r[1], limbs, offset + 10);
+        Ed25519LongFieldArithmetic.fromIntLimbs(r[2], limbs, offset + 20);
+    }
+
+    private void setNeutral(final long[][] p) {
+        Ed25519LongFieldArithmetic.zero(p[X]);
+        Ed25519LongFieldArithmetic.one(p[Y]);
+        Ed25519LongFieldArithmetic.one(p[Z]);
+        Ed25519LongFieldArithmetic.zero(p[T]);
+    }
+
+    /**
+     * Selects 2^(w * i) r_i B from a row of a flat long table (r_i = b) into selected.
+     * No secret array indices, no secret branching.
+     * Constant time.
+     *
+     * @param table The flat table whose row i holds the multiples 2^(w * i) B, ..., 2^(w * i) * 2^(w - 1) B.
+     * @param rowOffset The offset of the first long of row i.
+     * @param rowLength The number of entries of a row.
+     * @param b The signed digit r_i.
+     */
+    private void select(final long[] table, final int rowOffset, final int rowLength, final int b) {
+        // Is r_i negative?
+        final int bNegative = ByteUtils.isNegativeConstantTime(b);
+        // |r_i|
+        final int bAbs = b - (((-bNegative) & b) << 1);
+
+        // 2^(w * i) |r_i| B
+        final long[][] s = this.selected;
+        Ed25519LongFieldArithmetic.one(s[0]);
+        Ed25519LongFieldArithmetic.one(s[1]);
+        Ed25519LongFieldArithmetic.zero(s[2]);
+        for (int j = 0; j < rowLength; j++) {
+            final int isEqual = ByteUtils.isEqualConstantTime(bAbs, j + 1);
+            final int offset = rowOffset + j * LONG_ENTRY_LENGTH;
+            Ed25519LongFieldArithmetic.cmov(s[0], table, offset, isEqual);
+            Ed25519LongFieldArithmetic.cmov(s[1], table, offset + 5, isEqual);
+            Ed25519LongFieldArithmetic.cmov(s[2], table, offset + 10, isEqual);
+        }
+
+        this.negateSelected(bNegative);
+    }
+
+    /**
+     * Selects 2^(w * i) r_i A from a row of the precomputed table of A (r_i = b) into selected.
+     * The entry is selected in the int representation, so only the selected entry is converted.
+     * No secret array indices, no secret branching.
+     * Constant time.
+     *
+     * @param table The precomputed table whose row i holds the multiples 2^(w * i) A, ..., 2^(w * i) * 2^(w - 1) A.
+     * @param i The row index.
+     * @param b The signed digit r_i.
+     */
+    private void select(final Ed25519PrecomputedTable table, final int i, final int b) {
+        // Is r_i negative?
+        final int bNegative = ByteUtils.isNegativeConstantTime(b);
+        // |r_i|
+        final int bAbs = b - (((-bNegative) & b) << 1);
+
+        // 2^(w * i) |r_i| A
+        final int[][] si = this.selectedIntLimbs;
+        Ed25519FieldArithmetic.one(si[0]);
+        Ed25519FieldArithmetic.one(si[1]);
+        Ed25519FieldArithmetic.zero(si[2]);
+        final int[] limbs = table.getLimbs();
+        final int rowOffset = table.offset(i, 0);
+        for (int j = 0; j < table.getRowLength(); j++) {
+            final int isEqual = ByteUtils.isEqualConstantTime(bAbs, j + 1);
+            final int offset = rowOffset + j * Ed25519PrecomputedTable.ENTRY_LENGTH;
+            Ed25519FieldArithmetic.cmov(si[0], limbs, offset, isEqual);
+            Ed25519FieldArithmetic.cmov(si[1], limbs, offset + 10, isEqual);
+            Ed25519FieldArithmetic.cmov(si[2], limbs, offset + 20, isEqual);
+        }
+
+        final long[][] s = this.selected;
+        Ed25519LongFieldArithmetic.fromIntLimbs(s[0], si[0]);
+        Ed25519LongFieldArithmetic.fromIntLimbs(s[1], si[1]);
+        Ed25519LongFieldArithmetic.fromIntLimbs(s[2], si[2]);
+        this.negateSelected(bNegative);
+    }
+
+    /**
+     * Negates selected if bNegative == 1.
+     * Constant time.
+     */
+    private void negateSelected(final int bNegative) {
+        final long[][] s = this.selected;
+
+        // -2^(w * i) |r_i| B
+        final long[][] sMinus = this.selectedNegated;
+        Ed25519LongFieldArithmetic.copy(sMinus[0], s[1]);
+        Ed25519LongFieldArithmetic.copy(sMinus[1], s[0]);
+        Ed25519LongFieldArithmetic.negate(sMinus[2], s[2]);
+
+        // 2^(w * i) r_i B
+        Ed25519LongFieldArithmetic.cmov(s[0], sMinus[0], bNegative);
+        Ed25519LongFieldArithmetic.cmov(s[1], sMinus[1], bNegative);
+        Ed25519LongFieldArithmetic.cmov(s[2], sMinus[2], bNegative);
+    }
+
+    /**
+     * p = p + selected where p is in P^3 coordinate system.
+     */
+    private void addSelected(final long[][] p) {
+        this.addPrecomputed(this.p1xp1, p, this.selected, false);
+        this.toP3(p, this.p1xp1);
+    }
+
+    /**
+     * r = 2 * p where p is in P^2 or P^3 coordinate system and r is in P x P coordinate system.
+     * See Ed25519GroupElement.dbl() for the formula.
+     */
+    private void dbl(final long[][] r, final long[][] p) {
+        // X^2, Y^2, 2 * Z^2, (X + Y)^2
+        Ed25519LongFieldArithmetic.square(this.t0, p[X]);
+        Ed25519LongFieldArithmetic.square(this.t1, p[Y]);
+        Ed25519LongFieldArithmetic.square(this.t2, p[Z]);
+        Ed25519LongFieldArithmetic.add(this.t2, this.t2, this.t2);
+        Ed25519LongFieldArithmetic.add(this.t3, p[X], p[Y]);
+        Ed25519LongFieldArithmetic.square(this.t3, this.t3);
+
+        Ed25519LongFieldArithmetic.add(r[Y], this.t1, this.t0);
+        Ed25519LongFieldArithmetic.subtract(r[Z], this.t1, this.t0);
+        Ed25519LongFieldArithmetic.subtract(r[X], this.t3, r[Y]);
+        Ed25519LongFieldArithmetic.subtract(r[T], this.t2, r[Z]);
+    }
+
+    /**
+     * r = p +/- g where p is in P^3 coordinate system, g is in PRECOMPUTED coordinate system and r is in P x P coordinate system.
+     * See Ed25519GroupArithmetic.addPrecomputed() for the formula.
+     */
+    private void addPrecomputed(final long[][] r, final long[][] p, final long[][] g, final boolean subtract) {
+        // negating g means swapping its first two coordinates and the signs of the last two results
+        final long[] gFirst = subtract ? g[1] : g[0];
+        final long[] gSecond = subtract ? g[0] : g[1];
+        final long[] rZ = subtract ? r[T] : r[Z];
+        final long[] rT = subtract ? r[Z] : r[T];
+
+        // A, B, C, D
+        Ed25519LongFieldArithmetic.add(this.t0, p[Y], p[X]);
+        Ed25519LongFieldArithmetic.subtract(this.t1, p[Y], p[X]);
+        Ed25519LongFieldArithmetic.multiply(this.t0, this.t0, gFirst);
+        Ed25519LongFieldArithmetic.multiply(this.t1, this.t1, gSecond);
+        Ed25519LongFieldArithmetic.multiply(this.t2, g[2], p[T]);
+        Ed25519LongFieldArithmetic.add(this.t3, p[Z], p[Z]);
+
+        Ed25519LongFieldArithmetic.subtract(r[X], this.t0, this.t1);
+        Ed25519LongFieldArithmetic.add(r[Y], this.t0, this.t1);
+        Ed25519LongFieldArithmetic.add(rZ, this.t3, this.t2);
+        Ed25519LongFieldArithmetic.subtract(rT, this.t3, this.t2);
+    }
+
+    /**
+     * r = p where p is in P x P coordinate system and r is in P^2 coordinate system.
+     * r and p must not be the same group element.
+     */
+    private void toP2(final long[][] r, final long[][] p) {
+        Ed25519LongFieldArithmetic.multiply(r[X], p[X], p[T]);
+        Ed25519LongFieldArithmetic.multiply(r[Y], p[Y], p[Z]);
+        Ed25519LongFieldArithmetic.multiply(r[Z], p[Z], p[T]);
+    }
+
+    /**
+     * r = p where p is in P x P coordinate system and r is in P^3 coordinate system.
+     * r and p must not be the same group element.
+     */
+    private void toP3(final long[][] r, final long[][] p) {
+        Ed25519LongFieldArithmetic.multiply(r[X], p[X], p[T]);
+        Ed25519LongFieldArithmetic.multiply(r[Y], p[Y], p[Z]);
+        Ed25519LongFieldArithmetic.multiply(r[Z], p[Z], p[T]);
+        Ed25519LongFieldArithmetic.multiply(r[T], p[X], p[Y]);
+    }
+
+    /**
+     * Encodes p where p is in P^2 or P^3 coordinate system.
+     * See Ed25519GroupElement.encode().
+     */
+    private Ed25519EncodedGroupElement encode(final long[][] p) {
+        this.invert(this.inverse, p[Z]);
+        return this.encode(p, this.inverse);
+    }
+
+    /**
+     * Encodes group elements with Montgomery's trick: the product of all Z coordinates is inverted once and
+     * the inverse of each Z coordinate is recovered with two multiplications.
+     */
+    private Ed25519EncodedGroupElement[] encodeAll(final long[][][] points) {
+        final Ed25519EncodedGroupElement[] encoded = new Ed25519EncodedGroupElement[points.length];
+        if (0 == points.length) {
+            return encoded;
+        }
+
+        // products[i] = Z_0 * Z_1 * ... * Z_i
+        final long[][] products = new long[points.length][5];
+        Ed25519LongFieldArithmetic.copy(products[0], points[0][Z]);
+        for (int i = 1; i < points.length; i++) {
+            Ed25519LongFieldArithmetic.multiply(products[i], products[i - 1], points[i][Z]);
+        }
+
+        // inverse = 1 / (Z_0 * ... * Z_i) at the start of each iteration
+        final long[] inverseZ = new long[5];
+        this.invert(this.inverse, products[points.length - 1]);
+        for (int i = points.length - 1; i >= 0; i--) {
+            if (0 == i) {
+                Ed25519LongFieldArithmetic.copy(inverseZ, this.inverse);
+            } else {
+                Ed25519LongFieldArithmetic.multiply(inverseZ, this.inverse, products[i - 1]);
+                Ed25519LongFieldArithmetic.multiply(this.inverse, this.inverse, points[i][Z]);
+            }
+
+            encoded[i] = this.encode(points[i], inverseZ);
+        }
+
+        return encoded;
+    }
+
+    private Ed25519EncodedGroupElement encode(final long[][] p, final long[] inverseZ) {
+        Ed25519LongFieldArithmetic.multiply(this.t0, p[X], inverseZ);
+        Ed25519LongFieldArithmetic.multiply(this.t1, p[Y], inverseZ);
+
+        final byte[] s = new byte[32];
+        Ed25519LongFieldArithmetic.encode(this.encodedX, this.t0);
+        Ed25519LongFieldArithmetic.encode(s, this.t1);
+        s[s.length - 1] |= (byte) ((this.encodedX[0] & 1) << 7);
+        return new Ed25519EncodedGroupElement(s);
+    }
+
+    /**
+     * h = 1 / f = f^(p - 2) = f^(2^255 - 21).
+     * Uses the addition chain of fe_invert() in the ref implementation, h and f may be the same array.
+     */
+    private void invert(final long[] h, final long[] f) {
+        final long[] z11 = this.t0;
+        final long[] z = this.t1;
+        final long[] u = this.t2;
+        final long[] v = this.t3;
+
+        // 2, 8, 9, 11
+        Ed25519LongFieldArithmetic.square(u, f);
+        Ed25519LongFieldArithmetic.square(v, u);
+        Ed25519LongFieldArithmetic.square(v, v);
+        Ed25519LongFieldArithmetic.multiply(z, v, f);
+        Ed25519LongFieldArithmetic.multiply(z11, z, u);
+
+        // 2^5 - 1
+        Ed25519LongFieldArithmetic.square(u, z11);
+        Ed25519LongFieldArithmetic.multiply(z, u, z);
+
+        // 2^10 - 1
+        squareTimes(u, z, 5);
+        Ed25519LongFieldArithmetic.multiply(z, u, z);
+
+        // 2^20 - 1, 2^40 - 1, 2^50 - 1
+        squareTimes(u, z, 10);
+        Ed25519LongFieldArithmetic.multiply(u, u, z);
+        squareTimes(v, u, 20);
+        Ed25519LongFieldArithmetic.multiply(u, v, u);
+        squareTimes(u, u, 10);
+        Ed25519LongFieldArithmetic.multiply(z, u, z);
+
+        // 2^100 - 1, 2^200 - 1, 2^250 - 1
+        squareTimes(u, z, 50);
+        Ed25519LongFieldArithmetic.multiply(u, u, z);
+        squareTimes(v, u, 100);
+        Ed25519LongFieldArithmetic.multiply(u, v, u);
+        squareTimes(u, u, 50);
+        Ed25519LongFieldArithmetic.multiply(u, u, z);
+
+        // 2^255 - 2^5, 2^255 - 21
+        squareTimes(u, u, 5);
+        Ed25519LongFieldArithmetic.multiply(h, u, z11);
+    }
+
+    private static void squareTimes(final long[] h, final long[] f, final int n) {
+        Ed25519LongFieldArithmetic.square(h, f);
+        for (int i = 1; i < n; i++) {
+            Ed25519LongFieldArithmetic.square(h, h);
+        }
+    }
+
+    //endregion
+}
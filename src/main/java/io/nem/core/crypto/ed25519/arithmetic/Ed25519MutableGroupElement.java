@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+/**
+ * A mutable group element whose coordinates are stored in reusable int arrays.
+ * It is the result and operand type of Ed25519GroupArithmetic and can be reused across operations
+ * so that no objects are allocated in tight loops.
+ * <br>
+ * Instances are not thread safe.
+ */
+public final class Ed25519MutableGroupElement {
+    private CoordinateSystem coordinateSystem;
+    @SuppressWarnings("NonConstantFieldWithUpperCaseName")
+    private final int[] X = new int[10];
+    @SuppressWarnings("NonConstantFieldWithUpperCaseName")
+    private final int[] Y = new int[10];
+    @SuppressWarnings("NonConstantFieldWithUpperCaseName")
+    private final int[] Z = new int[10];
+    @SuppressWarnings("NonConstantFieldWithUpperCaseName")
+    private final int[] T = new int[10];
+
+    /**
+     * Creates a mutable group element holding the neutral element in the P3 coordinate system.
+     */
+    public Ed25519MutableGroupElement() {
+        this.setNeutralP3();
+    }
+
+    /**
+     * Gets the coordinate system of the group element.
+     *
+     * @return The coordinate system.
+     */
+    public CoordinateSystem getCoordinateSystem() {
+        return this.coordinateSystem;
+    }
+
+    /**
+     * Gets the raw X coordinate.
+     *
+     * @return The X coordinate.
+     */
+    public int[] getX() {
+        return this.X;
+    }
+
+    /**
+     * Gets the raw Y coordinate.
+     *
+     * @return The Y coordinate.
+     */
+    public int[] getY() {
+        return this.Y;
+    }
+
+    /**
+     * Gets the raw Z coordinate.
+     *
+     * @return The Z coordinate.
+     */
+    public int[] getZ() {
+        return this.Z;
+    }
+
+    /**
+     * Gets the raw T coordinate.
+     *
+     * @return The T coordinate.
+     */
+    public int[] getT() {
+        return this.T;
+    }
+
+    /**
+     * Sets this group element to the neutral element in the P2 coordinate system.
+     */
+    public void setNeutralP2() {
+        this.setNeutralP3();
+        this.coordinateSystem = CoordinateSystem.P2;
+    }
+
+    /**
+     * Sets this group element to the neutral element in the P3 coordinate system.
+     */
+    public void setNeutralP3() {
+        Ed25519FieldArithmetic.zero(this.X);
+        Ed25519FieldArithmetic.one(this.Y);
+        Ed25519FieldArithmetic.one(this.Z);
+        Ed25519FieldArithmetic.zero(this.T);
+        this.coordinateSystem = CoordinateSystem.P3;
+    }
+
+    /**
+     * Sets this group element to (a copy of) the given group element.
+     *
+     * @param g The group element.
+     */
+    public void set(final Ed25519GroupElement g) {
+        Ed25519FieldArithmetic.copy(this.X, g.getX().getRaw());
+        Ed25519FieldArithmetic.copy(this.Y, g.getY().getRaw());
+        Ed25519FieldArithmetic.copy(this.Z, g.getZ().getRaw());
+        if (null == g.getT()) {
+            Ed25519FieldArithmetic.zero(this.T);
+        } else {
+            Ed25519FieldArithmetic.copy(this.T, g.getT().getRaw());
+        }
+
+        this.coordinateSystem = g.getCoordinateSystem();
+    }
+
+    /**
+     * Sets the coordinate system after the coordinates have been written.
+     *
+     * @param coordinateSystem The coordinate system.
+     */
+    void setCoordinateSystem(final CoordinateSystem coordinateSystem) {
+        this.coordinateSystem = coordinateSystem;
+    }
+
+    /**
+     * Creates an immutable group element with a copy of the coordinates of this group element.
+     *
+     * @return The group element.
+     */
+    public Ed25519GroupElement toGroupElement() {
+        switch (this.coordinateSystem) {
+            case AFFINE:
+                return Ed25519GroupElement.affine(copyOf(this.X), copyOf(this.Y), copyOf(this.Z));
+            case P2:
+                return Ed25519GroupElement.p2(copyOf(this.X), copyOf(this.Y), copyOf(this.Z));
+            case P3:
+                return Ed25519GroupElement.p3(copyOf(this.X), copyOf(this.Y), copyOf(this.Z), copyOf(this.T));
+            case P1xP1:
+                return Ed25519GroupElement.p1xp1(copyOf(this.X), copyOf(this.Y), copyOf(this.Z), copyOf(this.T));
+            case PRECOMPUTED:
+                return Ed25519GroupElement.precomputed(copyOf(this.X), copyOf(this.Y), copyOf(this.Z));
+            case CACHED:
+                return Ed25519GroupElement.cached(copyOf(this.X), copyOf(this.Y), copyOf(this.Z), copyOf(this.T));
+            default:
+                throw new UnsupportedOperationException();
+        }
+    }
+
+    private static Ed25519FieldElement copyOf(final int[] f) {
+        return new Ed25519FieldElement(f.clone());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A table of group elements in PRECOMPUTED coordinate system stored in a single contiguous int array.
+ * <br>
+ * The table has a fixed number of rows of equal length. Entry (i, j) occupies ENTRY_LENGTH consecutive ints
+ * starting at offset(i, j) and holds the limbs of (y + x, y - x, 2 * d * x * y) one coordinate after the other.
+ * Compared to an array of Ed25519GroupElement objects the table needs less than half the memory and the entries
+ * of a row lie next to each other, which is what the constant time table lookups of the scalar multiplications scan.
+ * <br>
+ * Tables are immutable.
+ */
+public final class Ed25519PrecomputedTable implements Serializable {
+
+    /**
+     * The number of ints of a single entry (three coordinates with ten limbs each).
+     */
+    static final int ENTRY_LENGTH = 30;
+
+    private final int[] limbs;
+    private final int rowCount;
+    private final int rowLength;
+
+    /**
+     * Creates a table from rows of group elements in PRECOMPUTED coordinate system.
+     *
+     * @param rows The rows (all of them must have the same length).
+     */
+    Ed25519PrecomputedTable(final Ed25519GroupElement[][] rows) {
+        this.rowCount = rows.length;
+        this.rowLength = 0 == rows.length ? 0 : rows[0].length;
+        this.limbs = new int[this.rowCount * this.rowLength * ENTRY_LENGTH];
+        for (int i = 0; i < this.rowCount; i++) {
+            if (rows[i].length != this.rowLength) {
+                throw new IllegalArgumentException("all rows must have the same length");
+            }
+
+            for (int j = 0; j < this.rowLength; j++) {
+                this.set(i, j, rows[i][j]);
+            }
+        }
+    }
+
+    /**
+     * Creates a table with a single row.
+     *
+     * @param row The group elements in PRECOMPUTED coordinate system.
+     */
+    Ed25519PrecomputedTable(final Ed25519GroupElement[] row) {
+        this(new Ed25519GroupElement[][] { row });
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Gets the number of entries of each row.
+     *
+     * @return The row length.
+     */
+    public int getRowLength() {
+        return this.rowLength;
+    }
+
+    /**
+     * Gets the number of bytes used by the limbs of all entries.
+     *
+     * @return The size of the table.
+     */
+    public int getSizeInBytes() {
+        return this.limbs.length * Integer.BYTES;
+    }
+
+    /**
+     * Gets an entry of the table as a new group element in PRECOMPUTED coordinate system.
+     * This allocates the group element, so it should not be used in the scalar multiplication loops.
+     *
+     * @param row    The row index.
+     * @param column The column index.
+     * @return The group element.
+     */
+    public Ed25519GroupElement get(final int row, final int column) {
+        final int offset = this.offset(row, column);
+        return Ed25519GroupElement.precomputed(
+                new Ed25519FieldElement(Arrays.copyOfRange(this.limbs, offset, offset + 10)),
+                new Ed25519FieldElement(Arrays.copyOfRange(this.limbs, offset + 10, offset + 20)),
+                new Ed25519FieldElement(Arrays.copyOfRange(this.limbs, offset + 20, offset + 30)));
+    }
+
+    /**
+     * Gets the offset of the first limb of an entry in the array returned by getLimbs().
+     *
+     * @param row    The row index.
+     * @param column The column index.
+     * @return The offset.
+     */
+    int offset(final int row, final int column) {
+        if (row < 0 || row >= this.rowCount || column < 0 || column >= this.rowLength) {
+            throw new IndexOutOfBoundsException(String.format("(%d, %d) is not an entry of the table", row, column));
+        }
+
+        return (row * this.rowLength + column) * ENTRY_LENGTH;
+    }
+
+    /**
+     * Gets the limbs of all entries. The returned array is shared and must not be modified.
+     *
+     * @return The limbs.
+     */
+    int[] getLimbs() {
+        return this.limbs;
+    }
+
+    private void set(final int row, final int column, final Ed25519GroupElement g) {
+        if (CoordinateSystem.PRECOMPUTED != g.getCoordinateSystem()) {
+            throw new IllegalArgumentException("table entries must be in PRECOMPUTED coordinate system");
+        }
+
+        final int offset = this.offset(row, column);
+        System.arraycopy(g.getX().getRaw(), 0, this.limbs, offset, 10);
+        System.arraycopy(g.getY().getRaw(), 0, this.limbs, offset + 10, 10);
+        System.arraycopy(g.getZ().getRaw(), 0, this.limbs, offset + 20, 10);
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.codec.binary.Hex;
  * Static class that contains utility functions for converting hex strings to and from bytes.
  */
 public class HexEncoder {
+    private static final byte[] UPPER_CASE_DIGITS = StringEncoder.getBytes("0123456789ABCDEF");
 
     /**
      * Converts a hex string to a byte array.
@@ -70,4 +71,31 @@ public class HexEncoder {
         final byte[] decodedBytes = codec.encode(bytes);
         return StringEncoder.getString(decodedBytes);
     }
+
+    /**
+     * Converts a byte array to an upper case hex string.
+     *
+     * @param bytes The input byte array.
+     * @return The output hex string.
+     */
+    public static String getUpperCaseString(final byte[] bytes) {
+        final byte[] encodedBytes = new byte[2 * bytes.length];
+        encodeUpperCase(bytes, encodedBytes, 0);
+        return StringEncoder.getString(encodedBytes);
+    }
+
+    /**
+     * Writes the upper case hex characters of a byte array as ASCII bytes into a destination array.
+     *
+     * @param bytes       The input byte array.
+     * @param destination The destination array (must have room for 2 * bytes.length bytes after offset).
+     * @param offset      The offset of the first hex character in the destination array.
+     */
+    public static void encodeUpperCase(final byte[] bytes, final byte[] destination, final int offset) {
+        int i = offset;
+        for (final byte b : bytes) {
+            destination[i++] = UPPER_CASE_DIGITS[(b >> 4) & 0x0F];
+            destination[i++] = UPPER_CASE_DIGITS[b & 0x0F];
+        }
+    }
 }
@@ -23,14 +23,16 @@ import io.nem.sdk.model.mosaic.Mosaic;
 import io.nem.sdk.model.mosaic.MosaicId;
 import io.nem.sdk.model.transaction.AggregateTransaction;
 import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.functions.Function;
-import io.vertx.core.json.JsonArray;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
 import io.vertx.reactivex.ext.web.client.HttpResponse;
-import io.vertx.reactivex.ext.web.codec.BodyCodec;
+import org.apache.commons.codec.DecoderException;
 
 import java.net.MalformedURLException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +50,16 @@ public class AccountHttp extends Http implements AccountRepository {
         this(host, new NetworkHttp(host));
     }
 
+    /**
+     * Create a repository that sends its requests with the given context.
+     *
+     * @param host    The node url.
+     * @param context The context shared with other repositories and listeners.
+     */
+    public AccountHttp(String host, ClientContext context) throws MalformedURLException {
+        this(host, new NetworkHttp(host, context));
+    }
+
     public AccountHttp(String host, NetworkHttp networkHttp) throws MalformedURLException {
         super(host + "/account/", networkHttp);
     }
@@ -56,22 +68,12 @@ public class AccountHttp extends Http implements AccountRepository {
     public Observable<AccountInfo> getAccountInfo(Address address) {
         return this.client
                 .getAbs(this.url + address.plain())
-                .as(BodyCodec.jsonObject())
                 .rxSend()
                 .toObservable()
-                .map(Http::mapJsonObjectOrError)
-                .map(json -> objectMapper.readValue(json.toString(), AccountInfoDTO.class))
-                .map(AccountInfoDTO::getAccount)
-                .map(accountDTO -> new AccountInfo(Address.createFromRawAddress(accountDTO.getAddressEncoded()),
-                        accountDTO.getAddressHeight().extractIntArray(),
-                        accountDTO.getPublicKey(),
-                        accountDTO.getPublicKeyHeight().extractIntArray(),
-                        accountDTO.getImportance().extractIntArray(),
-                        accountDTO.getImportanceHeight().extractIntArray(),
-                        accountDTO.getMosaics().stream().map(mosaicDTO -> new Mosaic(
-                                new MosaicId(mosaicDTO.getId().extractIntArray()),
-                                mosaicDTO.getAmount().extractIntArray()
-                        )).collect(Collectors.toList())));
+                .map(Http::mapBufferOrError)
+                .map(decodeWithFallback(
+                        json -> StreamingJsonDecoder.decodeObject(json, StreamingJsonDecoder::readAccountInfo),
+                        json -> toAccountInfo(objectMapper.readValue(json, AccountInfoDTO.class))));
     }
 
     @Override
@@ -82,26 +84,23 @@ public class AccountHttp extends Http implements AccountRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .postAbs(this.url.toString())
-                        .as(BodyCodec.jsonArray())
                         .rxSendJson(requestBody)
                         .toObservable()
-                        .map(Http::mapJsonArrayOrError)
-                        .map(json -> objectMapper.<List<AccountInfoDTO>>readValue(json.toString(), new TypeReference<List<AccountInfoDTO>>() {
-                        }))
-                        .flatMapIterable(item -> item)
-                        .map(AccountInfoDTO::getAccount)
-                        .map(accountDTO -> new AccountInfo(Address.createFromRawAddress(accountDTO.getAddressEncoded()),
-                                accountDTO.getAddressHeight().extractIntArray(),
-                                accountDTO.getPublicKey(),
-                                accountDTO.getPublicKeyHeight().extractIntArray(),
-                                accountDTO.getImportance().extractIntArray(),
-                                accountDTO.getImportanceHeight().extractIntArray(),
-                                accountDTO.getMosaics().stream().map(mosaicDTO -> new Mosaic(
-                                        new MosaicId(mosaicDTO.getId().extractIntArray()),
-                                        mosaicDTO.getAmount().extractIntArray()
-                                )).collect(Collectors.toList())))
-                        .toList()
-                        .toObservable());
+                        .map(Http::mapBufferOrError)
+                        .map(decodeWithFallback(
+                                json -> StreamingJsonDecoder.decodeArray(json, StreamingJsonDecoder::readAccountInfo),
+                                json -> toAccountInfos(objectMapper.readValue(json, new TypeReference<List<AccountInfoDTO>>() {
+                                })))));
+    }
+
+    @Override
+    public Flowable<AccountInfo> streamAccountsInfo(List<Address> addresses) {
+        JsonObject requestBody = new JsonObject();
+        requestBody.put("addresses", addresses.stream().map(address -> address.plain()).collect(Collectors.toList()));
+        return this.streamJsonArray(HttpMethod.POST, this.url.toString(), requestBody)
+                .map(element -> decodeWithFallback(element,
+                        json -> StreamingJsonDecoder.decodeObject(json, StreamingJsonDecoder::readAccountInfo),
+                        json -> toAccountInfo(objectMapper.readValue(json, AccountInfoDTO.class))));
     }
 
     @Override
@@ -110,11 +109,10 @@ public class AccountHttp extends Http implements AccountRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .getAbs(this.url + address.plain() + "/multisig")
-                        .as(BodyCodec.jsonObject())
                         .rxSend()
                         .toObservable()
-                        .map(Http::mapJsonObjectOrError)
-                        .map(json -> objectMapper.readValue(json.toString(), MultisigAccountInfoDTO.class))
+                        .map(Http::mapBufferOrError)
+                        .map(body -> objectMapper.readValue(body.getDelegate().getBytes(), MultisigAccountInfoDTO.class))
                         .map(MultisigAccountInfoDTO::getMultisig)
                         .map(transfromMultisigAccountInfoDTO(networkType)));
     }
@@ -125,11 +123,10 @@ public class AccountHttp extends Http implements AccountRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .getAbs(this.url + address.plain() + "/multisig/graph")
-                        .as(BodyCodec.jsonArray())
                         .rxSend()
                         .toObservable()
-                        .map(Http::mapJsonArrayOrError)
-                        .map(json -> objectMapper.<List<MultisigAccountGraphInfoDTO>>readValue(json.toString(), new TypeReference<List<MultisigAccountGraphInfoDTO>>() {
+                        .map(Http::mapBufferOrError)
+                        .map(body -> objectMapper.<List<MultisigAccountGraphInfoDTO>>readValue(body.getDelegate().getBytes(), new TypeReference<List<MultisigAccountGraphInfoDTO>>() {
                         }))
                         .map(multisigAccountGraphInfoDTOList -> {
                             Map<Integer, List<MultisigAccountInfo>> multisigAccountInfoMap = new HashMap<>();
@@ -224,15 +221,55 @@ public class AccountHttp extends Http implements AccountRepository {
     private Observable<List<Transaction>> findTransactions(PublicAccount publicAccount, Optional<QueryParams> queryParams, String path) {
         return this.client
                 .getAbs(this.url + publicAccount.getPublicKey() + path + (queryParams.isPresent() ? queryParams.get().toUrl() : ""))
-                .as(BodyCodec.jsonArray())
                 .rxSend()
                 .toObservable()
-                .map(Http::mapJsonArrayOrError)
-                .map(json -> new JsonArray(json.toString()).stream().map(s -> (JsonObject) s).collect(Collectors.toList()))
-                .flatMapIterable(item -> item)
-                .map(new TransactionMapping())
-                .toList()
-                .toObservable();
+                .map(Http::mapBufferOrError)
+                .map(Http::decodeTransactions);
+    }
+
+    @Override
+    public Flowable<Transaction> streamTransactions(PublicAccount publicAccount) {
+        return this.streamTransactions(publicAccount, Optional.empty(), "/transactions");
+    }
+
+    @Override
+    public Flowable<Transaction> streamTransactions(PublicAccount publicAccount, QueryParams queryParams) {
+        return this.streamTransactions(publicAccount, Optional.of(queryParams), "/transactions");
+    }
+
+    @Override
+    public Flowable<Transaction> streamIncomingTransactions(PublicAccount publicAccount) {
+        return this.streamTransactions(publicAccount, Optional.empty(), "/transactions/incoming");
+    }
+
+    @Override
+    public Flowable<Transaction> streamIncomingTransactions(PublicAccount publicAccount, QueryParams queryParams) {
+        return this.streamTransactions(publicAccount, Optional.of(queryParams), "/transactions/incoming");
+    }
+
+    @Override
+    public Flowable<Transaction> streamOutgoingTransactions(PublicAccount publicAccount) {
+        return this.streamTransactions(publicAccount, Optional.empty(), "/transactions/outgoing");
+    }
+
+    @Override
+    public Flowable<Transaction> streamOutgoingTransactions(PublicAccount publicAccount, QueryParams queryParams) {
+        return this.streamTransactions(publicAccount, Optional.of(queryParams), "/transactions/outgoing");
+    }
+
+    @Override
+    public Flowable<Transaction> streamUnconfirmedTransactions(PublicAccount publicAccount) {
+        return this.streamTransactions(publicAccount, Optional.empty(), "/transactions/unconfirmed");
+    }
+
+    @Override
+    public Flowable<Transaction> streamUnconfirmedTransactions(PublicAccount publicAccount, QueryParams queryParams) {
+        return this.streamTransactions(publicAccount, Optional.of(queryParams), "/transactions/unconfirmed");
+    }
+
+    private Flowable<Transaction> streamTransactions(PublicAccount publicAccount, Optional<QueryParams> queryParams, String path) {
+        return this.streamJsonArray(HttpMethod.GET, this.url + publicAccount.getPublicKey() + path + (queryParams.isPresent() ? queryParams.get().toUrl() : ""), null)
+                .map(Http::decodeTransaction);
     }
 
     private Function<Multisig, MultisigAccountInfo> transfromMultisigAccountInfoDTO(NetworkType networkType) {
@@ -244,4 +281,26 @@ public class AccountHttp extends Http implements AccountRepository {
                 multisig.getMultisigAccounts().stream().map(multisigAccount -> new PublicAccount(multisigAccount, networkType)).collect(Collectors.toList())
         );
     }
+
+    static AccountInfo toAccountInfo(AccountInfoDTO accountInfoDTO) throws DecoderException {
+        AccountDTO accountDTO = accountInfoDTO.getAccount();
+        return new AccountInfo(Address.createFromRawAddress(accountDTO.getAddressEncoded()),
+                accountDTO.getAddressHeight().extractIntArray(),
+                accountDTO.getPublicKey(),
+                accountDTO.getPublicKeyHeight().extractIntArray(),
+                accountDTO.getImportance().extractIntArray(),
+                accountDTO.getImportanceHeight().extractIntArray(),
+                accountDTO.getMosaics().stream().map(mosaicDTO -> new Mosaic(
+                        new MosaicId(mosaicDTO.getId().toUInt64()),
+                        mosaicDTO.getAmount().toUInt64()
+                )).collect(Collectors.toList()));
+    }
+
+    private static List<AccountInfo> toAccountInfos(List<AccountInfoDTO> accountInfoDTOs) throws DecoderException {
+        List<AccountInfo> accountInfos = new ArrayList<>(accountInfoDTOs.size());
+        for (AccountInfoDTO accountInfoDTO : accountInfoDTOs) {
+            accountInfos.add(toAccountInfo(accountInfoDTO));
+        }
+        return accountInfos;
+    }
 }
@@ -19,6 +19,8 @@ package io.nem.sdk.infrastructure;
 import io.nem.sdk.model.account.*;
 import io.nem.sdk.model.transaction.AggregateTransaction;
 import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 import java.util.List;
@@ -160,4 +162,120 @@ public interface AccountRepository {
      * @return Observable of List<{@link Transaction}>
      */
     Observable<List<Transaction>> unconfirmedTransactions(PublicAccount publicAccount, QueryParams queryParams);
+
+    /**
+     * Gets AccountsInfo for different accounts.
+     * Each AccountInfo is emitted as soon as it is received, without waiting for the whole response.
+     * The default implementation emits the elements of {@link #getAccountsInfo(List)} once the whole response is received.
+     *
+     * @param addresses List of Address
+     * @return Flowable of {@link AccountInfo}
+     */
+    default Flowable<AccountInfo> streamAccountsInfo(List<Address> addresses) {
+        return this.getAccountsInfo(addresses).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the confirmed transactions for which an account is signer or receiver.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * The default implementation emits the elements of {@link #transactions(PublicAccount)} once the whole response is received.
+     *
+     * @param publicAccount PublicAccount
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamTransactions(PublicAccount publicAccount) {
+        return this.transactions(publicAccount).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the confirmed transactions for which an account is signer or receiver.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * With pagination.
+     * The default implementation emits the elements of {@link #transactions(PublicAccount, QueryParams)} once the whole response is received.
+     *
+     * @param publicAccount PublicAccount
+     * @param queryParams   QueryParams
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamTransactions(PublicAccount publicAccount, QueryParams queryParams) {
+        return this.transactions(publicAccount, queryParams).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the transactions for which an account is the recipient of a transaction.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * The default implementation emits the elements of {@link #incomingTransactions(PublicAccount)} once the whole response is received.
+     *
+     * @param publicAccount PublicAccount
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamIncomingTransactions(PublicAccount publicAccount) {
+        return this.incomingTransactions(publicAccount).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the transactions for which an account is the recipient of a transaction.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * With pagination.
+     * The default implementation emits the elements of {@link #incomingTransactions(PublicAccount, QueryParams)} once the whole response is received.
+     *
+     * @param publicAccount PublicAccount
+     * @param queryParams   QueryParams
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamIncomingTransactions(PublicAccount publicAccount, QueryParams queryParams) {
+        return this.incomingTransactions(publicAccount, queryParams).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the transactions for which an account is the sender a transaction.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * The default implementation emits the elements of {@link #outgoingTransactions(PublicAccount)} once the whole response is received.
+     *
+     * @param publicAccount PublicAccount
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamOutgoingTransactions(PublicAccount publicAccount) {
+        return this.outgoingTransactions(publicAccount).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the transactions for which an account is the sender a transaction.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * With pagination.
+     * The default implementation emits the elements of {@link #outgoingTransactions(PublicAccount, QueryParams)} once the whole response is received.
+     *
+     * @param publicAccount PublicAccount
+     * @param queryParams   QueryParams
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamOutgoingTransactions(PublicAccount publicAccount, QueryParams queryParams) {
+        return this.outgoingTransactions(publicAccount, queryParams).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the transactions for which an account is the sender or receiver and which have not yet been included in a block.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * The default implementation emits the elements of {@link #unconfirmedTransactions(PublicAccount)} once the whole response is received.
+     *
+     * @param publicAccount PublicAccount
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamUnconfirmedTransactions(PublicAccount publicAccount) {
+        return this.unconfirmedTransactions(publicAccount).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the transactions for which an account is the sender or receiver and which have not yet been included in a block.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * With pagination.
+     * The default implementation emits the elements of {@link #unconfirmedTransactions(PublicAccount, QueryParams)} once the whole response is received.
+     *
+     * @param publicAccount PublicAccount
+     * @param queryParams   QueryParams
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamUnconfirmedTransactions(PublicAccount publicAccount, QueryParams queryParams) {
+        return this.unconfirmedTransactions(publicAccount, queryParams).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
 }
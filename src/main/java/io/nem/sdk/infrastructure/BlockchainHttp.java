@@ -21,17 +21,15 @@ import io.nem.sdk.model.blockchain.BlockInfo;
 import io.nem.sdk.model.blockchain.BlockchainStorageInfo;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.reactivex.ext.web.client.HttpResponse;
-import io.vertx.reactivex.ext.web.codec.BodyCodec;
 
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Blockchain http repository.
@@ -44,6 +42,16 @@ public class BlockchainHttp extends Http implements BlockchainRepository {
         this(host, new NetworkHttp(host));
     }
 
+    /**
+     * Create a repository that sends its requests with the given context.
+     *
+     * @param host    The node url.
+     * @param context The context shared with other repositories and listeners.
+     */
+    public BlockchainHttp(String host, ClientContext context) throws MalformedURLException {
+        this(host, new NetworkHttp(host, context));
+    }
+
     public BlockchainHttp(String host, NetworkHttp networkHttp) throws MalformedURLException {
         super(host, networkHttp);
     }
@@ -54,25 +62,12 @@ public class BlockchainHttp extends Http implements BlockchainRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .getAbs(this.url + "/block/" + height.toString())
-                        .as(BodyCodec.jsonObject())
                         .rxSend()
                         .toObservable()
-                        .map(Http::mapJsonObjectOrError)
-                        .map(json -> objectMapper.readValue(json.toString(), BlockInfoDTO.class))
-                        .map(blockInfoDTO -> new BlockInfo(blockInfoDTO.getMeta().getHash(),
-                                blockInfoDTO.getMeta().getGenerationHash(),
-                                Optional.of(blockInfoDTO.getMeta().getTotalFee().extractIntArray()),
-                                Optional.of(blockInfoDTO.getMeta().getNumTransactions().intValue()),
-                                blockInfoDTO.getBlock().getSignature(),
-                                new PublicAccount(blockInfoDTO.getBlock().getSigner(), networkType),
-                                networkType,
-                                (int) Long.parseLong(Integer.toHexString(blockInfoDTO.getBlock().getVersion().intValue()).substring(2, 4), 16),
-                                blockInfoDTO.getBlock().getType().intValue(),
-                                blockInfoDTO.getBlock().getHeight().extractIntArray(),
-                                blockInfoDTO.getBlock().getTimestamp().extractIntArray(),
-                                blockInfoDTO.getBlock().getDifficulty().extractIntArray(),
-                                blockInfoDTO.getBlock().getPreviousBlockHash(),
-                                blockInfoDTO.getBlock().getBlockTransactionsHash())));
+                        .map(Http::mapBufferOrError)
+                        .map(decodeWithFallback(
+                                json -> StreamingJsonDecoder.decodeObject(json, StreamingJsonDecoder.blockInfoReader(networkType)),
+                                json -> toBlockInfo(objectMapper.readValue(json, BlockInfoDTO.class), networkType))));
 
     }
 
@@ -89,37 +84,45 @@ public class BlockchainHttp extends Http implements BlockchainRepository {
     private Observable<List<Transaction>> getBlockTransactions(BigInteger height, Optional<QueryParams> queryParams) {
         return this.client
                 .getAbs(this.url + "/block/" + height + "/transactions" + (queryParams.isPresent() ? queryParams.get().toUrl() : ""))
-                .as(BodyCodec.jsonArray())
                 .rxSend()
                 .toObservable()
-                .map(Http::mapJsonArrayOrError)
-                .map(json -> new JsonArray(json.toString()).stream().map(s -> (JsonObject) s).collect(Collectors.toList()))
-                .flatMapIterable(item -> item)
-                .map(new TransactionMapping())
-                .toList()
-                .toObservable();
+                .map(Http::mapBufferOrError)
+                .map(Http::decodeTransactions);
+    }
+
+    @Override
+    public Flowable<Transaction> streamBlockTransactions(BigInteger height) {
+        return this.streamBlockTransactions(height, Optional.empty());
+    }
+
+    @Override
+    public Flowable<Transaction> streamBlockTransactions(BigInteger height, QueryParams queryParams) {
+        return this.streamBlockTransactions(height, Optional.of(queryParams));
+    }
+
+    private Flowable<Transaction> streamBlockTransactions(BigInteger height, Optional<QueryParams> queryParams) {
+        return this.streamJsonArray(HttpMethod.GET, this.url + "/block/" + height + "/transactions" + (queryParams.isPresent() ? queryParams.get().toUrl() : ""), null)
+                .map(Http::decodeTransaction);
     }
 
     @Override
     public Observable<BigInteger> getBlockchainHeight() {
         return this.client
                 .getAbs(this.url + "/chain/height")
-                .as(BodyCodec.jsonObject())
                 .rxSend()
                 .toObservable()
-                .map(Http::mapJsonObjectOrError)
-                .map(json -> objectMapper.readValue(json.toString(), HeightDTO.class))
+                .map(Http::mapBufferOrError)
+                .map(body -> objectMapper.readValue(body.getDelegate().getBytes(), HeightDTO.class))
                 .map(blockchainHeight -> blockchainHeight.getHeight().extractIntArray());
     }
 
     public Observable<BigInteger> getBlockchainScore() {
         return this.client
                 .getAbs(this.url + "/chain/score")
-                .as(BodyCodec.jsonObject())
                 .rxSend()
                 .toObservable()
-                .map(Http::mapJsonObjectOrError)
-                .map(json -> objectMapper.readValue(json.toString(), BlockchainScoreDTO.class))
+                .map(Http::mapBufferOrError)
+                .map(body -> objectMapper.readValue(body.getDelegate().getBytes(), BlockchainScoreDTO.class))
                 .map(blockchainScoreDTO -> blockchainScoreDTO.extractIntArray());
     }
 
@@ -127,13 +130,29 @@ public class BlockchainHttp extends Http implements BlockchainRepository {
     public Observable<BlockchainStorageInfo> getBlockchainStorage() {
         return this.client
                 .getAbs(this.url + "/diagnostic/storage")
-                .as(BodyCodec.jsonObject())
                 .rxSend()
                 .toObservable()
-                .map(Http::mapJsonObjectOrError)
-                .map(json -> objectMapper.readValue(json.toString(), BlockchainStorageInfoDTO.class))
+                .map(Http::mapBufferOrError)
+                .map(body -> objectMapper.readValue(body.getDelegate().getBytes(), BlockchainStorageInfoDTO.class))
                 .map(blockchainStorageInfoDTO -> new BlockchainStorageInfo(blockchainStorageInfoDTO.getNumAccounts(),
                         blockchainStorageInfoDTO.getNumBlocks(),
                         blockchainStorageInfoDTO.getNumBlocks()));
     }
+
+    static BlockInfo toBlockInfo(BlockInfoDTO blockInfoDTO, NetworkType networkType) {
+        return new BlockInfo(blockInfoDTO.getMeta().getHash(),
+                blockInfoDTO.getMeta().getGenerationHash(),
+                Optional.of(blockInfoDTO.getMeta().getTotalFee().toUInt64()),
+                Optional.of(blockInfoDTO.getMeta().getNumTransactions().intValue()),
+                blockInfoDTO.getBlock().getSignature(),
+                new PublicAccount(blockInfoDTO.getBlock().getSigner(), networkType),
+                networkType,
+                StreamingJsonDecoder.extractBlockVersion(blockInfoDTO.getBlock().getVersion().intValue()),
+                blockInfoDTO.getBlock().getType().intValue(),
+                blockInfoDTO.getBlock().getHeight().toUInt64(),
+                blockInfoDTO.getBlock().getTimestamp().toUInt64(),
+                blockInfoDTO.getBlock().getDifficulty().toUInt64(),
+                blockInfoDTO.getBlock().getPreviousBlockHash(),
+                blockInfoDTO.getBlock().getBlockTransactionsHash());
+    }
 }
@@ -19,6 +19,8 @@ package io.nem.sdk.infrastructure;
 import io.nem.sdk.model.blockchain.BlockInfo;
 import io.nem.sdk.model.blockchain.BlockchainStorageInfo;
 import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 import java.math.BigInteger;
@@ -57,6 +59,32 @@ public interface BlockchainRepository {
      */
     Observable<List<Transaction>> getBlockTransactions(BigInteger height, QueryParams queryParams);
 
+    /**
+     * Gets the transactions included in a block for a block height.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * The default implementation emits the elements of {@link #getBlockTransactions(BigInteger)} once the whole response is received.
+     *
+     * @param height BigInteger
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamBlockTransactions(BigInteger height) {
+        return this.getBlockTransactions(height).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
+    /**
+     * Gets the transactions included in a block for a block height.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * With pagination.
+     * The default implementation emits the elements of {@link #getBlockTransactions(BigInteger, QueryParams)} once the whole response is received.
+     *
+     * @param height      BigInteger
+     * @param queryParams QueryParams
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamBlockTransactions(BigInteger height, QueryParams queryParams) {
+        return this.getBlockTransactions(height, queryParams).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
     /**
      * Gets current blockchain height.
      *
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.BlockchainStorageInfo;
+import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import org.apache.commons.lang3.Validate;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Blockchain repository serving final blocks and block transactions from a {@link ChainDataCache}.
+ * <br>
+ * Blocks and block transaction lists below the finality depth are requested once and served from the cache
+ * afterwards. Everything else is passed to the decorated repository.
+ *
+ * @since 1.0
+ */
+public class CachingBlockchainRepository implements BlockchainRepository {
+    private final BlockchainRepository repository;
+    private final ChainDataCache cache;
+
+    /**
+     * Creates a caching repository.
+     *
+     * @param repository The repository requests are sent to, e.g. {@link BlockchainHttp}.
+     * @param cache      The cache, which may be shared with a {@link CachingTransactionRepository}.
+     */
+    public CachingBlockchainRepository(BlockchainRepository repository, ChainDataCache cache) {
+        Validate.notNull(repository, "Repository must not be null");
+        Validate.notNull(cache, "Cache must not be null");
+        this.repository = repository;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the cache.
+     *
+     * @return {@link ChainDataCache}
+     */
+    public ChainDataCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
+        return cache.getOrFetch("block:" + height,
+                Observable.defer(() -> this.repository.getBlockByHeight(height)),
+                BlockInfo::getHeight,
+                block -> 1,
+                Observable.defer(this::getBlockchainHeight));
+    }
+
+    @Override
+    public Observable<List<Transaction>> getBlockTransactions(BigInteger height) {
+        return this.getBlockTransactions(height, "", Observable.defer(() -> this.repository.getBlockTransactions(height)));
+    }
+
+    @Override
+    public Observable<List<Transaction>> getBlockTransactions(BigInteger height, QueryParams queryParams) {
+        return this.getBlockTransactions(height, queryParams.toUrl(), Observable.defer(() -> this.repository.getBlockTransactions(height, queryParams)));
+    }
+
+    private Observable<List<Transaction>> getBlockTransactions(BigInteger height, String query, Observable<List<Transaction>> source) {
+        return cache.getOrFetch("blockTransactions:" + height + query,
+                source,
+                transactions -> height,
+                ChainDataCache::weightOf,
+                Observable.defer(this::getBlockchainHeight));
+    }
+
+    @Override
+    public Flowable<Transaction> streamBlockTransactions(BigInteger height) {
+        return this.repository.streamBlockTransactions(height);
+    }
+
+    @Override
+    public Flowable<Transaction> streamBlockTransactions(BigInteger height, QueryParams queryParams) {
+        return this.repository.streamBlockTransactions(height, queryParams);
+    }
+
+    @Override
+    public Observable<BigInteger> getBlockchainHeight() {
+        return this.repository.getBlockchainHeight()
+                .doOnNext(cache::observeChainHeight);
+    }
+
+    @Override
+    public Observable<BigInteger> getBlockchainScore() {
+        return this.repository.getBlockchainScore();
+    }
+
+    @Override
+    public Observable<BlockchainStorageInfo> getBlockchainStorage() {
+        return this.repository.getBlockchainStorage();
+    }
+}
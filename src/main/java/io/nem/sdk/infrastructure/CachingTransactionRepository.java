@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.transaction.*;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import org.apache.commons.lang3.Validate;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Transaction repository serving final confirmed transactions from a {@link ChainDataCache}.
+ * <br>
+ * Transactions confirmed below the finality depth are requested once and served from the cache afterwards.
+ * Unconfirmed transactions, statuses and announcements are passed to the decorated repository.
+ *
+ * @since 1.0
+ */
+public class CachingTransactionRepository implements TransactionRepository {
+    private final TransactionRepository repository;
+    private final BlockchainRepository blockchainRepository;
+    private final ChainDataCache cache;
+
+    /**
+     * Creates a caching repository.
+     *
+     * @param repository           The repository requests are sent to, e.g. {@link TransactionHttp}.
+     * @param blockchainRepository The repository the current chain height is requested from.
+     * @param cache                The cache, which may be shared with a {@link CachingBlockchainRepository}.
+     */
+    public CachingTransactionRepository(TransactionRepository repository, BlockchainRepository blockchainRepository, ChainDataCache cache) {
+        Validate.notNull(repository, "Repository must not be null");
+        Validate.notNull(blockchainRepository, "Blockchain repository must not be null");
+        Validate.notNull(cache, "Cache must not be null");
+        this.repository = repository;
+        this.blockchainRepository = blockchainRepository;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the cache.
+     *
+     * @return {@link ChainDataCache}
+     */
+    public ChainDataCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public Observable<Transaction> getTransaction(String transactionHash) {
+        return cache.getOrFetch("transaction:" + transactionHash.toUpperCase(Locale.ROOT),
+                Observable.defer(() -> this.repository.getTransaction(transactionHash)),
+                transaction -> transaction.getTransactionInfo().map(TransactionInfo::getHeight).orElse(BigInteger.ZERO),
+                ChainDataCache::weightOf,
+                Observable.defer(this.blockchainRepository::getBlockchainHeight));
+    }
+
+    @Override
+    public Observable<List<Transaction>> getTransactions(List<String> transactionHashes) {
+        return this.repository.getTransactions(transactionHashes);
+    }
+
+    @Override
+    public Flowable<Transaction> streamTransactions(List<String> transactionHashes) {
+        return this.repository.streamTransactions(transactionHashes);
+    }
+
+    @Override
+    public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
+        return this.repository.getTransactionStatus(transactionHash);
+    }
+
+    @Override
+    public Observable<List<TransactionStatus>> getTransactionStatuses(List<String> transactionHashes) {
+        return this.repository.getTransactionStatuses(transactionHashes);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
+        return this.repository.announce(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBonded(SignedTransaction signedTransaction) {
+        return this.repository.announceAggregateBonded(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(CosignatureSignedTransaction cosignatureSignedTransaction) {
+        return this.repository.announceAggregateBondedCosignature(cosignatureSignedTransaction);
+    }
+}
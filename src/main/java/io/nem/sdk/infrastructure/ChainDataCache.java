@@ -0,0 +1,339 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.transaction.AggregateTransaction;
+import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import org.apache.commons.lang3.Validate;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A weight bounded, thread safe LRU cache of chain data that can no longer change, shared by
+ * {@link CachingBlockchainRepository} and {@link CachingTransactionRepository}.
+ * <br>
+ * Data is cached once it is at least the finality depth below the highest chain height seen so far, so it can not be
+ * rolled back anymore. Each block or transaction weighs 1, an aggregate transaction weighs 1 plus its inner
+ * transactions and a transaction list weighs the sum of its transactions.
+ * <br>
+ * Large caches are split into segments with independent locks and least recently used order per segment, which
+ * share the max weight: a new entry evicts the least recently used entries of its own segment first and of the
+ * other segments when its segment is not heavy enough. Any entry up to the max weight can be cached; heavier entries
+ * are skipped and counted by {@link #getSkipped()}.
+ *
+ * @since 1.0
+ */
+public final class ChainDataCache {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_WEIGHT = 256;
+
+    private final Segment[] segments;
+    private final long maxWeight;
+    private final long finalityDepth;
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicLong chainHeight = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxWeight     The maximum total weight of the cached entries.
+     * @param finalityDepth The number of blocks after which a block and its transactions are final.
+     */
+    public ChainDataCache(long maxWeight, long finalityDepth) {
+        Validate.isTrue(maxWeight >= 0, "Max weight must not be negative");
+        Validate.isTrue(finalityDepth >= 0, "Finality depth must not be negative");
+        this.maxWeight = maxWeight;
+        this.finalityDepth = finalityDepth;
+        int numSegments = (int) Math.max(1, Math.min(MAX_SEGMENTS, maxWeight / MIN_SEGMENT_WEIGHT));
+        this.segments = new Segment[numSegments];
+        for (int i = 0; i < numSegments; ++i) {
+            this.segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Returns the maximum total weight of the cached entries.
+     *
+     * @return the max weight
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Returns the number of blocks after which a block and its transactions are final.
+     *
+     * @return the finality depth
+     */
+    public long getFinalityDepth() {
+        return finalityDepth;
+    }
+
+    /**
+     * Returns the highest chain height seen so far.
+     *
+     * @return the chain height or 0 when no height has been seen
+     */
+    public long getChainHeight() {
+        return chainHeight.get();
+    }
+
+    /**
+     * Returns the total weight of the cached entries.
+     *
+     * @return the weight
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of requests that were served from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of requests that were sent to the node.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of final values that were not cached because they are heavier than the max weight.
+     *
+     * @return the number of skipped values
+     */
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Returns the share of requests that were served from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 when there was no request
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return 0 == total ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Removes all entries from the cache and resets the counters. The chain height seen so far is kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            weight.addAndGet(-segment.clear());
+        }
+        hits.set(0);
+        misses.set(0);
+        skipped.set(0);
+    }
+
+    /**
+     * Returns the cached value of a key and counts the request as hit or miss.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(String key) {
+        Object value = segmentOf(key).get(key);
+        (null == value ? misses : hits).incrementAndGet();
+        return (T) value;
+    }
+
+    /**
+     * Returns the cached value of a key, or subscribes to the source and caches its value when it is final.
+     * When the value is not final for the chain height seen so far, the current chain height is requested once;
+     * the value is returned uncached if that request fails.
+     *
+     * @param key         The cache key.
+     * @param source      The request of the value.
+     * @param heightOf    The height of a value, or 0 when it is not confirmed.
+     * @param weightOf    The weight of a value.
+     * @param chainHeight The request of the current chain height.
+     */
+    <T> Observable<T> getOrFetch(String key, Observable<T> source, Function<T, BigInteger> heightOf, ToLongFunction<T> weightOf, Observable<BigInteger> chainHeight) {
+        return Observable.defer(() -> {
+            T cached = get(key);
+            if (null != cached) {
+                return Observable.just(cached);
+            }
+
+            return source.flatMap(value -> {
+                BigInteger height = heightOf.apply(value);
+                if (BigInteger.ZERO.equals(height)) {
+                    return Observable.just(value);
+                }
+
+                observeChainHeight(height);
+                Observable<Boolean> isFinal = isFinal(height)
+                        ? Observable.just(true)
+                        : chainHeight.take(1)
+                        .map(currentHeight -> {
+                            observeChainHeight(currentHeight);
+                            return isFinal(height);
+                        })
+                        .defaultIfEmpty(false)
+                        .onErrorReturnItem(false);
+                return isFinal.map(result -> {
+                    if (result) {
+                        put(key, value, weightOf.applyAsLong(value));
+                    }
+                    return value;
+                });
+            });
+        });
+    }
+
+    void put(String key, Object value, long entryWeight) {
+        if (entryWeight > maxWeight) {
+            skipped.incrementAndGet();
+            return;
+        }
+
+        int index = segmentIndexOf(key);
+        weight.addAndGet(segments[index].put(key, value, entryWeight));
+        for (int i = 0; i < segments.length && weight.get() > maxWeight; ++i) {
+            weight.addAndGet(-segments[(index + i) % segments.length].evict(weight.get() - maxWeight, key));
+        }
+    }
+
+    void observeChainHeight(BigInteger height) {
+        long value = height.longValue();
+        chainHeight.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns true when data at the height is final for the highest chain height seen so far.
+     * Height 0 is used by unconfirmed transactions and is never final.
+     */
+    boolean isFinal(BigInteger height) {
+        long value = height.longValue();
+        return value > 0 && value <= chainHeight.get() - finalityDepth;
+    }
+
+    static long weightOf(Transaction transaction) {
+        return transaction instanceof AggregateTransaction
+                ? 1 + ((AggregateTransaction) transaction).getInnerTransactions().size()
+                : 1;
+    }
+
+    static long weightOf(List<Transaction> transactions) {
+        long weight = 0;
+        for (Transaction transaction : transactions) {
+            weight += weightOf(transaction);
+        }
+        return Math.max(1, weight);
+    }
+
+    private Segment segmentOf(String key) {
+        return segments[segmentIndexOf(key)];
+    }
+
+    private int segmentIndexOf(String key) {
+        return (key.hashCode() & 0x7FFFFFFF) % segments.length;
+    }
+
+    private static class Segment {
+        private final Map<String, Entry> map = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        private synchronized Object get(String key) {
+            Entry entry = map.get(key);
+            return null == entry ? null : entry.value;
+        }
+
+        /**
+         * Puts an entry and returns the change of the segment weight.
+         */
+        private synchronized long put(String key, Object value, long entryWeight) {
+            Entry previous = map.put(key, new Entry(value, entryWeight));
+            long delta = entryWeight - (null == previous ? 0 : previous.weight);
+            weight += delta;
+            return delta;
+        }
+
+        /**
+         * Removes the least recently used entries other than the kept key until at least the excess weight is
+         * removed or no other entry is left, and returns the removed weight.
+         */
+        private synchronized long evict(long excess, String keptKey) {
+            long removed = 0;
+            Iterator<Map.Entry<String, Entry>> eldest = map.entrySet().iterator();
+            while (removed < excess && eldest.hasNext()) {
+                Map.Entry<String, Entry> entry = eldest.next();
+                if (!entry.getKey().equals(keptKey)) {
+                    removed += entry.getValue().weight;
+                    eldest.remove();
+                }
+            }
+            weight -= removed;
+            return removed;
+        }
+
+        private synchronized int size() {
+            return map.size();
+        }
+
+        private synchronized long clear() {
+            long removed = weight;
+            map.clear();
+            weight = 0;
+            return removed;
+        }
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long weight;
+
+        private Entry(Object value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
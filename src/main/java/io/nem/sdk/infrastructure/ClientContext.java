@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.client.WebClient;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vert.x instance and http client shared by repositories and listeners.
+ * <br>
+ * Repositories created with the same context share its event loop threads and connection pool.
+ * Closing the context closes the http client, and the Vert.x instance when it was created by the context,
+ * so every repository and listener created from it stops with a single call.
+ *
+ * @since 1.0
+ */
+public final class ClientContext implements AutoCloseable {
+    private static final int DEFAULT_MAX_POOL_SIZE = 20;
+
+    private final Vertx vertx;
+    private final io.vertx.reactivex.core.http.HttpClient httpClient;
+    private final WebClient client;
+    private final boolean ownsVertx;
+    private final Set<HttpClient> websocketClients = ConcurrentHashMap.newKeySet();
+
+    private ClientContext(Vertx vertx, WebClientOptions options, boolean ownsVertx) {
+        Validate.notNull(vertx, "Vertx must not be null");
+        Validate.notNull(options, "Options must not be null");
+        this.vertx = vertx;
+        this.httpClient = vertx.createHttpClient(options);
+        this.client = WebClient.wrap(httpClient, options);
+        this.ownsVertx = ownsVertx;
+    }
+
+    /**
+     * Create a context with its own Vert.x instance and the default client options.
+     *
+     * @return {@link ClientContext}
+     */
+    public static ClientContext create() {
+        return create(defaultOptions());
+    }
+
+    /**
+     * Create a context with its own Vert.x instance.
+     *
+     * @param options The options of the http client, e.g. pool size, keep alive, pipelining, protocol version and compression.
+     * @return {@link ClientContext}
+     */
+    public static ClientContext create(WebClientOptions options) {
+        return new ClientContext(Vertx.vertx(), options, true);
+    }
+
+    /**
+     * Create a context on an existing Vert.x instance.
+     * The Vert.x instance is not closed when the context is closed.
+     *
+     * @param vertx   The Vert.x instance.
+     * @param options The options of the http client.
+     * @return {@link ClientContext}
+     */
+    public static ClientContext create(Vertx vertx, WebClientOptions options) {
+        return new ClientContext(vertx, options, false);
+    }
+
+    /**
+     * Returns the options used by {@link #create()}: persistent connections, a pool of
+     * {@value #DEFAULT_MAX_POOL_SIZE} connections per host, compressed responses and HTTP/1.1 without pipelining.
+     *
+     * @return a new {@link WebClientOptions}
+     */
+    public static WebClientOptions defaultOptions() {
+        WebClientOptions options = new WebClientOptions();
+        options.setKeepAlive(true);
+        options.setMaxPoolSize(DEFAULT_MAX_POOL_SIZE);
+        options.setPipelining(false);
+        options.setTryUseCompression(true);
+        return options;
+    }
+
+    /**
+     * Context used by repositories and listeners created without a context.
+     * It lives as long as the application and is never closed.
+     *
+     * @return the shared default context
+     */
+    static ClientContext getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the Vert.x instance.
+     *
+     * @return {@link Vertx}
+     */
+    public Vertx getVertx() {
+        return vertx;
+    }
+
+    /**
+     * Returns the http client shared by the repositories.
+     *
+     * @return {@link WebClient}
+     */
+    public WebClient getClient() {
+        return client;
+    }
+
+    /**
+     * Returns the http client the {@link WebClient} sends its requests with.
+     * It is used directly for responses that are read while they arrive.
+     *
+     * @return {@link io.vertx.reactivex.core.http.HttpClient}
+     */
+    public io.vertx.reactivex.core.http.HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Returns true when the Vert.x instance is closed together with the context.
+     *
+     * @return if the context owns the Vert.x instance
+     */
+    public boolean ownsVertx() {
+        return ownsVertx;
+    }
+
+    /**
+     * Create a http client for a websocket connection of a listener.
+     * It is closed with {@link #release(HttpClient)} or when the context is closed.
+     */
+    HttpClient createHttpClient() {
+        HttpClient websocketClient = vertx.getDelegate().createHttpClient(new HttpClientOptions().setKeepAlive(true));
+        websocketClients.add(websocketClient);
+        return websocketClient;
+    }
+
+    void release(HttpClient websocketClient) {
+        if (websocketClients.remove(websocketClient)) {
+            websocketClient.close();
+        }
+    }
+
+    /**
+     * Close the http clients of the repositories and listeners, and the Vert.x instance when it was created by
+     * the context.
+     */
+    @Override
+    public void close() {
+        websocketClients.forEach(this::release);
+        client.close();
+        if (ownsVertx) {
+            vertx.close();
+        }
+    }
+
+    private static class DefaultHolder {
+        private static final ClientContext INSTANCE = ClientContext.create();
+    }
+}
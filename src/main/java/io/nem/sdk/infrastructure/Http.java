@@ -19,37 +19,69 @@ package io.nem.sdk.infrastructure;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.transaction.Transaction;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.buffer.Buffer;
+import io.vertx.reactivex.core.http.HttpClientRequest;
 import io.vertx.reactivex.ext.web.client.HttpResponse;
 import io.vertx.reactivex.ext.web.client.WebClient;
+import org.apache.commons.lang3.Validate;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Http {
+    private static final AtomicLong FALLBACK_COUNT = new AtomicLong();
+    private static final AtomicReference<Exception> LAST_FALLBACK_CAUSE = new AtomicReference<>();
+
     protected final WebClient client;
     protected final URL url;
     protected final ObjectMapper objectMapper = new ObjectMapper();
 
+    private final ClientContext context;
     private NetworkHttp networkHttp;
     private NetworkType networkType;
 
-    Http(String host, NetworkHttp networkHttp) throws MalformedURLException {
+    Http(String host, NetworkHttp networkHttp, ClientContext context) throws MalformedURLException {
+        Validate.notNull(context, "Context must not be null");
         this.url = new URL(host);
-        final Vertx vertx = Vertx.vertx();
-        this.client = WebClient.create(vertx);
+        this.context = context;
+        this.client = context.getClient();
         objectMapper.configure(DeserializationFeature.USE_LONG_FOR_INTS, true);
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         this.networkHttp = networkHttp;
     }
 
+    /**
+     * Uses the context of the network repository, or the shared default context when there is none.
+     */
+    Http(String host, NetworkHttp networkHttp) throws MalformedURLException {
+        this(host, networkHttp, networkHttp == null ? ClientContext.getDefault() : networkHttp.getContext());
+    }
+
     Http(String host) throws MalformedURLException {
         this(host, null);
     }
 
+    /**
+     * Returns the context the repository sends its requests with.
+     *
+     * @return {@link ClientContext}
+     */
+    public ClientContext getContext() {
+        return context;
+    }
+
     Observable<NetworkType> getNetworkTypeObservable() {
         Observable<NetworkType> networkTypeResolve;
         if (this.networkType == null) {
@@ -76,4 +108,119 @@ public class Http {
         }
         return response.body();
     }
+
+    static Buffer mapBufferOrError(final HttpResponse<Buffer> response) {
+        if (response.statusCode() < 200 || response.statusCode() > 299) {
+            throw new RuntimeException(response.statusMessage());
+        }
+        return response.body();
+    }
+
+    /**
+     * Decodes a response body with a streaming decoder and falls back to the DTO based mapping
+     * when the streaming decoder cannot read the response. Fallbacks are counted by {@link #getFallbackCount()}.
+     *
+     * @param decoder  The streaming decoder.
+     * @param fallback The DTO based mapping.
+     * @param <T>      The decoded type.
+     * @return a function decoding the response body
+     */
+    static <T> Function<Buffer, T> decodeWithFallback(Function<byte[], T> decoder, Function<byte[], T> fallback) {
+        return body -> decodeWithFallback(body.getDelegate().getBytes(), decoder, fallback);
+    }
+
+    static <T> T decodeWithFallback(byte[] json, Function<byte[], T> decoder, Function<byte[], T> fallback) throws Exception {
+        try {
+            return decoder.apply(json);
+        } catch (Exception e) {
+            FALLBACK_COUNT.incrementAndGet();
+            LAST_FALLBACK_CAUSE.set(e);
+            try {
+                return fallback.apply(json);
+            } catch (Exception fallbackException) {
+                fallbackException.addSuppressed(e);
+                throw fallbackException;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of responses, or elements of streamed responses, the streaming decoders could not read
+     * and that were decoded by the DTO based mapping instead.
+     *
+     * @return the number of fallbacks since the class was loaded
+     */
+    public static long getFallbackCount() {
+        return FALLBACK_COUNT.get();
+    }
+
+    /**
+     * Returns the exception of the streaming decoder that caused the last fallback.
+     *
+     * @return the exception or empty if no response fell back
+     */
+    public static Optional<Exception> getLastFallbackCause() {
+        return Optional.ofNullable(LAST_FALLBACK_CAUSE.get());
+    }
+
+    /**
+     * Sends a request and emits the elements of its JSON array response as they arrive, without buffering the
+     * whole response. The connection is paused while the subscriber does not request more elements.
+     *
+     * @param method      The http method.
+     * @param url         The absolute url.
+     * @param requestBody The JSON request body or null.
+     * @return a {@link Flowable} of the serialized array elements
+     */
+    Flowable<byte[]> streamJsonArray(HttpMethod method, String url, JsonObject requestBody) {
+        return Flowable.defer(() -> {
+            HttpClientRequest request = this.context.getHttpClient().requestAbs(method, url);
+            JsonArrayElementSplitter splitter = new JsonArrayElementSplitter();
+            return request.toFlowable()
+                    .take(1)
+                    .doOnSubscribe(subscription -> {
+                        if (null == requestBody) {
+                            request.end();
+                        } else {
+                            request.putHeader("Content-Type", "application/json").end(requestBody.encode());
+                        }
+                    })
+                    .concatMap(response -> {
+                        if (response.statusCode() < 200 || response.statusCode() > 299) {
+                            return Flowable.error(new RuntimeException(response.statusMessage()));
+                        }
+                        return response.toFlowable();
+                    })
+                    .concatMapIterable(chunk -> splitter.feed(chunk.getDelegate().getBytes()))
+                    .concatWith(Flowable.defer(() -> splitter.isCompleted()
+                            ? Flowable.empty()
+                            : Flowable.error(new IllegalStateException("Response ended before the end of the JSON array"))));
+        });
+    }
+
+    /**
+     * Decodes a transaction with the streaming decoder, falling back to {@link TransactionMapping} for the
+     * transactions it does not read.
+     */
+    static Transaction decodeTransaction(byte[] json) throws Exception {
+        return decodeWithFallback(json, StreamingTransactionDecoder::decodeTransaction,
+                transaction -> new TransactionMapping().apply(new JsonObject(io.vertx.core.buffer.Buffer.buffer(transaction))));
+    }
+
+    /**
+     * Splits a JSON array of transactions into its elements and decodes each of them with {@link #decodeTransaction(byte[])}.
+     */
+    static List<Transaction> decodeTransactions(Buffer body) throws Exception {
+        JsonArrayElementSplitter splitter = new JsonArrayElementSplitter();
+        List<byte[]> elements = splitter.feed(body.getDelegate().getBytes());
+        if (!splitter.isCompleted()) {
+            throw new IllegalStateException("Response ended before the end of the JSON array");
+        }
+
+        List<Transaction> transactions = new ArrayList<>(elements.size());
+        for (byte[] element : elements) {
+            transactions.add(decodeTransaction(element));
+        }
+        return transactions;
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits a JSON array of objects or arrays, received in chunks, into the bytes of its elements.
+ * <br>
+ * Chunks may end anywhere, including inside strings and escape sequences. Only the structure needed to find the end
+ * of each element is checked; the elements are validated by the decoder they are passed to.
+ * Instances keep the state of one response and are not thread safe.
+ */
+final class JsonArrayElementSplitter {
+    private static final int INITIAL_ELEMENT_SIZE = 1024;
+
+    private byte[] element = new byte[INITIAL_ELEMENT_SIZE];
+    private int elementSize;
+    private boolean started;
+    private boolean completed;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean expectElement = true;
+    private int elementCount;
+
+    /**
+     * Consumes a chunk of the response.
+     *
+     * @param chunk The next bytes of the response.
+     * @return the elements completed by the chunk
+     * @throws IllegalArgumentException if the response is not an array of objects or arrays
+     */
+    List<byte[]> feed(byte[] chunk) {
+        List<byte[]> elements = Collections.emptyList();
+        for (byte value : chunk) {
+            if (0 != depth) {
+                append(value);
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if ('\\' == value) {
+                        escaped = true;
+                    } else if ('"' == value) {
+                        inString = false;
+                    }
+                } else if ('"' == value) {
+                    inString = true;
+                } else if ('{' == value || '[' == value) {
+                    ++depth;
+                } else if ('}' == value || ']' == value) {
+                    if (0 == --depth) {
+                        if (elements.isEmpty()) {
+                            elements = new ArrayList<>();
+                        }
+                        elements.add(Arrays.copyOf(element, elementSize));
+                        elementSize = 0;
+                    }
+                }
+            } else if (!isWhitespace(value)) {
+                consumeSeparator(value);
+            }
+        }
+
+        return elements;
+    }
+
+    /**
+     * Returns true when the closing bracket of the array has been consumed.
+     *
+     * @return if the array is complete
+     */
+    boolean isCompleted() {
+        return completed;
+    }
+
+    private void consumeSeparator(byte value) {
+        if (completed) {
+            throw new IllegalArgumentException("Unexpected content after the end of the array");
+        }
+        if (!started) {
+            if ('[' != value) {
+                throw new IllegalArgumentException("Response must be a JSON array");
+            }
+            started = true;
+        } else if (']' == value && (expectElement == (0 == elementCount))) {
+            completed = true;
+        } else if (',' == value && !expectElement) {
+            expectElement = true;
+        } else if (('{' == value || '[' == value) && expectElement) {
+            expectElement = false;
+            ++elementCount;
+            depth = 1;
+            append(value);
+        } else {
+            throw new IllegalArgumentException("Unexpected character '" + (char) value + "' in the array");
+        }
+    }
+
+    private void append(byte value) {
+        if (elementSize == element.length) {
+            element = Arrays.copyOf(element, element.length * 2);
+        }
+        element[elementSize++] = value;
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return ' ' == value || '\n' == value || '\r' == value || '\t' == value;
+    }
+}
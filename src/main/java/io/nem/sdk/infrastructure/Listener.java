@@ -26,12 +26,12 @@ import io.nem.sdk.model.transaction.*;
 import io.reactivex.Observable;
 import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.Subject;
-import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.core.http.WebSocket;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import org.apache.commons.lang3.Validate;
 
 import java.math.BigInteger;
 import java.net.MalformedURLException;
@@ -47,7 +47,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class Listener {
     private final URL url;
+    private final ClientContext context;
     private final Subject<ListenerMessage> messageSubject;
+    private HttpClient httpClient;
     private String UID;
     private WebSocket webSocket;
     private ObjectMapper objectMapper = new ObjectMapper();
@@ -56,7 +58,17 @@ public class Listener {
      * @param url nis host
      */
     public Listener(final String url) throws MalformedURLException {
+        this(url, ClientContext.getDefault());
+    }
+
+    /**
+     * @param url     nis host
+     * @param context the context that creates the websocket connection
+     */
+    public Listener(final String url, final ClientContext context) throws MalformedURLException {
+        Validate.notNull(context, "Context must not be null");
         this.url = new URL(url);
+        this.context = context;
         this.messageSubject = PublishSubject.create();
     }
 
@@ -64,12 +76,13 @@ public class Listener {
      * @return a {@link CompletableFuture} that resolves when the websocket connection is opened
      */
     public CompletableFuture<Void> open() {
-        HttpClient httpClient = Vertx.vertx().createHttpClient();
-
         CompletableFuture<Void> future = new CompletableFuture<>();
         if (this.webSocket != null) {
             return CompletableFuture.completedFuture(null);
         }
+        if (this.httpClient == null) {
+            this.httpClient = this.context.createHttpClient();
+        }
         RequestOptions requestOptions = new RequestOptions();
         requestOptions.setHost(this.url.getHost());
         requestOptions.setPort(this.url.getPort());
@@ -159,6 +172,8 @@ public class Listener {
      */
     public void close() {
         this.webSocket.close();
+        this.context.release(this.httpClient);
+        this.httpClient = null;
     }
 
     /**
@@ -295,9 +310,7 @@ public class Listener {
     }
 
     private BigInteger extractBigInteger(JsonArray input) {
-        UInt64DTO uInt64DTO = new UInt64DTO();
-        input.stream().forEach(item -> uInt64DTO.add(new Long(item.toString())));
-        return uInt64DTO.extractIntArray();
+        return UInt64.valueOf(input.getLong(0).intValue(), input.getLong(1).intValue()).toSignedBigInteger();
     }
 
     private boolean transactionFromAddress(final Transaction transaction, final Address address) {
@@ -46,6 +46,16 @@ public class MosaicHttp extends Http implements MosaicRepository {
         this(host, new NetworkHttp(host));
     }
 
+    /**
+     * Create a repository that sends its requests with the given context.
+     *
+     * @param host    The node url.
+     * @param context The context shared with other repositories and listeners.
+     */
+    public MosaicHttp(String host, ClientContext context) throws MalformedURLException {
+        this(host, new NetworkHttp(host, context));
+    }
+
     public MosaicHttp(String host, NetworkHttp networkHttp) throws MalformedURLException {
         super(host, networkHttp);
     }
@@ -56,21 +66,12 @@ public class MosaicHttp extends Http implements MosaicRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .getAbs(this.url + "/mosaic/" + UInt64.bigIntegerToHex(mosaicId.getId()))
-                        .as(BodyCodec.jsonObject())
                         .rxSend()
                         .toObservable()
-                        .map(Http::mapJsonObjectOrError)
-                        .map(json -> objectMapper.readValue(json.toString(), MosaicInfoDTO.class))
-                        .map(mosaicInfoDTO -> new MosaicInfo(mosaicInfoDTO.getMeta().isActive(),
-                                mosaicInfoDTO.getMeta().getIndex(),
-                                mosaicInfoDTO.getMeta().getId(),
-                                new NamespaceId(mosaicInfoDTO.getMosaic().getNamespaceId().extractIntArray()),
-                                new MosaicId(mosaicInfoDTO.getMosaic().getMosaicId().extractIntArray()),
-                                mosaicInfoDTO.getMosaic().getSupply().extractIntArray(),
-                                mosaicInfoDTO.getMosaic().getHeight().extractIntArray(),
-                                new PublicAccount(mosaicInfoDTO.getMosaic().getOwner(), networkType),
-                                extractMosaicProperties(mosaicInfoDTO.getMosaic().getProperties())
-                        )));
+                        .map(Http::mapBufferOrError)
+                        .map(decodeWithFallback(
+                                json -> StreamingJsonDecoder.decodeObject(json, StreamingJsonDecoder.mosaicInfoReader(networkType)),
+                                json -> toMosaicInfo(objectMapper.readValue(json, MosaicInfoDTO.class), networkType))));
     }
 
     @Override
@@ -81,25 +82,13 @@ public class MosaicHttp extends Http implements MosaicRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .postAbs(this.url + "/mosaic")
-                        .as(BodyCodec.jsonArray())
                         .rxSendJson(requestBody)
                         .toObservable()
-                        .map(Http::mapJsonArrayOrError)
-                        .map(json -> objectMapper.<List<MosaicInfoDTO>>readValue(json.toString(), new TypeReference<List<MosaicInfoDTO>>() {
-                        }))
-                        .flatMapIterable(item -> item)
-                        .map(mosaicInfoDTO -> new MosaicInfo(mosaicInfoDTO.getMeta().isActive(),
-                                mosaicInfoDTO.getMeta().getIndex(),
-                                mosaicInfoDTO.getMeta().getId(),
-                                new NamespaceId(mosaicInfoDTO.getMosaic().getNamespaceId().extractIntArray()),
-                                new MosaicId(mosaicInfoDTO.getMosaic().getMosaicId().extractIntArray()),
-                                mosaicInfoDTO.getMosaic().getSupply().extractIntArray(),
-                                mosaicInfoDTO.getMosaic().getHeight().extractIntArray(),
-                                new PublicAccount(mosaicInfoDTO.getMosaic().getOwner(), networkType),
-                                extractMosaicProperties(mosaicInfoDTO.getMosaic().getProperties())
-                        ))
-                        .toList()
-                        .toObservable());
+                        .map(Http::mapBufferOrError)
+                        .map(decodeWithFallback(
+                                json -> StreamingJsonDecoder.decodeArray(json, StreamingJsonDecoder.mosaicInfoReader(networkType)),
+                                json -> objectMapper.<List<MosaicInfoDTO>>readValue(json, new TypeReference<List<MosaicInfoDTO>>() {
+                                }).stream().map(mosaicInfoDTO -> toMosaicInfo(mosaicInfoDTO, networkType)).collect(Collectors.toList()))));
     }
 
     @Override
@@ -117,25 +106,13 @@ public class MosaicHttp extends Http implements MosaicRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .getAbs(this.url + "/namespace/" + UInt64.bigIntegerToHex(namespaceId.getId()) + "/mosaics" + (queryParams.isPresent() ? queryParams.get().toUrl() : ""))
-                        .as(BodyCodec.jsonArray())
                         .rxSend()
                         .toObservable()
-                        .map(Http::mapJsonArrayOrError)
-                        .map(json -> objectMapper.<List<MosaicInfoDTO>>readValue(json.toString(), new TypeReference<List<MosaicInfoDTO>>() {
-                        }))
-                        .flatMapIterable(item -> item)
-                        .map(mosaicInfoDTO -> new MosaicInfo(mosaicInfoDTO.getMeta().isActive(),
-                                mosaicInfoDTO.getMeta().getIndex(),
-                                mosaicInfoDTO.getMeta().getId(),
-                                new NamespaceId(mosaicInfoDTO.getMosaic().getNamespaceId().extractIntArray()),
-                                new MosaicId(mosaicInfoDTO.getMosaic().getMosaicId().extractIntArray()),
-                                mosaicInfoDTO.getMosaic().getSupply().extractIntArray(),
-                                mosaicInfoDTO.getMosaic().getHeight().extractIntArray(),
-                                new PublicAccount(mosaicInfoDTO.getMosaic().getOwner(), networkType),
-                                extractMosaicProperties(mosaicInfoDTO.getMosaic().getProperties())
-                        ))
-                        .toList()
-                        .toObservable());
+                        .map(Http::mapBufferOrError)
+                        .map(decodeWithFallback(
+                                json -> StreamingJsonDecoder.decodeArray(json, StreamingJsonDecoder.mosaicInfoReader(networkType)),
+                                json -> objectMapper.<List<MosaicInfoDTO>>readValue(json, new TypeReference<List<MosaicInfoDTO>>() {
+                                }).stream().map(mosaicInfoDTO -> toMosaicInfo(mosaicInfoDTO, networkType)).collect(Collectors.toList()))));
     }
 
     @Override
@@ -144,27 +121,34 @@ public class MosaicHttp extends Http implements MosaicRepository {
         requestBody.put("mosaicIds", mosaicIds.stream().map(id -> UInt64.bigIntegerToHex(id.getId())).collect(Collectors.toList()));
         return this.client
                 .postAbs(this.url + "/mosaic/names")
-                .as(BodyCodec.jsonArray())
                 .rxSendJson(requestBody)
                 .toObservable()
-                .map(Http::mapJsonArrayOrError)
-                .map(json -> objectMapper.<List<MosaicNameDTO>>readValue(json.toString(), new TypeReference<List<MosaicNameDTO>>() {
+                .map(Http::mapBufferOrError)
+                .map(body -> objectMapper.<List<MosaicNameDTO>>readValue(body.getDelegate().getBytes(), new TypeReference<List<MosaicNameDTO>>() {
                 }))
                 .flatMapIterable(item -> item)
-                .map(mosaicNameDTO -> new MosaicName(new MosaicId(mosaicNameDTO.getMosaicId().extractIntArray()),
+                .map(mosaicNameDTO -> new MosaicName(new MosaicId(mosaicNameDTO.getMosaicId().toUInt64()),
                         mosaicNameDTO.getName(),
-                        new NamespaceId(mosaicNameDTO.getParentId().extractIntArray())))
+                        new NamespaceId(mosaicNameDTO.getParentId().toUInt64())))
                 .toList()
                 .toObservable();
     }
 
-    private MosaicProperties extractMosaicProperties(MosaicPropertiesDTO mosaicPropertiesDTO) {
-        String flags = "00" + Integer.toBinaryString(mosaicPropertiesDTO.get(0).extractIntArray().intValue());
-        String bitMapFlags = flags.substring(flags.length() - 3, flags.length());
-        return new MosaicProperties(bitMapFlags.charAt(2) == '1',
-                bitMapFlags.charAt(1) == '1',
-                bitMapFlags.charAt(0) == '1',
-                mosaicPropertiesDTO.get(1).extractIntArray().intValue(),
+    static MosaicInfo toMosaicInfo(MosaicInfoDTO mosaicInfoDTO, NetworkType networkType) {
+        return new MosaicInfo(mosaicInfoDTO.getMeta().isActive(),
+                mosaicInfoDTO.getMeta().getIndex(),
+                mosaicInfoDTO.getMeta().getId(),
+                new NamespaceId(mosaicInfoDTO.getMosaic().getNamespaceId().toUInt64()),
+                new MosaicId(mosaicInfoDTO.getMosaic().getMosaicId().toUInt64()),
+                mosaicInfoDTO.getMosaic().getSupply().extractIntArray(),
+                mosaicInfoDTO.getMosaic().getHeight().extractIntArray(),
+                new PublicAccount(mosaicInfoDTO.getMosaic().getOwner(), networkType),
+                extractMosaicProperties(mosaicInfoDTO.getMosaic().getProperties()));
+    }
+
+    private static MosaicProperties extractMosaicProperties(MosaicPropertiesDTO mosaicPropertiesDTO) {
+        return StreamingJsonDecoder.createMosaicProperties(mosaicPropertiesDTO.get(0).toUInt64().getLower(),
+                mosaicPropertiesDTO.get(1).toUInt64().getLower(),
                 mosaicPropertiesDTO.get(2).extractIntArray());
     }
-}
\ No newline at end of file
+}
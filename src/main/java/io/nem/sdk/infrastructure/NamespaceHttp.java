@@ -47,6 +47,16 @@ public class NamespaceHttp extends Http implements NamespaceRepository {
         this(host, new NetworkHttp(host));
     }
 
+    /**
+     * Create a repository that sends its requests with the given context.
+     *
+     * @param host    The node url.
+     * @param context The context shared with other repositories and listeners.
+     */
+    public NamespaceHttp(String host, ClientContext context) throws MalformedURLException {
+        this(host, new NetworkHttp(host, context));
+    }
+
     public NamespaceHttp(String host, NetworkHttp networkHttp) throws MalformedURLException {
         super(host, networkHttp);
     }
@@ -57,22 +67,12 @@ public class NamespaceHttp extends Http implements NamespaceRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .getAbs(this.url + "/namespace/" + UInt64.bigIntegerToHex(namespaceId.getId()))
-                        .as(BodyCodec.jsonObject())
                         .rxSend()
                         .toObservable()
-                        .map(Http::mapJsonObjectOrError)
-                        .map(json -> objectMapper.readValue(json.toString(), NamespaceInfoDTO.class))
-                        .map(namespaceInfoDTO -> new NamespaceInfo(namespaceInfoDTO.getMeta().isActive(),
-                                namespaceInfoDTO.getMeta().getIndex(),
-                                namespaceInfoDTO.getMeta().getId(),
-                                NamespaceType.rawValueOf(namespaceInfoDTO.getNamespace().getType()),
-                                namespaceInfoDTO.getNamespace().getDepth(),
-                                extractLevels(namespaceInfoDTO),
-                                new NamespaceId(namespaceInfoDTO.getNamespace().getParentId().extractIntArray()),
-                                new PublicAccount(namespaceInfoDTO.getNamespace().getOwner(), networkType),
-                                namespaceInfoDTO.getNamespace().getStartHeight().extractIntArray(),
-                                namespaceInfoDTO.getNamespace().getEndHeight().extractIntArray()
-                        )));
+                        .map(Http::mapBufferOrError)
+                        .map(decodeWithFallback(
+                                json -> StreamingJsonDecoder.decodeObject(json, StreamingJsonDecoder.namespaceInfoReader(networkType)),
+                                json -> toNamespaceInfo(objectMapper.readValue(json, NamespaceInfoDTO.class), networkType))));
     }
 
     @Override
@@ -90,26 +90,13 @@ public class NamespaceHttp extends Http implements NamespaceRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .getAbs(this.url + "/account/" + address.plain() + "/namespaces" + (queryParams.isPresent() ? queryParams.get().toUrl() : ""))
-                        .as(BodyCodec.jsonArray())
                         .rxSend()
                         .toObservable()
-                        .map(Http::mapJsonArrayOrError)
-                        .map(json -> objectMapper.<List<NamespaceInfoDTO>>readValue(json.toString(), new TypeReference<List<NamespaceInfoDTO>>() {
-                        }))
-                        .flatMapIterable(item -> item)
-                        .map(namespaceInfoDTO -> new NamespaceInfo(namespaceInfoDTO.getMeta().isActive(),
-                                namespaceInfoDTO.getMeta().getIndex(),
-                                namespaceInfoDTO.getMeta().getId(),
-                                NamespaceType.rawValueOf(namespaceInfoDTO.getNamespace().getType()),
-                                namespaceInfoDTO.getNamespace().getDepth(),
-                                extractLevels(namespaceInfoDTO),
-                                new NamespaceId(namespaceInfoDTO.getNamespace().getParentId().extractIntArray()),
-                                new PublicAccount(namespaceInfoDTO.getNamespace().getOwner(), networkType),
-                                namespaceInfoDTO.getNamespace().getStartHeight().extractIntArray(),
-                                namespaceInfoDTO.getNamespace().getEndHeight().extractIntArray()
-                        ))
-                        .toList()
-                        .toObservable());
+                        .map(Http::mapBufferOrError)
+                        .map(decodeWithFallback(
+                                json -> StreamingJsonDecoder.decodeArray(json, StreamingJsonDecoder.namespaceInfoReader(networkType)),
+                                json -> objectMapper.<List<NamespaceInfoDTO>>readValue(json, new TypeReference<List<NamespaceInfoDTO>>() {
+                                }).stream().map(namespaceInfoDTO -> toNamespaceInfo(namespaceInfoDTO, networkType)).collect(Collectors.toList()))));
     }
 
     @Override
@@ -129,26 +116,13 @@ public class NamespaceHttp extends Http implements NamespaceRepository {
         return networkTypeResolve
                 .flatMap(networkType -> this.client
                         .postAbs(this.url + "/account/namespaces" + (queryParams.isPresent() ? queryParams.get().toUrl() : ""))
-                        .as(BodyCodec.jsonArray())
                         .rxSendJson(requestBody)
                         .toObservable()
-                        .map(Http::mapJsonArrayOrError)
-                        .map(json -> objectMapper.<List<NamespaceInfoDTO>>readValue(json.toString(), new TypeReference<List<NamespaceInfoDTO>>() {
-                        }))
-                        .flatMapIterable(item -> item)
-                        .map(namespaceInfoDTO -> new NamespaceInfo(namespaceInfoDTO.getMeta().isActive(),
-                                namespaceInfoDTO.getMeta().getIndex(),
-                                namespaceInfoDTO.getMeta().getId(),
-                                NamespaceType.rawValueOf(namespaceInfoDTO.getNamespace().getType()),
-                                namespaceInfoDTO.getNamespace().getDepth(),
-                                extractLevels(namespaceInfoDTO),
-                                new NamespaceId(namespaceInfoDTO.getNamespace().getParentId().extractIntArray()),
-                                new PublicAccount(namespaceInfoDTO.getNamespace().getOwner(), networkType),
-                                namespaceInfoDTO.getNamespace().getStartHeight().extractIntArray(),
-                                namespaceInfoDTO.getNamespace().getEndHeight().extractIntArray()
-                        ))
-                        .toList()
-                        .toObservable());
+                        .map(Http::mapBufferOrError)
+                        .map(decodeWithFallback(
+                                json -> StreamingJsonDecoder.decodeArray(json, StreamingJsonDecoder.namespaceInfoReader(networkType)),
+                                json -> objectMapper.<List<NamespaceInfoDTO>>readValue(json, new TypeReference<List<NamespaceInfoDTO>>() {
+                                }).stream().map(namespaceInfoDTO -> toNamespaceInfo(namespaceInfoDTO, networkType)).collect(Collectors.toList()))));
     }
 
     @Override
@@ -157,22 +131,21 @@ public class NamespaceHttp extends Http implements NamespaceRepository {
         requestBody.put("namespaceIds", namespaceIds.stream().map(id -> UInt64.bigIntegerToHex(id.getId())).collect(Collectors.toList()));
         return this.client
                 .postAbs(this.url + "/namespace/names")
-                .as(BodyCodec.jsonArray())
                 .rxSendJson(requestBody)
                 .toObservable()
-                .map(Http::mapJsonArrayOrError)
-                .map(json -> objectMapper.<List<NamespaceNameDTO>>readValue(json.toString(), new TypeReference<List<NamespaceNameDTO>>() {
+                .map(Http::mapBufferOrError)
+                .map(body -> objectMapper.<List<NamespaceNameDTO>>readValue(body.getDelegate().getBytes(), new TypeReference<List<NamespaceNameDTO>>() {
                 }))
                 .flatMapIterable(item -> item)
                 .map(namespaceNameDTO -> {
                     if (namespaceNameDTO.getParentId() != null) {
                         return new NamespaceName(
-                                new NamespaceId(namespaceNameDTO.getNamespaceId().extractIntArray()),
+                                new NamespaceId(namespaceNameDTO.getNamespaceId().toUInt64()),
                                 namespaceNameDTO.getName(),
-                                new NamespaceId(namespaceNameDTO.getParentId().extractIntArray()));
+                                new NamespaceId(namespaceNameDTO.getParentId().toUInt64()));
                     } else {
                         return new NamespaceName(
-                                new NamespaceId(namespaceNameDTO.getNamespaceId().extractIntArray()),
+                                new NamespaceId(namespaceNameDTO.getNamespaceId().toUInt64()),
                                 namespaceNameDTO.getName());
                     }
                 })
@@ -180,18 +153,31 @@ public class NamespaceHttp extends Http implements NamespaceRepository {
                 .toObservable();
     }
 
-    private List<NamespaceId> extractLevels(NamespaceInfoDTO namespaceInfoDTO) {
+    static NamespaceInfo toNamespaceInfo(NamespaceInfoDTO namespaceInfoDTO, NetworkType networkType) {
+        return new NamespaceInfo(namespaceInfoDTO.getMeta().isActive(),
+                namespaceInfoDTO.getMeta().getIndex(),
+                namespaceInfoDTO.getMeta().getId(),
+                NamespaceType.rawValueOf(namespaceInfoDTO.getNamespace().getType()),
+                namespaceInfoDTO.getNamespace().getDepth(),
+                extractLevels(namespaceInfoDTO),
+                new NamespaceId(namespaceInfoDTO.getNamespace().getParentId().toUInt64()),
+                new PublicAccount(namespaceInfoDTO.getNamespace().getOwner(), networkType),
+                namespaceInfoDTO.getNamespace().getStartHeight().extractIntArray(),
+                namespaceInfoDTO.getNamespace().getEndHeight().extractIntArray());
+    }
+
+    private static List<NamespaceId> extractLevels(NamespaceInfoDTO namespaceInfoDTO) {
         List<NamespaceId> levels = new ArrayList<NamespaceId>();
         if (namespaceInfoDTO.getNamespace().getLevel0() != null) {
-            levels.add(new NamespaceId(namespaceInfoDTO.getNamespace().getLevel0().extractIntArray()));
+            levels.add(new NamespaceId(namespaceInfoDTO.getNamespace().getLevel0().toUInt64()));
         }
 
         if (namespaceInfoDTO.getNamespace().getLevel1() != null) {
-            levels.add(new NamespaceId(namespaceInfoDTO.getNamespace().getLevel1().extractIntArray()));
+            levels.add(new NamespaceId(namespaceInfoDTO.getNamespace().getLevel1().toUInt64()));
         }
 
         if (namespaceInfoDTO.getNamespace().getLevel2() != null) {
-            levels.add(new NamespaceId(namespaceInfoDTO.getNamespace().getLevel2().extractIntArray()));
+            levels.add(new NamespaceId(namespaceInfoDTO.getNamespace().getLevel2().toUInt64()));
         }
 
         return levels;
@@ -34,6 +34,16 @@ public class NetworkHttp extends Http implements NetworkRepository {
         super(host + "/network");
     }
 
+    /**
+     * Create a repository that sends its requests with the given context.
+     *
+     * @param host    The node url.
+     * @param context The context shared with other repositories and listeners.
+     */
+    public NetworkHttp(String host, ClientContext context) throws MalformedURLException {
+        super(host + "/network", null, context);
+    }
+
     public Observable<NetworkType> getNetworkType() {
         return this.client
                 .getAbs(this.url.toString())
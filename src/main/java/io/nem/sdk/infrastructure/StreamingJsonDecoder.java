@@ -0,0 +1,526 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicInfo;
+import io.nem.sdk.model.mosaic.MosaicProperties;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.namespace.NamespaceInfo;
+import io.nem.sdk.model.namespace.NamespaceType;
+import io.nem.sdk.model.transaction.UInt64;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decodes REST responses into model objects in a single pass with a Jackson streaming parser,
+ * without building a JSON tree or the generated DTOs first.
+ * <br>
+ * The decoders read the fields the DTO based mapping reads and skip all others.
+ * A missing field or an unexpected token fails with a {@link JsonParseException}.
+ */
+final class StreamingJsonDecoder {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Reads a value from a parser positioned at the start of a JSON object and leaves it at the end of the object.
+     */
+    interface ObjectReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private StreamingJsonDecoder() {
+    }
+
+    static <T> T decodeObject(byte[] json, ObjectReader<T> reader) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            T value = reader.read(parser);
+            expectEnd(parser);
+            return value;
+        }
+    }
+
+    static <T> List<T> decodeArray(byte[] json, ObjectReader<T> reader) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            List<T> values = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                values.add(reader.read(parser));
+            }
+            expect(parser, token, JsonToken.END_ARRAY);
+            expectEnd(parser);
+            return values;
+        }
+    }
+
+    static AccountInfo readAccountInfo(JsonParser parser) throws IOException {
+        AccountInfo accountInfo = null;
+        String field;
+        while ((field = nextField(parser)) != null) {
+            if ("account".equals(field)) {
+                accountInfo = readAccount(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return required(parser, accountInfo, "account");
+    }
+
+    static ObjectReader<BlockInfo> blockInfoReader(NetworkType networkType) {
+        return parser -> readBlockInfo(parser, networkType);
+    }
+
+    static ObjectReader<MosaicInfo> mosaicInfoReader(NetworkType networkType) {
+        return parser -> readMosaicInfo(parser, networkType);
+    }
+
+    static ObjectReader<NamespaceInfo> namespaceInfoReader(NetworkType networkType) {
+        return parser -> readNamespaceInfo(parser, networkType);
+    }
+
+    /**
+     * Creates the mosaic properties from the flags, divisibility and duration sent by the REST API.
+     */
+    static MosaicProperties createMosaicProperties(int flags, int divisibility, BigInteger duration) {
+        return new MosaicProperties((flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, divisibility, duration);
+    }
+
+    /**
+     * Extracts the block version from the version field, whose high byte is the network type.
+     */
+    static int extractBlockVersion(int version) {
+        return version & 0xFF;
+    }
+
+    private static AccountInfo readAccount(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        String address = null;
+        UInt64 addressHeight = null;
+        String publicKey = null;
+        UInt64 publicKeyHeight = null;
+        UInt64 importance = null;
+        UInt64 importanceHeight = null;
+        List<Mosaic> mosaics = new ArrayList<>();
+        String field;
+        while ((field = nextField(parser)) != null) {
+            switch (field) {
+                case "address":
+                    address = parser.getValueAsString();
+                    break;
+                case "addressHeight":
+                    addressHeight = readUInt64(parser);
+                    break;
+                case "publicKey":
+                    publicKey = parser.getValueAsString();
+                    break;
+                case "publicKeyHeight":
+                    publicKeyHeight = readUInt64(parser);
+                    break;
+                case "importance":
+                    importance = readUInt64(parser);
+                    break;
+                case "importanceHeight":
+                    importanceHeight = readUInt64(parser);
+                    break;
+                case "mosaics":
+                    readMosaics(parser, mosaics);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return new AccountInfo(Address.createFromEncoded(required(parser, address, "address")),
+                required(parser, addressHeight, "addressHeight").toSignedBigInteger(),
+                publicKey,
+                required(parser, publicKeyHeight, "publicKeyHeight").toSignedBigInteger(),
+                required(parser, importance, "importance").toSignedBigInteger(),
+                required(parser, importanceHeight, "importanceHeight").toSignedBigInteger(),
+                mosaics);
+    }
+
+    static void readMosaics(JsonParser parser, List<Mosaic> mosaics) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            mosaics.add(readMosaic(parser));
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+    }
+
+    static Mosaic readMosaic(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        UInt64 id = null;
+        UInt64 amount = null;
+        String field;
+        while ((field = nextField(parser)) != null) {
+            if ("id".equals(field)) {
+                id = readUInt64(parser);
+            } else if ("amount".equals(field)) {
+                amount = readUInt64(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new Mosaic(new MosaicId(required(parser, id, "id")), required(parser, amount, "amount"));
+    }
+
+    private static BlockInfo readBlockInfo(JsonParser parser, NetworkType networkType) throws IOException {
+        String hash = null;
+        String generationHash = null;
+        UInt64 totalFee = null;
+        Integer numTransactions = null;
+        String signature = null;
+        String signer = null;
+        Integer version = null;
+        Integer type = null;
+        UInt64 height = null;
+        UInt64 timestamp = null;
+        UInt64 difficulty = null;
+        String previousBlockHash = null;
+        String blockTransactionsHash = null;
+        String field;
+        while ((field = nextField(parser)) != null) {
+            if ("meta".equals(field)) {
+                expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+                while ((field = nextField(parser)) != null) {
+                    switch (field) {
+                        case "hash":
+                            hash = parser.getValueAsString();
+                            break;
+                        case "generationHash":
+                            generationHash = parser.getValueAsString();
+                            break;
+                        case "totalFee":
+                            totalFee = readUInt64(parser);
+                            break;
+                        case "numTransactions":
+                            numTransactions = readInteger(parser);
+                            break;
+                        default:
+                            parser.skipChildren();
+                    }
+                }
+            } else if ("block".equals(field)) {
+                expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+                while ((field = nextField(parser)) != null) {
+                    switch (field) {
+                        case "signature":
+                            signature = parser.getValueAsString();
+                            break;
+                        case "signer":
+                            signer = parser.getValueAsString();
+                            break;
+                        case "version":
+                            version = readInteger(parser);
+                            break;
+                        case "type":
+                            type = readInteger(parser);
+                            break;
+                        case "height":
+                            height = readUInt64(parser);
+                            break;
+                        case "timestamp":
+                            timestamp = readUInt64(parser);
+                            break;
+                        case "difficulty":
+                            difficulty = readUInt64(parser);
+                            break;
+                        case "previousBlockHash":
+                            previousBlockHash = parser.getValueAsString();
+                            break;
+                        case "blockTransactionsHash":
+                            blockTransactionsHash = parser.getValueAsString();
+                            break;
+                        default:
+                            parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new BlockInfo(hash,
+                generationHash,
+                Optional.of(required(parser, totalFee, "totalFee")),
+                Optional.of(required(parser, numTransactions, "numTransactions")),
+                signature,
+                new PublicAccount(required(parser, signer, "signer"), networkType),
+                networkType,
+                extractBlockVersion(required(parser, version, "version")),
+                required(parser, type, "type"),
+                required(parser, height, "height"),
+                required(parser, timestamp, "timestamp"),
+                required(parser, difficulty, "difficulty"),
+                previousBlockHash,
+                blockTransactionsHash);
+    }
+
+    private static MosaicInfo readMosaicInfo(JsonParser parser, NetworkType networkType) throws IOException {
+        Meta meta = null;
+        UInt64 namespaceId = null;
+        UInt64 mosaicId = null;
+        UInt64 supply = null;
+        UInt64 height = null;
+        String owner = null;
+        List<UInt64> properties = null;
+        String field;
+        while ((field = nextField(parser)) != null) {
+            if ("meta".equals(field)) {
+                meta = readMeta(parser);
+            } else if ("mosaic".equals(field)) {
+                expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+                while ((field = nextField(parser)) != null) {
+                    switch (field) {
+                        case "namespaceId":
+                            namespaceId = readUInt64(parser);
+                            break;
+                        case "mosaicId":
+                            mosaicId = readUInt64(parser);
+                            break;
+                        case "supply":
+                            supply = readUInt64(parser);
+                            break;
+                        case "height":
+                            height = readUInt64(parser);
+                            break;
+                        case "owner":
+                            owner = parser.getValueAsString();
+                            break;
+                        case "properties":
+                            properties = readUInt64List(parser);
+                            break;
+                        default:
+                            parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        required(parser, meta, "meta");
+        required(parser, properties, "properties");
+        if (properties.size() < 3) {
+            throw new JsonParseException(parser, "Mosaic properties must contain flags, divisibility and duration");
+        }
+        return new MosaicInfo(required(parser, meta.active, "active"),
+                meta.index,
+                meta.id,
+                new NamespaceId(required(parser, namespaceId, "namespaceId")),
+                new MosaicId(required(parser, mosaicId, "mosaicId")),
+                required(parser, supply, "supply").toSignedBigInteger(),
+                required(parser, height, "height").toSignedBigInteger(),
+                new PublicAccount(required(parser, owner, "owner"), networkType),
+                createMosaicProperties(properties.get(0).getLower(),
+                        properties.get(1).getLower(),
+                        properties.get(2).toSignedBigInteger()));
+    }
+
+    private static NamespaceInfo readNamespaceInfo(JsonParser parser, NetworkType networkType) throws IOException {
+        Meta meta = null;
+        Integer type = null;
+        Integer depth = null;
+        UInt64[] levels = new UInt64[3];
+        UInt64 parentId = null;
+        String owner = null;
+        UInt64 startHeight = null;
+        UInt64 endHeight = null;
+        String field;
+        while ((field = nextField(parser)) != null) {
+            if ("meta".equals(field)) {
+                meta = readMeta(parser);
+            } else if ("namespace".equals(field)) {
+                expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+                while ((field = nextField(parser)) != null) {
+                    switch (field) {
+                        case "type":
+                            type = readInteger(parser);
+                            break;
+                        case "depth":
+                            depth = readInteger(parser);
+                            break;
+                        case "level0":
+                            levels[0] = readUInt64(parser);
+                            break;
+                        case "level1":
+                            levels[1] = readUInt64(parser);
+                            break;
+                        case "level2":
+                            levels[2] = readUInt64(parser);
+                            break;
+                        case "parentId":
+                            parentId = readUInt64(parser);
+                            break;
+                        case "owner":
+                            owner = parser.getValueAsString();
+                            break;
+                        case "startHeight":
+                            startHeight = readUInt64(parser);
+                            break;
+                        case "endHeight":
+                            endHeight = readUInt64(parser);
+                            break;
+                        default:
+                            parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        List<NamespaceId> namespaceLevels = new ArrayList<>(levels.length);
+        for (UInt64 level : levels) {
+            if (level != null) {
+                namespaceLevels.add(new NamespaceId(level));
+            }
+        }
+
+        required(parser, meta, "meta");
+        return new NamespaceInfo(required(parser, meta.active, "active"),
+                meta.index,
+                meta.id,
+                NamespaceType.rawValueOf(required(parser, type, "type")),
+                depth,
+                namespaceLevels,
+                new NamespaceId(required(parser, parentId, "parentId")),
+                new PublicAccount(required(parser, owner, "owner"), networkType),
+                required(parser, startHeight, "startHeight").toSignedBigInteger(),
+                required(parser, endHeight, "endHeight").toSignedBigInteger());
+    }
+
+    private static Meta readMeta(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        Meta meta = new Meta();
+        String field;
+        while ((field = nextField(parser)) != null) {
+            switch (field) {
+                case "active":
+                    meta.active = parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getBooleanValue();
+                    break;
+                case "index":
+                    meta.index = readInteger(parser);
+                    break;
+                case "id":
+                    meta.id = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return meta;
+    }
+
+    /**
+     * Reads an unsigned 64 bit integer sent as an array of its lower and higher 32 bits.
+     *
+     * @return the value or null if the field is null
+     */
+    static UInt64 readUInt64(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        expect(parser, parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+        int lower = (int) parser.getLongValue();
+        expect(parser, parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+        int higher = (int) parser.getLongValue();
+        expect(parser, parser.nextToken(), JsonToken.END_ARRAY);
+        return UInt64.valueOf(lower, higher);
+    }
+
+    private static List<UInt64> readUInt64List(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        List<UInt64> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readUInt64(parser));
+        }
+
+        return values;
+    }
+
+    static Integer readInteger(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.VALUE_NUMBER_INT);
+        return (int) parser.getLongValue();
+    }
+
+    /**
+     * Advances to the value of the next field of the current object.
+     *
+     * @return the name of the field or null at the end of the object
+     */
+    static String nextField(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_OBJECT) {
+            return null;
+        }
+        expect(parser, token, JsonToken.FIELD_NAME);
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        return name;
+    }
+
+    static void expect(JsonParser parser, JsonToken token, JsonToken expected) throws JsonParseException {
+        if (token != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but was " + token);
+        }
+    }
+
+    private static void expectEnd(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != null) {
+            throw new JsonParseException(parser, "Unexpected " + token + " after the end of the response");
+        }
+    }
+
+    static <T> T required(JsonParser parser, T value, String field) throws JsonParseException {
+        if (value == null) {
+            throw new JsonParseException(parser, "Missing field " + field);
+        }
+        return value;
+    }
+
+    private static class Meta {
+        private Boolean active;
+        private Integer index;
+        private String id;
+    }
+}
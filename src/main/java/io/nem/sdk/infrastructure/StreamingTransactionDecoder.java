@@ -0,0 +1,613 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicSupplyType;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.namespace.NamespaceType;
+import io.nem.sdk.model.transaction.*;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.nem.sdk.infrastructure.StreamingJsonDecoder.expect;
+import static io.nem.sdk.infrastructure.StreamingJsonDecoder.nextField;
+import static io.nem.sdk.infrastructure.StreamingJsonDecoder.readInteger;
+import static io.nem.sdk.infrastructure.StreamingJsonDecoder.readMosaic;
+import static io.nem.sdk.infrastructure.StreamingJsonDecoder.readMosaics;
+import static io.nem.sdk.infrastructure.StreamingJsonDecoder.readUInt64;
+import static io.nem.sdk.infrastructure.StreamingJsonDecoder.required;
+import static io.nem.sdk.infrastructure.TransactionMapping.extractNetworkType;
+import static io.nem.sdk.infrastructure.TransactionMapping.extractTransactionVersion;
+
+/**
+ * Decodes transactions returned by the REST gateway in a single pass with a Jackson streaming parser,
+ * without building a {@link io.vertx.core.json.JsonObject} tree first.
+ * <br>
+ * The fields of a transaction are collected while it is read and the transaction is created at the end of its
+ * object, so the fields may come in any order. Only the types still decoded by their default {@link TransactionCodec}
+ * are read; a transaction of another type fails with a {@link JsonParseException}, so that the caller falls back to
+ * {@link TransactionMapping} and the codecs registered with it.
+ */
+final class StreamingTransactionDecoder {
+    private static final Map<TransactionType, Class<? extends TransactionCodec>> DEFAULT_CODECS = new EnumMap<>(TransactionType.class);
+
+    static {
+        DEFAULT_CODECS.put(TransactionType.TRANSFER, TransferTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.REGISTER_NAMESPACE, NamespaceCreationTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.MOSAIC_DEFINITION, MosaicCreationTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.MOSAIC_SUPPLY_CHANGE, MosaicSupplyChangeTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.MODIFY_MULTISIG_ACCOUNT, MultisigModificationTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.AGGREGATE_COMPLETE, AggregateTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.AGGREGATE_BONDED, AggregateTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.LOCK, LockFundsTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.SECRET_LOCK, SecretLockTransactionCodec.class);
+        DEFAULT_CODECS.put(TransactionType.SECRET_PROOF, SecretProofTransactionCodec.class);
+    }
+
+    private StreamingTransactionDecoder() {
+    }
+
+    static Transaction decodeTransaction(byte[] json) throws IOException {
+        return StreamingJsonDecoder.decodeObject(json, StreamingTransactionDecoder::readTransaction);
+    }
+
+    static Transaction readTransaction(JsonParser parser) throws IOException {
+        Entry entry = readEntry(parser);
+        return createTransaction(parser, required(parser, entry.transaction, "transaction"), required(parser, entry.meta, "meta"));
+    }
+
+    private static Entry readEntry(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        Entry entry = new Entry();
+        String field;
+        while ((field = nextField(parser)) != null) {
+            if ("meta".equals(field)) {
+                entry.meta = readMeta(parser);
+            } else if ("transaction".equals(field)) {
+                entry.transaction = readFields(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return entry;
+    }
+
+    private static Meta readMeta(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        Meta meta = new Meta();
+        String field;
+        while ((field = nextField(parser)) != null) {
+            switch (field) {
+                case "height":
+                    meta.height = readUInt64(parser);
+                    break;
+                case "index":
+                    meta.index = readInteger(parser);
+                    break;
+                case "id":
+                    meta.hasId = true;
+                    meta.id = parser.getValueAsString();
+                    break;
+                case "hash":
+                    meta.hasHash = true;
+                    meta.hash = parser.getValueAsString();
+                    break;
+                case "merkleComponentHash":
+                    meta.merkleComponentHash = parser.getValueAsString();
+                    break;
+                case "aggregateHash":
+                    meta.hasAggregateHash = true;
+                    meta.aggregateHash = parser.getValueAsString();
+                    break;
+                case "aggregateId":
+                    meta.aggregateId = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return meta;
+    }
+
+    private static Fields readFields(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        Fields fields = new Fields();
+        String field;
+        while ((field = nextField(parser)) != null) {
+            switch (field) {
+                case "type":
+                    fields.type = readInteger(parser);
+                    break;
+                case "version":
+                    fields.version = readInteger(parser);
+                    break;
+                case "deadline":
+                    fields.deadline = readUInt64(parser);
+                    break;
+                case "fee":
+                    fields.fee = readUInt64(parser);
+                    break;
+                case "signature":
+                    fields.signature = parser.getValueAsString();
+                    break;
+                case "signer":
+                    fields.signer = parser.getValueAsString();
+                    break;
+                case "recipient":
+                    fields.recipient = parser.getValueAsString();
+                    break;
+                case "mosaics":
+                    if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                        fields.mosaics = new ArrayList<>();
+                        readMosaics(parser, fields.mosaics);
+                    }
+                    break;
+                case "message":
+                    fields.message = readMessage(parser);
+                    break;
+                case "name":
+                    fields.name = parser.getValueAsString();
+                    break;
+                case "namespaceType":
+                    fields.namespaceType = readInteger(parser);
+                    break;
+                case "namespaceId":
+                    fields.namespaceId = readUInt64(parser);
+                    break;
+                case "duration":
+                    fields.duration = readUInt64(parser);
+                    break;
+                case "parentId":
+                    fields.parentId = readUInt64(parser);
+                    break;
+                case "mosaicId":
+                    fields.hasMosaicId = true;
+                    fields.mosaicId = readUInt64(parser);
+                    break;
+                case "amount":
+                    fields.amount = readUInt64(parser);
+                    break;
+                case "mosaic":
+                    fields.mosaic = readMosaic(parser);
+                    break;
+                case "properties":
+                    fields.properties = readPropertyValues(parser);
+                    break;
+                case "direction":
+                    fields.direction = readInteger(parser);
+                    break;
+                case "delta":
+                    fields.delta = readUInt64(parser);
+                    break;
+                case "minApprovalDelta":
+                    fields.minApprovalDelta = readInteger(parser);
+                    break;
+                case "minRemovalDelta":
+                    fields.minRemovalDelta = readInteger(parser);
+                    break;
+                case "modifications":
+                    fields.modifications = readModifications(parser);
+                    break;
+                case "transactions":
+                    fields.transactions = readEntries(parser);
+                    break;
+                case "cosignatures":
+                    if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                        fields.cosignatures = readCosignatures(parser);
+                    }
+                    break;
+                case "hash":
+                    fields.hash = parser.getValueAsString();
+                    break;
+                case "hashAlgorithm":
+                    fields.hashAlgorithm = readInteger(parser);
+                    break;
+                case "secret":
+                    fields.secret = parser.getValueAsString();
+                    break;
+                case "proof":
+                    fields.proof = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return fields;
+    }
+
+    private static Message readMessage(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        String payload = null;
+        String field;
+        while ((field = nextField(parser)) != null) {
+            if ("payload".equals(field)) {
+                payload = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new PlainMessage(new String(Hex.decode(required(parser, payload, "payload")), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the values of the mosaic properties, sent as objects with an id and a value.
+     */
+    private static List<UInt64> readPropertyValues(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        List<UInt64> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            UInt64 value = null;
+            String field;
+            while ((field = nextField(parser)) != null) {
+                if ("value".equals(field)) {
+                    value = readUInt64(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            values.add(required(parser, value, "value"));
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+        return values;
+    }
+
+    private static List<Modification> readModifications(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        List<Modification> modifications = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            Modification modification = new Modification();
+            String field;
+            while ((field = nextField(parser)) != null) {
+                if ("type".equals(field)) {
+                    modification.type = readInteger(parser);
+                } else if ("cosignatoryPublicKey".equals(field)) {
+                    modification.cosignatoryPublicKey = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            modifications.add(modification);
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+        return modifications;
+    }
+
+    private static List<Entry> readEntries(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        List<Entry> entries = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            entries.add(readEntry(parser));
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+        return entries;
+    }
+
+    private static List<Cosignature> readCosignatures(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        List<Cosignature> cosignatures = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            Cosignature cosignature = new Cosignature();
+            String field;
+            while ((field = nextField(parser)) != null) {
+                if ("signature".equals(field)) {
+                    cosignature.signature = parser.getValueAsString();
+                } else if ("signer".equals(field)) {
+                    cosignature.signer = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            cosignatures.add(cosignature);
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+        return cosignatures;
+    }
+
+    private static Transaction createTransaction(JsonParser parser, Fields transaction, Meta meta) throws JsonParseException {
+        TransactionType type = getStreamedType(parser, required(parser, transaction.type, "type"));
+        TransactionInfo transactionInfo = createTransactionInfo(parser, meta);
+        int version = required(parser, transaction.version, "version");
+        NetworkType networkType = extractNetworkType(version);
+        Deadline deadline = new Deadline(required(parser, transaction.deadline, "deadline"));
+        BigInteger fee = required(parser, transaction.fee, "fee").toSignedBigInteger();
+        String signature = required(parser, transaction.signature, "signature");
+        PublicAccount signer = new PublicAccount(required(parser, transaction.signer, "signer"), networkType);
+
+        switch (type) {
+            case TRANSFER:
+                return new TransferTransaction(
+                        networkType,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        Address.createFromEncoded(required(parser, transaction.recipient, "recipient")),
+                        null == transaction.mosaics ? new ArrayList<>() : transaction.mosaics,
+                        null == transaction.message ? PlainMessage.Empty : transaction.message,
+                        signature,
+                        signer,
+                        transactionInfo);
+            case REGISTER_NAMESPACE:
+                NamespaceType namespaceType = NamespaceType.rawValueOf(required(parser, transaction.namespaceType, "namespaceType"));
+                return new RegisterNamespaceTransaction(
+                        networkType,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        transaction.name,
+                        new NamespaceId(required(parser, transaction.namespaceId, "namespaceId")),
+                        namespaceType,
+                        namespaceType == NamespaceType.RootNamespace ? Optional.of(required(parser, transaction.duration, "duration").toSignedBigInteger()) : Optional.empty(),
+                        namespaceType == NamespaceType.SubNamespace ? Optional.of(new NamespaceId(required(parser, transaction.parentId, "parentId"))) : Optional.empty(),
+                        signature,
+                        signer,
+                        transactionInfo);
+            case MOSAIC_DEFINITION:
+                List<UInt64> properties = required(parser, transaction.properties, "properties");
+                if (properties.size() < 2) {
+                    throw new JsonParseException(parser, "Mosaic properties must contain flags and divisibility");
+                }
+                return new MosaicDefinitionTransaction(
+                        networkType,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        transaction.name,
+                        new NamespaceId(required(parser, transaction.parentId, "parentId")),
+                        new MosaicId(required(parser, transaction.mosaicId, "mosaicId")),
+                        StreamingJsonDecoder.createMosaicProperties(
+                                properties.get(0).getLower(),
+                                properties.get(1).getLower(),
+                                properties.size() == 3 ? properties.get(2).toSignedBigInteger() : BigInteger.ZERO),
+                        signature,
+                        signer,
+                        transactionInfo);
+            case MOSAIC_SUPPLY_CHANGE:
+                return new MosaicSupplyChangeTransaction(
+                        networkType,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        new MosaicId(required(parser, transaction.mosaicId, "mosaicId")),
+                        MosaicSupplyType.rawValueOf(required(parser, transaction.direction, "direction")),
+                        required(parser, transaction.delta, "delta").toSignedBigInteger(),
+                        signature,
+                        signer,
+                        transactionInfo);
+            case MODIFY_MULTISIG_ACCOUNT:
+                List<MultisigCosignatoryModification> modifications = Collections.emptyList();
+                if (null != transaction.modifications) {
+                    modifications = new ArrayList<>(transaction.modifications.size());
+                    for (Modification modification : transaction.modifications) {
+                        modifications.add(new MultisigCosignatoryModification(
+                                MultisigCosignatoryModificationType.rawValueOf(required(parser, modification.type, "type")),
+                                PublicAccount.createFromPublicKey(required(parser, modification.cosignatoryPublicKey, "cosignatoryPublicKey"), networkType)));
+                    }
+                }
+                return new ModifyMultisigAccountTransaction(
+                        networkType,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        required(parser, transaction.minApprovalDelta, "minApprovalDelta"),
+                        required(parser, transaction.minRemovalDelta, "minRemovalDelta"),
+                        modifications,
+                        signature,
+                        signer,
+                        transactionInfo);
+            case AGGREGATE_COMPLETE:
+            case AGGREGATE_BONDED:
+                List<Transaction> transactions = new ArrayList<>();
+                for (Entry innerTransaction : required(parser, transaction.transactions, "transactions")) {
+                    Fields innerFields = required(parser, innerTransaction.transaction, "transaction");
+                    innerFields.deadline = transaction.deadline;
+                    innerFields.fee = transaction.fee;
+                    innerFields.signature = transaction.signature;
+                    transactions.add(createTransaction(parser, innerFields, null == innerTransaction.meta ? meta : innerTransaction.meta));
+                }
+                List<AggregateTransactionCosignature> cosignatures = new ArrayList<>();
+                if (null != transaction.cosignatures) {
+                    for (Cosignature cosignature : transaction.cosignatures) {
+                        cosignatures.add(new AggregateTransactionCosignature(
+                                cosignature.signature,
+                                new PublicAccount(required(parser, cosignature.signer, "signer"), networkType)));
+                    }
+                }
+                return new AggregateTransaction(
+                        networkType,
+                        type,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        transactions,
+                        cosignatures,
+                        signature,
+                        signer,
+                        transactionInfo);
+            case LOCK:
+                return new LockFundsTransaction(
+                        networkType,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        getLockedMosaic(parser, transaction),
+                        required(parser, transaction.duration, "duration").toSignedBigInteger(),
+                        new SignedTransaction("", transaction.hash, TransactionType.AGGREGATE_BONDED),
+                        signature,
+                        signer,
+                        transactionInfo);
+            case SECRET_LOCK:
+                return new SecretLockTransaction(
+                        networkType,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        getLockedMosaic(parser, transaction),
+                        required(parser, transaction.duration, "duration").toSignedBigInteger(),
+                        HashType.rawValueOf(required(parser, transaction.hashAlgorithm, "hashAlgorithm")),
+                        transaction.secret,
+                        Address.createFromEncoded(required(parser, transaction.recipient, "recipient")),
+                        signature,
+                        signer,
+                        transactionInfo);
+            case SECRET_PROOF:
+                return new SecretProofTransaction(
+                        networkType,
+                        extractTransactionVersion(version),
+                        deadline,
+                        fee,
+                        HashType.rawValueOf(required(parser, transaction.hashAlgorithm, "hashAlgorithm")),
+                        transaction.secret,
+                        transaction.proof,
+                        signature,
+                        signer,
+                        transactionInfo);
+            default:
+                throw new JsonParseException(parser, "Unsupported transaction type " + type);
+        }
+    }
+
+    /**
+     * Returns the type of a transaction if it is decoded by the default codec of the type.
+     *
+     * @throws JsonParseException if the type is unknown or decoded by a codec registered by the application
+     */
+    private static TransactionType getStreamedType(JsonParser parser, int type) throws JsonParseException {
+        TransactionCodec codec = TransactionMapping.getCodec(type);
+        if (null != codec) {
+            for (Map.Entry<TransactionType, Class<? extends TransactionCodec>> entry : DEFAULT_CODECS.entrySet()) {
+                if (entry.getKey().getValue() == type && entry.getValue() == codec.getClass()) {
+                    return entry.getKey();
+                }
+            }
+        }
+
+        throw new JsonParseException(parser, "Transaction type " + type + " is not decoded by its default codec");
+    }
+
+    private static TransactionInfo createTransactionInfo(JsonParser parser, Meta meta) throws JsonParseException {
+        UInt64 height = required(parser, meta.height, "height");
+        if (meta.hasHash && meta.hasId) {
+            return TransactionInfo.create(height, meta.index, meta.id, meta.hash, meta.merkleComponentHash);
+        } else if (meta.hasAggregateHash && meta.hasId) {
+            return TransactionInfo.createAggregate(height, meta.index, meta.id, meta.aggregateHash, meta.aggregateId);
+        } else {
+            return TransactionInfo.create(height, meta.hash, meta.merkleComponentHash);
+        }
+    }
+
+    /**
+     * Returns the mosaic of a lock, sent either as the mosaicId and amount fields or as a mosaic object.
+     */
+    private static Mosaic getLockedMosaic(JsonParser parser, Fields transaction) throws JsonParseException {
+        if (transaction.hasMosaicId) {
+            return new Mosaic(new MosaicId(required(parser, transaction.mosaicId, "mosaicId")), required(parser, transaction.amount, "amount"));
+        }
+        return required(parser, transaction.mosaic, "mosaic");
+    }
+
+    private static class Entry {
+        private Meta meta;
+        private Fields transaction;
+    }
+
+    private static class Meta {
+        private UInt64 height;
+        private Integer index;
+        private String id;
+        private String hash;
+        private String merkleComponentHash;
+        private String aggregateHash;
+        private String aggregateId;
+        private boolean hasId;
+        private boolean hasHash;
+        private boolean hasAggregateHash;
+    }
+
+    /**
+     * The fields of all transaction types, collected while the transaction object is read.
+     */
+    private static class Fields {
+        private Integer type;
+        private Integer version;
+        private UInt64 deadline;
+        private UInt64 fee;
+        private String signature;
+        private String signer;
+        private String recipient;
+        private List<Mosaic> mosaics;
+        private Message message;
+        private String name;
+        private Integer namespaceType;
+        private UInt64 namespaceId;
+        private UInt64 duration;
+        private UInt64 parentId;
+        private boolean hasMosaicId;
+        private UInt64 mosaicId;
+        private UInt64 amount;
+        private Mosaic mosaic;
+        private List<UInt64> properties;
+        private Integer direction;
+        private UInt64 delta;
+        private Integer minApprovalDelta;
+        private Integer minRemovalDelta;
+        private List<Modification> modifications;
+        private List<Entry> transactions;
+        private List<Cosignature> cosignatures;
+        private String hash;
+        private Integer hashAlgorithm;
+        private String secret;
+        private String proof;
+    }
+
+    private static class Modification {
+        private Integer type;
+        private String cosignatoryPublicKey;
+    }
+
+    private static class Cosignature {
+        private String signature;
+        private String signer;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.transaction.Transaction;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Decodes the JSON of one transaction type, as returned by the REST gateway, into a {@link Transaction}.
+ * <br>
+ * Codecs are registered with {@link TransactionMapping#registerCodec(int, TransactionCodec)} and shared by every
+ * mapping, so implementations must be stateless and thread safe.
+ *
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface TransactionCodec {
+
+    /**
+     * Decodes a transaction.
+     *
+     * @param input   The transaction JSON, with its "meta" and "transaction" objects.
+     * @param mapping The mapping the codec is called by, used to decode inner transactions.
+     * @return {@link Transaction}
+     */
+    Transaction decode(JsonObject input, TransactionMapping mapping);
+}
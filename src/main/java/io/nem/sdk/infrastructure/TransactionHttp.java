@@ -18,13 +18,16 @@ package io.nem.sdk.infrastructure;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.nem.sdk.model.transaction.*;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
-import io.vertx.core.json.JsonArray;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
+import io.vertx.reactivex.core.buffer.Buffer;
 import io.vertx.reactivex.ext.web.client.HttpResponse;
 import io.vertx.reactivex.ext.web.codec.BodyCodec;
 
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,10 +37,23 @@ import java.util.stream.Collectors;
  * @since 1.0
  */
 public class TransactionHttp extends Http implements TransactionRepository {
+    private static final byte[] PAYLOAD_BODY_PREFIX = "{\"payload\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PAYLOAD_BODY_SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+
     public TransactionHttp(String host) throws MalformedURLException {
         this(host + "/transaction/", new NetworkHttp(host));
     }
 
+    /**
+     * Create a repository that sends its requests with the given context.
+     *
+     * @param host    The node url.
+     * @param context The context shared with other repositories and listeners.
+     */
+    public TransactionHttp(String host, ClientContext context) throws MalformedURLException {
+        this(host + "/transaction/", new NetworkHttp(host, context));
+    }
+
     public TransactionHttp(String host, NetworkHttp networkHttp) throws MalformedURLException {
         super(host, networkHttp);
     }
@@ -46,12 +62,10 @@ public class TransactionHttp extends Http implements TransactionRepository {
     public Observable<Transaction> getTransaction(String transactionHash) {
         return this.client
                 .getAbs(this.url + transactionHash)
-                .as(BodyCodec.jsonObject())
                 .rxSend()
                 .toObservable()
-                .map(Http::mapJsonObjectOrError)
-                .map(json -> new JsonObject(json.toString()))
-                .map(new TransactionMapping());
+                .map(Http::mapBufferOrError)
+                .map(body -> decodeTransaction(body.getDelegate().getBytes()));
     }
 
     @Override
@@ -60,15 +74,18 @@ public class TransactionHttp extends Http implements TransactionRepository {
         requestBody.put("transactionIds", transactionHashes);
         return this.client
                 .postAbs(this.url.toString())
-                .as(BodyCodec.jsonArray())
                 .rxSendJson(requestBody)
                 .toObservable()
-                .map(Http::mapJsonArrayOrError)
-                .map(json -> new JsonArray(json.toString()).stream().map(s -> (JsonObject) s).collect(Collectors.toList()))
-                .flatMapIterable(item -> item)
-                .map(new TransactionMapping())
-                .toList()
-                .toObservable();
+                .map(Http::mapBufferOrError)
+                .map(Http::decodeTransactions);
+    }
+
+    @Override
+    public Flowable<Transaction> streamTransactions(List<String> transactionHashes) {
+        JsonObject requestBody = new JsonObject();
+        requestBody.put("transactionIds", transactionHashes);
+        return this.streamJsonArray(HttpMethod.POST, this.url.toString(), requestBody)
+                .map(Http::decodeTransaction);
     }
 
 
@@ -76,15 +93,14 @@ public class TransactionHttp extends Http implements TransactionRepository {
     public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
         return this.client
                 .getAbs(this.url + transactionHash + "/status")
-                .as(BodyCodec.jsonObject())
                 .rxSend()
                 .toObservable()
-                .map(Http::mapJsonObjectOrError)
-                .map(json -> objectMapper.readValue(json.toString(), TransactionStatusDTO.class))
+                .map(Http::mapBufferOrError)
+                .map(body -> objectMapper.readValue(body.getDelegate().getBytes(), TransactionStatusDTO.class))
                 .map(transactionStatusDTO -> new TransactionStatus(transactionStatusDTO.getGroup(),
                         transactionStatusDTO.getStatus(),
                         transactionStatusDTO.getHash(),
-                        new Deadline(transactionStatusDTO.getDeadline().extractIntArray()),
+                        new Deadline(transactionStatusDTO.getDeadline().toUInt64()),
                         transactionStatusDTO.getHeight().extractIntArray()));
     }
 
@@ -94,17 +110,16 @@ public class TransactionHttp extends Http implements TransactionRepository {
         requestBody.put("hashes", transactionHashes);
         return this.client
                 .postAbs(this.url + "/statuses")
-                .as(BodyCodec.jsonArray())
                 .rxSendJson(requestBody)
                 .toObservable()
-                .map(Http::mapJsonArrayOrError)
-                .map(json -> objectMapper.<List<TransactionStatusDTO>>readValue(json.toString(), new TypeReference<List<TransactionStatusDTO>>() {
+                .map(Http::mapBufferOrError)
+                .map(body -> objectMapper.<List<TransactionStatusDTO>>readValue(body.getDelegate().getBytes(), new TypeReference<List<TransactionStatusDTO>>() {
                 }))
                 .flatMapIterable(item -> item)
                 .map(transactionStatusDTO -> new TransactionStatus(transactionStatusDTO.getGroup(),
                         transactionStatusDTO.getStatus(),
                         transactionStatusDTO.getHash(),
-                        new Deadline(transactionStatusDTO.getDeadline().extractIntArray()),
+                        new Deadline(transactionStatusDTO.getDeadline().toUInt64()),
                         transactionStatusDTO.getHeight().extractIntArray()))
                 .toList()
                 .toObservable();
@@ -112,28 +127,26 @@ public class TransactionHttp extends Http implements TransactionRepository {
 
     @Override
     public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
-        JsonObject requestBody = new JsonObject();
-        requestBody.put("payload", signedTransaction.getPayload());
         return this.client
                 .putAbs(this.url.toString())
+                .putHeader("Content-Type", "application/json")
                 .as(BodyCodec.jsonObject())
-                .rxSendJson(requestBody)
+                .rxSendBuffer(Buffer.newInstance(io.vertx.core.buffer.Buffer.buffer(createPayloadRequestBody(signedTransaction))))
                 .toObservable()
                 .map(Http::mapJsonObjectOrError)
-                .map(json -> new TransactionAnnounceResponse(new JsonObject(json.toString()).getString("message")));
+                .map(json -> new TransactionAnnounceResponse(json.getString("message")));
     }
 
     @Override
     public Observable<TransactionAnnounceResponse> announceAggregateBonded(SignedTransaction signedTransaction) {
-        JsonObject requestBody = new JsonObject();
-        requestBody.put("payload", signedTransaction.getPayload());
         return this.client
                 .putAbs(this.url + "/partial")
+                .putHeader("Content-Type", "application/json")
                 .as(BodyCodec.jsonObject())
-                .rxSendJson(requestBody)
+                .rxSendBuffer(Buffer.newInstance(io.vertx.core.buffer.Buffer.buffer(createPayloadRequestBody(signedTransaction))))
                 .toObservable()
                 .map(Http::mapJsonObjectOrError)
-                .map(json -> new TransactionAnnounceResponse(new JsonObject(json.toString()).getString("message")));
+                .map(json -> new TransactionAnnounceResponse(json.getString("message")));
     }
 
     @Override
@@ -148,6 +161,22 @@ public class TransactionHttp extends Http implements TransactionRepository {
                 .rxSendJson(requestBody)
                 .toObservable()
                 .map(Http::mapJsonObjectOrError)
-                .map(json -> new TransactionAnnounceResponse(new JsonObject(json.toString()).getString("message")));
+                .map(json -> new TransactionAnnounceResponse(json.getString("message")));
+    }
+
+    /**
+     * Creates the json body of an announce request. The hex payload is written straight into the body
+     * instead of going through a json object and intermediate strings.
+     *
+     * @param signedTransaction The signed transaction.
+     * @return The utf-8 encoded json body.
+     */
+    static byte[] createPayloadRequestBody(SignedTransaction signedTransaction) {
+        int hexLength = 2 * signedTransaction.getPayloadSize();
+        byte[] body = new byte[PAYLOAD_BODY_PREFIX.length + hexLength + PAYLOAD_BODY_SUFFIX.length];
+        System.arraycopy(PAYLOAD_BODY_PREFIX, 0, body, 0, PAYLOAD_BODY_PREFIX.length);
+        signedTransaction.writePayloadHex(body, PAYLOAD_BODY_PREFIX.length);
+        System.arraycopy(PAYLOAD_BODY_SUFFIX, 0, body, PAYLOAD_BODY_PREFIX.length + hexLength, PAYLOAD_BODY_SUFFIX.length);
+        return body;
     }
 }
@@ -29,6 +29,7 @@ import io.nem.sdk.model.transaction.*;
 import io.reactivex.functions.Function;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import org.apache.commons.lang3.Validate;
 import org.bouncycastle.util.encoders.Hex;
 
 import java.io.UnsupportedEncodingException;
@@ -39,79 +40,136 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static io.nem.sdk.infrastructure.TransactionMapping.createTransactionInfo;
+import static io.nem.sdk.infrastructure.TransactionMapping.extractBigInteger;
+import static io.nem.sdk.infrastructure.TransactionMapping.extractNetworkType;
+import static io.nem.sdk.infrastructure.TransactionMapping.extractTransactionVersion;
+import static io.nem.sdk.infrastructure.TransactionMapping.extractUInt64;
+
+/**
+ * Maps the JSON of a transaction returned by the REST gateway to a {@link Transaction}.
+ * <br>
+ * The transaction is decoded by the {@link TransactionCodec} registered for its type. Codecs for the catapult types
+ * known to the SDK are registered by default; codecs for other types can be added with
+ * {@link #registerCodec(int, TransactionCodec)}.
+ */
 public class TransactionMapping implements Function<JsonObject, Transaction> {
+    private static final int PAGE_SIZE = 256;
+    private static final Object LOCK = new Object();
+
+    // codecs indexed by the high byte of the type value, then by its low byte; replaced on each registration
+    private static volatile TransactionCodec[][] codecs = new TransactionCodec[PAGE_SIZE][];
+
+    static {
+        registerCodec(TransactionType.TRANSFER.getValue(), new TransferTransactionCodec());
+        registerCodec(TransactionType.REGISTER_NAMESPACE.getValue(), new NamespaceCreationTransactionCodec());
+        registerCodec(TransactionType.MOSAIC_DEFINITION.getValue(), new MosaicCreationTransactionCodec());
+        registerCodec(TransactionType.MOSAIC_SUPPLY_CHANGE.getValue(), new MosaicSupplyChangeTransactionCodec());
+        registerCodec(TransactionType.MODIFY_MULTISIG_ACCOUNT.getValue(), new MultisigModificationTransactionCodec());
+        TransactionCodec aggregateCodec = new AggregateTransactionCodec();
+        registerCodec(TransactionType.AGGREGATE_COMPLETE.getValue(), aggregateCodec);
+        registerCodec(TransactionType.AGGREGATE_BONDED.getValue(), aggregateCodec);
+        registerCodec(TransactionType.LOCK.getValue(), new LockFundsTransactionCodec());
+        registerCodec(TransactionType.SECRET_LOCK.getValue(), new SecretLockTransactionCodec());
+        registerCodec(TransactionType.SECRET_PROOF.getValue(), new SecretProofTransactionCodec());
+    }
+
+    /**
+     * Registers the codec decoding a transaction type, replacing the codec previously registered for it.
+     *
+     * @param type  The transaction type value, between 0 and 0xFFFF.
+     * @param codec The codec.
+     */
+    public static void registerCodec(int type, TransactionCodec codec) {
+        Validate.inclusiveBetween(0, 0xFFFF, type, "Transaction type must be an unsigned 16 bit value");
+        Validate.notNull(codec, "Codec must not be null");
+        synchronized (LOCK) {
+            TransactionCodec[][] pages = codecs.clone();
+            int pageIndex = type >>> 8;
+            TransactionCodec[] page = null == pages[pageIndex] ? new TransactionCodec[PAGE_SIZE] : pages[pageIndex].clone();
+            page[type & 0xFF] = codec;
+            pages[pageIndex] = page;
+            codecs = pages;
+        }
+    }
+
+    /**
+     * Returns the codec registered for a transaction type.
+     *
+     * @param type The transaction type value.
+     * @return the codec or null when no codec is registered for the type
+     */
+    public static TransactionCodec getCodec(int type) {
+        if (type < 0 || type > 0xFFFF) {
+            return null;
+        }
+
+        TransactionCodec[] page = codecs[type >>> 8];
+        return null == page ? null : page[type & 0xFF];
+    }
+
     @Override
     public Transaction apply(JsonObject input) {
-        JsonObject transaction = input.getJsonObject("transaction");
-        int type = transaction.getInteger("type");
-
-        if (type == TransactionType.TRANSFER.getValue()) {
-            return new TransferTransactionMapping().apply(input);
-        } else if (type == TransactionType.REGISTER_NAMESPACE.getValue()) {
-            return new NamespaceCreationTransactionMapping().apply(input);
-        } else if (type == TransactionType.MOSAIC_DEFINITION.getValue()) {
-            return new MosaicCreationTransactionMapping().apply(input);
-        } else if (type == TransactionType.MOSAIC_SUPPLY_CHANGE.getValue()) {
-            return new MosaicSupplyChangeTransactionMapping().apply(input);
-        } else if (type == TransactionType.MODIFY_MULTISIG_ACCOUNT.getValue()) {
-            return new MultisigModificationTransactionMapping().apply(input);
-        } else if (type == TransactionType.AGGREGATE_COMPLETE.getValue() || type == TransactionType.AGGREGATE_BONDED.getValue()) {
-            return new AggregateTransactionMapping().apply(input);
-        } else if (type == TransactionType.LOCK.getValue()) {
-            return new LockFundsTransactionMapping().apply(input);
-        } else if (type == TransactionType.SECRET_LOCK.getValue()) {
-            return new SecretLockTransactionMapping().apply(input);
-        } else if (type == TransactionType.SECRET_PROOF.getValue()) {
-            return new SecretProofTransactionMapping().apply(input);
+        TransactionCodec codec = getCodec(input.getJsonObject("transaction").getInteger("type"));
+        if (null == codec) {
+            throw new UnsupportedOperationException("Unimplemented Transaction type");
         }
 
-        throw new UnsupportedOperationException("Unimplemented Transaction type");
+        return codec.decode(input, this);
     }
 
-    BigInteger extractBigInteger(JsonArray input) {
-        UInt64DTO uInt64DTO = new UInt64DTO();
-        input.stream().forEach(item -> uInt64DTO.add(new Long(item.toString())));
-        return uInt64DTO.extractIntArray();
+    public static BigInteger extractBigInteger(JsonArray input) {
+        return extractUInt64(input).toSignedBigInteger();
     }
 
-    Integer extractTransactionVersion(int version) {
-        return (int) Long.parseLong(Integer.toHexString(version).substring(2, 4), 16);
+    public static UInt64 extractUInt64(JsonArray input) {
+        return UInt64.valueOf(((Number) input.getValue(0)).intValue(), ((Number) input.getValue(1)).intValue());
     }
 
-    NetworkType extractNetworkType(int version) {
-        int networkType = (int) Long.parseLong(Integer.toHexString(version).substring(0, 2), 16);
-        return NetworkType.rawValueOf(networkType);
+    /**
+     * Extracts the transaction version from the low byte of the version field.
+     */
+    public static int extractTransactionVersion(int version) {
+        return version & 0xFF;
     }
 
-    public TransactionInfo createTransactionInfo(JsonObject jsonObject) {
+    /**
+     * Extracts the network type from the high byte of the version field.
+     */
+    public static NetworkType extractNetworkType(int version) {
+        return NetworkType.rawValueOf((version >>> 8) & 0xFF);
+    }
+
+    public static TransactionInfo createTransactionInfo(JsonObject jsonObject) {
         if (jsonObject.containsKey("hash") && jsonObject.containsKey("id")) {
-            return TransactionInfo.create(extractBigInteger(jsonObject.getJsonArray("height")),
+            return TransactionInfo.create(extractUInt64(jsonObject.getJsonArray("height")),
                     jsonObject.getInteger("index"),
                     jsonObject.getString("id"),
                     jsonObject.getString("hash"),
                     jsonObject.getString("merkleComponentHash"));
         } else if (jsonObject.containsKey("aggregateHash") && jsonObject.containsKey("id")) {
-            return TransactionInfo.createAggregate(extractBigInteger(jsonObject.getJsonArray("height")),
+            return TransactionInfo.createAggregate(extractUInt64(jsonObject.getJsonArray("height")),
                     jsonObject.getInteger("index"),
                     jsonObject.getString("id"),
                     jsonObject.getString("aggregateHash"),
                     jsonObject.getString("aggregateId"));
         } else {
-            return TransactionInfo.create(extractBigInteger(jsonObject.getJsonArray("height")),
+            return TransactionInfo.create(extractUInt64(jsonObject.getJsonArray("height")),
                     jsonObject.getString("hash"),
                     jsonObject.getString("merkleComponentHash"));
         }
     }
 }
 
-class TransferTransactionMapping extends TransactionMapping {
+class TransferTransactionCodec implements TransactionCodec {
 
     @Override
-    public TransferTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
+    public TransferTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
         List<Mosaic> mosaics = new ArrayList<>();
 
         if (transaction.getJsonArray("mosaics") != null) {
@@ -120,8 +178,8 @@ class TransferTransactionMapping extends TransactionMapping {
                     .stream()
                     .map(item -> (JsonObject) item)
                     .map(mosaic -> new Mosaic(
-                            new MosaicId(extractBigInteger(mosaic.getJsonArray("id"))),
-                            extractBigInteger(mosaic.getJsonArray("amount"))))
+                            new MosaicId(extractUInt64(mosaic.getJsonArray("id"))),
+                            extractUInt64(mosaic.getJsonArray("amount"))))
                     .collect(Collectors.toList());
         }
 
@@ -135,116 +193,116 @@ class TransferTransactionMapping extends TransactionMapping {
         }
 
         return new TransferTransaction(
-                extractNetworkType(transaction.getInteger("version")),
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractNetworkType(version),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
                 Address.createFromEncoded(transaction.getString("recipient")),
                 mosaics,
                 message,
                 transaction.getString("signature"),
-                new PublicAccount(transaction.getString("signer"), extractNetworkType(transaction.getInteger("version"))),
+                new PublicAccount(transaction.getString("signer"), extractNetworkType(version)),
                 transactionInfo
         );
     }
 }
 
-class NamespaceCreationTransactionMapping extends TransactionMapping {
+class NamespaceCreationTransactionCodec implements TransactionCodec {
 
     @Override
-    public RegisterNamespaceTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
+    public RegisterNamespaceTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
         NamespaceType namespaceType = NamespaceType.rawValueOf(transaction.getInteger("namespaceType"));
 
         return new RegisterNamespaceTransaction(
-                extractNetworkType(transaction.getInteger("version")),
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractNetworkType(version),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
                 transaction.getString("name"),
-                new NamespaceId(extractBigInteger(transaction.getJsonArray("namespaceId"))),
+                new NamespaceId(extractUInt64(transaction.getJsonArray("namespaceId"))),
                 namespaceType,
                 namespaceType == NamespaceType.RootNamespace ? Optional.of(extractBigInteger(transaction.getJsonArray("duration"))) : Optional.empty(),
-                namespaceType == NamespaceType.SubNamespace ? Optional.of(new NamespaceId(extractBigInteger(transaction.getJsonArray("parentId")))) : Optional.empty(),
+                namespaceType == NamespaceType.SubNamespace ? Optional.of(new NamespaceId(extractUInt64(transaction.getJsonArray("parentId")))) : Optional.empty(),
                 transaction.getString("signature"),
-                new PublicAccount(transaction.getString("signer"), extractNetworkType(transaction.getInteger("version"))),
+                new PublicAccount(transaction.getString("signer"), extractNetworkType(version)),
                 transactionInfo
         );
     }
 }
 
-class MosaicCreationTransactionMapping extends TransactionMapping {
+class MosaicCreationTransactionCodec implements TransactionCodec {
 
     @Override
-    public MosaicDefinitionTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
-
+    public MosaicDefinitionTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
 
         JsonArray mosaicProperties = transaction.getJsonArray("properties");
 
-        String flags = "00" + Integer.toBinaryString(extractBigInteger(mosaicProperties.getJsonObject(0).getJsonArray("value")).intValue());
-        String bitMapFlags = flags.substring(flags.length() - 3, flags.length());
-        MosaicProperties properties = new MosaicProperties(bitMapFlags.charAt(2) == '1',
-                bitMapFlags.charAt(1) == '1',
-                bitMapFlags.charAt(0) == '1',
-                extractBigInteger(mosaicProperties.getJsonObject(1).getJsonArray("value")).intValue(),
-                mosaicProperties.size() == 3 ? extractBigInteger(mosaicProperties.getJsonObject(2).getJsonArray("value")) : BigInteger.valueOf(0));
+        MosaicProperties properties = StreamingJsonDecoder.createMosaicProperties(
+                extractUInt64(mosaicProperties.getJsonObject(0).getJsonArray("value")).getLower(),
+                extractUInt64(mosaicProperties.getJsonObject(1).getJsonArray("value")).getLower(),
+                mosaicProperties.size() == 3 ? extractBigInteger(mosaicProperties.getJsonObject(2).getJsonArray("value")) : BigInteger.ZERO);
 
         return new MosaicDefinitionTransaction(
-                extractNetworkType(transaction.getInteger("version")),
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractNetworkType(version),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
                 transaction.getString("name"),
-                new NamespaceId(extractBigInteger(transaction.getJsonArray("parentId"))),
-                new MosaicId(extractBigInteger(transaction.getJsonArray("mosaicId"))),
+                new NamespaceId(extractUInt64(transaction.getJsonArray("parentId"))),
+                new MosaicId(extractUInt64(transaction.getJsonArray("mosaicId"))),
                 properties,
                 transaction.getString("signature"),
-                new PublicAccount(transaction.getString("signer"), extractNetworkType(transaction.getInteger("version"))),
+                new PublicAccount(transaction.getString("signer"), extractNetworkType(version)),
                 transactionInfo
         );
     }
 }
 
-class MosaicSupplyChangeTransactionMapping extends TransactionMapping {
+class MosaicSupplyChangeTransactionCodec implements TransactionCodec {
 
     @Override
-    public MosaicSupplyChangeTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
+    public MosaicSupplyChangeTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
 
         return new MosaicSupplyChangeTransaction(
-                extractNetworkType(transaction.getInteger("version")),
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractNetworkType(version),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
-                new MosaicId(extractBigInteger(transaction.getJsonArray("mosaicId"))),
+                new MosaicId(extractUInt64(transaction.getJsonArray("mosaicId"))),
                 MosaicSupplyType.rawValueOf(transaction.getInteger("direction")),
                 extractBigInteger(transaction.getJsonArray("delta")),
                 transaction.getString("signature"),
-                new PublicAccount(transaction.getString("signer"), extractNetworkType(transaction.getInteger("version"))),
+                new PublicAccount(transaction.getString("signer"), extractNetworkType(version)),
                 transactionInfo
         );
     }
 }
 
-class MultisigModificationTransactionMapping extends TransactionMapping {
+class MultisigModificationTransactionCodec implements TransactionCodec {
 
     @Override
-    public ModifyMultisigAccountTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
+    public ModifyMultisigAccountTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
-        NetworkType networkType = extractNetworkType(transaction.getInteger("version"));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
+        NetworkType networkType = extractNetworkType(version);
 
         List<MultisigCosignatoryModification> modifications = transaction.containsKey("modifications") ? transaction
                 .getJsonArray("modifications")
@@ -257,7 +315,7 @@ class MultisigModificationTransactionMapping extends TransactionMapping {
 
         return new ModifyMultisigAccountTransaction(
                 networkType,
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
                 transaction.getInteger("minApprovalDelta"),
@@ -270,15 +328,16 @@ class MultisigModificationTransactionMapping extends TransactionMapping {
     }
 }
 
-class AggregateTransactionMapping extends TransactionMapping {
+class AggregateTransactionCodec implements TransactionCodec {
 
     @Override
-    public AggregateTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
+    public AggregateTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
-        NetworkType networkType = extractNetworkType(transaction.getInteger("version"));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
+        NetworkType networkType = extractNetworkType(version);
 
         List<Transaction> transactions = new ArrayList<>();
         for (int i = 0; i < transaction.getJsonArray("transactions").getList().size(); i++) {
@@ -289,7 +348,7 @@ class AggregateTransactionMapping extends TransactionMapping {
             if (!innerTransaction.containsKey("meta")) {
                 innerTransaction.put("meta", input.getJsonObject("meta"));
             }
-            transactions.add(new TransactionMapping().apply(innerTransaction));
+            transactions.add(mapping.apply(innerTransaction));
         }
 
         List<AggregateTransactionCosignature> cosignatures = new ArrayList<>();
@@ -307,7 +366,7 @@ class AggregateTransactionMapping extends TransactionMapping {
         return new AggregateTransaction(
                 networkType,
                 TransactionType.rawValueOf(transaction.getInteger("type")),
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
                 transactions,
@@ -319,24 +378,25 @@ class AggregateTransactionMapping extends TransactionMapping {
     }
 }
 
-class LockFundsTransactionMapping extends TransactionMapping {
+class LockFundsTransactionCodec implements TransactionCodec {
 
     @Override
-    public LockFundsTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
+    public LockFundsTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
-        NetworkType networkType = extractNetworkType(transaction.getInteger("version"));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
+        NetworkType networkType = extractNetworkType(version);
         Mosaic mosaic;
         if (transaction.containsKey("mosaicId")) {
-            mosaic = new Mosaic(new MosaicId(extractBigInteger(transaction.getJsonArray("mosaicId"))), extractBigInteger(transaction.getJsonArray("amount")));
+            mosaic = new Mosaic(new MosaicId(extractUInt64(transaction.getJsonArray("mosaicId"))), extractUInt64(transaction.getJsonArray("amount")));
         } else {
-            mosaic = new Mosaic(new MosaicId(extractBigInteger(transaction.getJsonObject("mosaic").getJsonArray("id"))), extractBigInteger(transaction.getJsonObject("mosaic").getJsonArray("amount")));
+            mosaic = new Mosaic(new MosaicId(extractUInt64(transaction.getJsonObject("mosaic").getJsonArray("id"))), extractUInt64(transaction.getJsonObject("mosaic").getJsonArray("amount")));
         }
         return new LockFundsTransaction(
                 networkType,
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
                 mosaic,
@@ -349,24 +409,25 @@ class LockFundsTransactionMapping extends TransactionMapping {
     }
 }
 
-class SecretLockTransactionMapping extends TransactionMapping {
+class SecretLockTransactionCodec implements TransactionCodec {
 
     @Override
-    public SecretLockTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
+    public SecretLockTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
-        NetworkType networkType = extractNetworkType(transaction.getInteger("version"));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
+        NetworkType networkType = extractNetworkType(version);
         Mosaic mosaic;
         if (transaction.containsKey("mosaicId")) {
-            mosaic = new Mosaic(new MosaicId(extractBigInteger(transaction.getJsonArray("mosaicId"))), extractBigInteger(transaction.getJsonArray("amount")));
+            mosaic = new Mosaic(new MosaicId(extractUInt64(transaction.getJsonArray("mosaicId"))), extractUInt64(transaction.getJsonArray("amount")));
         } else {
-            mosaic = new Mosaic(new MosaicId(extractBigInteger(transaction.getJsonObject("mosaic").getJsonArray("id"))), extractBigInteger(transaction.getJsonObject("mosaic").getJsonArray("amount")));
+            mosaic = new Mosaic(new MosaicId(extractUInt64(transaction.getJsonObject("mosaic").getJsonArray("id"))), extractUInt64(transaction.getJsonObject("mosaic").getJsonArray("amount")));
         }
         return new SecretLockTransaction(
                 networkType,
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
                 mosaic,
@@ -381,19 +442,20 @@ class SecretLockTransactionMapping extends TransactionMapping {
     }
 }
 
-class SecretProofTransactionMapping extends TransactionMapping {
+class SecretProofTransactionCodec implements TransactionCodec {
 
     @Override
-    public SecretProofTransaction apply(JsonObject input) {
-        TransactionInfo transactionInfo = this.createTransactionInfo(input.getJsonObject("meta"));
+    public SecretProofTransaction decode(JsonObject input, TransactionMapping mapping) {
+        TransactionInfo transactionInfo = createTransactionInfo(input.getJsonObject("meta"));
 
         JsonObject transaction = input.getJsonObject("transaction");
-        Deadline deadline = new Deadline(extractBigInteger(transaction.getJsonArray("deadline")));
-        NetworkType networkType = extractNetworkType(transaction.getInteger("version"));
+        int version = transaction.getInteger("version");
+        Deadline deadline = new Deadline(extractUInt64(transaction.getJsonArray("deadline")));
+        NetworkType networkType = extractNetworkType(version);
 
         return new SecretProofTransaction(
                 networkType,
-                extractTransactionVersion(transaction.getInteger("version")),
+                extractTransactionVersion(version),
                 deadline,
                 extractBigInteger(transaction.getJsonArray("fee")),
                 HashType.rawValueOf(transaction.getInteger("hashAlgorithm")),
@@ -17,6 +17,8 @@
 package io.nem.sdk.infrastructure;
 
 import io.nem.sdk.model.transaction.*;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 import java.util.List;
@@ -44,6 +46,18 @@ public interface TransactionRepository {
      */
     Observable<List<Transaction>> getTransactions(List<String> transactionHashes);
 
+    /**
+     * Gets the transactions for different transaction hashes.
+     * Each transaction is emitted as soon as it is received, without waiting for the whole response.
+     * The default implementation emits the elements of {@link #getTransactions(List)} once the whole response is received.
+     *
+     * @param transactionHashes List of String
+     * @return Flowable of {@link Transaction}
+     */
+    default Flowable<Transaction> streamTransactions(List<String> transactionHashes) {
+        return this.getTransactions(transactionHashes).toFlowable(BackpressureStrategy.BUFFER).flatMapIterable(elements -> elements);
+    }
+
     /**
      * Gets a transaction status for a transaction hash.
      *
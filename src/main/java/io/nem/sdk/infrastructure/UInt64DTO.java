@@ -29,17 +29,41 @@
 
 package io.nem.sdk.infrastructure;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
 import io.nem.sdk.model.transaction.UInt64;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.Objects;
+import java.util.Arrays;
 
 /**
  * UInt64DTO
+ * <br>
+ * Unsigned 64 bit integer sent by the REST API as an array of its lower and higher 32 bits.
+ * The parts are kept as primitive ints instead of boxed list elements.
  */
 @javax.annotation.Generated(value = "io.swagger.codegen.languages.JavaClientCodegen", date = "2017-12-19T19:07:40.115Z")
-class UInt64DTO extends ArrayList<Long> {
+class UInt64DTO {
+    private final int lower;
+    private final int higher;
+
+    UInt64DTO(int lower, int higher) {
+        this.lower = lower;
+        this.higher = higher;
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    static UInt64DTO fromArray(long[] parts) {
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("UInt64 must be an array of two parts");
+        }
+        return new UInt64DTO((int) parts[0], (int) parts[1]);
+    }
+
+    @JsonValue
+    long[] toArray() {
+        return new long[]{Integer.toUnsignedLong(lower), Integer.toUnsignedLong(higher)};
+    }
 
     @Override
     public boolean equals(java.lang.Object o) {
@@ -49,12 +73,13 @@ class UInt64DTO extends ArrayList<Long> {
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
-        return super.equals(o);
+        UInt64DTO uInt64DTO = (UInt64DTO) o;
+        return lower == uInt64DTO.lower && higher == uInt64DTO.higher;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode());
+        return 31 * lower + higher;
     }
 
 
@@ -62,7 +87,7 @@ class UInt64DTO extends ArrayList<Long> {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("class UInt64DTO {\n");
-        sb.append("    ").append(toIndentedString(super.toString())).append("\n");
+        sb.append("    ").append(toIndentedString(Arrays.toString(toArray()))).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -78,8 +103,11 @@ class UInt64DTO extends ArrayList<Long> {
         return o.toString().replace("\n", "\n    ");
     }
 
+    UInt64 toUInt64() {
+        return UInt64.valueOf(lower, higher);
+    }
+
     BigInteger extractIntArray() {
-        return UInt64.fromIntArray(stream().mapToInt(Long::intValue).toArray());
+        return toUInt64().toSignedBigInteger();
     }
 }
-
@@ -16,7 +16,9 @@
 
 package io.nem.sdk.model.account;
 
+import io.nem.core.crypto.CryptoEngines;
 import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.PreparedSigner;
 import io.nem.core.crypto.PrivateKey;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.model.transaction.*;
@@ -105,6 +107,16 @@ public class Account {
         return publicAccount;
     }
 
+    /**
+     * Create a prepared signer that signs many transactions without deriving the signing secrets from the private key each time.
+     * The prepared signer must be closed when it is no longer needed.
+     *
+     * @return {@link PreparedSigner}
+     */
+    public PreparedSigner createPreparedSigner() {
+        return CryptoEngines.defaultEngine().createPreparedSigner(this.keyPair);
+    }
+
     /**
      * Sign a transaction.
      *
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.account;
+
+import io.nem.core.crypto.CryptoEngine;
+import io.nem.core.crypto.CryptoEngines;
+import io.nem.core.crypto.KeyGenerator;
+import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.PrivateKey;
+import io.nem.core.crypto.PublicKey;
+import io.nem.core.utils.ArrayUtils;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.apache.commons.lang3.Validate;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Generates accounts in bulk on all cores, optionally searching for vanity addresses.
+ * <br>
+ * Accounts are generated by independent workers, each with its own random generator and key generator, and are
+ * emitted as soon as they are found. The returned flowables respect backpressure, so any number of accounts can be
+ * generated without holding them in memory. The order of the accounts is not defined.
+ * Instances are thread safe and keep throughput metrics over all generations.
+ *
+ * @since 1.0
+ */
+public class AccountGenerator {
+    private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+    private static final int WORKER_PREFETCH = 16;
+
+    private final NetworkType networkType;
+    private final CryptoEngine engine;
+    private final Scheduler scheduler;
+    private final int parallelism;
+    private final AtomicLong generatedKeys = new AtomicLong();
+    private final AtomicLong generatedAccounts = new AtomicLong();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    /**
+     * Creates an account generator that uses all cores.
+     *
+     * @param networkType The network type of the generated accounts.
+     */
+    public AccountGenerator(NetworkType networkType) {
+        this(networkType, CryptoEngines.defaultEngine(), Schedulers.computation(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an account generator.
+     *
+     * @param networkType The network type of the generated accounts.
+     * @param engine      The crypto engine used for deriving public keys.
+     * @param scheduler   The scheduler the workers run on.
+     * @param parallelism The number of workers.
+     */
+    public AccountGenerator(NetworkType networkType, CryptoEngine engine, Scheduler scheduler, int parallelism) {
+        Validate.notNull(networkType, "NetworkType must not be null");
+        Validate.notNull(engine, "Engine must not be null");
+        Validate.notNull(scheduler, "Scheduler must not be null");
+        Validate.isTrue(parallelism > 0, "Parallelism must be positive");
+        this.networkType = networkType;
+        this.engine = engine;
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Generates random accounts.
+     *
+     * @param count The number of accounts.
+     * @return Flowable of the accounts
+     */
+    public Flowable<Account> generate(long count) {
+        return this.generateMatching(count, null);
+    }
+
+    /**
+     * Generates random accounts whose plain address starts with a prefix.
+     * The first two characters of an address are restricted by the network type.
+     *
+     * @param count  The number of accounts.
+     * @param prefix The (case insensitive) prefix of the plain addresses.
+     * @return Flowable of the accounts
+     * @throws IllegalArgumentException if no address of the network type can start with the prefix.
+     */
+    public Flowable<Account> generateWithPrefix(long count, String prefix) {
+        String upperCasePrefix = toBase32Pattern(prefix);
+        int version = this.networkType.getValue() & 0xFF;
+        if (upperCasePrefix.length() > 0 && BASE32_ALPHABET.indexOf(upperCasePrefix.charAt(0)) != version >> 3) {
+            throw new IllegalArgumentException("addresses of " + this.networkType + " cannot start with " + prefix);
+        }
+
+        if (upperCasePrefix.length() > 1 && BASE32_ALPHABET.indexOf(upperCasePrefix.charAt(1)) >> 2 != (version & 0x07)) {
+            throw new IllegalArgumentException("addresses of " + this.networkType + " cannot start with " + prefix);
+        }
+
+        return this.generateMatching(count, address -> address.startsWith(upperCasePrefix));
+    }
+
+    /**
+     * Generates random accounts whose plain address ends with a suffix.
+     *
+     * @param count  The number of accounts.
+     * @param suffix The (case insensitive) suffix of the plain addresses.
+     * @return Flowable of the accounts
+     */
+    public Flowable<Account> generateWithSuffix(long count, String suffix) {
+        String upperCaseSuffix = toBase32Pattern(suffix);
+        return this.generateMatching(count, address -> address.endsWith(upperCaseSuffix));
+    }
+
+    /**
+     * Returns the number of key pairs generated, including the ones not matching a vanity pattern.
+     *
+     * @return number of generated key pairs
+     */
+    public long getGeneratedKeys() {
+        return this.generatedKeys.get();
+    }
+
+    /**
+     * Returns the number of emitted accounts.
+     *
+     * @return number of emitted accounts
+     */
+    public long getGeneratedAccounts() {
+        return this.generatedAccounts.get();
+    }
+
+    /**
+     * Returns the total time of all completed or cancelled generations.
+     *
+     * @param unit The time unit of the result.
+     * @return elapsed time
+     */
+    public long getElapsedTime(TimeUnit unit) {
+        return unit.convert(this.elapsedNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the average number of generated key pairs per second of all completed or cancelled generations.
+     *
+     * @return generated key pairs per second or 0 if no generation has finished yet
+     */
+    public double getKeysPerSecond() {
+        long nanos = this.elapsedNanos.get();
+        return 0 == nanos ? 0 : this.generatedKeys.get() * 1e9 / nanos;
+    }
+
+    private Flowable<Account> generateMatching(long count, Predicate<String> addressFilter) {
+        Validate.isTrue(count >= 0, "Count must not be negative");
+        return Flowable.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean isDone = new AtomicBoolean();
+            return Flowable.range(0, this.parallelism)
+                    .flatMap(worker -> Flowable.<Account, Worker>generate(
+                            Worker::new,
+                            (state, emitter) -> {
+                                Account account = state.next(addressFilter, isDone);
+                                if (null == account) {
+                                    emitter.onComplete();
+                                } else {
+                                    emitter.onNext(account);
+                                }
+                            })
+                            .subscribeOn(this.scheduler), false, this.parallelism, WORKER_PREFETCH)
+                    .take(count)
+                    .doOnNext(account -> this.generatedAccounts.incrementAndGet())
+                    .doOnTerminate(() -> this.finish(isDone, start))
+                    .doOnCancel(() -> this.finish(isDone, start));
+        });
+    }
+
+    private void finish(AtomicBoolean isDone, long start) {
+        // metrics are updated before completion is signalled, so they include the generation once it is observed
+        if (!isDone.getAndSet(true)) {
+            this.elapsedNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private static String toBase32Pattern(String pattern) {
+        Validate.notNull(pattern, "Pattern must not be null");
+        String upperCasePattern = pattern.toUpperCase();
+        for (char c : upperCasePattern.toCharArray()) {
+            if (-1 == BASE32_ALPHABET.indexOf(c)) {
+                throw new IllegalArgumentException("addresses cannot contain " + c);
+            }
+        }
+
+        return upperCasePattern;
+    }
+
+    private class Worker {
+        private final SecureRandom random = new SecureRandom();
+        private final KeyGenerator keyGenerator = engine.createKeyGenerator();
+        private final byte[] seed = new byte[32];
+
+        private Account next(Predicate<String> addressFilter, AtomicBoolean isDone) {
+            // vanity searches can take long, so workers stop searching as soon as the generation is done
+            while (!isDone.get()) {
+                this.random.nextBytes(this.seed);
+                PrivateKey privateKey = new PrivateKey(ArrayUtils.toBigInteger(this.seed));
+                generatedKeys.incrementAndGet();
+                if (null == addressFilter) {
+                    return new Account(new KeyPair(privateKey, engine), networkType);
+                }
+
+                // only matching candidates are turned into accounts, which derives the public key a second time
+                PublicKey publicKey = this.keyGenerator.derivePublicKey(privateKey);
+                Address address = Address.createFromPublicKey(publicKey.getRaw(), networkType);
+                if (addressFilter.test(address.plain())) {
+                    return new Account(new KeyPair(privateKey, engine), networkType);
+                }
+            }
+
+            return null;
+        }
+    }
+}
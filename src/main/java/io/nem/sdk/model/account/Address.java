@@ -104,18 +104,30 @@ public class Address {
      * @return Address
      */
     public static Address createFromPublicKey(String publicKey, NetworkType networkType) {
-        return new Address(generateEncoded((byte) networkType.getValue(), publicKey), networkType);
-    }
-
-    private static String generateEncoded(final byte version, final String publicKey) {
-        // step 1: sha3 hash of the public key
         byte[] publicKeyBytes;
         try {
             publicKeyBytes = Hex.decodeHex(publicKey);
         } catch (DecoderException e) {
             throw new RuntimeException("public key is not valid");
         }
-        final byte[] sha3PublicKeyHash = Hashes.sha3_256(publicKeyBytes);
+
+        return createFromPublicKey(publicKeyBytes, networkType);
+    }
+
+    /**
+     * Create from raw public key.
+     *
+     * @param publicKey   Raw public key
+     * @param networkType NetworkType
+     * @return Address
+     */
+    static Address createFromPublicKey(byte[] publicKey, NetworkType networkType) {
+        return new Address(generateEncoded((byte) networkType.getValue(), publicKey), networkType);
+    }
+
+    private static String generateEncoded(final byte version, final byte[] publicKey) {
+        // step 1: sha3 hash of the public key
+        final byte[] sha3PublicKeyHash = Hashes.sha3_256(publicKey);
 
         // step 2: ripemd160 hash of (1)
         final byte[] ripemd160StepOneHash = Hashes.ripemd160(sha3PublicKeyHash);
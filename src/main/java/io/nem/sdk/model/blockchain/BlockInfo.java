@@ -17,6 +17,7 @@
 package io.nem.sdk.model.blockchain;
 
 import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.transaction.UInt64;
 
 import java.math.BigInteger;
 import java.util.Optional;
@@ -29,21 +30,25 @@ import java.util.Optional;
 public class BlockInfo {
     private final String hash;
     private final String generationHash;
-    private final Optional<BigInteger> totalFee;
+    private final Optional<UInt64> totalFee;
     private final Optional<Integer> numTransactions;
     private final String signature;
     private final PublicAccount signer;
     private final NetworkType networkType;
     private final Integer version;
     private final int type;
-    private final BigInteger height;
-    private final BigInteger timestamp;
-    private final BigInteger difficulty;
+    private final UInt64 height;
+    private final UInt64 timestamp;
+    private final UInt64 difficulty;
     private final String previousBlockHash;
     private final String blockTransactionsHash;
 
 
     public BlockInfo(String hash, String generationHash, Optional<BigInteger> totalFee, Optional<Integer> numTransactions, String signature, PublicAccount signer, NetworkType networkType, Integer version, int type, BigInteger height, BigInteger timestamp, BigInteger difficulty, String previousBlockHash, String blockTransactionsHash) {
+        this(hash, generationHash, totalFee.map(UInt64::valueOf), numTransactions, signature, signer, networkType, version, type, UInt64.valueOf(height), UInt64.valueOf(timestamp), UInt64.valueOf(difficulty), previousBlockHash, blockTransactionsHash);
+    }
+
+    public BlockInfo(String hash, String generationHash, Optional<UInt64> totalFee, Optional<Integer> numTransactions, String signature, PublicAccount signer, NetworkType networkType, Integer version, int type, UInt64 height, UInt64 timestamp, UInt64 difficulty, String previousBlockHash, String blockTransactionsHash) {
         this.hash = hash;
         this.generationHash = generationHash;
         this.totalFee = totalFee;
@@ -84,6 +89,15 @@ public class BlockInfo {
      * @return Optional<Integer>
      */
     public Optional<BigInteger> getTotalFee() {
+        return totalFee.map(UInt64::toBigInteger);
+    }
+
+    /**
+     * Returns total fee paid to the account harvesting the block as unsigned 64 bit integer.
+     *
+     * @return Optional<UInt64>
+     */
+    public Optional<UInt64> getTotalFeeAsUInt64() {
         return totalFee;
     }
 
@@ -148,6 +162,15 @@ public class BlockInfo {
      * @return BigInteger
      */
     public BigInteger getHeight() {
+        return height.toBigInteger();
+    }
+
+    /**
+     * Returns height of which the block was confirmed as unsigned 64 bit integer.
+     *
+     * @return UInt64
+     */
+    public UInt64 getHeightAsUInt64() {
         return height;
     }
 
@@ -157,6 +180,15 @@ public class BlockInfo {
      * @return BigInteger
      */
     public BigInteger getTimestamp() {
+        return timestamp.toBigInteger();
+    }
+
+    /**
+     * Returns the number of seconds elapsed since the creation of the nemesis blockchain as unsigned 64 bit integer.
+     *
+     * @return UInt64
+     */
+    public UInt64 getTimestampAsUInt64() {
         return timestamp;
     }
 
@@ -166,6 +198,15 @@ public class BlockInfo {
      * @return BigInteger
      */
     public BigInteger getDifficulty() {
+        return difficulty.toBigInteger();
+    }
+
+    /**
+     * Returns POI difficulty to harvest a block as unsigned 64 bit integer.
+     *
+     * @return UInt64
+     */
+    public UInt64 getDifficultyAsUInt64() {
         return difficulty;
     }
 
@@ -16,6 +16,8 @@
 
 package io.nem.sdk.model.mosaic;
 
+import io.nem.sdk.model.transaction.UInt64;
+
 import java.math.BigInteger;
 
 /**
@@ -26,9 +28,13 @@ import java.math.BigInteger;
  */
 public class Mosaic {
     private final MosaicId id;
-    private final BigInteger amount;
+    private final UInt64 amount;
 
     public Mosaic(MosaicId id, BigInteger amount) {
+        this(id, UInt64.valueOf(amount));
+    }
+
+    public Mosaic(MosaicId id, UInt64 amount) {
         this.id = id;
         this.amount = amount;
     }
@@ -50,6 +56,15 @@ public class Mosaic {
      * @return amount of mosaic
      */
     public BigInteger getAmount() {
+        return amount.toBigInteger();
+    }
+
+    /**
+     * Return mosaic amount as unsigned 64 bit integer.
+     *
+     * @return amount of mosaic
+     */
+    public UInt64 getAmountAsUInt64() {
         return amount;
     }
 }
@@ -17,6 +17,7 @@
 package io.nem.sdk.model.mosaic;
 
 import io.nem.sdk.model.transaction.IdGenerator;
+import io.nem.sdk.model.transaction.UInt64;
 
 import java.math.BigInteger;
 import java.util.Objects;
@@ -28,7 +29,7 @@ import java.util.Optional;
  * @since 1.0
  */
 public class MosaicId {
-    private final BigInteger id;
+    private final UInt64 id;
     private final Optional<String> fullName;
 
     /**
@@ -44,7 +45,7 @@ public class MosaicId {
         if (parts.length != 2) throw new IllegalIdentifierException(id + " is not valid");
         String namespaceName = parts[0];
         String mosaicName = parts[1];
-        this.id = IdGenerator.generateMosaicId(namespaceName, mosaicName);
+        this.id = UInt64.valueOf(IdGenerator.generateMosaicId(namespaceName, mosaicName));
         this.fullName = Optional.of(id);
     }
 
@@ -54,6 +55,15 @@ public class MosaicId {
      * @param id
      */
     public MosaicId(BigInteger id) {
+        this(UInt64.valueOf(id));
+    }
+
+    /**
+     * Create MosaicId from unsigned 64 bit integer id
+     *
+     * @param id
+     */
+    public MosaicId(UInt64 id) {
         this.id = id;
         this.fullName = Optional.empty();
     }
@@ -64,6 +74,16 @@ public class MosaicId {
      * @return mosaic biginteger id
      */
     public BigInteger getId() {
+        // ids with the highest bit set are represented as negative BigIntegers like the ones of the id generator
+        return id.toSignedBigInteger();
+    }
+
+    /**
+     * Returns mosaic id as unsigned 64 bit integer
+     *
+     * @return mosaic id
+     */
+    public UInt64 getIdAsUInt64() {
         return id;
     }
 
@@ -88,4 +108,9 @@ public class MosaicId {
         MosaicId mosaicId1 = (MosaicId) o;
         return Objects.equals(id, mosaicId1.id);
     }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
 }
@@ -17,6 +17,7 @@
 package io.nem.sdk.model.namespace;
 
 import io.nem.sdk.model.transaction.IdGenerator;
+import io.nem.sdk.model.transaction.UInt64;
 
 import java.math.BigInteger;
 import java.util.Objects;
@@ -28,7 +29,7 @@ import java.util.Optional;
  * @since 1.0
  */
 public class NamespaceId {
-    private final BigInteger id;
+    private final UInt64 id;
     private final Optional<String> fullName;
 
     /**
@@ -37,7 +38,7 @@ public class NamespaceId {
      * @param id
      */
     public NamespaceId(String id) {
-        this.id = IdGenerator.generateNamespaceId(id);
+        this.id = UInt64.valueOf(IdGenerator.generateNamespaceId(id));
         this.fullName = Optional.of(id);
     }
 
@@ -47,6 +48,15 @@ public class NamespaceId {
      * @param id
      */
     public NamespaceId(BigInteger id) {
+        this(UInt64.valueOf(id));
+    }
+
+    /**
+     * Create NamespaceId from unsigned 64 bit integer id
+     *
+     * @param id
+     */
+    public NamespaceId(UInt64 id) {
         this.id = id;
         this.fullName = Optional.empty();
     }
@@ -57,6 +67,16 @@ public class NamespaceId {
      * @return namespace biginteger id
      */
     public BigInteger getId() {
+        // ids with the highest bit set are represented as negative BigIntegers like the ones of the id generator
+        return id.toSignedBigInteger();
+    }
+
+    /**
+     * Returns namespace id as unsigned 64 bit integer
+     *
+     * @return namespace id
+     */
+    public UInt64 getIdAsUInt64() {
         return id;
     }
 
@@ -81,4 +101,9 @@ public class NamespaceId {
         NamespaceId namespaceId1 = (NamespaceId) o;
         return Objects.equals(id, namespaceId1.id);
     }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
 }
@@ -17,18 +17,21 @@
 package io.nem.sdk.model.transaction;
 
 import com.google.flatbuffers.FlatBufferBuilder;
+import io.nem.core.crypto.KeyPair;
 import io.nem.core.crypto.Signer;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.PublicAccount;
 import io.nem.sdk.model.blockchain.NetworkType;
-import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.Validate;
-import org.bouncycastle.util.encoders.Hex;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * The aggregate innerTransactions contain multiple innerTransactions that can be initiated by different accounts.
@@ -36,6 +39,7 @@ import java.util.Optional;
  * @since 1.0
  */
 public class AggregateTransaction extends Transaction {
+    private static final int COSIGNATURE_SIZE = 32 + 64;
     private final List<Transaction> innerTransactions;
     private final List<AggregateTransactionCosignature> cosignatures;
     private final Schema schema = new AggregateTransactionSchema();
@@ -48,7 +52,7 @@ public class AggregateTransaction extends Transaction {
         this(networkType, transactionType, version, deadline, fee, innerTransactions, cosignatures, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    private AggregateTransaction(NetworkType networkType, TransactionType transactionType, Integer version, Deadline deadline, BigInteger fee, List<Transaction> innerTransactions, List<AggregateTransactionCosignature> cosignatures, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
+    AggregateTransaction(NetworkType networkType, TransactionType transactionType, Integer version, Deadline deadline, BigInteger fee, List<Transaction> innerTransactions, List<AggregateTransactionCosignature> cosignatures, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
         super(transactionType, networkType, version, deadline, fee, signature, signer, transactionInfo);
         Validate.notNull(innerTransactions, "InnerTransactions must not be null");
         Validate.notNull(cosignatures, "Cosignatures must not be null");
@@ -94,16 +98,65 @@ public class AggregateTransaction extends Transaction {
      */
     public List<AggregateTransactionCosignature> getCosignatures() { return cosignatures; }
 
+    @Override
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new AggregateTransaction(getNetworkType(), getType(), getVersion(), getDeadline(), getFee(), innerTransactions, cosignatures, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
     byte[] generateBytes() {
+        byte[] bytes = super.generateBytes();
+
+        // the size depends on the inner transactions, so it is only known after they are written
+        int transactionsSize = innerTransactions.isEmpty() ? 0 : bytes.length - 120 - 4;
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 120 + 4 + transactionsSize);
+        return bytes;
+    }
+
+    @Override
+    int getPayloadSize() {
+        int size = 120 + 4;
+        for (Transaction innerTransaction : innerTransactions) {
+            size += innerTransaction.getPayloadSize() - 64 - 16;
+        }
+
+        return size;
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        if (innerTransactions.isEmpty()) {
+            writer.writeInt(0);
+            return;
+        }
+
+        int transactionsSizePosition = writer.reserveInt();
+        for (Transaction innerTransaction : innerTransactions) {
+            innerTransaction.writeAggregateTransactionBytes(writer);
+        }
+
+        writer.putInt(transactionsSizePosition, writer.position() - transactionsSizePosition - 4);
+    }
+
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
-        byte[] transactionsBytes = new byte[0];
+        List<byte[]> innerTransactionsBytes = new ArrayList<>(innerTransactions.size());
+        int transactionsLength = 0;
         for (Transaction innerTransaction : innerTransactions) {
-            byte[] transactionBytes = innerTransaction.toAggregateTransactionBytes();
-            transactionsBytes = ArrayUtils.addAll(transactionsBytes, transactionBytes);
+            byte[] transactionBytes = innerTransaction.toAggregateTransactionFlatBufferBytes();
+            innerTransactionsBytes.add(transactionBytes);
+            transactionsLength += transactionBytes.length;
+        }
+
+        byte[] transactionsBytes = new byte[transactionsLength];
+        int transactionsOffset = 0;
+        for (byte[] transactionBytes : innerTransactionsBytes) {
+            System.arraycopy(transactionBytes, 0, transactionsBytes, transactionsOffset, transactionBytes.length);
+            transactionsOffset += transactionBytes.length;
         }
 
         // Create Vectors
@@ -132,30 +185,39 @@ public class AggregateTransaction extends Transaction {
 
     /**
      * Sign transaction with cosignatories creating a new SignedTransaction.
+     * The cosignatures are computed in parallel on the common fork join pool.
      *
      * @param initiatorAccount Initiator account
      * @param cosignatories    The list of accounts that will cosign the transaction
      * @return {@link SignedTransaction}
      */
     public SignedTransaction signTransactionWithCosigners(Account initiatorAccount, List<Account> cosignatories) {
-        SignedTransaction signedTransaction = this.signWith(initiatorAccount);
-        String payload = signedTransaction.getPayload();
-
-        for (Account cosignatory : cosignatories) {
-            Signer signer = new Signer(cosignatory.getKeyPair());
-            byte[] bytes = Hex.decode(signedTransaction.getHash());
-            byte[] signatureBytes = signer.sign(bytes).getBytes();
-            payload += cosignatory.getPublicKey() + Hex.toHexString(signatureBytes);
-        }
-
-        byte[] payloadBytes = Hex.decode(payload);
+        return this.signTransactionWithCosigners(initiatorAccount, cosignatories, ForkJoinPool.commonPool());
+    }
 
-        byte[] size = BigInteger.valueOf(payloadBytes.length).toByteArray();
-        ArrayUtils.reverse(size);
+    /**
+     * Sign transaction with cosignatories creating a new SignedTransaction.
+     * The payload is allocated once with room for all cosignatures, which are computed in parallel on the given pool
+     * and written straight into it.
+     *
+     * @param initiatorAccount Initiator account
+     * @param cosignatories    The list of accounts that will cosign the transaction
+     * @param pool             The pool computing the cosignatures.
+     * @return {@link SignedTransaction}
+     */
+    public SignedTransaction signTransactionWithCosigners(Account initiatorAccount, List<Account> cosignatories, ForkJoinPool pool) {
+        Validate.notNull(pool, "Pool must not be null");
+        Signer initiatorSigner = new Signer(initiatorAccount.getKeyPair());
+        int cosignaturesLength = COSIGNATURE_SIZE * cosignatories.size();
+        byte[] payload = this.signPayload(initiatorSigner::sign, initiatorAccount.getKeyPair().getPublicKey(), cosignaturesLength);
+        int cosignaturesOffset = payload.length - cosignaturesLength;
+        byte[] hash = createTransactionHashBytes(payload, cosignaturesOffset);
 
-        System.arraycopy(size, 0, payloadBytes, 0, size.length);
+        if (!cosignatories.isEmpty()) {
+            pool.invoke(new CosignTask(cosignatories, hash, payload, cosignaturesOffset, 0, cosignatories.size()));
+        }
 
-        return new SignedTransaction(Hex.toHexString(payloadBytes), signedTransaction.getHash(), getType());
+        return new SignedTransaction(payload, hash, getType());
     }
 
     /**
@@ -167,4 +229,40 @@ public class AggregateTransaction extends Transaction {
     public boolean signedByAccount(PublicAccount publicAccount) {
         return this.getSigner().get().equals(publicAccount) || this.getCosignatures().stream().anyMatch(o -> o.getSigner().equals(publicAccount));
     }
-}
\ No newline at end of file
+
+    private static class CosignTask extends RecursiveAction {
+        private final List<Account> cosignatories;
+        private final byte[] hash;
+        private final byte[] payload;
+        private final int cosignaturesOffset;
+        private final int from;
+        private final int to;
+
+        private CosignTask(List<Account> cosignatories, byte[] hash, byte[] payload, int cosignaturesOffset, int from, int to) {
+            this.cosignatories = cosignatories;
+            this.hash = hash;
+            this.payload = payload;
+            this.cosignaturesOffset = cosignaturesOffset;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (1 == this.to - this.from) {
+                // every task writes its own slot of the payload
+                KeyPair keyPair = this.cosignatories.get(this.from).getKeyPair();
+                byte[] signature = new Signer(keyPair).sign(this.hash).getBytes();
+                int offset = this.cosignaturesOffset + this.from * COSIGNATURE_SIZE;
+                System.arraycopy(keyPair.getPublicKey().getRaw(), 0, this.payload, offset, 32);
+                System.arraycopy(signature, 0, this.payload, offset + 32, 64);
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new CosignTask(this.cosignatories, this.hash, this.payload, this.cosignaturesOffset, this.from, middle),
+                    new CosignTask(this.cosignatories, this.hash, this.payload, this.cosignaturesOffset, middle, this.to));
+        }
+    }
+}
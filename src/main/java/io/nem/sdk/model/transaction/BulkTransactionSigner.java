@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.core.crypto.PreparedSigner;
+import io.nem.sdk.model.account.Account;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Signs large batches of transactions in parallel.
+ * <br>
+ * The transactions are split into chunks which are signed on a fork join pool. The private key of each signing
+ * account is prepared only once per batch and the signed transactions are returned in the order of the transactions.
+ * Instances are thread safe and keep throughput metrics over all signed batches.
+ *
+ * @since 1.0
+ */
+public class BulkTransactionSigner {
+    /**
+     * The default number of transactions that are signed sequentially by a single task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final AtomicLong signedTransactions = new AtomicLong();
+    private final AtomicLong signedBatches = new AtomicLong();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    /**
+     * Creates a bulk signer that uses the common fork join pool.
+     */
+    public BulkTransactionSigner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a bulk signer.
+     *
+     * @param pool The pool the transactions are signed on.
+     */
+    public BulkTransactionSigner(ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a bulk signer.
+     *
+     * @param pool      The pool the transactions are signed on.
+     * @param chunkSize The number of transactions that are signed sequentially by a single task.
+     */
+    public BulkTransactionSigner(ForkJoinPool pool, int chunkSize) {
+        Validate.notNull(pool, "Pool must not be null");
+        Validate.isTrue(chunkSize > 0, "Chunk size must be positive");
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Signs all transactions with the same account.
+     *
+     * @param transactions The transactions to sign.
+     * @param account      The account that signs the transactions.
+     * @return the signed transactions in the order of the transactions
+     */
+    public List<SignedTransaction> signAll(List<? extends Transaction> transactions, Account account) {
+        Validate.notNull(account, "Account must not be null");
+        return this.signAll(transactions, transaction -> account);
+    }
+
+    /**
+     * Signs all transactions with the accounts chosen by a key selector.
+     *
+     * @param transactions The transactions to sign.
+     * @param keySelector  The function returning the account that signs a transaction. It is called concurrently.
+     * @return the signed transactions in the order of the transactions
+     */
+    public List<SignedTransaction> signAll(List<? extends Transaction> transactions, Function<Transaction, Account> keySelector) {
+        Validate.notNull(transactions, "Transactions must not be null");
+        Validate.notNull(keySelector, "Key selector must not be null");
+
+        long start = System.nanoTime();
+        List<? extends Transaction> indexedTransactions = transactions instanceof RandomAccess
+                ? transactions
+                : new ArrayList<>(transactions);
+        SignedTransaction[] signedTransactions = new SignedTransaction[indexedTransactions.size()];
+        Map<String, PreparedSigner> signers = new ConcurrentHashMap<>();
+        try {
+            this.pool.invoke(new SignTask(indexedTransactions, keySelector, signers, signedTransactions, 0, signedTransactions.length));
+        } finally {
+            signers.values().forEach(PreparedSigner::close);
+        }
+
+        this.signedTransactions.addAndGet(signedTransactions.length);
+        this.signedBatches.incrementAndGet();
+        this.elapsedNanos.addAndGet(System.nanoTime() - start);
+        return Collections.unmodifiableList(Arrays.asList(signedTransactions));
+    }
+
+    /**
+     * Returns the number of signed transactions.
+     *
+     * @return number of signed transactions
+     */
+    public long getSignedTransactions() {
+        return this.signedTransactions.get();
+    }
+
+    /**
+     * Returns the number of signed batches.
+     *
+     * @return number of signed batches
+     */
+    public long getSignedBatches() {
+        return this.signedBatches.get();
+    }
+
+    /**
+     * Returns the total time spent signing batches.
+     *
+     * @param unit The time unit of the result.
+     * @return elapsed time
+     */
+    public long getElapsedTime(TimeUnit unit) {
+        return unit.convert(this.elapsedNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the average number of signed transactions per second of all signed batches.
+     *
+     * @return signed transactions per second or 0 if nothing was signed yet
+     */
+    public double getTransactionsPerSecond() {
+        long nanos = this.elapsedNanos.get();
+        return 0 == nanos ? 0 : this.signedTransactions.get() * 1e9 / nanos;
+    }
+
+    /**
+     * Resets the throughput metrics.
+     */
+    public void resetMetrics() {
+        this.signedTransactions.set(0);
+        this.signedBatches.set(0);
+        this.elapsedNanos.set(0);
+    }
+
+    private class SignTask extends RecursiveAction {
+        private final List<? extends Transaction> transactions;
+        private final Function<Transaction, Account> keySelector;
+        private final Map<String, PreparedSigner> signers;
+        private final SignedTransaction[] signedTransactions;
+        private final int from;
+        private final int to;
+
+        private SignTask(List<? extends Transaction> transactions, Function<Transaction, Account> keySelector, Map<String, PreparedSigner> signers, SignedTransaction[] signedTransactions, int from, int to) {
+            this.transactions = transactions;
+            this.keySelector = keySelector;
+            this.signers = signers;
+            this.signedTransactions = signedTransactions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= chunkSize) {
+                for (int i = this.from; i < this.to; ++i) {
+                    Transaction transaction = this.transactions.get(i);
+                    Account account = this.keySelector.apply(transaction);
+                    Validate.notNull(account, "Key selector must return an account");
+                    PreparedSigner signer = this.signers.computeIfAbsent(account.getPublicKey(), key -> account.createPreparedSigner());
+                    this.signedTransactions[i] = transaction.signWith(signer);
+                }
+
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new SignTask(this.transactions, this.keySelector, this.signers, this.signedTransactions, this.from, middle),
+                    new SignTask(this.transactions, this.keySelector, this.signers, this.signedTransactions, middle, this.to));
+        }
+    }
+}
@@ -55,6 +55,15 @@ public class Deadline {
         instant = Instant.ofEpochMilli(input.longValue());
     }
 
+    /**
+     * Constructor
+     *
+     * @param input Deadline in milliseconds elapsed since the creation of the nemesis block
+     */
+    public Deadline(UInt64 input) {
+        instant = TIMESTAMP_NEMSIS_BLOCK.plusMillis(input.longValue());
+    }
+
     /**
      * Create deadline model.
      *
@@ -66,6 +75,16 @@ public class Deadline {
         return new Deadline(units, chronoUnit);
     }
 
+    /**
+     * Create deadline model from the value of a serialized or fetched transaction.
+     *
+     * @param millis Milliseconds elapsed since the creation of the nemesis block
+     * @return {@link Deadline}
+     */
+    public static Deadline createFromNemesisMilliseconds(BigInteger millis) {
+        return new Deadline(UInt64.valueOf(millis));
+    }
+
     /**
      * Returns number of seconds elapsed since the creation of the nemesis block.
      *
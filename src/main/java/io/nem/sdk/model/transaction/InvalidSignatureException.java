@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+/**
+ * InvalidSignatureException is thrown when the signature or a cosignature of a transaction is not valid.
+ *
+ * @since 1.0
+ */
+public class InvalidSignatureException extends RuntimeException {
+    private final transient Transaction transaction;
+
+    public InvalidSignatureException(Transaction transaction) {
+        super("transaction " + transaction.getTransactionInfo().flatMap(TransactionInfo::getHash).orElse("without hash") + " has an invalid signature");
+        this.transaction = transaction;
+    }
+
+    /**
+     * Returns the transaction with the invalid signature.
+     *
+     * @return transaction
+     */
+    public Transaction getTransaction() {
+        return transaction;
+    }
+}
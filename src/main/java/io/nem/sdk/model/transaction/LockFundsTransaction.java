@@ -46,7 +46,7 @@ public class LockFundsTransaction extends Transaction {
         this(networkType, version, deadline, fee, mosaic, duration, signedTransaction, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    private LockFundsTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, Mosaic mosaic, BigInteger duration, SignedTransaction signedTransaction, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
+    LockFundsTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, Mosaic mosaic, BigInteger duration, SignedTransaction signedTransaction, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
         super(TransactionType.LOCK, networkType, version, deadline, fee, signature, signer, transactionInfo);
         Validate.notNull(mosaic, "Mosaic must not be null");
         Validate.notNull(duration, "Duration must not be null");
@@ -94,10 +94,28 @@ public class LockFundsTransaction extends Transaction {
     public SignedTransaction getSignedTransaction() { return signedTransaction; }
 
     @Override
-    byte[] generateBytes() {
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new LockFundsTransaction(getNetworkType(), getVersion(), getDeadline(), getFee(), mosaic, duration, signedTransaction, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
+    int getPayloadSize() {
+        return 176;
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        writer.writeUInt64(mosaic.getId().getIdAsUInt64());
+        writer.writeUInt64(mosaic.getAmountAsUInt64());
+        writer.writeUInt64(duration);
+        writer.writeBytes(Hex.decode(signedTransaction.getHash()));
+    }
+
+    @Override
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
         // Create Vectors
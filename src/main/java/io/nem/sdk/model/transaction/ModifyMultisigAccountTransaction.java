@@ -46,7 +46,7 @@ public class ModifyMultisigAccountTransaction extends Transaction {
         this(networkType, version, deadline, fee, minApprovalDelta, minRemovalDelta, modifications, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    private ModifyMultisigAccountTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, int minApprovalDelta, int minRemovalDelta, List<MultisigCosignatoryModification> modifications, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
+    ModifyMultisigAccountTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, int minApprovalDelta, int minRemovalDelta, List<MultisigCosignatoryModification> modifications, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
         super(TransactionType.MODIFY_MULTISIG_ACCOUNT, networkType, version, deadline, fee, signature, signer, transactionInfo);
         Validate.notNull(modifications, "Modifications must not be null");
         this.minApprovalDelta = minApprovalDelta;
@@ -98,10 +98,31 @@ public class ModifyMultisigAccountTransaction extends Transaction {
         return modifications;
     }
 
-    byte[] generateBytes() {
+    @Override
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new ModifyMultisigAccountTransaction(getNetworkType(), getVersion(), getDeadline(), getFee(), minApprovalDelta, minRemovalDelta, modifications, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
+    int getPayloadSize() {
+        return 123 + (33 * modifications.size());
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        writer.writeByte(minRemovalDelta);
+        writer.writeByte(minApprovalDelta);
+        writer.writeByte(modifications.size());
+        for (MultisigCosignatoryModification modification : modifications) {
+            writer.writeByte(modification.getType().getValue());
+            writer.writeBytes(HexEncoder.getBytes(modification.getCosignatoryPublicAccount().getPublicKey()));
+        }
+    }
+
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
         // Create Modifications
@@ -26,6 +26,7 @@ import io.nem.sdk.model.namespace.NamespaceId;
 import org.apache.commons.lang.Validate;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -50,7 +51,7 @@ public class MosaicDefinitionTransaction extends Transaction {
         this(networkType, version, deadline, fee, mosaicName, namespaceId, mosaicId, mosaicProperties, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    private MosaicDefinitionTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, String mosaicName, NamespaceId namespaceId, MosaicId mosaicId, MosaicProperties mosaicProperties, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
+    MosaicDefinitionTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, String mosaicName, NamespaceId namespaceId, MosaicId mosaicId, MosaicProperties mosaicProperties, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
         super(TransactionType.MOSAIC_DEFINITION, networkType, version, deadline, fee, signature, signer, transactionInfo);
         Validate.notNull(mosaicName, "MosaicName must not be null");
         Validate.notNull(namespaceId, "NamespaceId must not be null");
@@ -121,10 +122,47 @@ public class MosaicDefinitionTransaction extends Transaction {
         return mosaicProperties;
     }
 
-    byte[] generateBytes() {
+    @Override
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new MosaicDefinitionTransaction(getNetworkType(), getVersion(), getDeadline(), getFee(), mosaicName, namespaceId, mosaicId, mosaicProperties, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
+    int getPayloadSize() {
+        return 149 + mosaicName.length();
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        int flags = 0;
+
+        if (mosaicProperties.isSupplyMutable()) {
+            flags += 1;
+        }
+
+        if (mosaicProperties.isTransferable()) {
+            flags += 2;
+        }
+
+        if (mosaicProperties.isLevyMutable()) {
+            flags += 4;
+        }
+
+        writer.writeUInt64(namespaceId.getIdAsUInt64());
+        writer.writeUInt64(mosaicId.getIdAsUInt64());
+        writer.writeByte(mosaicName.length());
+        writer.writeByte(1); // Number of optional properties
+        writer.writeByte(flags);
+        writer.writeByte(mosaicProperties.getDivisibility());
+        writer.writeBytes(mosaicName.getBytes(StandardCharsets.UTF_8));
+        writer.writeByte(2); // Indicates the duration property
+        writer.writeUInt64(mosaicProperties.getDuration());
+    }
+
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
         int flags = 0;
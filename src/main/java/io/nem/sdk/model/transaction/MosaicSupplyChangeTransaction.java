@@ -47,7 +47,7 @@ public class MosaicSupplyChangeTransaction extends Transaction {
         this(networkType, version, deadline, fee, mosaicId, mosaicSupplyType, delta, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    private MosaicSupplyChangeTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, MosaicId mosaicId, MosaicSupplyType mosaicSupplyType, BigInteger delta, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
+    MosaicSupplyChangeTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, MosaicId mosaicId, MosaicSupplyType mosaicSupplyType, BigInteger delta, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
         super(TransactionType.MOSAIC_SUPPLY_CHANGE, networkType, version, deadline, fee, signature, signer, transactionInfo);
         Validate.notNull(mosaicId, "MosaicId must not be null");
         Validate.notNull(mosaicSupplyType, "MosaicSupplyType must not be null");
@@ -98,10 +98,27 @@ public class MosaicSupplyChangeTransaction extends Transaction {
         return delta;
     }
 
-    byte[] generateBytes() {
+    @Override
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new MosaicSupplyChangeTransaction(getNetworkType(), getVersion(), getDeadline(), getFee(), mosaicId, mosaicSupplyType, delta, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
+    int getPayloadSize() {
+        return 137;
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        writer.writeUInt64(mosaicId.getIdAsUInt64());
+        writer.writeByte(mosaicSupplyType.getValue());
+        writer.writeUInt64(delta);
+    }
+
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
         // Create Vectors
@@ -24,6 +24,7 @@ import io.nem.sdk.model.namespace.NamespaceType;
 import org.apache.commons.lang3.Validate;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -48,7 +49,7 @@ public class RegisterNamespaceTransaction extends Transaction {
         this(networkType, version, deadline, fee, namespaceName, namespaceId, namespaceType, duration, parentId, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    private RegisterNamespaceTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, String namespaceName, NamespaceId namespaceId, NamespaceType namespaceType, Optional<BigInteger> duration, Optional<NamespaceId> parentId, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
+    RegisterNamespaceTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, String namespaceName, NamespaceId namespaceId, NamespaceType namespaceType, Optional<BigInteger> duration, Optional<NamespaceId> parentId, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
         super(TransactionType.REGISTER_NAMESPACE, networkType, version, deadline, fee, signature, signer, transactionInfo);
         Validate.notNull(namespaceName, "NamespaceName must not be null");
         Validate.notNull(namespaceType, "NamespaceType must not be null");
@@ -137,10 +138,34 @@ public class RegisterNamespaceTransaction extends Transaction {
         return namespaceType;
     }
 
-    byte[] generateBytes() {
+    @Override
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new RegisterNamespaceTransaction(getNetworkType(), getVersion(), getDeadline(), getFee(), namespaceName, namespaceId, namespaceType, duration, parentId, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
+    int getPayloadSize() {
+        return 138 + namespaceName.length();
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        writer.writeByte(getNamespaceType().getValue());
+        if (getNamespaceType() == NamespaceType.RootNamespace) {
+            writer.writeUInt64(duration.get());
+        } else {
+            writer.writeUInt64(parentId.get().getIdAsUInt64());
+        }
+
+        writer.writeUInt64(namespaceId.getIdAsUInt64());
+        writer.writeByte(namespaceName.length());
+        writer.writeBytes(namespaceName.getBytes(StandardCharsets.UTF_8));
+    }
+
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
         // Create Vectors
@@ -115,10 +115,30 @@ public class SecretLockTransaction extends Transaction {
     public Address getRecipient() { return recipient; }
 
     @Override
-    byte[] generateBytes() {
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new SecretLockTransaction(getNetworkType(), getVersion(), getDeadline(), getFee(), mosaic, duration, hashType, secret, recipient, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
+    int getPayloadSize() {
+        return 234;
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        writer.writeUInt64(mosaic.getId().getIdAsUInt64());
+        writer.writeUInt64(mosaic.getAmountAsUInt64());
+        writer.writeUInt64(duration);
+        writer.writeByte(hashType.getValue());
+        writer.writeBytes(Hex.decode(secret));
+        writer.writeBytes(new Base32().decode(getRecipient().plain().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
         // Create Vectors
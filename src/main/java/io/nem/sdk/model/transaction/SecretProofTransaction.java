@@ -89,10 +89,29 @@ public class SecretProofTransaction extends Transaction {
 
 
     @Override
-    byte[] generateBytes() {
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new SecretProofTransaction(getNetworkType(), getVersion(), getDeadline(), getFee(), hashType, secret, proof, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
+    int getPayloadSize() {
+        return 187 + proof.length() / 2;
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        byte[] proofBytes = Hex.decode(proof);
+        writer.writeByte(hashType.getValue());
+        writer.writeBytes(Hex.decode(secret));
+        writer.writeShort(proofBytes.length);
+        writer.writeBytes(proofBytes);
+    }
+
+    @Override
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
         // Create Vectors
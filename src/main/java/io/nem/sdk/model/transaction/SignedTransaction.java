@@ -16,30 +16,94 @@
 
 package io.nem.sdk.model.transaction;
 
+import io.nem.core.utils.HexEncoder;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.util.Arrays;
+
 /**
  * The signed transaction object is used to transfer the transaction data and the signature to NIS
  * in order to initiate and broadcast a transaction.
+ * <br>
+ * Signed transactions created by signing keep the raw payload and hash bytes; their hex strings are only built
+ * when they are requested for the first time.
  *
  * @since 1.0
  */
 public class SignedTransaction {
-    private final String payload;
-    private final String hash;
+    private final byte[] payloadBytes;
+    private final byte[] hashBytes;
     private final TransactionType type;
+    private String payload;
+    private String hash;
 
     public SignedTransaction(String payload, String hash, TransactionType type) {
+        this.payloadBytes = null;
+        this.hashBytes = null;
         this.payload = payload;
         this.hash = hash;
         this.type = type;
     }
 
+    /**
+     * Creates a signed transaction from the raw payload and hash. The arrays are not copied.
+     *
+     * @param payload The serialized transaction.
+     * @param hash    The 32 byte transaction hash.
+     * @param type    The transaction type.
+     */
+    SignedTransaction(byte[] payload, byte[] hash, TransactionType type) {
+        this.payloadBytes = payload;
+        this.hashBytes = hash;
+        this.type = type;
+    }
+
     /**
      * Returns transaction serialized data.
      *
      * @return transaction serialized data
      */
     public String getPayload() {
-        return payload;
+        // racing threads compute equal strings, so the field does not need to be volatile
+        String result = this.payload;
+        if (null == result) {
+            result = HexEncoder.getUpperCaseString(this.payloadBytes);
+            this.payload = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a copy of the transaction serialized data.
+     *
+     * @return transaction serialized data
+     */
+    public byte[] getPayloadBytes() {
+        return null == this.payloadBytes ? Hex.decode(this.payload) : Arrays.copyOf(this.payloadBytes, this.payloadBytes.length);
+    }
+
+    /**
+     * Returns the number of bytes of the transaction serialized data.
+     *
+     * @return payload size
+     */
+    public int getPayloadSize() {
+        return null == this.payloadBytes ? this.payload.length() / 2 : this.payloadBytes.length;
+    }
+
+    /**
+     * Writes the transaction serialized data as upper case hex characters without creating intermediate strings.
+     *
+     * @param destination The destination array (must have room for 2 * getPayloadSize() bytes after offset).
+     * @param offset      The offset of the first hex character in the destination array.
+     */
+    public void writePayloadHex(byte[] destination, int offset) {
+        if (null == this.payloadBytes) {
+            HexEncoder.encodeUpperCase(Hex.decode(this.payload), destination, offset);
+        } else {
+            HexEncoder.encodeUpperCase(this.payloadBytes, destination, offset);
+        }
     }
 
     /**
@@ -48,7 +112,22 @@ public class SignedTransaction {
      * @return transaction hash
      */
     public String getHash() {
-        return hash;
+        String result = this.hash;
+        if (null == result) {
+            result = HexEncoder.getUpperCaseString(this.hashBytes);
+            this.hash = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a copy of the transaction hash.
+     *
+     * @return transaction hash
+     */
+    public byte[] getHashBytes() {
+        return null == this.hashBytes ? Hex.decode(this.hash) : Arrays.copyOf(this.hashBytes, this.hashBytes.length);
     }
 
     /**
@@ -16,9 +16,12 @@
 
 package io.nem.sdk.model.transaction;
 
-import io.nem.core.crypto.Hashes;
+import io.nem.core.crypto.Hasher;
+import io.nem.core.crypto.PreparedSigner;
+import io.nem.core.crypto.PublicKey;
 import io.nem.core.crypto.Signature;
 import io.nem.core.crypto.Signer;
+import io.nem.core.utils.HexEncoder;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.PublicAccount;
 import io.nem.sdk.model.blockchain.NetworkType;
@@ -27,7 +30,12 @@ import org.apache.commons.lang3.Validate;
 import org.bouncycastle.util.encoders.Hex;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * An abstract transaction class that serves as the base class of all NEM transactions.
@@ -41,7 +49,7 @@ public abstract class Transaction {
     private final Deadline deadline;
     private final BigInteger fee;
     private final Optional<String> signature;
-    private Optional<PublicAccount> signer;
+    private final Optional<PublicAccount> signer;
     private final Optional<TransactionInfo> transactionInfo;
 
     /**
@@ -80,13 +88,36 @@ public abstract class Transaction {
      * @return generated transaction hash.
      */
     public static String createTransactionHash(String transactionPayload) {
-        byte[] bytes = Hex.decode(transactionPayload);
-        byte[] signingBytes = new byte[bytes.length - 36];
-        System.arraycopy(bytes, 4, signingBytes, 0, 32);
-        System.arraycopy(bytes, 68, signingBytes, 32, bytes.length - 68);
+        return createTransactionHash(Hex.decode(transactionPayload));
+    }
 
-        byte[] result = Hashes.sha3_256(signingBytes);
-        return Hex.toHexString(result).toUpperCase();
+    /**
+     * Generates hash for a serialized transaction payload without copying the hashed parts.
+     *
+     * @param payload Transaction payload
+     * @return generated transaction hash.
+     */
+    public static String createTransactionHash(byte[] payload) {
+        return HexEncoder.getUpperCaseString(createTransactionHashBytes(payload, payload.length));
+    }
+
+    /**
+     * Generates the hashes of serialized transaction payloads in parallel.
+     *
+     * @param payloads Transaction payloads
+     * @return generated transaction hashes in the order of the payloads.
+     */
+    public static List<String> createTransactionHashes(List<byte[]> payloads) {
+        return payloads.parallelStream()
+                .map(Transaction::createTransactionHash)
+                .collect(Collectors.toList());
+    }
+
+    static byte[] createTransactionHashBytes(byte[] payload, int length) {
+        return Hasher.sha3_256()
+                .update(payload, 4, 32) // R part of the signature
+                .update(payload, 68, length - 68) // Signer and following data
+                .digest();
     }
 
     /**
@@ -156,7 +187,49 @@ public abstract class Transaction {
      */
     public Optional<TransactionInfo> getTransactionInfo() { return transactionInfo; }
 
-    abstract byte[] generateBytes();
+    /**
+     * Serializes the transaction with an empty signature and signer.
+     *
+     * @return the serialized transaction
+     */
+    byte[] generateBytes() {
+        int size = this.getPayloadSize();
+        TransactionWriter writer = new TransactionWriter(size);
+        writer.writeInt(size);
+        writer.writeZeros(64 + 32); // Signature and signer
+        this.writeVersionAndType(writer);
+        writer.writeUInt64(this.fee);
+        writer.writeUInt64(BigInteger.valueOf(this.deadline.getInstant()));
+        this.writeBody(writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Serializes the transaction with an empty signature and signer through FlatBuffers and the schema.
+     * This is the reference implementation of {@link #generateBytes()} and is only used to compare both.
+     *
+     * @return the serialized transaction
+     */
+    abstract byte[] generateFlatBufferBytes();
+
+    /**
+     * Returns the size written into the serialized transaction.
+     *
+     * @return the size of the serialized transaction
+     */
+    abstract int getPayloadSize();
+
+    /**
+     * Writes the fields following the deadline.
+     *
+     * @param writer The writer.
+     */
+    abstract void writeBody(TransactionWriter writer);
+
+    private void writeVersionAndType(TransactionWriter writer) {
+        writer.writeShort((this.networkType.getValue() << 8) | this.version);
+        writer.writeShort(this.type.getValue());
+    }
 
     /**
      * Serialize and sign transaction creating a new SignedTransaction.
@@ -167,19 +240,58 @@ public abstract class Transaction {
     public SignedTransaction signWith(Account account) {
 
         Signer signer = new Signer(account.getKeyPair());
-        byte[] bytes = this.generateBytes();
+        return this.signWith(signer::sign, account.getKeyPair().getPublicKey());
+    }
+
+    /**
+     * Serialize and sign transaction creating a new SignedTransaction.
+     * The prepared signer is not closed.
+     *
+     * @param signer The prepared signer of the account that signs the transaction.
+     * @return {@link SignedTransaction}
+     */
+    public SignedTransaction signWith(PreparedSigner signer) {
+        return this.signWith(signer::sign, signer.getPublicKey());
+    }
+
+    private SignedTransaction signWith(Function<byte[], Signature> signFunction, PublicKey signerPublicKey) {
+        byte[] payload = this.signPayload(signFunction, signerPublicKey, 0);
+        return new SignedTransaction(payload, Transaction.createTransactionHashBytes(payload, payload.length), type);
+    }
+
+    /**
+     * Serializes and signs the transaction into a payload that has room for trailing bytes after the transaction.
+     * The size field of the payload is the payload length, so it already includes the trailing bytes.
+     *
+     * @param signFunction    The function signing the serialized transaction.
+     * @param signerPublicKey The public key of the signer.
+     * @param trailingLength  The number of zero bytes following the transaction.
+     * @return the signed payload
+     */
+    byte[] signPayload(Function<byte[], Signature> signFunction, PublicKey signerPublicKey, int trailingLength) {
+        return signPayload(this.generateBytes(), signFunction, signerPublicKey, trailingLength);
+    }
+
+    /**
+     * Signs serialized transaction bytes into a payload that has room for trailing bytes after the transaction.
+     *
+     * @param bytes           The serialized transaction with empty signature and signer.
+     * @param signFunction    The function signing the serialized transaction.
+     * @param signerPublicKey The public key of the signer.
+     * @param trailingLength  The number of zero bytes following the transaction.
+     * @return the signed payload
+     */
+    static byte[] signPayload(byte[] bytes, Function<byte[], Signature> signFunction, PublicKey signerPublicKey, int trailingLength) {
         byte[] signingBytes = new byte[bytes.length - 100];
         System.arraycopy(bytes, 100, signingBytes, 0, bytes.length - 100);
-        Signature signature = signer.sign(signingBytes);
+        Signature signature = signFunction.apply(signingBytes);
 
-        byte[] payload = new byte[bytes.length];
-        System.arraycopy(bytes, 0, payload, 0, 4); // Size
+        byte[] payload = new byte[bytes.length + trailingLength];
+        ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN).putInt(0, payload.length); // Size
         System.arraycopy(signature.getBytes(), 0, payload, 4, signature.getBytes().length); // Signature
-        System.arraycopy(account.getKeyPair().getPublicKey().getRaw(), 0, payload, 64 + 4, account.getKeyPair().getPublicKey().getRaw().length); // Signer
+        System.arraycopy(signerPublicKey.getRaw(), 0, payload, 64 + 4, signerPublicKey.getRaw().length); // Signer
         System.arraycopy(bytes, 100, payload, 100, bytes.length - 100);
-
-        String hash = Transaction.createTransactionHash(Hex.toHexString(payload));
-        return new SignedTransaction(Hex.toHexString(payload).toUpperCase(), hash, type);
+        return payload;
     }
 
     /**
@@ -188,8 +300,32 @@ public abstract class Transaction {
      * @return transaction with signer serialized to be part of an aggregate transaction
      */
     byte[] toAggregateTransactionBytes() {
+        TransactionWriter writer = new TransactionWriter(this.getPayloadSize() - 64 - 16);
+        this.writeAggregateTransactionBytes(writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Writes the transaction in the format of transactions included in an aggregate transaction.
+     *
+     * @param writer The writer.
+     */
+    void writeAggregateTransactionBytes(TransactionWriter writer) {
+        int sizePosition = writer.reserveInt();
+        writer.writeBytes(Hex.decode(this.signer.get().getPublicKey()));
+        this.writeVersionAndType(writer);
+        this.writeBody(writer);
+        writer.putInt(sizePosition, writer.position() - sizePosition);
+    }
+
+    /**
+     * Reference implementation of {@link #toAggregateTransactionBytes()} based on {@link #generateFlatBufferBytes()}.
+     *
+     * @return transaction with signer serialized to be part of an aggregate transaction
+     */
+    byte[] toAggregateTransactionFlatBufferBytes() {
         byte[] signerBytes = Hex.decode(this.signer.get().getPublicKey());
-        byte[] bytes = this.generateBytes();
+        byte[] bytes = this.generateFlatBufferBytes();
         byte[] resultBytes = new byte[bytes.length - 64 - 16];
 
         System.arraycopy(signerBytes, 0, resultBytes, 4, 32); // Copy signer
@@ -206,22 +342,31 @@ public abstract class Transaction {
 
     /**
      * Convert an aggregate transaction to an inner transaction including transaction signer.
+     * This transaction is not modified, so it can be shared between threads and converted for several signers.
      *
      * @param signer Transaction signer.
-     * @return instance of Transaction with signer
+     * @return copy of the transaction with signer
      */
     public Transaction toAggregate(PublicAccount signer) {
-        this.signer = Optional.of(signer);
-        return this;
+        Validate.notNull(signer, "Signer must not be null");
+        return this.copyWithSigner(signer);
     }
 
+    /**
+     * Creates a copy of this transaction with a different signer.
+     *
+     * @param signer Transaction signer.
+     * @return copy of the transaction
+     */
+    abstract Transaction copyWithSigner(PublicAccount signer);
+
     /**
      * Returns if a transaction is pending to be included in a block.
      *
      * @return if a transaction is pending to be included in a block
      */
     public boolean isUnconfirmed() {
-        return this.transactionInfo.isPresent() && this.transactionInfo.get().getHeight().equals(BigInteger.valueOf(0)) && this.transactionInfo.get().getHash().equals(this.transactionInfo.get().getMerkleComponentHash());
+        return this.transactionInfo.isPresent() && this.transactionInfo.get().getHeightAsUInt64().equals(UInt64.ZERO) && this.transactionInfo.get().getHash().equals(this.transactionInfo.get().getMerkleComponentHash());
     }
 
     /**
@@ -230,7 +375,7 @@ public abstract class Transaction {
      * @return if a transaction is included in a block
      */
     public boolean isConfirmed() {
-        return this.transactionInfo.isPresent() && this.transactionInfo.get().getHeight().intValue() > 0;
+        return this.transactionInfo.isPresent() && !this.transactionInfo.get().getHeightAsUInt64().equals(UInt64.ZERO);
     }
 
     /**
@@ -239,7 +384,7 @@ public abstract class Transaction {
      * @return if a transaction has missing signatures
      */
     public boolean hasMissingSignatures() {
-        return this.transactionInfo.isPresent() && this.transactionInfo.get().getHeight().equals(BigInteger.valueOf(0)) && !this.transactionInfo.get().getHash().equals(this.transactionInfo.get().getMerkleComponentHash());
+        return this.transactionInfo.isPresent() && this.transactionInfo.get().getHeightAsUInt64().equals(UInt64.ZERO) && !this.transactionInfo.get().getHash().equals(this.transactionInfo.get().getMerkleComponentHash());
     }
 
     /**
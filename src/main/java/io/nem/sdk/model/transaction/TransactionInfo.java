@@ -27,7 +27,7 @@ import java.util.Optional;
  * @since 1.0
  */
 public class TransactionInfo {
-    private final BigInteger height;
+    private final UInt64 height;
     private final Optional<Integer> index;
     private final Optional<String> id;
     private final Optional<String> hash;
@@ -35,7 +35,7 @@ public class TransactionInfo {
     private final Optional<String> aggregateHash;
     private final Optional<String> aggregateId;
 
-    private TransactionInfo(BigInteger height, Optional<Integer> index, Optional<String> id, Optional<String> hash, Optional<String> merkleComponentHash, Optional<String> aggregateHash, Optional<String> aggregateId) {
+    private TransactionInfo(UInt64 height, Optional<Integer> index, Optional<String> id, Optional<String> hash, Optional<String> merkleComponentHash, Optional<String> aggregateHash, Optional<String> aggregateId) {
         Validate.notNull(height, "Height must not be null");
         this.height = height;
 
@@ -58,6 +58,20 @@ public class TransactionInfo {
      * @return instance of TransactionInfo
      */
     public static TransactionInfo createAggregate(BigInteger height, Integer index, String id, String aggregateHash, String aggregateId) {
+        return createAggregate(toHeight(height), index, id, aggregateHash, aggregateId);
+    }
+
+    /**
+     * Create transaction info object for aggregate transaction inner transaction.
+     *
+     * @param height        Block height in which the transaction was included.
+     * @param index         The transaction index.
+     * @param id            transaction id.
+     * @param aggregateHash The hash of the aggregate transaction.
+     * @param aggregateId   The id of the aggregate transaction.
+     * @return instance of TransactionInfo
+     */
+    public static TransactionInfo createAggregate(UInt64 height, Integer index, String id, String aggregateHash, String aggregateId) {
         return new TransactionInfo(height, Optional.of(index), Optional.of(id), Optional.empty(), Optional.empty(), Optional.of(aggregateHash), Optional.of(aggregateId));
     }
 
@@ -72,6 +86,20 @@ public class TransactionInfo {
      * @return instance of TransactionInfo
      */
     public static TransactionInfo create(BigInteger height, Integer index, String id, String hash, String merkleComponentHash) {
+        return create(toHeight(height), index, id, hash, merkleComponentHash);
+    }
+
+    /**
+     * Create transaction info object for a transaction.
+     *
+     * @param height              Block height in which the transaction was included.
+     * @param index               The transaction index.
+     * @param id                  transaction id.
+     * @param hash                The transaction hash.
+     * @param merkleComponentHash The transaction merkle component hash.
+     * @return instance of TransactionInfo
+     */
+    public static TransactionInfo create(UInt64 height, Integer index, String id, String hash, String merkleComponentHash) {
         return new TransactionInfo(height, Optional.of(index), Optional.of(id), Optional.of(hash), Optional.of(merkleComponentHash), Optional.empty(), Optional.empty());
     }
 
@@ -84,15 +112,41 @@ public class TransactionInfo {
      * @return instance of TransactionInfo
      */
     public static TransactionInfo create(BigInteger height, String hash, String merkleComponentHash) {
+        return create(toHeight(height), hash, merkleComponentHash);
+    }
+
+    /**
+     * Create transaction info retrieved by listener.
+     *
+     * @param height              Block height in which the transaction was included.
+     * @param hash                The transaction hash
+     * @param merkleComponentHash The transaction merkle component hash.
+     * @return instance of TransactionInfo
+     */
+    public static TransactionInfo create(UInt64 height, String hash, String merkleComponentHash) {
         return new TransactionInfo(height, Optional.empty(), Optional.empty(), Optional.of(hash), Optional.of(merkleComponentHash), Optional.empty(), Optional.empty());
     }
 
+    private static UInt64 toHeight(BigInteger height) {
+        Validate.notNull(height, "Height must not be null");
+        return UInt64.valueOf(height);
+    }
+
     /**
      * Returns block height in which the transaction was included.
      *
      * @return block height
      */
     public BigInteger getHeight() {
+        return height.toBigInteger();
+    }
+
+    /**
+     * Returns block height in which the transaction was included as unsigned 64 bit integer.
+     *
+     * @return block height
+     */
+    public UInt64 getHeightAsUInt64() {
         return height;
     }
 
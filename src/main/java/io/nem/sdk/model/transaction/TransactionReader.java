@@ -0,0 +1,323 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicProperties;
+import io.nem.sdk.model.mosaic.MosaicSupplyType;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.namespace.NamespaceType;
+import org.apache.commons.lang3.Validate;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads transactions from the catapult binary layout written by {@link Transaction#signWith(io.nem.sdk.model.account.Account)}.
+ * <br>
+ * The fields are read straight from the payload, without converting it to hex or JSON first. Payloads of unsigned
+ * transactions, which have an empty signature and signer, are read as unsigned transactions. Aggregate payloads are
+ * read with their inner transactions and the cosignatures appended by
+ * {@link AggregateTransaction#signTransactionWithCosigners(io.nem.sdk.model.account.Account, List)}.
+ * Inner transactions get the deadline and fee of their aggregate, like transactions fetched from the REST api.
+ *
+ * @since 1.0
+ */
+public final class TransactionReader {
+    private static final int HEADER_SIZE = 4 + 64 + 32 + 2 + 2 + 8 + 8;
+    private static final int INNER_HEADER_SIZE = 4 + 32 + 2 + 2;
+    private static final int COSIGNATURE_SIZE = 32 + 64;
+    private static final int ADDRESS_SIZE = 25;
+    private static final int SECRET_SIZE = 64;
+
+    private TransactionReader() {
+    }
+
+    /**
+     * Reads a transaction from a payload.
+     *
+     * @param payload The payload.
+     * @return the transaction
+     * @throws IllegalArgumentException if the payload is not a valid transaction.
+     */
+    public static Transaction read(byte[] payload) {
+        Validate.notNull(payload, "Payload must not be null");
+        return read(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Reads a transaction from the remaining bytes of a buffer, starting at its position.
+     * The position of the buffer is not changed.
+     *
+     * @param payload The buffer holding the payload.
+     * @return the transaction
+     * @throws IllegalArgumentException if the payload is not a valid transaction.
+     */
+    public static Transaction read(ByteBuffer payload) {
+        Validate.notNull(payload, "Payload must not be null");
+        ByteBuffer buffer = payload.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            return readTransaction(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("payload is truncated", e);
+        }
+    }
+
+    private static Transaction readTransaction(ByteBuffer buffer) {
+        int start = buffer.position();
+        int size = buffer.getInt();
+
+        // the size of an empty aggregate counts bytes that are not written, so the buffer limit is kept then
+        if (size < buffer.remaining() + 4) {
+            buffer.limit(start + size);
+        }
+
+        byte[] signature = readBytes(buffer, 64);
+        byte[] signer = readBytes(buffer, 32);
+        int version = buffer.getShort() & 0xFFFF;
+        TransactionType type = TransactionType.rawValueOf(buffer.getShort() & 0xFFFF);
+        BigInteger fee = readUInt64(buffer);
+        Deadline deadline = Deadline.createFromNemesisMilliseconds(readUInt64(buffer));
+
+        NetworkType networkType = NetworkType.rawValueOf(version >> 8);
+        Header header = isEmpty(signature) && isEmpty(signer)
+                ? new Header(networkType, version & 0xFF, deadline, fee, Optional.empty(), Optional.empty())
+                : new Header(networkType, version & 0xFF, deadline, fee, Optional.of(toHex(signature)), Optional.of(new PublicAccount(toHex(signer), networkType)));
+
+        if (TransactionType.AGGREGATE_COMPLETE == type || TransactionType.AGGREGATE_BONDED == type) {
+            return readAggregate(buffer, type, header);
+        }
+
+        return readBody(buffer, type, header);
+    }
+
+    private static AggregateTransaction readAggregate(ByteBuffer buffer, TransactionType type, Header header) {
+        // the transactions size of an empty aggregate is written as a single zero byte, followed by the cosignatures;
+        // a four byte transactions size starting with a zero byte can not leave a multiple of the cosignature size
+        boolean isEmpty = 0 == buffer.get(buffer.position()) && 0 == (buffer.remaining() - 1) % COSIGNATURE_SIZE;
+        int transactionsSize = isEmpty ? buffer.get() : buffer.getInt();
+        int transactionsEnd = buffer.position() + transactionsSize;
+
+        List<Transaction> innerTransactions = new ArrayList<>();
+        ByteBuffer innerBuffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        while (innerBuffer.position() < transactionsEnd) {
+            int innerStart = innerBuffer.position();
+            int innerEnd = innerStart + innerBuffer.getInt();
+            innerBuffer.limit(innerEnd);
+
+            PublicAccount signer = new PublicAccount(toHex(readBytes(innerBuffer, 32)), header.networkType);
+            int version = innerBuffer.getShort() & 0xFFFF;
+            TransactionType innerType = TransactionType.rawValueOf(innerBuffer.getShort() & 0xFFFF);
+            Header innerHeader = new Header(NetworkType.rawValueOf(version >> 8), version & 0xFF, header.deadline, header.fee, Optional.empty(), Optional.of(signer));
+            innerTransactions.add(readBody(innerBuffer, innerType, innerHeader));
+
+            innerBuffer.limit(transactionsEnd);
+            innerBuffer.position(innerEnd);
+        }
+
+        buffer.position(transactionsEnd);
+        List<AggregateTransactionCosignature> cosignatures = new ArrayList<>();
+        while (buffer.remaining() >= COSIGNATURE_SIZE) {
+            String cosigner = toHex(readBytes(buffer, 32));
+            String cosignature = toHex(readBytes(buffer, 64));
+            cosignatures.add(new AggregateTransactionCosignature(cosignature, new PublicAccount(cosigner, header.networkType)));
+        }
+
+        return new AggregateTransaction(header.networkType, type, header.version, header.deadline, header.fee, innerTransactions, cosignatures, header.signature, header.signer, Optional.empty());
+    }
+
+    private static Transaction readBody(ByteBuffer buffer, TransactionType type, Header header) {
+        switch (type) {
+            case TRANSFER:
+                return readTransfer(buffer, header);
+            case REGISTER_NAMESPACE:
+                return readRegisterNamespace(buffer, header);
+            case MOSAIC_DEFINITION:
+                return readMosaicDefinition(buffer, header);
+            case MOSAIC_SUPPLY_CHANGE:
+                return readMosaicSupplyChange(buffer, header);
+            case MODIFY_MULTISIG_ACCOUNT:
+                return readModifyMultisigAccount(buffer, header);
+            case LOCK:
+                return readLockFunds(buffer, header);
+            case SECRET_LOCK:
+                return readSecretLock(buffer, header);
+            case SECRET_PROOF:
+                return readSecretProof(buffer, header);
+            default:
+                throw new IllegalArgumentException(type + " cannot be an inner transaction");
+        }
+    }
+
+    private static TransferTransaction readTransfer(ByteBuffer buffer, Header header) {
+        Address recipient = Address.createFromEncoded(toHex(readBytes(buffer, ADDRESS_SIZE)));
+        int messageSize = buffer.getShort() & 0xFFFF;
+        int numMosaics = buffer.get() & 0xFF;
+        int messageType = buffer.get();
+        if (0 != messageType) {
+            throw new IllegalArgumentException("message type " + messageType + " is not supported");
+        }
+
+        Message message = new PlainMessage(new String(readBytes(buffer, messageSize - 1), StandardCharsets.UTF_8));
+        List<Mosaic> mosaics = new ArrayList<>(numMosaics);
+        for (int i = 0; i < numMosaics; ++i) {
+            mosaics.add(new Mosaic(new MosaicId(readUInt64Value(buffer)), readUInt64Value(buffer)));
+        }
+
+        return new TransferTransaction(header.networkType, header.version, header.deadline, header.fee, recipient, mosaics, message, header.signature, header.signer, Optional.empty());
+    }
+
+    private static RegisterNamespaceTransaction readRegisterNamespace(ByteBuffer buffer, Header header) {
+        NamespaceType namespaceType = NamespaceType.rawValueOf(buffer.get());
+        UInt64 durationParentId = readUInt64Value(buffer);
+        NamespaceId namespaceId = new NamespaceId(readUInt64Value(buffer));
+        String namespaceName = new String(readBytes(buffer, buffer.get() & 0xFF), StandardCharsets.UTF_8);
+
+        return new RegisterNamespaceTransaction(header.networkType, header.version, header.deadline, header.fee, namespaceName, namespaceId, namespaceType,
+                NamespaceType.RootNamespace == namespaceType ? Optional.of(durationParentId.toSignedBigInteger()) : Optional.empty(),
+                NamespaceType.SubNamespace == namespaceType ? Optional.of(new NamespaceId(durationParentId)) : Optional.empty(),
+                header.signature, header.signer, Optional.empty());
+    }
+
+    private static MosaicDefinitionTransaction readMosaicDefinition(ByteBuffer buffer, Header header) {
+        NamespaceId namespaceId = new NamespaceId(readUInt64Value(buffer));
+        MosaicId mosaicId = new MosaicId(readUInt64Value(buffer));
+        int mosaicNameLength = buffer.get() & 0xFF;
+        buffer.get(); // Number of optional properties
+        int flags = buffer.get();
+        int divisibility = buffer.get();
+        String mosaicName = new String(readBytes(buffer, mosaicNameLength), StandardCharsets.UTF_8);
+        buffer.get(); // Indicates the duration property
+        BigInteger duration = readUInt64(buffer);
+
+        MosaicProperties mosaicProperties = new MosaicProperties(0 != (flags & 1), 0 != (flags & 2), 0 != (flags & 4), divisibility, duration);
+        return new MosaicDefinitionTransaction(header.networkType, header.version, header.deadline, header.fee, mosaicName, namespaceId, mosaicId, mosaicProperties, header.signature, header.signer, Optional.empty());
+    }
+
+    private static MosaicSupplyChangeTransaction readMosaicSupplyChange(ByteBuffer buffer, Header header) {
+        MosaicId mosaicId = new MosaicId(readUInt64Value(buffer));
+        MosaicSupplyType mosaicSupplyType = MosaicSupplyType.rawValueOf(buffer.get());
+        BigInteger delta = readUInt64(buffer);
+
+        return new MosaicSupplyChangeTransaction(header.networkType, header.version, header.deadline, header.fee, mosaicId, mosaicSupplyType, delta, header.signature, header.signer, Optional.empty());
+    }
+
+    private static ModifyMultisigAccountTransaction readModifyMultisigAccount(ByteBuffer buffer, Header header) {
+        int minRemovalDelta = buffer.get();
+        int minApprovalDelta = buffer.get();
+        int numModifications = buffer.get() & 0xFF;
+        List<MultisigCosignatoryModification> modifications = new ArrayList<>(numModifications);
+        for (int i = 0; i < numModifications; ++i) {
+            MultisigCosignatoryModificationType modificationType = MultisigCosignatoryModificationType.rawValueOf(buffer.get());
+            PublicAccount cosignatory = new PublicAccount(toHex(readBytes(buffer, 32)), header.networkType);
+            modifications.add(new MultisigCosignatoryModification(modificationType, cosignatory));
+        }
+
+        return new ModifyMultisigAccountTransaction(header.networkType, header.version, header.deadline, header.fee, minApprovalDelta, minRemovalDelta, modifications, header.signature, header.signer, Optional.empty());
+    }
+
+    private static LockFundsTransaction readLockFunds(ByteBuffer buffer, Header header) {
+        Mosaic mosaic = new Mosaic(new MosaicId(readUInt64Value(buffer)), readUInt64Value(buffer));
+        BigInteger duration = readUInt64(buffer);
+        SignedTransaction signedTransaction = new SignedTransaction("", toHex(readBytes(buffer, 32)), TransactionType.AGGREGATE_BONDED);
+
+        return new LockFundsTransaction(header.networkType, header.version, header.deadline, header.fee, mosaic, duration, signedTransaction, header.signature, header.signer, Optional.empty());
+    }
+
+    private static SecretLockTransaction readSecretLock(ByteBuffer buffer, Header header) {
+        Mosaic mosaic = new Mosaic(new MosaicId(readUInt64Value(buffer)), readUInt64Value(buffer));
+        BigInteger duration = readUInt64(buffer);
+        HashType hashType = HashType.rawValueOf(buffer.get());
+        String secret = toHex(readBytes(buffer, buffer.remaining() - ADDRESS_SIZE));
+        Address recipient = Address.createFromEncoded(toHex(readBytes(buffer, ADDRESS_SIZE)));
+
+        return new SecretLockTransaction(header.networkType, header.version, header.deadline, header.fee, mosaic, duration, hashType, secret, recipient, header.signature, header.signer, Optional.empty());
+    }
+
+    private static SecretProofTransaction readSecretProof(ByteBuffer buffer, Header header) {
+        HashType hashType = HashType.rawValueOf(buffer.get());
+        String secret = toHex(readBytes(buffer, SECRET_SIZE));
+
+        // an empty proof has its size written as a single zero byte
+        int proofSize = 1 == buffer.remaining() ? buffer.get() : buffer.getShort() & 0xFFFF;
+        String proof = toHex(readBytes(buffer, proofSize));
+
+        return new SecretProofTransaction(header.networkType, header.version, header.deadline, header.fee, hashType, secret, proof, header.signature, header.signer, Optional.empty());
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer, int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("payload is malformed");
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static BigInteger readUInt64(ByteBuffer buffer) {
+        // signed like UInt64.fromIntArray, which is how ids are represented in the model
+        return BigInteger.valueOf(buffer.getLong());
+    }
+
+    private static UInt64 readUInt64Value(ByteBuffer buffer) {
+        return UInt64.valueOf(buffer.getLong());
+    }
+
+    private static boolean isEmpty(byte[] bytes) {
+        for (byte b : bytes) {
+            if (0 != b) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String toHex(byte[] bytes) {
+        return Hex.toHexString(bytes).toUpperCase();
+    }
+
+    private static class Header {
+        private final NetworkType networkType;
+        private final int version;
+        private final Deadline deadline;
+        private final BigInteger fee;
+        private final Optional<String> signature;
+        private final Optional<PublicAccount> signer;
+
+        private Header(NetworkType networkType, int version, Deadline deadline, BigInteger fee, Optional<String> signature, Optional<PublicAccount> signer) {
+            this.networkType = networkType;
+            this.version = version;
+            this.deadline = deadline;
+            this.fee = fee;
+            this.signature = signature;
+            this.signer = signer;
+        }
+    }
+}
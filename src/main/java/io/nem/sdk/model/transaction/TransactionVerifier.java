@@ -0,0 +1,370 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.PublicKey;
+import io.nem.core.crypto.Signature;
+import io.nem.core.crypto.Signer;
+import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.apache.commons.lang3.Validate;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verifies the signatures of fetched transactions locally and in parallel.
+ * <br>
+ * Each transaction is serialized again to recompute its signing bytes and its hash. The signature of the signer and,
+ * for aggregate transactions, the cosignatures over the hash are checked in batches on a fork join pool, so a node
+ * cannot make up transactions that the accounts did not sign. The hash reported by the node is checked as well.
+ * Inner transactions of aggregate transactions are covered by the signatures of their aggregate.
+ * <br>
+ * A batch decides the cofactored signature equation (see {@link io.nem.core.crypto.DsaSigner#verifyBatch}), so a
+ * signature with a small order component that a single verification rejects can pass within a valid batch; it still
+ * needs the private key of the signer. A batch that fails is verified one by one with the single verification.
+ * <br>
+ * The repositories return the transactions as they are received. Verification is added with the transformers, e.g.
+ * {@code accountHttp.transactions(publicAccount).compose(verifier.verifyingAll())}.
+ * Instances are thread safe and keep throughput metrics over all verified batches.
+ *
+ * @since 1.0
+ */
+public class TransactionVerifier {
+    /**
+     * The default number of transactions that are verified as a single batch by a single task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final Scheduler scheduler;
+    private final int chunkSize;
+    private final AtomicLong verifiedTransactions = new AtomicLong();
+    private final AtomicLong verifiedSignatures = new AtomicLong();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    /**
+     * Creates a verifier that uses the common fork join pool.
+     */
+    public TransactionVerifier() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a verifier.
+     *
+     * @param pool The pool the transactions are verified on.
+     */
+    public TransactionVerifier(ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a verifier.
+     *
+     * @param pool      The pool the transactions are verified on.
+     * @param chunkSize The number of transactions that are verified as a single batch by a single task.
+     */
+    public TransactionVerifier(ForkJoinPool pool, int chunkSize) {
+        Validate.notNull(pool, "Pool must not be null");
+        Validate.isTrue(chunkSize > 0, "Chunk size must be positive");
+        this.pool = pool;
+        this.scheduler = Schedulers.from(pool);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Checks if the signature and all cosignatures of a transaction are valid.
+     *
+     * @param transaction The transaction.
+     * @return true if the transaction is signed by its signer and cosigners
+     */
+    public boolean isValid(Transaction transaction) {
+        Validate.notNull(transaction, "Transaction must not be null");
+        return -1 == this.indexOfInvalid(Collections.singletonList(transaction));
+    }
+
+    /**
+     * Verifies the signatures and all cosignatures of transactions.
+     *
+     * @param transactions The transactions.
+     * @return the index of the first transaction with an invalid signature or -1 if all transactions are valid
+     */
+    public int indexOfInvalid(List<? extends Transaction> transactions) {
+        Validate.notNull(transactions, "Transactions must not be null");
+
+        long start = System.nanoTime();
+        List<? extends Transaction> indexedTransactions = transactions instanceof RandomAccess
+                ? transactions
+                : new ArrayList<>(transactions);
+        AtomicInteger firstInvalid = new AtomicInteger(Integer.MAX_VALUE);
+        this.pool.invoke(new VerifyTask(indexedTransactions, firstInvalid, 0, indexedTransactions.size()));
+
+        this.verifiedTransactions.addAndGet(indexedTransactions.size());
+        this.elapsedNanos.addAndGet(System.nanoTime() - start);
+        return Integer.MAX_VALUE == firstInvalid.get() ? -1 : firstInvalid.get();
+    }
+
+    /**
+     * Verifies the signature and all cosignatures of a transaction.
+     *
+     * @param transaction The transaction.
+     * @param <T>         The transaction type.
+     * @return the transaction
+     * @throws InvalidSignatureException if a signature is not valid.
+     */
+    public <T extends Transaction> T verify(T transaction) {
+        return this.verifyAll(Collections.singletonList(transaction)).get(0);
+    }
+
+    /**
+     * Verifies the signatures and all cosignatures of transactions.
+     *
+     * @param transactions The transactions.
+     * @param <T>          The transaction type.
+     * @return the transactions
+     * @throws InvalidSignatureException for the first transaction with an invalid signature.
+     */
+    public <T extends Transaction> List<T> verifyAll(List<T> transactions) {
+        int index = this.indexOfInvalid(transactions);
+        if (-1 != index) {
+            throw new InvalidSignatureException(transactions.get(index));
+        }
+
+        return transactions;
+    }
+
+    /**
+     * Returns a transformer that verifies each transaction of an observable on the pool of the verifier.
+     * The observable fails with an {@link InvalidSignatureException} when a signature is not valid.
+     *
+     * @param <T> The transaction type.
+     * @return transformer for observables of transactions
+     */
+    public <T extends Transaction> ObservableTransformer<T, T> verifying() {
+        return upstream -> upstream.concatMap(transaction -> Observable
+                .fromCallable(() -> this.verify(transaction))
+                .subscribeOn(this.scheduler));
+    }
+
+    /**
+     * Returns a transformer that verifies each list of transactions of an observable on the pool of the verifier.
+     * The observable fails with an {@link InvalidSignatureException} when a signature is not valid.
+     *
+     * @param <T> The transaction type.
+     * @return transformer for observables of transaction lists
+     */
+    public <T extends Transaction> ObservableTransformer<List<T>, List<T>> verifyingAll() {
+        return upstream -> upstream.concatMap(transactions -> Observable
+                .fromCallable(() -> this.verifyAll(transactions))
+                .subscribeOn(this.scheduler));
+    }
+
+    /**
+     * Returns the number of verified transactions.
+     *
+     * @return number of verified transactions
+     */
+    public long getVerifiedTransactions() {
+        return this.verifiedTransactions.get();
+    }
+
+    /**
+     * Returns the number of verified signatures including cosignatures.
+     *
+     * @return number of verified signatures
+     */
+    public long getVerifiedSignatures() {
+        return this.verifiedSignatures.get();
+    }
+
+    /**
+     * Returns the total time spent verifying transactions.
+     *
+     * @param unit The time unit of the result.
+     * @return elapsed time
+     */
+    public long getElapsedTime(TimeUnit unit) {
+        return unit.convert(this.elapsedNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the average number of verified signatures per second.
+     *
+     * @return verified signatures per second or 0 if nothing was verified yet
+     */
+    public double getSignaturesPerSecond() {
+        long nanos = this.elapsedNanos.get();
+        return 0 == nanos ? 0 : this.verifiedSignatures.get() * 1e9 / nanos;
+    }
+
+    /**
+     * Resets the throughput metrics.
+     */
+    public void resetMetrics() {
+        this.verifiedTransactions.set(0);
+        this.verifiedSignatures.set(0);
+        this.elapsedNanos.set(0);
+    }
+
+    private class VerifyTask extends RecursiveAction {
+        private final List<? extends Transaction> transactions;
+        private final AtomicInteger firstInvalid;
+        private final int from;
+        private final int to;
+
+        private VerifyTask(List<? extends Transaction> transactions, AtomicInteger firstInvalid, int from, int to) {
+            this.transactions = transactions;
+            this.firstInvalid = firstInvalid;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            // chunks after an invalid transaction cannot change the result
+            if (this.from >= this.to || this.firstInvalid.get() < this.from) {
+                return;
+            }
+
+            if (this.to - this.from <= chunkSize) {
+                int invalid = this.indexOfInvalidInChunk();
+                if (-1 != invalid) {
+                    this.firstInvalid.accumulateAndGet(invalid, Math::min);
+                }
+
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new VerifyTask(this.transactions, this.firstInvalid, this.from, middle),
+                    new VerifyTask(this.transactions, this.firstInvalid, middle, this.to));
+        }
+
+        private int indexOfInvalidInChunk() {
+            SignatureBatch batch = new SignatureBatch();
+            int malformed = -1;
+            for (int i = this.from; i < this.to; ++i) {
+                if (!batch.add(this.transactions.get(i), i)) {
+                    malformed = i;
+                    break;
+                }
+            }
+
+            int invalid = batch.indexOfInvalid();
+            return -1 == invalid ? malformed : invalid;
+        }
+    }
+
+    private class SignatureBatch {
+        private final List<byte[]> data = new ArrayList<>();
+        private final List<PublicKey> publicKeys = new ArrayList<>();
+        private final List<Signature> signatures = new ArrayList<>();
+        private final List<Integer> owners = new ArrayList<>();
+
+        private boolean add(Transaction transaction, int index) {
+            if (!transaction.getSignature().isPresent() || !transaction.getSigner().isPresent()) {
+                return false;
+            }
+
+            List<byte[]> data = new ArrayList<>();
+            List<PublicKey> publicKeys = new ArrayList<>();
+            List<Signature> signatures = new ArrayList<>();
+            try {
+                PublicKey signer = PublicKey.fromHexString(transaction.getSigner().get().getPublicKey());
+                Signature signature = new Signature(Hex.decode(transaction.getSignature().get()));
+                byte[] bytes = transaction.generateBytes();
+                data.add(Arrays.copyOfRange(bytes, 100, bytes.length));
+                publicKeys.add(signer);
+                signatures.add(signature);
+
+                System.arraycopy(signature.getBytes(), 0, bytes, 4, 64);
+                System.arraycopy(signer.getRaw(), 0, bytes, 68, 32);
+                String hash = Transaction.createTransactionHash(bytes);
+                Optional<String> reportedHash = transaction.getTransactionInfo().flatMap(TransactionInfo::getHash);
+                if (reportedHash.isPresent() && !reportedHash.get().equalsIgnoreCase(hash)) {
+                    return false;
+                }
+
+                if (transaction instanceof AggregateTransaction) {
+                    byte[] hashBytes = Hex.decode(hash);
+                    for (AggregateTransactionCosignature cosignature : ((AggregateTransaction) transaction).getCosignatures()) {
+                        data.add(hashBytes);
+                        publicKeys.add(PublicKey.fromHexString(cosignature.getSigner().getPublicKey()));
+                        signatures.add(new Signature(Hex.decode(cosignature.getSignature())));
+                    }
+                }
+            } catch (RuntimeException e) {
+                // malformed keys or signatures cannot be valid
+                return false;
+            }
+
+            this.data.addAll(data);
+            this.publicKeys.addAll(publicKeys);
+            this.signatures.addAll(signatures);
+            this.owners.addAll(Collections.nCopies(data.size(), index));
+            return true;
+        }
+
+        private int indexOfInvalid() {
+            if (this.data.isEmpty()) {
+                return -1;
+            }
+
+            verifiedSignatures.addAndGet(this.data.size());
+            int invalid;
+            try {
+                Signer signer = new Signer(new KeyPair(this.publicKeys.get(0)));
+                invalid = signer.verifyBatch(this.data, this.publicKeys, this.signatures);
+            } catch (RuntimeException e) {
+                // a public key that is not a point on the curve fails the whole batch, so find it one by one
+                invalid = this.indexOfFirstUnverifiable();
+            }
+
+            return -1 == invalid ? -1 : this.owners.get(invalid);
+        }
+
+        private int indexOfFirstUnverifiable() {
+            for (int i = 0; i < this.data.size(); ++i) {
+                try {
+                    Signer signer = new Signer(new KeyPair(this.publicKeys.get(i)));
+                    if (!signer.verify(this.data.get(i), this.signatures.get(i))) {
+                        return i;
+                    }
+                } catch (RuntimeException e) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Writes the little endian catapult binary layout of transactions in a single pass.
+ * <br>
+ * The buffer is allocated with the expected size of the transaction, so it normally never grows and its array is
+ * returned without copying. Scalars equal to zero are written as a single zero byte, because FlatBuffers omits
+ * default values and the schema serializer of the FlatBuffers path writes one byte for omitted fields.
+ */
+final class TransactionWriter {
+    private ByteBuffer buffer;
+
+    /**
+     * Creates a writer.
+     *
+     * @param expectedSize The expected number of bytes.
+     */
+    TransactionWriter(int expectedSize) {
+        this.buffer = ByteBuffer.allocate(Math.max(expectedSize, 0)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    void writeByte(int value) {
+        this.ensureCapacity(1);
+        this.buffer.put((byte) value);
+    }
+
+    void writeShort(int value) {
+        if (0 == (short) value) {
+            this.writeByte(0);
+            return;
+        }
+
+        this.ensureCapacity(2);
+        this.buffer.putShort((short) value);
+    }
+
+    void writeInt(int value) {
+        if (0 == value) {
+            this.writeByte(0);
+            return;
+        }
+
+        this.ensureCapacity(4);
+        this.buffer.putInt(value);
+    }
+
+    /**
+     * Writes a 64 bit unsigned integer, encoded like {@link UInt64#fromBigInteger(BigInteger)}.
+     *
+     * @param value The value.
+     */
+    void writeUInt64(BigInteger value) {
+        this.ensureCapacity(8);
+        this.buffer.putLong(value.longValue());
+    }
+
+    void writeUInt64(UInt64 value) {
+        this.ensureCapacity(8);
+        this.buffer.putLong(value.longValue());
+    }
+
+    void writeBytes(byte[] bytes) {
+        this.ensureCapacity(bytes.length);
+        this.buffer.put(bytes);
+    }
+
+    void writeZeros(int length) {
+        this.ensureCapacity(length);
+        this.buffer.position(this.buffer.position() + length);
+    }
+
+    /**
+     * Reserves four bytes for an int that is only known after the following bytes are written.
+     *
+     * @return the position of the reserved int
+     */
+    int reserveInt() {
+        int position = this.buffer.position();
+        this.writeZeros(4);
+        return position;
+    }
+
+    /**
+     * Writes all four bytes of an int at a position that was written before.
+     *
+     * @param position The position.
+     * @param value    The value.
+     */
+    void putInt(int position, int value) {
+        this.buffer.putInt(position, value);
+    }
+
+    int position() {
+        return this.buffer.position();
+    }
+
+    /**
+     * Returns the written bytes. The writer must not be used afterwards.
+     *
+     * @return the written bytes
+     */
+    byte[] toByteArray() {
+        byte[] array = this.buffer.array();
+        return array.length == this.buffer.position() ? array : Arrays.copyOf(array, this.buffer.position());
+    }
+
+    private void ensureCapacity(int length) {
+        if (this.buffer.remaining() >= length) {
+            return;
+        }
+
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(this.buffer.capacity() * 2, this.buffer.position() + length)).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.flip();
+        grown.put(this.buffer);
+        this.buffer = grown;
+    }
+}
@@ -48,7 +48,7 @@ public class TransferTransaction extends Transaction {
         this(networkType, version, deadline, fee, recipient, mosaics, message, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    private TransferTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, Address recipient, List<Mosaic> mosaics, Message message, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
+    TransferTransaction(NetworkType networkType, Integer version, Deadline deadline, BigInteger fee, Address recipient, List<Mosaic> mosaics, Message message, Optional<String> signature, Optional<PublicAccount> signer, Optional<TransactionInfo> transactionInfo) {
         super(TransactionType.TRANSFER, networkType, version, deadline, fee, signature, signer, transactionInfo);
         Validate.notNull(recipient, "Recipient must not be null");
         Validate.notNull(mosaics, "Mosaics must not be null");
@@ -99,10 +99,34 @@ public class TransferTransaction extends Transaction {
         return message;
     }
 
-    byte[] generateBytes() {
+    @Override
+    Transaction copyWithSigner(PublicAccount signer) {
+        return new TransferTransaction(getNetworkType(), getVersion(), getDeadline(), getFee(), recipient, mosaics, message, getSignature(), Optional.of(signer), getTransactionInfo());
+    }
+
+    @Override
+    int getPayloadSize() {
+        return 149 + (16 * mosaics.size()) + message.getPayload().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        byte[] bytePayload = message.getPayload().getBytes(StandardCharsets.UTF_8);
+        writer.writeBytes(new Base32().decode(getRecipient().plain().getBytes(StandardCharsets.UTF_8)));
+        writer.writeShort(bytePayload.length + 1);
+        writer.writeByte(mosaics.size());
+        writer.writeByte(message.getType());
+        writer.writeBytes(bytePayload);
+        for (Mosaic mosaic : mosaics) {
+            writer.writeUInt64(mosaic.getId().getIdAsUInt64());
+            writer.writeUInt64(mosaic.getAmountAsUInt64());
+        }
+    }
+
+    byte[] generateFlatBufferBytes() {
         FlatBufferBuilder builder = new FlatBufferBuilder();
         BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        int[] fee = new int[]{0, 0};
+        int[] fee = UInt64.fromBigInteger(getFee());
         int version = (int) Long.parseLong(Integer.toHexString(getNetworkType().getValue()) + "0" + Integer.toHexString(getVersion()), 16);
 
         // Create Message
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.core.crypto.PreparedSigner;
+import io.nem.core.crypto.Signer;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import org.apache.commons.codec.binary.Base32;
+import org.apache.commons.lang3.Validate;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A transfer transaction that is serialized once and signed many times with a different recipient, mosaic amounts,
+ * deadline and fee.
+ * <br>
+ * The variable fields have a fixed size and position in the serialized transaction, so new payloads are created by
+ * patching them in a copy of the serialized template before signing. The mosaic ids, the message, the network type
+ * and the version are taken over from the template transaction.
+ * Templates are immutable and can be shared between threads.
+ *
+ * @since 1.0
+ */
+public final class TransferTransactionTemplate {
+    private static final int FEE_OFFSET = 4 + 64 + 32 + 2 + 2;
+    private static final int DEADLINE_OFFSET = FEE_OFFSET + 8;
+    private static final int RECIPIENT_OFFSET = DEADLINE_OFFSET + 8;
+    private static final int RECIPIENT_SIZE = 25;
+    private static final int MOSAIC_SIZE = 8 + 8;
+
+    private final byte[] bytes;
+    private final NetworkType networkType;
+    private final int mosaicsOffset;
+    private final int mosaicCount;
+
+    /**
+     * Creates a template from a transfer transaction.
+     *
+     * @param transaction The transfer transaction whose mosaic ids and message are used by all payloads.
+     */
+    public TransferTransactionTemplate(TransferTransaction transaction) {
+        Validate.notNull(transaction, "Transaction must not be null");
+        this.bytes = transaction.generateBytes();
+        this.networkType = transaction.getNetworkType();
+        this.mosaicCount = transaction.getMosaics().size();
+        this.mosaicsOffset = this.bytes.length - this.mosaicCount * MOSAIC_SIZE;
+    }
+
+    /**
+     * Returns the number of mosaic amounts each payload must be given.
+     *
+     * @return number of mosaics
+     */
+    public int getMosaicCount() {
+        return this.mosaicCount;
+    }
+
+    /**
+     * Creates a signed transfer transaction from the template.
+     *
+     * @param account   The account signing the transaction.
+     * @param recipient The recipient.
+     * @param amounts   The amounts of the mosaics in the order of the template mosaics.
+     * @param deadline  The deadline.
+     * @param fee       The fee.
+     * @return {@link SignedTransaction}
+     */
+    public SignedTransaction signWith(Account account, Address recipient, List<BigInteger> amounts, Deadline deadline, BigInteger fee) {
+        Signer signer = new Signer(account.getKeyPair());
+        byte[] payload = Transaction.signPayload(this.generateBytes(recipient, amounts, deadline, fee), signer::sign, account.getKeyPair().getPublicKey(), 0);
+        return new SignedTransaction(payload, Transaction.createTransactionHashBytes(payload, payload.length), TransactionType.TRANSFER);
+    }
+
+    /**
+     * Creates a signed transfer transaction from the template.
+     * The prepared signer is not closed.
+     *
+     * @param signer    The prepared signer of the account that signs the transaction.
+     * @param recipient The recipient.
+     * @param amounts   The amounts of the mosaics in the order of the template mosaics.
+     * @param deadline  The deadline.
+     * @param fee       The fee.
+     * @return {@link SignedTransaction}
+     */
+    public SignedTransaction signWith(PreparedSigner signer, Address recipient, List<BigInteger> amounts, Deadline deadline, BigInteger fee) {
+        byte[] payload = Transaction.signPayload(this.generateBytes(recipient, amounts, deadline, fee), signer::sign, signer.getPublicKey(), 0);
+        return new SignedTransaction(payload, Transaction.createTransactionHashBytes(payload, payload.length), TransactionType.TRANSFER);
+    }
+
+    /**
+     * Serializes a transfer transaction with empty signature and signer by patching a copy of the template.
+     *
+     * @param recipient The recipient.
+     * @param amounts   The amounts of the mosaics in the order of the template mosaics.
+     * @param deadline  The deadline.
+     * @param fee       The fee.
+     * @return the serialized transaction
+     */
+    byte[] generateBytes(Address recipient, List<BigInteger> amounts, Deadline deadline, BigInteger fee) {
+        Validate.notNull(recipient, "Recipient must not be null");
+        Validate.notNull(amounts, "Amounts must not be null");
+        Validate.notNull(deadline, "Deadline must not be null");
+        Validate.isTrue(recipient.getNetworkType() == this.networkType, "Recipient must belong to the network of the template");
+        Validate.isTrue(amounts.size() == this.mosaicCount, "Amounts must match the mosaics of the template");
+        byte[] recipientBytes = new Base32().decode(recipient.plain().getBytes(StandardCharsets.UTF_8));
+
+        byte[] copy = this.bytes.clone();
+        ByteBuffer buffer = ByteBuffer.wrap(copy).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(FEE_OFFSET, toUnsignedLong(fee, "Fee"));
+        buffer.putLong(DEADLINE_OFFSET, deadline.getInstant());
+        System.arraycopy(recipientBytes, 0, copy, RECIPIENT_OFFSET, RECIPIENT_SIZE);
+        for (int i = 0; i < this.mosaicCount; ++i) {
+            buffer.putLong(this.mosaicsOffset + i * MOSAIC_SIZE + 8, toUnsignedLong(amounts.get(i), "Amount"));
+        }
+
+        return copy;
+    }
+
+    private static long toUnsignedLong(BigInteger value, String name) {
+        Validate.notNull(value, name + " must not be null");
+        Validate.isTrue(value.signum() >= 0 && value.bitLength() <= 64, name + " must be an unsigned 64 bit integer");
+        return value.longValue();
+    }
+}
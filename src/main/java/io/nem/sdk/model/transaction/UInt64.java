@@ -16,46 +16,159 @@
 
 package io.nem.sdk.model.transaction;
 
-import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang3.Validate;
 
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.IntBuffer;
 
-public class UInt64 {
+/**
+ * An immutable unsigned 64 bit integer backed by a single long.
+ * <br>
+ * Heights, amounts, durations, fees and ids of catapult are unsigned 64 bit integers. The bits of the backing long
+ * are exactly the little endian bytes written into transactions and the [lower, higher] pairs of the REST api, so
+ * no conversion is needed between them. Small values are cached.
+ * <br>
+ * The static BigInteger methods are kept for compatibility. Like the rest of the model they represent values with
+ * the highest bit set as negative BigIntegers.
+ *
+ * @since 1.0
+ */
+public final class UInt64 implements Comparable<UInt64> {
+    private static final BigInteger TWO_TO_THE_64 = BigInteger.ONE.shiftLeft(64);
+    private static final BigInteger MIN_SIGNED = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final UInt64[] CACHE = new UInt64[1024];
 
-    public static int[] fromBigInteger(BigInteger input) {
-        byte[] bytes = input.toByteArray();
-        ArrayUtils.reverse(bytes);
-        int lower = 0, higher = 0;
-        byte[] lowerBound = new byte[4];
-        int size = 4;
-        if (bytes.length < 4) size = bytes.length;
-        System.arraycopy(bytes, 0, lowerBound, 0, size);
-        lower = ByteBuffer.wrap(lowerBound).order(ByteOrder.LITTLE_ENDIAN).getInt();
-        if (bytes.length > 4) {
-            byte[] higherBound = new byte[4];
-            size = 4;
-            if (bytes.length - 4 < 4) {
-                size = bytes.length - 4;
-            }
-            System.arraycopy(bytes, 4, higherBound, 0, size);
-            higher = ByteBuffer.wrap(higherBound).order(ByteOrder.LITTLE_ENDIAN).getInt();
+    static {
+        for (int i = 0; i < CACHE.length; ++i) {
+            CACHE[i] = new UInt64(i);
         }
-        return new int[]{lower, higher};
+    }
+
+    /**
+     * Zero.
+     */
+    public static final UInt64 ZERO = CACHE[0];
+
+    private final long value;
+
+    private UInt64(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates an unsigned 64 bit integer from the bits of a long.
+     *
+     * @param value The bits of the value (negative longs are values greater than Long.MAX_VALUE).
+     * @return the unsigned 64 bit integer
+     */
+    public static UInt64 valueOf(long value) {
+        return value >= 0 && value < CACHE.length ? CACHE[(int) value] : new UInt64(value);
+    }
+
+    /**
+     * Creates an unsigned 64 bit integer from its lower and higher 32 bits.
+     *
+     * @param lower  The lower 32 bits.
+     * @param higher The higher 32 bits.
+     * @return the unsigned 64 bit integer
+     */
+    public static UInt64 valueOf(int lower, int higher) {
+        return valueOf(((long) higher << 32) | (lower & 0xFFFFFFFFL));
+    }
+
+    /**
+     * Creates an unsigned 64 bit integer from a BigInteger.
+     * Negative values down to -2^63 are taken as the signed representation used for ids in the model.
+     *
+     * @param value The value.
+     * @return the unsigned 64 bit integer
+     * @throws IllegalArgumentException if the value does not fit into 64 bits.
+     */
+    public static UInt64 valueOf(BigInteger value) {
+        Validate.notNull(value, "Value must not be null");
+        Validate.isTrue(value.compareTo(MIN_SIGNED) >= 0 && value.compareTo(TWO_TO_THE_64) < 0, "Value must fit into 64 bits");
+        return valueOf(value.longValue());
+    }
+
+    /**
+     * Returns the bits of the value as a long, which is negative for values greater than Long.MAX_VALUE.
+     *
+     * @return the bits of the value
+     */
+    public long longValue() {
+        return this.value;
+    }
+
+    /**
+     * Returns the lower 32 bits.
+     *
+     * @return the lower 32 bits
+     */
+    public int getLower() {
+        return (int) this.value;
+    }
+
+    /**
+     * Returns the higher 32 bits.
+     *
+     * @return the higher 32 bits
+     */
+    public int getHigher() {
+        return (int) (this.value >>> 32);
+    }
+
+    /**
+     * Returns the value as a non negative BigInteger.
+     *
+     * @return the value
+     */
+    public BigInteger toBigInteger() {
+        BigInteger result = BigInteger.valueOf(this.value);
+        return this.value >= 0 ? result : result.add(TWO_TO_THE_64);
+    }
+
+    /**
+     * Returns the value as a BigInteger that is negative if the highest bit is set, which is how ids are represented
+     * in the model.
+     *
+     * @return the value
+     */
+    public BigInteger toSignedBigInteger() {
+        return BigInteger.valueOf(this.value);
+    }
+
+    @Override
+    public int compareTo(UInt64 other) {
+        return Long.compareUnsigned(this.value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UInt64)) return false;
+        return this.value == ((UInt64) o).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toUnsignedString(this.value);
+    }
+
+    public static int[] fromBigInteger(BigInteger input) {
+        long value = input.longValue();
+        return new int[]{(int) value, (int) (value >>> 32)};
     }
 
     public static BigInteger fromIntArray(int[] input) {
         if (input.length != 2) {
             throw new IllegalArgumentException("input must have length 2");
         }
-        ArrayUtils.reverse(input);
-        byte[] array = new byte[input.length * 4];
-        ByteBuffer bbuf = ByteBuffer.wrap(array);
-        IntBuffer ibuf = bbuf.asIntBuffer();
-        ibuf.put(input);
-        return new BigInteger(array);
+
+        return valueOf(input[0], input[1]).toSignedBigInteger();
     }
 
     public static String bigIntegerToHex(BigInteger input) {
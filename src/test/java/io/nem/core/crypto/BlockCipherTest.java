@@ -22,6 +22,11 @@ import org.hamcrest.core.IsNot;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
 public abstract class BlockCipherTest {
 
     @Test
@@ -112,6 +117,110 @@ public abstract class BlockCipherTest {
         Assert.assertThat(blockCipher2.decrypt(encryptedBytes2), IsEqual.equalTo(input));
     }
 
+    @Test
+    public void streamEncryptedDataCanBeDecrypted() throws IOException {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair kp = KeyPair.random(engine);
+        final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+        final byte[] input = Utils.generateRandomBytes(100_003);
+
+        // Act:
+        final byte[] encryptedBytes = encrypt(blockCipher, input);
+        final byte[] decryptedBytes = decrypt(blockCipher, encryptedBytes);
+
+        // Assert:
+        Assert.assertThat(encryptedBytes.length, IsEqual.equalTo(48 + 100_016));
+        Assert.assertThat(decryptedBytes, IsEqual.equalTo(input));
+    }
+
+    @Test
+    public void streamEncryptedDataCanBeDecryptedAsArray() throws IOException {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair skp = KeyPair.random(engine);
+        final KeyPair rkp = KeyPair.random(engine);
+        final BlockCipher blockCipher1 = this.getBlockCipher(skp, new KeyPair(rkp.getPublicKey(), engine));
+        final BlockCipher blockCipher2 = this.getBlockCipher(new KeyPair(skp.getPublicKey(), engine), rkp);
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Act:
+        final byte[] encryptedBytes = encrypt(blockCipher1, input);
+        final byte[] decryptedBytes = blockCipher2.decrypt(encryptedBytes);
+
+        // Assert:
+        Assert.assertThat(decryptedBytes, IsEqual.equalTo(input));
+    }
+
+    @Test
+    public void arrayEncryptedDataCanBeStreamDecrypted() throws IOException {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair skp = KeyPair.random(engine);
+        final KeyPair rkp = KeyPair.random(engine);
+        final BlockCipher blockCipher1 = this.getBlockCipher(skp, new KeyPair(rkp.getPublicKey(), engine));
+        final BlockCipher blockCipher2 = this.getBlockCipher(new KeyPair(skp.getPublicKey(), engine), rkp);
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Act:
+        final byte[] encryptedBytes = blockCipher1.encrypt(input);
+        final byte[] decryptedBytes = decrypt(blockCipher2, encryptedBytes);
+
+        // Assert:
+        Assert.assertThat(decryptedBytes, IsEqual.equalTo(input));
+    }
+
+    @Test
+    public void emptyDataCanBeStreamEncryptedAndDecrypted() throws IOException {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair kp = KeyPair.random(engine);
+        final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+
+        // Act:
+        final byte[] encryptedBytes = encrypt(blockCipher, new byte[0]);
+        final byte[] decryptedBytes = decrypt(blockCipher, encryptedBytes);
+
+        // Assert:
+        Assert.assertThat(encryptedBytes.length, IsEqual.equalTo(64));
+        Assert.assertThat(decryptedBytes, IsEqual.equalTo(new byte[0]));
+    }
+
+    @Test(expected = CryptoException.class)
+    public void streamDecryptFailsIfInputIsTooShort() throws IOException {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair kp = KeyPair.random(engine);
+        final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+
+        // Act:
+        decrypt(blockCipher, new byte[47]);
+    }
+
+    @Test(expected = CryptoException.class)
+    public void streamDecryptFailsIfLastBlockIsIncomplete() throws IOException {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair kp = KeyPair.random(engine);
+        final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+        final byte[] encryptedBytes = blockCipher.encrypt(Utils.generateRandomBytes());
+
+        // Act:
+        decrypt(blockCipher, Arrays.copyOf(encryptedBytes, encryptedBytes.length - 1));
+    }
+
+    private static byte[] encrypt(final BlockCipher blockCipher, final byte[] input) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        blockCipher.encrypt(new ByteArrayInputStream(input), output);
+        return output.toByteArray();
+    }
+
+    private static byte[] decrypt(final BlockCipher blockCipher, final byte[] input) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        blockCipher.decrypt(new ByteArrayInputStream(input), output);
+        return output.toByteArray();
+    }
+
     protected BlockCipher getBlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
         return this.getCryptoEngine().createBlockCipher(senderKeyPair, recipientKeyPair);
     }
@@ -20,6 +20,12 @@ import io.nem.core.test.Utils;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 public class CipherTest {
 
     @Test
@@ -83,4 +89,34 @@ public class CipherTest {
         // Assert:
         Mockito.verify(blockCipher, Mockito.times(1)).decrypt(encryptedData);
     }
+
+    @Test
+    public void streamEncryptDelegatesToBlockCipher() throws IOException {
+        // Arrange:
+        final BlockCipher blockCipher = Mockito.mock(BlockCipher.class);
+        final Cipher cipher = new Cipher(blockCipher);
+        final InputStream input = new ByteArrayInputStream(Utils.generateRandomBytes());
+        final OutputStream output = new ByteArrayOutputStream();
+
+        // Act:
+        cipher.encrypt(input, output);
+
+        // Assert:
+        Mockito.verify(blockCipher, Mockito.only()).encrypt(input, output);
+    }
+
+    @Test
+    public void streamDecryptDelegatesToBlockCipher() throws IOException {
+        // Arrange:
+        final BlockCipher blockCipher = Mockito.mock(BlockCipher.class);
+        final Cipher cipher = new Cipher(blockCipher);
+        final InputStream input = new ByteArrayInputStream(Utils.generateRandomBytes());
+        final OutputStream output = new ByteArrayOutputStream();
+
+        // Act:
+        cipher.decrypt(input, output);
+
+        // Assert:
+        Mockito.verify(blockCipher, Mockito.only()).decrypt(input, output);
+    }
 }
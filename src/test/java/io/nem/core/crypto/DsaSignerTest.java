@@ -23,6 +23,9 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public abstract class DsaSignerTest {
 
@@ -121,6 +124,115 @@ public abstract class DsaSignerTest {
         Mockito.verify(dsaSigner, Mockito.times(1)).isCanonicalSignature(signature);
     }
 
+    @Test
+    public void verifyBatchReturnsMinusOneIfAllSignaturesAreValid() {
+        // Arrange:
+        final BatchContext context = new BatchContext(this.getCryptoEngine(), 10);
+
+        // Act:
+        final int result = context.verifier.verifyBatch(context.data, context.publicKeys, context.signatures);
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(-1));
+    }
+
+    @Test
+    public void verifyBatchReturnsMinusOneForEmptyBatch() {
+        // Arrange:
+        final BatchContext context = new BatchContext(this.getCryptoEngine(), 0);
+
+        // Act:
+        final int result = context.verifier.verifyBatch(context.data, context.publicKeys, context.signatures);
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(-1));
+    }
+
+    @Test
+    public void verifyBatchReturnsIndexOfSignatureOverModifiedData() {
+        // Arrange:
+        final BatchContext context = new BatchContext(this.getCryptoEngine(), 10);
+        context.data.set(7, Utils.generateRandomBytes());
+
+        // Act:
+        final int result = context.verifier.verifyBatch(context.data, context.publicKeys, context.signatures);
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(7));
+    }
+
+    @Test
+    public void verifyBatchReturnsIndexOfSignatureWithWrongPublicKey() {
+        // Arrange:
+        final BatchContext context = new BatchContext(this.getCryptoEngine(), 10);
+        Collections.swap(context.publicKeys, 2, 5);
+
+        // Act:
+        final int result = context.verifier.verifyBatch(context.data, context.publicKeys, context.signatures);
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(2));
+    }
+
+    @Test
+    public void verifyBatchReturnsIndexOfNonCanonicalSignature() {
+        // Arrange:
+        final BatchContext context = new BatchContext(this.getCryptoEngine(), 10);
+        final Signature signature = context.signatures.get(4);
+        final BigInteger nonCanonicalS = this.getCryptoEngine().getCurve().getGroupOrder().add(signature.getS());
+        context.signatures.set(4, new Signature(signature.getR(), nonCanonicalS));
+
+        // Act:
+        final int result = context.verifier.verifyBatch(context.data, context.publicKeys, context.signatures);
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(4));
+    }
+
+    @Test
+    public void verifyBatchAgreesWithVerify() {
+        // Arrange:
+        final BatchContext context = new BatchContext(this.getCryptoEngine(), 10);
+        context.signatures.set(3, context.signatures.get(1));
+
+        // Act:
+        final int result = context.verifier.verifyBatch(context.data, context.publicKeys, context.signatures);
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(3));
+        Assert.assertThat(
+                this.getDsaSigner(new KeyPair(context.publicKeys.get(3), this.getCryptoEngine())).verify(context.data.get(3), context.signatures.get(3)),
+                IsEqual.equalTo(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void verifyBatchThrowsIfListSizesDoNotMatch() {
+        // Arrange:
+        final BatchContext context = new BatchContext(this.getCryptoEngine(), 10);
+        context.signatures.remove(9);
+
+        // Act:
+        context.verifier.verifyBatch(context.data, context.publicKeys, context.signatures);
+    }
+
+    private class BatchContext {
+        private final DsaSigner verifier;
+        private final List<byte[]> data = new ArrayList<>();
+        private final List<PublicKey> publicKeys = new ArrayList<>();
+        private final List<Signature> signatures = new ArrayList<>();
+
+        private BatchContext(final CryptoEngine engine, final int size) {
+            this.verifier = DsaSignerTest.this.getDsaSigner(KeyPair.random(engine));
+            for (int i = 0; i < size; ++i) {
+                final KeyPair keyPair = KeyPair.random(engine);
+                final byte[] input = Utils.generateRandomBytes();
+                this.data.add(input);
+                this.publicKeys.add(keyPair.getPublicKey());
+                this.signatures.add(DsaSignerTest.this.getDsaSigner(keyPair).sign(input));
+            }
+        }
+    }
+
     protected DsaSigner getDsaSigner(final KeyPair keyPair) {
         return this.getCryptoEngine().createDsaSigner(keyPair);
     }
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto;
+
+import io.nem.core.test.ExceptionAssert;
+import io.nem.core.test.Utils;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+public class HasherTest {
+
+    //region factories
+
+    @Test
+    public void factoriesCreateHashersWithExpectedHashLength() {
+        // Assert:
+        Assert.assertThat(Hasher.sha3_256().getHashLength(), IsEqual.equalTo(32));
+        Assert.assertThat(Hasher.sha3_512().getHashLength(), IsEqual.equalTo(64));
+        Assert.assertThat(Hasher.ripemd160().getHashLength(), IsEqual.equalTo(20));
+    }
+
+    @Test
+    public void sha3_256HasherCalculatesSameHashAsBouncyCastleProvider() throws Exception {
+        // Assert:
+        assertSameHashAsProvider(Hasher::sha3_256, "SHA3-256");
+    }
+
+    @Test
+    public void sha3_512HasherCalculatesSameHashAsBouncyCastleProvider() throws Exception {
+        // Assert:
+        assertSameHashAsProvider(Hasher::sha3_512, "SHA3-512");
+    }
+
+    @Test
+    public void ripemd160HasherCalculatesSameHashAsBouncyCastleProvider() throws Exception {
+        // Assert:
+        assertSameHashAsProvider(Hasher::ripemd160, "RIPEMD160");
+    }
+
+    private static void assertSameHashAsProvider(final Supplier<Hasher> hasherSupplier, final String algorithm) throws Exception {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final byte[] expectedHash = MessageDigest.getInstance(algorithm, new BouncyCastleProvider()).digest(input);
+
+        // Act:
+        final byte[] hash = hasherSupplier.get().update(input).digest();
+
+        // Assert:
+        Assert.assertThat(hash, IsEqual.equalTo(expectedHash));
+    }
+
+    //endregion
+
+    //region update
+
+    @Test
+    public void updateWithArrayRangeHashesOnlyRange() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Act:
+        final byte[] hash = Hasher.sha3_256().update(input, 17, 100).digest();
+
+        // Assert:
+        Assert.assertThat(hash, IsEqual.equalTo(Hashes.sha3_256(Arrays.copyOfRange(input, 17, 117))));
+    }
+
+    @Test
+    public void updateWithArrayRangeFailsIfRangeIsOutOfBounds() {
+        // Arrange:
+        final Hasher hasher = Hasher.sha3_256();
+        final byte[] input = new byte[10];
+
+        // Assert:
+        ExceptionAssert.assertThrows(v -> hasher.update(input, -1, 5), IndexOutOfBoundsException.class);
+        ExceptionAssert.assertThrows(v -> hasher.update(input, 0, -1), IndexOutOfBoundsException.class);
+        ExceptionAssert.assertThrows(v -> hasher.update(input, 6, 5), IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void updateWithHeapBufferHashesRemainingBytesAndAdvancesPosition() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final ByteBuffer buffer = ByteBuffer.wrap(input);
+        buffer.position(10);
+
+        // Assert:
+        assertBufferIsHashed(buffer, Arrays.copyOfRange(input, 10, input.length));
+    }
+
+    @Test
+    public void updateWithHeapBufferSliceHashesSliceOnly() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final ByteBuffer buffer = ByteBuffer.wrap(input);
+        buffer.position(20);
+        final ByteBuffer slice = buffer.slice();
+        slice.limit(100);
+
+        // Assert:
+        assertBufferIsHashed(slice, Arrays.copyOfRange(input, 20, 120));
+    }
+
+    @Test
+    public void updateWithDirectBufferHashesRemainingBytes() {
+        // Arrange: use an input larger than the internal chunk size
+        final byte[] input = Utils.generateRandomBytes(5000);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(input.length);
+        buffer.put(input);
+        buffer.flip();
+
+        // Assert:
+        assertBufferIsHashed(buffer, input);
+    }
+
+    @Test
+    public void updateWithDirectBufferSliceHashesSliceOnly() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(input.length);
+        buffer.put(input);
+        buffer.position(30);
+        final ByteBuffer slice = buffer.slice();
+        slice.limit(50);
+
+        // Assert:
+        assertBufferIsHashed(slice, Arrays.copyOfRange(input, 30, 80));
+    }
+
+    @Test
+    public void updateWithReadOnlyBufferHashesRemainingBytes() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final ByteBuffer buffer = ByteBuffer.wrap(input).asReadOnlyBuffer();
+
+        // Assert:
+        assertBufferIsHashed(buffer, input);
+    }
+
+    private static void assertBufferIsHashed(final ByteBuffer buffer, final byte[] expectedInput) {
+        // Act:
+        final byte[] hash = Hasher.sha3_256().update(buffer).digest();
+
+        // Assert:
+        Assert.assertThat(hash, IsEqual.equalTo(Hashes.sha3_256(expectedInput)));
+        Assert.assertThat(buffer.remaining(), IsEqual.equalTo(0));
+    }
+
+    @Test
+    public void mixedUpdatesHashConcatenatedInput() {
+        // Arrange:
+        final byte[] input1 = Utils.generateRandomBytes();
+        final byte[] input2 = Utils.generateRandomBytes();
+
+        // Act:
+        final byte[] hash = Hasher.sha3_512().update(input1).update(ByteBuffer.wrap(input2)).digest();
+
+        // Assert:
+        Assert.assertThat(hash, IsEqual.equalTo(Hashes.sha3_512(input1, input2)));
+    }
+
+    //endregion
+
+    //region digest / reset
+
+    @Test
+    public void digestResetsHasher() {
+        // Arrange:
+        final Hasher hasher = Hasher.ripemd160();
+        final byte[] input1 = Utils.generateRandomBytes();
+        final byte[] input2 = Utils.generateRandomBytes();
+
+        // Act:
+        final byte[] hash1 = hasher.update(input1).digest();
+        final byte[] hash2 = hasher.update(input2).digest();
+
+        // Assert:
+        Assert.assertThat(hash1, IsEqual.equalTo(Hashes.ripemd160(input1)));
+        Assert.assertThat(hash2, IsEqual.equalTo(Hashes.ripemd160(input2)));
+    }
+
+    @Test
+    public void digestCanWriteHashIntoArrayAtOffset() {
+        // Arrange:
+        final Hasher hasher = Hasher.sha3_256();
+        final byte[] input = Utils.generateRandomBytes();
+        final byte[] output = new byte[40];
+
+        // Act:
+        final int length = hasher.update(input).digest(output, 8);
+
+        // Assert:
+        Assert.assertThat(length, IsEqual.equalTo(32));
+        Assert.assertThat(Arrays.copyOfRange(output, 8, 40), IsEqual.equalTo(Hashes.sha3_256(input)));
+        Assert.assertThat(Arrays.copyOfRange(output, 0, 8), IsEqual.equalTo(new byte[8]));
+    }
+
+    @Test
+    public void digestFailsIfHashDoesNotFitIntoArray() {
+        // Arrange:
+        final Hasher hasher = Hasher.sha3_256();
+
+        // Assert:
+        ExceptionAssert.assertThrows(v -> hasher.digest(new byte[31], 0), IllegalArgumentException.class);
+        ExceptionAssert.assertThrows(v -> hasher.digest(new byte[40], 9), IllegalArgumentException.class);
+        ExceptionAssert.assertThrows(v -> hasher.digest(new byte[40], -1), IllegalArgumentException.class);
+    }
+
+    @Test
+    public void copyStartsWithCurrentStateAndIsIndependent() {
+        // Arrange:
+        final byte[] prefix = Utils.generateRandomBytes();
+        final byte[] input1 = Utils.generateRandomBytes();
+        final byte[] input2 = Utils.generateRandomBytes();
+        final Hasher hasher = Hasher.sha3_512().update(prefix);
+
+        // Act:
+        final byte[] hash1 = hasher.copy().update(input1).digest();
+        final byte[] hash2 = hasher.copy().update(input2).digest();
+        final byte[] hash3 = hasher.digest();
+
+        // Assert:
+        Assert.assertThat(hash1, IsEqual.equalTo(Hashes.sha3_512(prefix, input1)));
+        Assert.assertThat(hash2, IsEqual.equalTo(Hashes.sha3_512(prefix, input2)));
+        Assert.assertThat(hash3, IsEqual.equalTo(Hashes.sha3_512(prefix)));
+    }
+
+    @Test
+    public void copyIsSupportedByAllHashers() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Assert:
+        Assert.assertThat(Hasher.sha3_256().update(input).copy().digest(), IsEqual.equalTo(Hashes.sha3_256(input)));
+        Assert.assertThat(Hasher.ripemd160().update(input).copy().digest(), IsEqual.equalTo(Hashes.ripemd160(input)));
+    }
+
+    @Test
+    public void resetDiscardsInput() {
+        // Arrange:
+        final Hasher hasher = Hasher.sha3_256();
+        final byte[] input = Utils.generateRandomBytes();
+        hasher.update(Utils.generateRandomBytes());
+
+        // Act:
+        hasher.reset();
+        final byte[] hash = hasher.update(input).digest();
+
+        // Assert:
+        Assert.assertThat(hash, IsEqual.equalTo(Hashes.sha3_256(input)));
+    }
+
+    //endregion
+}
@@ -16,13 +16,16 @@
 
 package io.nem.core.crypto;
 
+import io.nem.core.test.ExceptionAssert;
 import io.nem.core.test.Utils;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 public class HashesTest {
@@ -151,6 +154,63 @@ public class HashesTest {
 
     //endregion
 
+    //region byte buffer
+
+    @Test
+    public void sha3_256WithBufferWritesSameHashAsArrayFunction() {
+        // Assert:
+        assertBufferHashIsSameAsArrayHash((input, output) -> Hashes.sha3_256(input, output, 3), Hashes::sha3_256, 32);
+    }
+
+    @Test
+    public void sha3_512WithBufferWritesSameHashAsArrayFunction() {
+        // Assert:
+        assertBufferHashIsSameAsArrayHash((input, output) -> Hashes.sha3_512(input, output, 3), Hashes::sha3_512, 64);
+    }
+
+    @Test
+    public void ripemd160WithBufferWritesSameHashAsArrayFunction() {
+        // Assert:
+        assertBufferHashIsSameAsArrayHash((input, output) -> Hashes.ripemd160(input, output, 3), Hashes::ripemd160, 20);
+    }
+
+    private static void assertBufferHashIsSameAsArrayHash(
+            final BiConsumer<ByteBuffer, byte[]> bufferHashFunction,
+            final Function<byte[], byte[]> arrayHashFunction,
+            final int hashLength) {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(input.length);
+        buffer.put(input);
+        buffer.flip();
+        final byte[] output = new byte[hashLength + 3];
+
+        // Act:
+        bufferHashFunction.accept(buffer, output);
+
+        // Assert:
+        Assert.assertThat(Arrays.copyOfRange(output, 3, output.length), IsEqual.equalTo(arrayHashFunction.apply(input)));
+        Assert.assertThat(buffer.remaining(), IsEqual.equalTo(0));
+    }
+
+    @Test
+    public void failedBufferHashDoesNotAffectSubsequentHashes() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final byte[] expectedHash = Hashes.sha3_256(input);
+
+        // Act:
+        ExceptionAssert.assertThrows(
+                v -> Hashes.sha3_256(ByteBuffer.wrap(Utils.generateRandomBytes()), new byte[10], 0),
+                IllegalArgumentException.class);
+        final byte[] hash = Hashes.sha3_256(input);
+
+        // Assert:
+        Assert.assertThat(hash, IsEqual.equalTo(expectedHash));
+    }
+
+    //endregion
+
     private static class HashTester {
         private final Function<byte[], byte[]> hashFunction;
         private final Function<byte[][], byte[]> hashMultipleFunction;
@@ -22,6 +22,10 @@ import org.hamcrest.core.IsNull;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class KeyGeneratorTest {
 
     @Test
@@ -52,6 +56,36 @@ public abstract class KeyGeneratorTest {
         Assert.assertThat(publicKey.getRaw(), IsEqual.equalTo(kp.getPublicKey().getRaw()));
     }
 
+    @Test
+    public void derivePublicKeysReturnsPublicKeysInOrder() {
+        // Arrange:
+        final KeyGenerator generator = this.getKeyGenerator();
+        final List<KeyPair> keyPairs = new ArrayList<>();
+        final List<PrivateKey> privateKeys = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            keyPairs.add(generator.generateKeyPair());
+            privateKeys.add(keyPairs.get(i).getPrivateKey());
+        }
+
+        // Act:
+        final List<PublicKey> publicKeys = generator.derivePublicKeys(privateKeys);
+
+        // Assert:
+        Assert.assertThat(publicKeys.size(), IsEqual.equalTo(10));
+        for (int i = 0; i < 10; ++i) {
+            Assert.assertThat(publicKeys.get(i).getRaw(), IsEqual.equalTo(keyPairs.get(i).getPublicKey().getRaw()));
+        }
+    }
+
+    @Test
+    public void derivePublicKeysReturnsEmptyListForEmptyList() {
+        // Act:
+        final List<PublicKey> publicKeys = this.getKeyGenerator().derivePublicKeys(Collections.emptyList());
+
+        // Assert:
+        Assert.assertThat(publicKeys.isEmpty(), IsEqual.equalTo(true));
+    }
+
     @Test
     public void generateKeyPairCreatesDifferentInstancesWithDifferentKeys() {
         // Act:
@@ -21,6 +21,8 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
 
 public class SignerTest {
 
@@ -82,6 +84,22 @@ public class SignerTest {
         Mockito.verify(context.dsaSigner, Mockito.times(1)).verify(context.data, context.signature);
     }
 
+    @Test
+    public void verifyBatchDelegatesToDsaSigner() {
+        // Assert:
+        final SignerContext context = new SignerContext();
+        final Signer signer = new Signer(context.dsaSigner);
+        final List<byte[]> data = Collections.singletonList(context.data);
+        final List<PublicKey> publicKeys = Collections.singletonList(new KeyPair().getPublicKey());
+        final List<Signature> signatures = Collections.singletonList(context.signature);
+
+        // Act:
+        signer.verifyBatch(data, publicKeys, signatures);
+
+        // Assert:
+        Mockito.verify(context.dsaSigner, Mockito.times(1)).verifyBatch(data, publicKeys, signatures);
+    }
+
     @Test
     public void isCanonicalSignatureDelegatesToDsaSigner() {
         // Assert:
@@ -17,6 +17,9 @@
 package io.nem.core.crypto.ed25519;
 
 import io.nem.core.crypto.*;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519IntFieldBackend;
+import io.nem.core.test.Utils;
+import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNull;
 import org.junit.Assert;
 import org.junit.Test;
@@ -37,6 +40,52 @@ public class Ed25519BlockCipherTest extends BlockCipherTest {
         Assert.assertThat(decryptedBytes, IsNull.nullValue());
     }
 
+    @Test
+    public void sharedPointsAreCachedPerPairOfKeys() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair skp = KeyPair.random(engine);
+        final KeyPair rkp = KeyPair.random(engine);
+        final Ed25519SharedSecretCache cache = new Ed25519SharedSecretCache(10);
+        final BlockCipher blockCipher1 = new Ed25519BlockCipher(skp, new KeyPair(rkp.getPublicKey(), engine), new Ed25519IntFieldBackend(), cache);
+        final BlockCipher blockCipher2 = new Ed25519BlockCipher(new KeyPair(skp.getPublicKey(), engine), rkp, new Ed25519IntFieldBackend(), cache);
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Act:
+        final byte[] encryptedBytes1 = blockCipher1.encrypt(input);
+        final byte[] encryptedBytes2 = blockCipher1.encrypt(input);
+        final byte[] decryptedBytes1 = blockCipher2.decrypt(encryptedBytes1);
+        final byte[] decryptedBytes2 = blockCipher2.decrypt(encryptedBytes2);
+
+        // Assert: one entry for the sender and one for the recipient side
+        Assert.assertThat(decryptedBytes1, IsEqual.equalTo(input));
+        Assert.assertThat(decryptedBytes2, IsEqual.equalTo(input));
+        Assert.assertThat(cache.size(), IsEqual.equalTo(2));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(2L));
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(2L));
+    }
+
+    @Test
+    public void cachedSharedPointsDoNotChangeEncryption() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair skp = KeyPair.random(engine);
+        final KeyPair rkp = KeyPair.random(engine);
+        final Ed25519SharedSecretCache cache = new Ed25519SharedSecretCache(10);
+        final BlockCipher cachingBlockCipher = new Ed25519BlockCipher(skp, new KeyPair(rkp.getPublicKey(), engine), new Ed25519IntFieldBackend(), cache);
+        final BlockCipher blockCipher = new Ed25519BlockCipher(new KeyPair(skp.getPublicKey(), engine), rkp);
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Act:
+        cachingBlockCipher.encrypt(input);
+        final byte[] encryptedBytes = cachingBlockCipher.encrypt(input);
+        final byte[] decryptedBytes = blockCipher.decrypt(encryptedBytes);
+
+        // Assert:
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(1L));
+        Assert.assertThat(decryptedBytes, IsEqual.equalTo(input));
+    }
+
     @Override
     protected BlockCipher getBlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
         return new Ed25519BlockCipher(senderKeyPair, recipientKeyPair);
@@ -17,7 +17,7 @@
 package io.nem.core.crypto.ed25519;
 
 import io.nem.core.crypto.*;
-import io.nem.core.crypto.ed25519.arithmetic.MathUtils;
+import io.nem.core.crypto.ed25519.arithmetic.*;
 import io.nem.core.test.Utils;
 import org.hamcrest.core.IsEqual;
 import org.junit.Assert;
@@ -25,6 +25,8 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Ed25519DsaSignerTest extends DsaSignerTest {
 
@@ -131,6 +133,7 @@ public class Ed25519DsaSignerTest extends DsaSignerTest {
         final Ed25519DsaSigner dsaSigner = Mockito.mock(Ed25519DsaSigner.class);
         final byte[] input = Utils.generateRandomBytes();
         Mockito.when(dsaSigner.getKeyPair()).thenReturn(keyPair);
+        Mockito.when(dsaSigner.getBackend()).thenReturn(new Ed25519IntFieldBackend());
         Mockito.when(dsaSigner.sign(input)).thenCallRealMethod();
         Mockito.when(dsaSigner.isCanonicalSignature(Mockito.any())).thenReturn(false);
 
@@ -164,6 +167,205 @@ public class Ed25519DsaSignerTest extends DsaSignerTest {
         Mockito.verify(dsaSignerWithZeroArrayPublicKey, Mockito.times(1)).getKeyPair();
     }
 
+    @Test
+    public void verifyBatchAcceptsSignaturesWithTorsionComponentInRByCofactoredEquation() {
+        // Arrange: R' = r * B + T where T has order two, which the cofactorless single verification rejects
+        final CryptoEngine engine = this.getCryptoEngine();
+        final BatchContext context = new BatchContext(engine);
+        for (int i = 0; i < 16; ++i) {
+            final KeyPair keyPair = KeyPair.random(engine);
+            final byte[] input = Utils.generateRandomBytes();
+            final Ed25519EncodedFieldElement r = createRandomScalar();
+            final byte[] rawEncodedR = addOrderTwoTorsion(Ed25519Group.BASE_POINT.scalarMultiply(r).encode().getRaw());
+            context.add(input, keyPair.getPublicKey(), sign(keyPair, keyPair.getPublicKey().getRaw(), rawEncodedR, r, input));
+        }
+
+        // Act:
+        final int result = context.verifyBatch();
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(-1));
+        for (int i = 0; i < 16; ++i) {
+            Assert.assertThat(this.verifySingle(context.publicKeys.get(i), context.data.get(i), context.signatures.get(i)), IsEqual.equalTo(false));
+        }
+    }
+
+    @Test
+    public void verifyBatchRejectsSignaturesWithTorsionComponentInRLikeVerifyIfBatchFails() {
+        // Arrange: torsioned signatures followed by an invalid one
+        final CryptoEngine engine = this.getCryptoEngine();
+        final BatchContext context = new BatchContext(engine);
+        context.addValid();
+        for (int i = 0; i < 4; ++i) {
+            final KeyPair keyPair = KeyPair.random(engine);
+            final byte[] input = Utils.generateRandomBytes();
+            final Ed25519EncodedFieldElement r = createRandomScalar();
+            final byte[] rawEncodedR = addOrderTwoTorsion(Ed25519Group.BASE_POINT.scalarMultiply(r).encode().getRaw());
+            context.add(input, keyPair.getPublicKey(), sign(keyPair, keyPair.getPublicKey().getRaw(), rawEncodedR, r, input));
+        }
+
+        context.addValid();
+        context.data.get(5)[0] ^= 1;
+
+        // Act:
+        final int result = context.verifyBatch();
+
+        // Assert: the failed batch is verified one by one with the single equation
+        Assert.assertThat(result, IsEqual.equalTo(1));
+    }
+
+    @Test
+    public void verifyBatchAgreesWithVerifyForPublicKeysWithTorsionComponentIfBatchFails() {
+        for (int round = 0; round < 10; ++round) {
+            // Arrange: signatures of a public key A' = a * B + T where T has order two,
+            // half of them satisfy the cofactorless single verification equation, followed by an invalid signature
+            final CryptoEngine engine = this.getCryptoEngine();
+            final BatchContext context = new BatchContext(engine);
+            final KeyPair keyPair = KeyPair.random(engine);
+            final PublicKey torsionedKey = new PublicKey(addOrderTwoTorsion(keyPair.getPublicKey().getRaw()));
+            final boolean[] expected = new boolean[8];
+            for (int i = 0; i < 8; ++i) {
+                final byte[] input = Utils.generateRandomBytes();
+                final Ed25519EncodedFieldElement r = createRandomScalar();
+                final byte[] rawEncodedR = Ed25519Group.BASE_POINT.scalarMultiply(r).encode().getRaw();
+                final Signature signature = sign(keyPair, torsionedKey.getRaw(), rawEncodedR, r, input);
+                expected[i] = this.verifySingle(torsionedKey, input, signature);
+                context.add(input, torsionedKey, signature);
+            }
+
+            context.addValid();
+            context.data.get(8)[0] ^= 1;
+
+            // Act:
+            final int result = context.verifyBatch();
+
+            // Assert:
+            int firstInvalid = 8;
+            for (int i = 7; i >= 0; --i) {
+                firstInvalid = expected[i] ? firstInvalid : i;
+            }
+
+            Assert.assertThat(result, IsEqual.equalTo(firstInvalid));
+        }
+    }
+
+    @Test
+    public void verifyBatchReturnsIndexOfPublicKeyThatIsNotOnTheCurve() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final BatchContext context = new BatchContext(engine);
+        for (int i = 0; i < 8; ++i) {
+            context.addValid();
+        }
+
+        context.publicKeys.set(3, new PublicKey(createEncodingOfNoPoint()));
+
+        // Act:
+        final int result = context.verifyBatch();
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(3));
+    }
+
+    @Test
+    public void verifyBatchAcceptsSignaturesOfPublicKeyWithTorsionComponentAcceptedByVerify() {
+        // Arrange: choose R so that the torsion component of h * A' cancels out in the single verification
+        final CryptoEngine engine = this.getCryptoEngine();
+        final BatchContext context = new BatchContext(engine);
+        final KeyPair keyPair = KeyPair.random(engine);
+        final PublicKey torsionedKey = new PublicKey(addOrderTwoTorsion(keyPair.getPublicKey().getRaw()));
+        while (context.data.size() < 8) {
+            final byte[] input = Utils.generateRandomBytes();
+            final Ed25519EncodedFieldElement r = createRandomScalar();
+            final byte[] rawEncodedR = Ed25519Group.BASE_POINT.scalarMultiply(r).encode().getRaw();
+            final Signature signature = sign(keyPair, torsionedKey.getRaw(), rawEncodedR, r, input);
+            if (this.verifySingle(torsionedKey, input, signature)) {
+                context.add(input, torsionedKey, signature);
+                context.addValid();
+            }
+        }
+
+        // Act:
+        final int result = context.verifyBatch();
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(-1));
+    }
+
+    private boolean verifySingle(final PublicKey publicKey, final byte[] data, final Signature signature) {
+        return this.getDsaSigner(new KeyPair(publicKey, this.getCryptoEngine())).verify(data, signature);
+    }
+
+    private static Ed25519EncodedFieldElement createRandomScalar() {
+        return new Ed25519EncodedFieldElement(Utils.generateRandomBytes(64)).modQ();
+    }
+
+    private static Signature sign(
+            final KeyPair keyPair,
+            final byte[] rawEncodedA,
+            final byte[] rawEncodedR,
+            final Ed25519EncodedFieldElement r,
+            final byte[] data) {
+        // S = r + H(R, A, data) * a
+        final Ed25519EncodedFieldElement hModQ = new Ed25519EncodedFieldElement(Hashes.sha3_512(rawEncodedR, rawEncodedA, data)).modQ();
+        final Ed25519EncodedFieldElement encodedS = hModQ.multiplyAndAddModQ(
+                Ed25519Utils.prepareForScalarMultiply(keyPair.getPrivateKey()),
+                r);
+        return new Signature(rawEncodedR, encodedS.getRaw());
+    }
+
+    private static byte[] createEncodingOfNoPoint() {
+        while (true) {
+            final byte[] rawEncoded = Utils.generateRandomBytes(32);
+            try {
+                new Ed25519EncodedGroupElement(rawEncoded).decode();
+            } catch (final IllegalArgumentException e) {
+                return rawEncoded;
+            }
+        }
+    }
+
+    private static byte[] addOrderTwoTorsion(final byte[] rawEncoded) {
+        // (x, y) + (0, -1) = (-x, -y)
+        final Ed25519GroupElement point = new Ed25519EncodedGroupElement(rawEncoded).decode();
+        final Ed25519FieldElement inverseZ = point.getZ().invert();
+        final Ed25519FieldElement x = point.getX().multiply(inverseZ).negate();
+        final Ed25519FieldElement y = point.getY().multiply(inverseZ).negate();
+        final byte[] encoded = y.encode().getRaw();
+        if (x.isNegative()) {
+            encoded[31] |= (byte) 0x80;
+        }
+
+        return encoded;
+    }
+
+    private class BatchContext {
+        private final CryptoEngine engine;
+        private final List<byte[]> data = new ArrayList<>();
+        private final List<PublicKey> publicKeys = new ArrayList<>();
+        private final List<Signature> signatures = new ArrayList<>();
+
+        private BatchContext(final CryptoEngine engine) {
+            this.engine = engine;
+        }
+
+        private void add(final byte[] input, final PublicKey publicKey, final Signature signature) {
+            this.data.add(input);
+            this.publicKeys.add(publicKey);
+            this.signatures.add(signature);
+        }
+
+        private void addValid() {
+            final KeyPair keyPair = KeyPair.random(this.engine);
+            final byte[] input = Utils.generateRandomBytes();
+            this.add(input, keyPair.getPublicKey(), Ed25519DsaSignerTest.this.getDsaSigner(keyPair).sign(input));
+        }
+
+        private int verifyBatch() {
+            return Ed25519DsaSignerTest.this.getDsaSigner(KeyPair.random(this.engine)).verifyBatch(this.data, this.publicKeys, this.signatures);
+        }
+    }
+
     @Override
     protected CryptoEngine getCryptoEngine() {
         return CryptoEngines.ed25519Engine();
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.*;
+import io.nem.core.test.ExceptionAssert;
+import io.nem.core.test.Utils;
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Ed25519PreparedSignerTest {
+
+    @Test
+    public void canCreatePreparedSignerFromEngine() {
+        // Arrange:
+        final CryptoEngine engine = CryptoEngines.ed25519Engine();
+        final KeyPair keyPair = KeyPair.random(engine);
+
+        // Act:
+        final PreparedSigner signer = engine.createPreparedSigner(keyPair);
+
+        // Assert:
+        Assert.assertThat(signer.getPublicKey(), IsEqual.equalTo(keyPair.getPublicKey()));
+    }
+
+    @Test
+    public void cannotCreatePreparedSignerWithoutPrivateKey() {
+        // Arrange:
+        final KeyPair keyPair = new KeyPair(KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey());
+
+        // Assert:
+        ExceptionAssert.assertThrows(v -> new Ed25519PreparedSigner(keyPair), CryptoException.class);
+    }
+
+    @Test
+    public void signReturnsSameSignatureAsDsaSigner() {
+        // Assert:
+        assertSameSignatureAsDsaSigner(CryptoEngines.ed25519Engine());
+    }
+
+    @Test
+    public void signReturnsSameSignatureAsDsaSignerWithRadix51Engine() {
+        // Assert:
+        assertSameSignatureAsDsaSigner(CryptoEngines.ed25519Radix51Engine());
+    }
+
+    private static void assertSameSignatureAsDsaSigner(final CryptoEngine engine) {
+        // Arrange:
+        final KeyPair keyPair = KeyPair.random(engine);
+        final DsaSigner dsaSigner = engine.createDsaSigner(keyPair);
+        try (final PreparedSigner signer = engine.createPreparedSigner(keyPair)) {
+            for (int i = 0; i < 20; i++) {
+                final byte[] input = Utils.generateRandomBytes(i * 10);
+
+                // Act:
+                final Signature signature = signer.sign(input);
+
+                // Assert:
+                Assert.assertThat(signature, IsEqual.equalTo(dsaSigner.sign(input)));
+                Assert.assertThat(dsaSigner.verify(input, signature), IsEqual.equalTo(true));
+            }
+        }
+    }
+
+    @Test
+    public void closeMarksSignerAsClosed() {
+        // Arrange:
+        final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(KeyPair.random(CryptoEngines.ed25519Engine()));
+
+        // Act:
+        final boolean isClosedBefore = signer.isClosed();
+        signer.close();
+
+        // Assert:
+        Assert.assertThat(isClosedBefore, IsEqual.equalTo(false));
+        Assert.assertThat(signer.isClosed(), IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void cannotSignWithClosedSigner() {
+        // Arrange:
+        final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(KeyPair.random(CryptoEngines.ed25519Engine()));
+        signer.close();
+
+        // Assert:
+        ExceptionAssert.assertThrows(v -> signer.sign(Utils.generateRandomBytes()), CryptoException.class);
+    }
+
+    @Test
+    public void closeCanBeCalledMoreThanOnce() {
+        // Arrange:
+        final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(KeyPair.random(CryptoEngines.ed25519Engine()));
+
+        // Act:
+        signer.close();
+        signer.close();
+
+        // Assert:
+        Assert.assertThat(signer.isClosed(), IsEqual.equalTo(true));
+    }
+}
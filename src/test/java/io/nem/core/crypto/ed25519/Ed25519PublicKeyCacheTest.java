@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.CryptoEngines;
+import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.Signature;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Ed25519PublicKeyCacheTest {
+
+    @Test
+    public void capacityIsDerivedFromMemoryBudget() {
+        // Act:
+        final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(100 * Ed25519PublicKeyCache.ESTIMATED_ENTRY_SIZE + 1);
+
+        // Assert:
+        Assert.assertThat(cache.getCapacity(), IsEqual.equalTo(100));
+        Assert.assertThat(cache.size(), IsEqual.equalTo(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateCacheWithNegativeMemoryBudget() {
+        // Act:
+        new Ed25519PublicKeyCache(-1);
+    }
+
+    @Test
+    public void getReturnsDecodedGroupElementPrecomputedForDoubleScalarMultiplication() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = createCache(10);
+        final byte[] rawPublicKey = createRawPublicKey();
+
+        // Act:
+        final Ed25519GroupElement A = cache.get(rawPublicKey);
+
+        // Assert:
+        Assert.assertThat(A, IsEqual.equalTo(new Ed25519EncodedGroupElement(rawPublicKey).decode()));
+        Assert.assertThat(A.isPrecomputedForDoubleScalarMultiplication(), IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void getCountsHitsAndMisses() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = createCache(10);
+        final byte[] rawPublicKey1 = createRawPublicKey();
+        final byte[] rawPublicKey2 = createRawPublicKey();
+
+        // Act:
+        final Ed25519GroupElement A1 = cache.get(rawPublicKey1);
+        final Ed25519GroupElement A2 = cache.get(rawPublicKey2);
+        final Ed25519GroupElement A3 = cache.get(rawPublicKey1.clone());
+
+        // Assert:
+        Assert.assertThat(A3, IsSame.sameInstance(A1));
+        Assert.assertThat(A2, IsNot.not(IsSame.sameInstance(A1)));
+        Assert.assertThat(cache.size(), IsEqual.equalTo(2));
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(1L));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(2L));
+    }
+
+    @Test
+    public void cacheIsNotAffectedByModificationOfKeyArray() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = createCache(10);
+        final byte[] rawPublicKey = createRawPublicKey();
+        final byte[] rawPublicKeyCopy = rawPublicKey.clone();
+        final Ed25519GroupElement A1 = cache.get(rawPublicKey);
+
+        // Act:
+        rawPublicKey[0] ^= 0xFF;
+        final Ed25519GroupElement A2 = cache.get(rawPublicKeyCopy);
+
+        // Assert:
+        Assert.assertThat(A2, IsSame.sameInstance(A1));
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() {
+        // Arrange: a cache with 16 segments that can hold one entry per segment
+        final Ed25519PublicKeyCache cache = createCache(16);
+        final byte[] rawPublicKey = createRawPublicKey();
+        cache.get(rawPublicKey);
+
+        // Act:
+        for (int i = 0; i < 100; ++i) {
+            cache.get(createRawPublicKey());
+        }
+
+        // Assert:
+        Assert.assertThat(cache.size() <= 16, IsEqual.equalTo(true));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(101L));
+        cache.get(rawPublicKey);
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(0L));
+    }
+
+    @Test
+    public void cacheWithZeroBudgetDoesNotStoreEntries() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = createCache(0);
+        final byte[] rawPublicKey = createRawPublicKey();
+
+        // Act:
+        cache.get(rawPublicKey);
+        cache.get(rawPublicKey);
+
+        // Assert:
+        Assert.assertThat(cache.size(), IsEqual.equalTo(0));
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(0L));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(2L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getThrowsIfPublicKeyCannotBeDecoded() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = createCache(10);
+
+        // Act:
+        cache.get(new byte[31]);
+    }
+
+    @Test
+    public void clearRemovesAllEntriesAndResetsCounters() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = createCache(10);
+        final byte[] rawPublicKey = createRawPublicKey();
+        cache.get(rawPublicKey);
+        cache.get(rawPublicKey);
+
+        // Act:
+        cache.clear();
+
+        // Assert:
+        Assert.assertThat(cache.size(), IsEqual.equalTo(0));
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(0L));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(0L));
+    }
+
+    @Test
+    public void signersCreatedByEngineShareCache() {
+        // Arrange:
+        final Ed25519CryptoEngine engine = new Ed25519CryptoEngine(createCache(10));
+        final KeyPair keyPair = KeyPair.random(engine);
+        final byte[] input = createRawPublicKey();
+        final Signature signature = engine.createDsaSigner(keyPair).sign(input);
+
+        // Act:
+        final boolean isVerified1 = engine.createDsaSigner(new KeyPair(keyPair.getPublicKey(), engine)).verify(input, signature);
+        final boolean isVerified2 = engine.createDsaSigner(new KeyPair(keyPair.getPublicKey(), engine)).verify(input, signature);
+
+        // Assert:
+        Assert.assertThat(isVerified1, IsEqual.equalTo(true));
+        Assert.assertThat(isVerified2, IsEqual.equalTo(true));
+        Assert.assertThat(engine.getPublicKeyCache().getMisses(), IsEqual.equalTo(1L));
+        Assert.assertThat(engine.getPublicKeyCache().getHits(), IsEqual.equalTo(1L));
+    }
+
+    private static Ed25519PublicKeyCache createCache(final int capacity) {
+        return new Ed25519PublicKeyCache(capacity * Ed25519PublicKeyCache.ESTIMATED_ENTRY_SIZE);
+    }
+
+    private static byte[] createRawPublicKey() {
+        return KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey().getRaw();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.CryptoEngine;
+import io.nem.core.crypto.CryptoEngineTest;
+import io.nem.core.crypto.CryptoEngines;
+
+public class Ed25519Radix51CryptoEngineTest extends CryptoEngineTest {
+
+    @Override
+    protected CryptoEngine getCryptoEngine() {
+        return CryptoEngines.ed25519Radix51Engine();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.*;
+import io.nem.core.test.Utils;
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Ed25519Radix51DsaSignerTest extends DsaSignerTest {
+
+    @Test
+    public void signReturnsSameSignatureAsDefaultEngine() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final KeyPair kp = KeyPair.random(CryptoEngines.ed25519Engine());
+            final KeyPair radix51Kp = new KeyPair(kp.getPrivateKey(), this.getCryptoEngine());
+            final byte[] input = Utils.generateRandomBytes();
+
+            // Act:
+            final Signature signature = this.getDsaSigner(radix51Kp).sign(input);
+
+            // Assert:
+            Assert.assertThat(radix51Kp.getPublicKey(), IsEqual.equalTo(kp.getPublicKey()));
+            Assert.assertThat(signature, IsEqual.equalTo(CryptoEngines.ed25519Engine().createDsaSigner(kp).sign(input)));
+        }
+    }
+
+    @Test
+    public void verifyReturnsSameResultAsDefaultEngine() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final KeyPair kp = KeyPair.random(CryptoEngines.ed25519Engine());
+            final byte[] input = Utils.generateRandomBytes();
+            final Signature signature = CryptoEngines.ed25519Engine().createDsaSigner(kp).sign(input);
+            final byte[] otherInput = Utils.generateRandomBytes();
+
+            // Act:
+            final DsaSigner dsaSigner = this.getDsaSigner(new KeyPair(kp.getPublicKey(), this.getCryptoEngine()));
+
+            // Assert:
+            Assert.assertThat(dsaSigner.verify(input, signature), IsEqual.equalTo(true));
+            Assert.assertThat(dsaSigner.verify(otherInput, signature), IsEqual.equalTo(false));
+        }
+    }
+
+    @Override
+    protected CryptoEngine getCryptoEngine() {
+        return CryptoEngines.ed25519Radix51Engine();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519;
+
+import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.PrivateKey;
+import io.nem.core.crypto.PublicKey;
+import io.nem.core.test.Utils;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Ed25519SharedSecretCacheTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateCacheWithNegativeCapacity() {
+        // Act:
+        new Ed25519SharedSecretCache(-1);
+    }
+
+    @Test
+    public void getDerivesSharedPointOnlyOncePerPairOfKeys() {
+        // Arrange:
+        final Ed25519SharedSecretCache cache = new Ed25519SharedSecretCache(10);
+        final KeyPair keyPair = new KeyPair();
+        final PublicKey publicKey = new KeyPair().getPublicKey();
+        final byte[] sharedPoint = Utils.generateRandomBytes(32);
+        final AtomicInteger numDerivations = new AtomicInteger();
+
+        // Act:
+        final byte[] sharedPoint1 = cache.get(keyPair.getPrivateKey(), publicKey, () -> {
+            numDerivations.incrementAndGet();
+            return sharedPoint.clone();
+        });
+        final byte[] sharedPoint2 = cache.get(keyPair.getPrivateKey(), publicKey, () -> {
+            numDerivations.incrementAndGet();
+            return sharedPoint.clone();
+        });
+
+        // Assert:
+        Assert.assertThat(numDerivations.get(), IsEqual.equalTo(1));
+        Assert.assertThat(sharedPoint1, IsEqual.equalTo(sharedPoint));
+        Assert.assertThat(sharedPoint2, IsEqual.equalTo(sharedPoint));
+        Assert.assertThat(cache.size(), IsEqual.equalTo(1));
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(1L));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(1L));
+    }
+
+    @Test
+    public void getReturnsCopiesOfCachedSharedPoints() {
+        // Arrange:
+        final Ed25519SharedSecretCache cache = new Ed25519SharedSecretCache(10);
+        final PrivateKey privateKey = new KeyPair().getPrivateKey();
+        final PublicKey publicKey = new KeyPair().getPublicKey();
+        final byte[] sharedPoint = Utils.generateRandomBytes(32);
+        cache.get(privateKey, publicKey, sharedPoint::clone);
+
+        // Act:
+        final byte[] sharedPoint1 = cache.get(privateKey, publicKey, sharedPoint::clone);
+        sharedPoint1[0] ^= 0xFF;
+        final byte[] sharedPoint2 = cache.get(privateKey, publicKey, sharedPoint::clone);
+
+        // Assert:
+        Assert.assertThat(sharedPoint2, IsNot.not(IsSame.sameInstance(sharedPoint1)));
+        Assert.assertThat(sharedPoint2, IsEqual.equalTo(sharedPoint));
+    }
+
+    @Test
+    public void getDistinguishesPrivateKeysAndPublicKeys() {
+        // Arrange:
+        final Ed25519SharedSecretCache cache = new Ed25519SharedSecretCache(10);
+        final PrivateKey privateKey1 = new KeyPair().getPrivateKey();
+        final PrivateKey privateKey2 = new KeyPair().getPrivateKey();
+        final PublicKey publicKey1 = new KeyPair().getPublicKey();
+        final PublicKey publicKey2 = new KeyPair().getPublicKey();
+
+        // Act:
+        cache.get(privateKey1, publicKey1, () -> new byte[32]);
+        cache.get(privateKey1, publicKey2, () -> new byte[32]);
+        cache.get(privateKey2, publicKey1, () -> new byte[32]);
+
+        // Assert:
+        Assert.assertThat(cache.size(), IsEqual.equalTo(3));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(3L));
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() {
+        // Arrange:
+        final Ed25519SharedSecretCache cache = new Ed25519SharedSecretCache(2);
+        final PrivateKey privateKey = new KeyPair().getPrivateKey();
+        final PublicKey publicKey1 = new KeyPair().getPublicKey();
+        final PublicKey publicKey2 = new KeyPair().getPublicKey();
+        final PublicKey publicKey3 = new KeyPair().getPublicKey();
+        cache.get(privateKey, publicKey1, () -> new byte[32]);
+        cache.get(privateKey, publicKey2, () -> new byte[32]);
+        cache.get(privateKey, publicKey1, () -> new byte[32]);
+
+        // Act:
+        cache.get(privateKey, publicKey3, () -> new byte[32]);
+        cache.get(privateKey, publicKey1, () -> new byte[32]);
+        cache.get(privateKey, publicKey2, () -> new byte[32]);
+
+        // Assert:
+        Assert.assertThat(cache.size(), IsEqual.equalTo(2));
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(2L));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(4L));
+    }
+
+    @Test
+    public void cacheWithZeroCapacityDoesNotCacheSharedPoints() {
+        // Arrange:
+        final Ed25519SharedSecretCache cache = new Ed25519SharedSecretCache(0);
+        final PrivateKey privateKey = new KeyPair().getPrivateKey();
+        final PublicKey publicKey = new KeyPair().getPublicKey();
+
+        // Act:
+        cache.get(privateKey, publicKey, () -> new byte[32]);
+        cache.get(privateKey, publicKey, () -> new byte[32]);
+
+        // Assert:
+        Assert.assertThat(cache.size(), IsEqual.equalTo(0));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(2L));
+    }
+
+    @Test
+    public void clearRemovesAllEntriesAndResetsCounters() {
+        // Arrange:
+        final Ed25519SharedSecretCache cache = new Ed25519SharedSecretCache(10);
+        final PrivateKey privateKey = new KeyPair().getPrivateKey();
+        final PublicKey publicKey = new KeyPair().getPublicKey();
+        cache.get(privateKey, publicKey, () -> new byte[32]);
+        cache.get(privateKey, publicKey, () -> new byte[32]);
+
+        // Act:
+        cache.clear();
+
+        // Assert:
+        Assert.assertThat(cache.size(), IsEqual.equalTo(0));
+        Assert.assertThat(cache.getHits(), IsEqual.equalTo(0L));
+        Assert.assertThat(cache.getMisses(), IsEqual.equalTo(0L));
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+/**
+ * Tests rely on the BigInteger class.
+ */
+public class Ed25519FieldArithmeticTest {
+
+    private static void assertEquals(final int[] f, final BigInteger b) {
+        final BigInteger b2 = MathUtils.toBigInteger(f);
+        Assert.assertThat(b2.mod(Ed25519Field.P), IsEqual.equalTo(b.mod(Ed25519Field.P)));
+    }
+
+    private static int[] getRandomRaw() {
+        return MathUtils.getRandomFieldElement().getRaw();
+    }
+
+    // region copy / zero / one
+
+    @Test
+    public void copyCopiesAllValues() {
+        // Arrange:
+        final int[] f = getRandomRaw();
+        final int[] h = new int[10];
+
+        // Act:
+        Ed25519FieldArithmetic.copy(h, f);
+
+        // Assert:
+        Assert.assertThat(h, IsEqual.equalTo(f));
+    }
+
+    @Test
+    public void copyWithOffsetCopiesValuesAtOffset() {
+        // Arrange:
+        final int[] f = getRandomRaw();
+        final int[] array = new int[25];
+        System.arraycopy(f, 0, array, 15, 10);
+        final int[] h = new int[10];
+
+        // Act:
+        Ed25519FieldArithmetic.copy(h, array, 15);
+
+        // Assert:
+        Assert.assertThat(h, IsEqual.equalTo(f));
+    }
+
+    @Test
+    public void zeroAndOneSetExpectedValues() {
+        // Arrange:
+        final int[] h1 = getRandomRaw();
+        final int[] h2 = getRandomRaw();
+
+        // Act:
+        Ed25519FieldArithmetic.zero(h1);
+        Ed25519FieldArithmetic.one(h2);
+
+        // Assert:
+        Assert.assertThat(h1, IsEqual.equalTo(Ed25519Field.ZERO.getRaw()));
+        Assert.assertThat(h2, IsEqual.equalTo(Ed25519Field.ONE.getRaw()));
+    }
+
+    // endregion
+
+    // region mod p arithmetic
+
+    @Test
+    public void addReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final int[] f1 = getRandomRaw();
+            final int[] f2 = getRandomRaw();
+            final int[] h = new int[10];
+
+            // Act:
+            Ed25519FieldArithmetic.add(h, f1, f2);
+
+            // Assert:
+            assertEquals(h, MathUtils.toBigInteger(f1).add(MathUtils.toBigInteger(f2)));
+        }
+    }
+
+    @Test
+    public void subtractReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final int[] f1 = getRandomRaw();
+            final int[] f2 = getRandomRaw();
+            final int[] h = new int[10];
+
+            // Act:
+            Ed25519FieldArithmetic.subtract(h, f1, f2);
+
+            // Assert:
+            assertEquals(h, MathUtils.toBigInteger(f1).subtract(MathUtils.toBigInteger(f2)));
+        }
+    }
+
+    @Test
+    public void negateReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final int[] f = getRandomRaw();
+            final int[] h = new int[10];
+
+            // Act:
+            Ed25519FieldArithmetic.negate(h, f);
+
+            // Assert:
+            assertEquals(h, MathUtils.toBigInteger(f).negate());
+        }
+    }
+
+    @Test
+    public void multiplyReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final int[] f1 = getRandomRaw();
+            final int[] f2 = getRandomRaw();
+            final int[] h = new int[10];
+
+            // Act:
+            Ed25519FieldArithmetic.multiply(h, f1, f2);
+
+            // Assert:
+            assertEquals(h, MathUtils.toBigInteger(f1).multiply(MathUtils.toBigInteger(f2)));
+        }
+    }
+
+    @Test
+    public void squareReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final int[] f = getRandomRaw();
+            final int[] h = new int[10];
+
+            // Act:
+            Ed25519FieldArithmetic.square(h, f);
+
+            // Assert:
+            final BigInteger b = MathUtils.toBigInteger(f);
+            assertEquals(h, b.multiply(b));
+        }
+    }
+
+    @Test
+    public void squareAndDoubleReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final int[] f = getRandomRaw();
+            final int[] h = new int[10];
+
+            // Act:
+            Ed25519FieldArithmetic.squareAndDouble(h, f);
+
+            // Assert:
+            final BigInteger b = MathUtils.toBigInteger(f);
+            assertEquals(h, b.multiply(b).multiply(new BigInteger("2")));
+        }
+    }
+
+    @Test
+    public void operationsCanWriteResultToInput() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+            final Ed25519FieldElement g = MathUtils.getRandomFieldElement();
+            final int[] h1 = f.getRaw().clone();
+            final int[] h2 = g.getRaw().clone();
+            final int[] h3 = f.getRaw().clone();
+            final int[] h4 = f.getRaw().clone();
+
+            // Act:
+            Ed25519FieldArithmetic.multiply(h1, h1, g.getRaw());
+            Ed25519FieldArithmetic.multiply(h2, f.getRaw(), h2);
+            Ed25519FieldArithmetic.square(h3, h3);
+            Ed25519FieldArithmetic.add(h4, h4, h4);
+
+            // Assert:
+            Assert.assertThat(h1, IsEqual.equalTo(f.multiply(g).getRaw()));
+            Assert.assertThat(h2, IsEqual.equalTo(f.multiply(g).getRaw()));
+            Assert.assertThat(h3, IsEqual.equalTo(f.square().getRaw()));
+            Assert.assertThat(h4, IsEqual.equalTo(f.add(f).getRaw()));
+        }
+    }
+
+    // endregion
+
+    // region cmov
+
+    @Test
+    public void cmovReplacesValuesIfFlagIsOne() {
+        // Arrange:
+        final int[] f = getRandomRaw();
+        final int[] h = getRandomRaw();
+
+        // Act:
+        Ed25519FieldArithmetic.cmov(h, f, 1);
+
+        // Assert:
+        Assert.assertThat(h, IsEqual.equalTo(f));
+    }
+
+    @Test
+    public void cmovDoesNotChangeValuesIfFlagIsZero() {
+        // Arrange:
+        final int[] f = getRandomRaw();
+        final int[] h = getRandomRaw();
+        final int[] original = h.clone();
+
+        // Act:
+        Ed25519FieldArithmetic.cmov(h, f, 0);
+
+        // Assert:
+        Assert.assertThat(h, IsEqual.equalTo(original));
+    }
+
+    @Test
+    public void cmovWithOffsetReplacesValuesOnlyIfFlagIsOne() {
+        // Arrange:
+        final int[] f = getRandomRaw();
+        final int[] array = new int[30];
+        System.arraycopy(f, 0, array, 10, 10);
+        final int[] h0 = getRandomRaw();
+        final int[] h1 = h0.clone();
+        final int[] original = h0.clone();
+
+        // Act:
+        Ed25519FieldArithmetic.cmov(h0, array, 10, 0);
+        Ed25519FieldArithmetic.cmov(h1, array, 10, 1);
+
+        // Assert:
+        Assert.assertThat(h0, IsEqual.equalTo(original));
+        Assert.assertThat(h1, IsEqual.equalTo(f));
+    }
+
+    // endregion
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public class Ed25519GroupArithmeticTest {
+    private static final int NUM_MEASURED_OPERATIONS = 200;
+
+    // region group operations
+
+    @Test
+    public void dblReturnsSameResultAsGroupElementDbl() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+            final Ed25519MutableGroupElement p3 = createMutable(g);
+            final Ed25519MutableGroupElement p2 = createMutable(g.toP2());
+            final Ed25519MutableGroupElement r1 = new Ed25519MutableGroupElement();
+            final Ed25519MutableGroupElement r2 = new Ed25519MutableGroupElement();
+
+            // Act:
+            new Ed25519GroupArithmetic().dbl(r1, p3);
+            new Ed25519GroupArithmetic().dbl(r2, p2);
+
+            // Assert:
+            assertSameRepresentation(r1, g.dbl());
+            assertSameRepresentation(r2, g.toP2().dbl());
+        }
+    }
+
+    @Test
+    public void addReturnsSameResultAsGroupElementAdd() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519GroupElement g1 = MathUtils.getRandomGroupElement();
+            final Ed25519GroupElement g2 = MathUtils.getRandomGroupElement();
+            final Ed25519MutableGroupElement r = new Ed25519MutableGroupElement();
+
+            // Act:
+            new Ed25519GroupArithmetic().add(r, createMutable(g1), g2.toCached());
+
+            // Assert:
+            assertSameRepresentation(r, g1.add(g2.toCached()));
+        }
+    }
+
+    @Test
+    public void subtractReturnsSameResultAsGroupElementSubtract() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519GroupElement g1 = MathUtils.getRandomGroupElement();
+            final Ed25519GroupElement g2 = MathUtils.getRandomGroupElement();
+            final Ed25519MutableGroupElement r = new Ed25519MutableGroupElement();
+
+            // Act:
+            new Ed25519GroupArithmetic().subtract(r, createMutable(g1), g2.toCached());
+
+            // Assert:
+            assertSameRepresentation(r, g1.subtract(g2.toCached()));
+        }
+    }
+
+    @Test
+    public void addAndSubtractSupportPrecomputedGroupElements() {
+        for (int i = 0; i < 10; i++) {
+            // Arrange:
+            final Ed25519GroupElement g1 = MathUtils.getRandomGroupElement();
+            final Ed25519GroupElement g2 = MathUtils.getRandomGroupElement();
+            g2.precomputeForDoubleScalarMultiplication();
+            final Ed25519GroupElement g2Precomputed = g2.getPrecomputedForDouble().get(0, 0);
+            final Ed25519MutableGroupElement r1 = new Ed25519MutableGroupElement();
+            final Ed25519MutableGroupElement r2 = new Ed25519MutableGroupElement();
+
+            // Act:
+            new Ed25519GroupArithmetic().add(r1, createMutable(g1), g2Precomputed);
+            new Ed25519GroupArithmetic().subtract(r2, createMutable(g1), g2Precomputed);
+
+            // Assert:
+            Assert.assertThat(r1.toGroupElement().toP3(), IsEqual.equalTo(MathUtils.addGroupElements(g1, g2)));
+            Assert.assertThat(r2.toGroupElement().toP3(), IsEqual.equalTo(MathUtils.addGroupElements(g1, MathUtils.negateGroupElement(g2))));
+        }
+    }
+
+    @Test
+    public void resultCanBeSameAsInput() {
+        // Arrange:
+        final Ed25519GroupElement g1 = MathUtils.getRandomGroupElement();
+        final Ed25519GroupElement g2 = MathUtils.getRandomGroupElement();
+        final Ed25519MutableGroupElement r1 = createMutable(g1);
+        final Ed25519MutableGroupElement r2 = createMutable(g1);
+
+        // Act:
+        new Ed25519GroupArithmetic().dbl(r1, r1);
+        new Ed25519GroupArithmetic().add(r2, r2, g2.toCached());
+
+        // Assert:
+        assertSameRepresentation(r1, g1.dbl());
+        assertSameRepresentation(r2, g1.add(g2.toCached()));
+    }
+
+    @Test
+    public void toP2AndToP3ReturnSameResultAsGroupElementConversion() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519GroupElement g = MathUtils.getRandomGroupElement().dbl();
+            final Ed25519MutableGroupElement r1 = new Ed25519MutableGroupElement();
+            final Ed25519MutableGroupElement r2 = new Ed25519MutableGroupElement();
+
+            // Act:
+            new Ed25519GroupArithmetic().toP2(r1, createMutable(g));
+            new Ed25519GroupArithmetic().toP3(r2, createMutable(g));
+
+            // Assert:
+            assertSameRepresentation(r1, g.toP2());
+            assertSameRepresentation(r2, g.toP3());
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void dblThrowsIfGroupElementIsNotInP2OrP3CoordinateSystem() {
+        // Arrange:
+        final Ed25519MutableGroupElement p = createMutable(MathUtils.getRandomGroupElement().toCached());
+
+        // Act:
+        new Ed25519GroupArithmetic().dbl(new Ed25519MutableGroupElement(), p);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addThrowsIfGroupElementIsNotInP3CoordinateSystem() {
+        // Arrange:
+        final Ed25519MutableGroupElement p = createMutable(MathUtils.getRandomGroupElement().toP2());
+
+        // Act:
+        new Ed25519GroupArithmetic().add(new Ed25519MutableGroupElement(), p, MathUtils.getRandomGroupElement().toCached());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addThrowsIfSummandIsNotInCachedOrPrecomputedCoordinateSystem() {
+        // Arrange:
+        final Ed25519MutableGroupElement p = createMutable(MathUtils.getRandomGroupElement());
+
+        // Act:
+        new Ed25519GroupArithmetic().add(new Ed25519MutableGroupElement(), p, MathUtils.getRandomGroupElement());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toP3ThrowsIfResultIsSameAsInput() {
+        // Arrange:
+        final Ed25519MutableGroupElement p = createMutable(MathUtils.getRandomGroupElement().dbl());
+
+        // Act:
+        new Ed25519GroupArithmetic().toP3(p, p);
+    }
+
+    // endregion
+
+    // region scalar multiplication
+
+    @Test
+    public void scalarMultiplyReturnsSameResultAsGroupElementScalarMultiply() {
+        // Arrange:
+        final Ed25519GroupElement basePoint = createBasePointWithoutFixedBaseTable();
+        final Ed25519GroupArithmetic arithmetic = new Ed25519GroupArithmetic();
+        final Ed25519MutableGroupElement r1 = new Ed25519MutableGroupElement();
+        final Ed25519MutableGroupElement r2 = new Ed25519MutableGroupElement();
+        for (int i = 0; i < 10; i++) {
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            arithmetic.scalarMultiply(r1, Ed25519Group.BASE_POINT, a);
+            arithmetic.scalarMultiply(r2, basePoint, a);
+
+            // Assert:
+            assertSameRepresentation(r1, Ed25519Group.BASE_POINT.scalarMultiply(a));
+            assertSameRepresentation(r2, basePoint.scalarMultiply(a));
+            Assert.assertThat(r1.toGroupElement().toP3(), IsEqual.equalTo(MathUtils.scalarMultiplyGroupElement(basePoint, MathUtils.toFieldElement(MathUtils.toBigInteger(a)))));
+        }
+    }
+
+    @Test
+    public void doubleScalarMultiplyVariableTimeReturnsSameResultAsGroupElementDoubleScalarMultiply() {
+        // Arrange:
+        final Ed25519GroupArithmetic arithmetic = new Ed25519GroupArithmetic();
+        final Ed25519MutableGroupElement r = new Ed25519MutableGroupElement();
+        for (int i = 0; i < 10; i++) {
+            final Ed25519GroupElement A = MathUtils.getRandomGroupElement();
+            A.precomputeForDoubleScalarMultiplication();
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+            final Ed25519EncodedFieldElement b = MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            arithmetic.doubleScalarMultiplyVariableTime(r, Ed25519Group.BASE_POINT, A, a, b);
+
+            // Assert:
+            assertSameRepresentation(r, Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(A, a, b));
+        }
+    }
+
+    @Test
+    public void scalarMultiplyDoesNotAllocateMemory() {
+        // Arrange:
+        final Ed25519GroupArithmetic arithmetic = new Ed25519GroupArithmetic();
+        final Ed25519MutableGroupElement r = new Ed25519MutableGroupElement();
+        final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+        // Act:
+        final long bytesPerOperation = measureAllocatedBytesPerOperation(() -> arithmetic.scalarMultiply(r, Ed25519Group.BASE_POINT, a));
+
+        // Assert:
+        Assert.assertThat(bytesPerOperation < 64, IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void doubleScalarMultiplyVariableTimeDoesNotAllocateMemory() {
+        // Arrange:
+        final Ed25519GroupArithmetic arithmetic = new Ed25519GroupArithmetic();
+        final Ed25519MutableGroupElement r = new Ed25519MutableGroupElement();
+        final Ed25519GroupElement A = MathUtils.getRandomGroupElement();
+        A.precomputeForDoubleScalarMultiplication();
+        final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+        final Ed25519EncodedFieldElement b = MathUtils.getRandomEncodedFieldElement(32);
+
+        // Act:
+        final long bytesPerOperation = measureAllocatedBytesPerOperation(
+                () -> arithmetic.doubleScalarMultiplyVariableTime(r, Ed25519Group.BASE_POINT, A, a, b));
+
+        // Assert:
+        Assert.assertThat(bytesPerOperation < 64, IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void groupElementScalarMultiplicationOnlyAllocatesResult() {
+        // Arrange:
+        final Ed25519GroupElement A = MathUtils.getRandomGroupElement();
+        A.precomputeForDoubleScalarMultiplication();
+        final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+        final Ed25519EncodedFieldElement b = MathUtils.getRandomEncodedFieldElement(32);
+
+        // Act:
+        final long bytesPerScalarMultiply = measureAllocatedBytesPerOperation(() -> Ed25519Group.BASE_POINT.scalarMultiply(a));
+        final long bytesPerDoubleScalarMultiply = measureAllocatedBytesPerOperation(
+                () -> Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(A, a, b));
+
+        // Assert: a group element with four coordinates needs less than 1K
+        Assert.assertThat(bytesPerScalarMultiply < 1024, IsEqual.equalTo(true));
+        Assert.assertThat(bytesPerDoubleScalarMultiply < 1024, IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void forCurrentThreadReturnsSameInstanceForSameThread() {
+        // Act:
+        final Ed25519GroupArithmetic arithmetic1 = Ed25519GroupArithmetic.forCurrentThread();
+        final Ed25519GroupArithmetic arithmetic2 = Ed25519GroupArithmetic.forCurrentThread();
+
+        // Assert:
+        Assert.assertThat(arithmetic1 == arithmetic2, IsEqual.equalTo(true));
+    }
+
+    // endregion
+
+    private static Ed25519MutableGroupElement createMutable(final Ed25519GroupElement g) {
+        final Ed25519MutableGroupElement mutable = new Ed25519MutableGroupElement();
+        mutable.set(g);
+        return mutable;
+    }
+
+    private static void assertSameRepresentation(final Ed25519MutableGroupElement mutable, final Ed25519GroupElement g) {
+        // bit for bit comparison of the coordinates
+        Assert.assertThat(mutable.getCoordinateSystem(), IsEqual.equalTo(g.getCoordinateSystem()));
+        Assert.assertThat(mutable.getX(), IsEqual.equalTo(g.getX().getRaw()));
+        Assert.assertThat(mutable.getY(), IsEqual.equalTo(g.getY().getRaw()));
+        Assert.assertThat(mutable.getZ(), IsEqual.equalTo(g.getZ().getRaw()));
+        if (null != g.getT()) {
+            Assert.assertThat(mutable.getT(), IsEqual.equalTo(g.getT().getRaw()));
+        }
+    }
+
+    private static Ed25519GroupElement createBasePointWithoutFixedBaseTable() {
+        final Ed25519GroupElement basePoint = Ed25519Group.BASE_POINT;
+        final Ed25519GroupElement g = Ed25519GroupElement.p3(basePoint.getX(), basePoint.getY(), basePoint.getZ(), basePoint.getT());
+        g.precomputeForScalarMultiplication();
+        return g;
+    }
+
+    private static long measureAllocatedBytesPerOperation(final Runnable operation) {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeThat(bean instanceof com.sun.management.ThreadMXBean, IsEqual.equalTo(true));
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        final long threadId = Thread.currentThread().getId();
+
+        // warm up so that the measurement does not include class loading and thread local initialization
+        for (int i = 0; i < NUM_MEASURED_OPERATIONS; i++) {
+            operation.run();
+        }
+
+        final long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < NUM_MEASURED_OPERATIONS; i++) {
+            operation.run();
+        }
+
+        final long end = threadBean.getThreadAllocatedBytes(threadId);
+        return (end - start) / NUM_MEASURED_OPERATIONS;
+    }
+}
@@ -18,6 +18,7 @@ package io.nem.core.crypto.ed25519.arithmetic;
 
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsNull;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -142,6 +143,38 @@ public class Ed25519GroupElementTest {
         }
     }
 
+    @Test
+    public void encodeAllReturnsSameResultAsEncode() {
+        // Arrange:
+        final CoordinateSystem[] coordinateSystems = new CoordinateSystem[] {
+                CoordinateSystem.P2,
+                CoordinateSystem.P3,
+                CoordinateSystem.P1xP1
+        };
+        final Ed25519GroupElement[] elements = new Ed25519GroupElement[100];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = MathUtils.toRepresentation(MathUtils.getRandomGroupElement(), coordinateSystems[i % coordinateSystems.length]);
+        }
+
+        // Act:
+        final Ed25519EncodedGroupElement[] encoded = Ed25519GroupElement.encodeAll(elements);
+
+        // Assert:
+        Assert.assertThat(encoded.length, IsEqual.equalTo(elements.length));
+        for (int i = 0; i < elements.length; i++) {
+            Assert.assertThat(encoded[i], IsEqual.equalTo(elements[i].encode()));
+        }
+    }
+
+    @Test
+    public void encodeAllReturnsEmptyArrayForEmptyArray() {
+        // Act:
+        final Ed25519EncodedGroupElement[] encoded = Ed25519GroupElement.encodeAll(new Ed25519GroupElement[0]);
+
+        // Assert:
+        Assert.assertThat(encoded.length, IsEqual.equalTo(0));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void toP2ThrowsIfGroupElementHasPrecompRepresentation() {
         // Arrange:
@@ -366,7 +399,7 @@ public class Ed25519GroupElementTest {
             Ed25519GroupElement h = g;
             for (int j = 0; j < 8; j++) {
                 Assert.assertThat(MathUtils.toRepresentation(h, CoordinateSystem.PRECOMPUTED),
-                        IsEqual.equalTo(Ed25519Group.BASE_POINT.getPrecomputedForSingle()[i][j]));
+                        IsEqual.equalTo(Ed25519Group.BASE_POINT.getPrecomputedForSingle().get(i, j)));
                 h = MathUtils.addGroupElements(h, g);
             }
             for (int k = 0; k < 8; k++) {
@@ -375,6 +408,40 @@ public class Ed25519GroupElementTest {
         }
     }
 
+    @Test
+    public void fixedBasePrecomputedTableContainsExpectedGroupElements() {
+        // Arrange:
+        final int windowWidth = Ed25519GroupElement.FIXED_BASE_WINDOW_WIDTH;
+        final Ed25519PrecomputedTable table = Ed25519Group.BASE_POINT.getPrecomputedForFixedBase();
+        Ed25519GroupElement g = Ed25519Group.BASE_POINT;
+
+        // Act + Assert:
+        Assert.assertThat(table.getRowCount(), IsEqual.equalTo((256 + windowWidth - 1) / windowWidth));
+        Assert.assertThat(table.getRowLength(), IsEqual.equalTo(1 << (windowWidth - 1)));
+        for (int i = 0; i < table.getRowCount(); i++) {
+            Ed25519GroupElement h = g;
+            for (int j = 0; j < table.getRowLength(); j++) {
+                Assert.assertThat(MathUtils.toRepresentation(h, CoordinateSystem.PRECOMPUTED), IsEqual.equalTo(table.get(i, j)));
+                h = MathUtils.addGroupElements(h, g);
+            }
+            for (int k = 0; k < windowWidth; k++) {
+                g = MathUtils.addGroupElements(g, g);
+            }
+        }
+    }
+
+    @Test
+    public void fixedBaseTableIsOnlyPrecomputedOnRequest() {
+        // Arrange:
+        final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+
+        // Act:
+        g.precomputeForScalarMultiplication();
+
+        // Assert:
+        Assert.assertThat(g.getPrecomputedForFixedBase(), IsNull.nullValue());
+    }
+
     @Test
     public void dblPrecomputedTableContainsExpectedGroupElements() {
         // Arrange:
@@ -384,7 +451,7 @@ public class Ed25519GroupElementTest {
         // Act + Assert:
         for (int i = 0; i < 8; i++) {
             Assert.assertThat(MathUtils.toRepresentation(g, CoordinateSystem.PRECOMPUTED),
-                    IsEqual.equalTo(Ed25519Group.BASE_POINT.getPrecomputedForDouble()[i]));
+                    IsEqual.equalTo(Ed25519Group.BASE_POINT.getPrecomputedForDouble().get(0, i)));
             g = MathUtils.addGroupElements(g, h);
         }
     }
@@ -541,6 +608,23 @@ public class Ed25519GroupElementTest {
         Assert.assertThat(basePoint, IsEqual.equalTo(g));
     }
 
+    @Test
+    public void scalarMultiplyWithFixedBaseTableReturnsSameResultAsWithoutFixedBaseTable() {
+        // Arrange:
+        final Ed25519GroupElement basePoint = new Ed25519EncodedGroupElement(Ed25519Group.BASE_POINT.encode().getRaw()).decode();
+        basePoint.precomputeForScalarMultiplication();
+        for (int i = 0; i < 100; i++) {
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            final Ed25519GroupElement g = Ed25519Group.BASE_POINT.scalarMultiply(a);
+            final Ed25519GroupElement h = basePoint.scalarMultiply(a);
+
+            // Assert:
+            Assert.assertThat(g, IsEqual.equalTo(h));
+        }
+    }
+
     // This test is slow (~6s) due to math utils using an inferior algorithm to calculate the result.
     @Test
     public void scalarMultiplyBasePointReturnsExpectedResult() {
@@ -578,8 +662,73 @@ public class Ed25519GroupElementTest {
         }
     }
 
+    @Test
+    public void multiScalarMultiplyVariableTimeReturnsExpectedResult() {
+        for (int i = 0; i < 10; i++) {
+            // Arrange:
+            final Ed25519GroupElement basePoint = Ed25519Group.BASE_POINT;
+            final Ed25519GroupElement g1 = MathUtils.getRandomGroupElement();
+            final Ed25519GroupElement g2 = MathUtils.getRandomGroupElement();
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+            final Ed25519FieldElement f1 = MathUtils.getRandomFieldElement();
+            final Ed25519FieldElement f2 = MathUtils.getRandomFieldElement();
+
+            // Act:
+            final Ed25519GroupElement h1 = basePoint.multiScalarMultiplyVariableTime(
+                    new Ed25519GroupElement[]{g1, g2},
+                    new Ed25519EncodedFieldElement[]{f1.encode(), f2.encode()},
+                    f.encode());
+            final Ed25519GroupElement h2 = MathUtils.addGroupElements(
+                    MathUtils.doubleScalarMultiplyGroupElements(basePoint, f, g1, f1),
+                    MathUtils.negateGroupElement(MathUtils.scalarMultiplyGroupElement(g2, f2)));
+
+            // Assert:
+            Assert.assertThat(h1, IsEqual.equalTo(h2));
+        }
+    }
+
+    @Test
+    public void multiScalarMultiplyVariableTimeWithoutPointsReturnsScalarMultiple() {
+        // Arrange:
+        final Ed25519GroupElement basePoint = Ed25519Group.BASE_POINT;
+        final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+
+        // Act:
+        final Ed25519GroupElement h1 = basePoint.multiScalarMultiplyVariableTime(
+                new Ed25519GroupElement[0],
+                new Ed25519EncodedFieldElement[0],
+                f.encode());
+        final Ed25519GroupElement h2 = MathUtils.scalarMultiplyGroupElement(basePoint, f);
+
+        // Assert:
+        Assert.assertThat(h1, IsEqual.equalTo(h2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void multiScalarMultiplyVariableTimeThrowsIfNumberOfPointsAndScalarsDiffer() {
+        // Act:
+        Ed25519Group.BASE_POINT.multiScalarMultiplyVariableTime(
+                new Ed25519GroupElement[]{MathUtils.getRandomGroupElement()},
+                new Ed25519EncodedFieldElement[0],
+                MathUtils.getRandomFieldElement().encode());
+    }
+
     // endregion
 
+    @Test
+    public void isNeutralReturnsTrueOnlyForNeutralElement() {
+        // Arrange:
+        final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+        final Ed25519GroupElement neutral = g.subtract(g.toCached());
+
+        // Assert:
+        Assert.assertThat(Ed25519Group.ZERO_P2.isNeutral(), IsEqual.equalTo(true));
+        Assert.assertThat(Ed25519Group.ZERO_P3.isNeutral(), IsEqual.equalTo(true));
+        Assert.assertThat(neutral.isNeutral(), IsEqual.equalTo(true));
+        Assert.assertThat(g.isNeutral(), IsEqual.equalTo(false));
+        Assert.assertThat(Ed25519Group.BASE_POINT.isNeutral(), IsEqual.equalTo(false));
+    }
+
     @Test
     public void satisfiesCurveEquationReturnsTrueForPointsOnTheCurve() {
         for (int i = 0; i < 100; i++) {
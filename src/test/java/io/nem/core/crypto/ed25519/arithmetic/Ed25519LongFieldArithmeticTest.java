@@ -0,0 +1,360 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Random;
+
+/**
+ * Tests compare the results with the ones of Ed25519FieldElement (differential tests) and BigInteger.
+ */
+public class Ed25519LongFieldArithmeticTest {
+    private static final int NUM_DIFFERENTIAL_ITERATIONS = 1_000_000;
+    private static final long MAX_LIMB = (1L << 53) - 1;
+
+    private static long[] toLong(final Ed25519FieldElement f) {
+        final long[] h = new long[5];
+        Ed25519LongFieldArithmetic.fromIntLimbs(h, f.getRaw());
+        return h;
+    }
+
+    private static BigInteger toBigInteger(final long[] h) {
+        BigInteger b = BigInteger.ZERO;
+        for (int i = 4; i >= 0; i--) {
+            b = b.shiftLeft(51).add(BigInteger.valueOf(h[i]));
+        }
+
+        return b;
+    }
+
+    private static byte[] encode(final long[] h) {
+        final byte[] s = new byte[32];
+        Ed25519LongFieldArithmetic.encode(s, h);
+        return s;
+    }
+
+    private static void assertEquals(final long[] h, final Ed25519FieldElement f) {
+        Assert.assertThat(encode(h), IsEqual.equalTo(f.encode().getRaw()));
+    }
+
+    private static void assertReduced(final long[] h) {
+        for (final long limb : h) {
+            Assert.assertThat(0 <= limb && limb < (1L << 51) + (1L << 18), IsEqual.equalTo(true));
+        }
+    }
+
+    private static Ed25519FieldElement getRandomFieldElement(final Random random) {
+        // same distribution as MathUtils.getRandomFieldElement() but faster for the differential tests
+        final int[] t = new int[10];
+        for (int j = 0; j < 10; j++) {
+            t[j] = random.nextInt(1 << 25) - (1 << 24);
+        }
+
+        return new Ed25519FieldElement(t);
+    }
+
+    private static long[] getRandomUnreducedLimbs(final Random random) {
+        final long[] h = new long[5];
+        for (int i = 0; i < 5; i++) {
+            h[i] = random.nextLong() & MAX_LIMB;
+        }
+
+        return h;
+    }
+
+    // region multiplyHigh
+
+    @Test
+    public void multiplyHighPortableReturnsHighWordOfProduct() {
+        // Arrange:
+        final Random random = new SecureRandom();
+        final long[] specialValues = { 0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 0xFFFFFFFFL, 1L << 32 };
+        for (int i = 0; i < 10000; i++) {
+            final long x = i < specialValues.length * specialValues.length ? specialValues[i % specialValues.length] : random.nextLong();
+            final long y = i < specialValues.length * specialValues.length ? specialValues[i / specialValues.length] : random.nextLong();
+
+            // Act:
+            final long high = Ed25519LongFieldArithmetic.multiplyHighPortable(x, y);
+
+            // Assert:
+            final BigInteger product = BigInteger.valueOf(x).multiply(BigInteger.valueOf(y));
+            Assert.assertThat(high, IsEqual.equalTo(product.shiftRight(64).longValue()));
+        }
+    }
+
+    @Test
+    public void multiplyHighReturnsSameResultAsPortableFallback() {
+        // Arrange:
+        final Random random = new SecureRandom();
+        for (int i = 0; i < 10000; i++) {
+            final long x = random.nextLong();
+            final long y = random.nextLong();
+
+            // Assert:
+            Assert.assertThat(
+                    Ed25519LongFieldArithmetic.multiplyHigh(x, y),
+                    IsEqual.equalTo(Ed25519LongFieldArithmetic.multiplyHighPortable(x, y)));
+        }
+    }
+
+    // endregion
+
+    // region conversion / encode
+
+    @Test
+    public void fromIntLimbsReturnsReducedEquivalentFieldElement() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+
+            // Act:
+            final long[] h = toLong(f);
+
+            // Assert:
+            assertReduced(h);
+            Assert.assertThat(toBigInteger(h).mod(Ed25519Field.P), IsEqual.equalTo(MathUtils.toBigInteger(f).mod(Ed25519Field.P)));
+        }
+    }
+
+    @Test
+    public void fromIntLimbsHandlesNegativeLimbs() {
+        // Arrange:
+        final Ed25519FieldElement f = Ed25519Field.ONE.negate();
+
+        // Act:
+        final long[] h = toLong(f);
+
+        // Assert:
+        assertReduced(h);
+        assertEquals(h, f);
+    }
+
+    @Test
+    public void fromIntLimbsWithOffsetConvertsFieldElementAtOffset() {
+        // Arrange:
+        final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+        final int[] array = new int[30];
+        System.arraycopy(f.getRaw(), 0, array, 20, 10);
+        final long[] h = new long[5];
+
+        // Act:
+        Ed25519LongFieldArithmetic.fromIntLimbs(h, array, 20);
+
+        // Assert:
+        Assert.assertThat(h, IsEqual.equalTo(toLong(f)));
+    }
+
+    @Test
+    public void encodeReturnsCanonicalEncoding() {
+        // Arrange:
+        final Random random = new SecureRandom();
+        for (int i = 0; i < 1000; i++) {
+            final long[] h = getRandomUnreducedLimbs(random);
+
+            // Act:
+            final byte[] s = encode(h);
+
+            // Assert:
+            Assert.assertThat(MathUtils.toBigInteger(s), IsEqual.equalTo(toBigInteger(h).mod(Ed25519Field.P)));
+        }
+    }
+
+    @Test
+    public void encodeReducesValuesBetweenPAndTwoToThe255() {
+        // Arrange: p + 1 and 2^255 - 1 = p + 18
+        final long mask = (1L << 51) - 1;
+        final long[] pPlusOne = { mask - 17, mask, mask, mask, mask };
+        final long[] twoTo255MinusOne = { mask, mask, mask, mask, mask };
+
+        // Assert:
+        Assert.assertThat(MathUtils.toBigInteger(encode(pPlusOne)), IsEqual.equalTo(BigInteger.ONE));
+        Assert.assertThat(MathUtils.toBigInteger(encode(twoTo255MinusOne)), IsEqual.equalTo(BigInteger.valueOf(18)));
+    }
+
+    // endregion
+
+    // region arithmetic
+
+    @Test
+    public void addReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+            final Ed25519FieldElement g = MathUtils.getRandomFieldElement();
+            final long[] h = new long[5];
+
+            // Act:
+            Ed25519LongFieldArithmetic.add(h, toLong(f), toLong(g));
+
+            // Assert:
+            assertEquals(h, f.add(g));
+        }
+    }
+
+    @Test
+    public void subtractReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+            final Ed25519FieldElement g = MathUtils.getRandomFieldElement();
+            final long[] h = new long[5];
+
+            // Act:
+            Ed25519LongFieldArithmetic.subtract(h, toLong(f), toLong(g));
+
+            // Assert:
+            assertReduced(h);
+            assertEquals(h, f.subtract(g));
+        }
+    }
+
+    @Test
+    public void negateReturnsCorrectResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+            final long[] h = new long[5];
+
+            // Act:
+            Ed25519LongFieldArithmetic.negate(h, toLong(f));
+
+            // Assert:
+            assertReduced(h);
+            assertEquals(h, f.negate());
+        }
+    }
+
+    @Test
+    public void multiplyReturnsSameResultAsFieldElement() {
+        // Arrange:
+        final Random random = new Random(new SecureRandom().nextLong());
+        final long[] f = new long[5];
+        final long[] g = new long[5];
+        final long[] h = new long[5];
+        for (int i = 0; i < NUM_DIFFERENTIAL_ITERATIONS; i++) {
+            final Ed25519FieldElement f1 = getRandomFieldElement(random);
+            final Ed25519FieldElement g1 = getRandomFieldElement(random);
+            Ed25519LongFieldArithmetic.fromIntLimbs(f, f1.getRaw());
+            Ed25519LongFieldArithmetic.fromIntLimbs(g, g1.getRaw());
+
+            // Act:
+            Ed25519LongFieldArithmetic.multiply(h, f, g);
+
+            // Assert:
+            assertEquals(h, f1.multiply(g1));
+        }
+    }
+
+    @Test
+    public void squareReturnsSameResultAsFieldElement() {
+        // Arrange:
+        final Random random = new Random(new SecureRandom().nextLong());
+        final long[] f = new long[5];
+        final long[] h = new long[5];
+        for (int i = 0; i < NUM_DIFFERENTIAL_ITERATIONS; i++) {
+            final Ed25519FieldElement f1 = getRandomFieldElement(random);
+            Ed25519LongFieldArithmetic.fromIntLimbs(f, f1.getRaw());
+
+            // Act:
+            Ed25519LongFieldArithmetic.square(h, f);
+
+            // Assert:
+            assertEquals(h, f1.square());
+        }
+    }
+
+    @Test
+    public void multiplyAndSquareReturnReducedResultsForMaximalInputs() {
+        // Arrange:
+        final Random random = new SecureRandom();
+        final long[] h = new long[5];
+        for (int i = 0; i < 10000; i++) {
+            final long[] f = 0 == i ? new long[] { MAX_LIMB, MAX_LIMB, MAX_LIMB, MAX_LIMB, MAX_LIMB } : getRandomUnreducedLimbs(random);
+            final long[] g = 0 == i ? f : getRandomUnreducedLimbs(random);
+            final BigInteger b = toBigInteger(f);
+
+            // Act + Assert:
+            Ed25519LongFieldArithmetic.multiply(h, f, g);
+            assertReduced(h);
+            Assert.assertThat(toBigInteger(h).mod(Ed25519Field.P), IsEqual.equalTo(b.multiply(toBigInteger(g)).mod(Ed25519Field.P)));
+
+            Ed25519LongFieldArithmetic.square(h, f);
+            assertReduced(h);
+            Assert.assertThat(toBigInteger(h).mod(Ed25519Field.P), IsEqual.equalTo(b.multiply(b).mod(Ed25519Field.P)));
+        }
+    }
+
+    @Test
+    public void multiplyAndSquareSupportAliasedArguments() {
+        // Arrange:
+        final Ed25519FieldElement f1 = MathUtils.getRandomFieldElement();
+        final long[] f = toLong(f1);
+        final long[] g = toLong(f1);
+
+        // Act:
+        Ed25519LongFieldArithmetic.multiply(f, f, f);
+        Ed25519LongFieldArithmetic.square(g, g);
+
+        // Assert:
+        assertEquals(f, f1.square());
+        assertEquals(g, f1.square());
+    }
+
+    @Test
+    public void cmovReturnsCorrectResult() {
+        // Arrange:
+        final long[] f = toLong(MathUtils.getRandomFieldElement());
+        final long[] g = toLong(MathUtils.getRandomFieldElement());
+        final long[] h0 = f.clone();
+        final long[] h1 = f.clone();
+
+        // Act:
+        Ed25519LongFieldArithmetic.cmov(h0, g, 0);
+        Ed25519LongFieldArithmetic.cmov(h1, g, 1);
+
+        // Assert:
+        Assert.assertThat(h0, IsEqual.equalTo(f));
+        Assert.assertThat(h1, IsEqual.equalTo(g));
+    }
+
+    @Test
+    public void cmovWithOffsetReturnsCorrectResult() {
+        // Arrange:
+        final long[] f = toLong(MathUtils.getRandomFieldElement());
+        final long[] g = toLong(MathUtils.getRandomFieldElement());
+        final long[] array = new long[15];
+        System.arraycopy(g, 0, array, 5, 5);
+        final long[] h0 = f.clone();
+        final long[] h1 = f.clone();
+
+        // Act:
+        Ed25519LongFieldArithmetic.cmov(h0, array, 5, 0);
+        Ed25519LongFieldArithmetic.cmov(h1, array, 5, 1);
+
+        // Assert:
+        Assert.assertThat(h0, IsEqual.equalTo(f));
+        Assert.assertThat(h1, IsEqual.equalTo(g));
+    }
+
+    // endregion
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Differential tests comparing the results with the ones of Ed25519IntFieldBackend.
+ */
+public class Ed25519LongFieldBackendTest {
+    private static final int NUM_ITERATIONS = 1000;
+    private static final Ed25519FieldBackend INT_BACKEND = new Ed25519IntFieldBackend();
+    private static final Ed25519FieldBackend LONG_BACKEND = new Ed25519LongFieldBackend();
+
+    @Test
+    public void scalarMultiplyBasePointReturnsSameResultAsIntBackend() {
+        for (int i = 0; i < NUM_ITERATIONS; i++) {
+            // Arrange:
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            final Ed25519EncodedGroupElement result = LONG_BACKEND.scalarMultiplyBasePoint(a);
+
+            // Assert:
+            Assert.assertThat(result, IsEqual.equalTo(INT_BACKEND.scalarMultiplyBasePoint(a)));
+        }
+    }
+
+    @Test
+    public void scalarMultiplyBasePointReturnsNeutralElementForZero() {
+        // Act:
+        final Ed25519EncodedGroupElement result = LONG_BACKEND.scalarMultiplyBasePoint(new Ed25519EncodedFieldElement(new byte[32]));
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(Ed25519Group.ZERO_P3.encode()));
+    }
+
+    @Test
+    public void scalarMultiplyBasePointsReturnsSameResultAsIntBackend() {
+        // Arrange:
+        final Ed25519EncodedFieldElement[] a = new Ed25519EncodedFieldElement[NUM_ITERATIONS / 10];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = MathUtils.getRandomEncodedFieldElement(32);
+        }
+
+        // Act:
+        final Ed25519EncodedGroupElement[] result = LONG_BACKEND.scalarMultiplyBasePoints(a);
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(INT_BACKEND.scalarMultiplyBasePoints(a)));
+        for (int i = 0; i < a.length; i++) {
+            Assert.assertThat(result[i], IsEqual.equalTo(INT_BACKEND.scalarMultiplyBasePoint(a[i])));
+        }
+    }
+
+    @Test
+    public void scalarMultiplyBasePointsSupportsNeutralElementAndEmptyBatch() {
+        // Arrange:
+        final Ed25519EncodedFieldElement[] a = new Ed25519EncodedFieldElement[] {
+                MathUtils.getRandomEncodedFieldElement(32),
+                new Ed25519EncodedFieldElement(new byte[32])
+        };
+
+        // Act:
+        final Ed25519EncodedGroupElement[] result = LONG_BACKEND.scalarMultiplyBasePoints(a);
+
+        // Assert:
+        Assert.assertThat(result[0], IsEqual.equalTo(INT_BACKEND.scalarMultiplyBasePoint(a[0])));
+        Assert.assertThat(result[1], IsEqual.equalTo(Ed25519Group.ZERO_P3.encode()));
+        Assert.assertThat(LONG_BACKEND.scalarMultiplyBasePoints(new Ed25519EncodedFieldElement[0]).length, IsEqual.equalTo(0));
+    }
+
+    @Test
+    public void scalarMultiplyReturnsSameResultAsIntBackend() {
+        for (int i = 0; i < NUM_ITERATIONS / 10; i++) {
+            // Arrange:
+            final Ed25519GroupElement A = MathUtils.getRandomGroupElement();
+            A.precomputeForScalarMultiplication();
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            final Ed25519EncodedGroupElement result = LONG_BACKEND.scalarMultiply(A, a);
+
+            // Assert:
+            Assert.assertThat(result, IsEqual.equalTo(INT_BACKEND.scalarMultiply(A, a)));
+        }
+    }
+
+    @Test
+    public void doubleScalarMultiplyBasePointVariableTimeReturnsSameResultAsIntBackend() {
+        for (int i = 0; i < NUM_ITERATIONS; i++) {
+            // Arrange:
+            final Ed25519GroupElement A = MathUtils.getRandomGroupElement();
+            A.precomputeForDoubleScalarMultiplication();
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+            final Ed25519EncodedFieldElement b = MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            final Ed25519EncodedGroupElement result = LONG_BACKEND.doubleScalarMultiplyBasePointVariableTime(A, a, b);
+
+            // Assert:
+            Assert.assertThat(result, IsEqual.equalTo(INT_BACKEND.doubleScalarMultiplyBasePointVariableTime(A, a, b)));
+        }
+    }
+
+    @Test
+    public void doubleScalarMultiplyBasePointVariableTimeReturnsNeutralElementForZeroScalars() {
+        // Arrange:
+        final Ed25519GroupElement A = MathUtils.getRandomGroupElement();
+        A.precomputeForDoubleScalarMultiplication();
+        final Ed25519EncodedFieldElement zero = new Ed25519EncodedFieldElement(new byte[32]);
+
+        // Act:
+        final Ed25519EncodedGroupElement result = LONG_BACKEND.doubleScalarMultiplyBasePointVariableTime(A, zero, zero);
+
+        // Assert:
+        Assert.assertThat(result, IsEqual.equalTo(Ed25519Group.ZERO_P3.encode()));
+    }
+}
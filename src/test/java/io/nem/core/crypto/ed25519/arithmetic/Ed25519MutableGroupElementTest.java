@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Ed25519MutableGroupElementTest {
+
+    @Test
+    public void newGroupElementIsNeutralElementInP3CoordinateSystem() {
+        // Act:
+        final Ed25519MutableGroupElement g = new Ed25519MutableGroupElement();
+
+        // Assert:
+        Assert.assertThat(g.getCoordinateSystem(), IsEqual.equalTo(CoordinateSystem.P3));
+        Assert.assertThat(g.toGroupElement(), IsEqual.equalTo(Ed25519Group.ZERO_P3));
+    }
+
+    @Test
+    public void setNeutralP2SetsNeutralElementInP2CoordinateSystem() {
+        // Arrange:
+        final Ed25519MutableGroupElement g = new Ed25519MutableGroupElement();
+        g.set(MathUtils.getRandomGroupElement());
+
+        // Act:
+        g.setNeutralP2();
+
+        // Assert:
+        Assert.assertThat(g.getCoordinateSystem(), IsEqual.equalTo(CoordinateSystem.P2));
+        Assert.assertThat(g.toGroupElement(), IsEqual.equalTo(Ed25519Group.ZERO_P2));
+    }
+
+    @Test
+    public void setCopiesCoordinatesAndCoordinateSystem() {
+        // Arrange:
+        final Ed25519GroupElement original = MathUtils.getRandomGroupElement().toCached();
+        final Ed25519MutableGroupElement g = new Ed25519MutableGroupElement();
+
+        // Act:
+        g.set(original);
+
+        // Assert:
+        Assert.assertThat(g.getCoordinateSystem(), IsEqual.equalTo(CoordinateSystem.CACHED));
+        Assert.assertThat(g.getX(), IsEqual.equalTo(original.getX().getRaw()));
+        Assert.assertThat(g.getT(), IsEqual.equalTo(original.getT().getRaw()));
+        Assert.assertThat(g.getX() == original.getX().getRaw(), IsEqual.equalTo(false));
+    }
+
+    @Test
+    public void toGroupElementReturnsCopy() {
+        // Arrange:
+        final Ed25519GroupElement original = MathUtils.getRandomGroupElement();
+        final Ed25519MutableGroupElement g = new Ed25519MutableGroupElement();
+        g.set(original);
+
+        // Act:
+        final Ed25519GroupElement copy = g.toGroupElement();
+        g.setNeutralP3();
+
+        // Assert:
+        Assert.assertThat(copy.getCoordinateSystem(), IsEqual.equalTo(CoordinateSystem.P3));
+        Assert.assertThat(copy, IsEqual.equalTo(original));
+        Assert.assertThat(copy.getX().getRaw(), IsEqual.equalTo(original.getX().getRaw()));
+    }
+}
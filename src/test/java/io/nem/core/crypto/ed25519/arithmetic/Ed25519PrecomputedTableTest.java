@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Ed25519PrecomputedTableTest {
+
+    @Test
+    public void canCreateTableFromRows() {
+        // Arrange:
+        final Ed25519GroupElement[][] rows = createRandomRows(3, 4);
+
+        // Act:
+        final Ed25519PrecomputedTable table = new Ed25519PrecomputedTable(rows);
+
+        // Assert:
+        Assert.assertThat(table.getRowCount(), IsEqual.equalTo(3));
+        Assert.assertThat(table.getRowLength(), IsEqual.equalTo(4));
+        Assert.assertThat(table.getSizeInBytes(), IsEqual.equalTo(3 * 4 * 30 * 4));
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 4; j++) {
+                Assert.assertThat(table.get(i, j), IsEqual.equalTo(rows[i][j]));
+            }
+        }
+    }
+
+    @Test
+    public void canCreateTableFromSingleRow() {
+        // Arrange:
+        final Ed25519GroupElement[] row = createRandomRows(1, 8)[0];
+
+        // Act:
+        final Ed25519PrecomputedTable table = new Ed25519PrecomputedTable(row);
+
+        // Assert:
+        Assert.assertThat(table.getRowCount(), IsEqual.equalTo(1));
+        Assert.assertThat(table.getRowLength(), IsEqual.equalTo(8));
+        for (int j = 0; j < 8; j++) {
+            Assert.assertThat(table.get(0, j), IsEqual.equalTo(row[j]));
+        }
+    }
+
+    @Test
+    public void entriesAreStoredContiguouslyInRowMajorOrder() {
+        // Arrange:
+        final Ed25519GroupElement[][] rows = createRandomRows(2, 3);
+        final Ed25519PrecomputedTable table = new Ed25519PrecomputedTable(rows);
+
+        // Act:
+        final int offset = table.offset(1, 2);
+
+        // Assert:
+        Assert.assertThat(offset, IsEqual.equalTo(5 * 30));
+        final int[] limbs = table.getLimbs();
+        for (int k = 0; k < 10; k++) {
+            Assert.assertThat(limbs[offset + k], IsEqual.equalTo(rows[1][2].getX().getRaw()[k]));
+            Assert.assertThat(limbs[offset + 10 + k], IsEqual.equalTo(rows[1][2].getY().getRaw()[k]));
+            Assert.assertThat(limbs[offset + 20 + k], IsEqual.equalTo(rows[1][2].getZ().getRaw()[k]));
+        }
+    }
+
+    @Test
+    public void getReturnsNewGroupElementNotSharingLimbs() {
+        // Arrange:
+        final Ed25519PrecomputedTable table = new Ed25519PrecomputedTable(createRandomRows(1, 1));
+        final Ed25519GroupElement original = table.get(0, 0);
+
+        // Act:
+        table.get(0, 0).getX().getRaw()[0] ^= 1;
+
+        // Assert:
+        Assert.assertThat(table.get(0, 0), IsEqual.equalTo(original));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void cannotGetEntryOutsideOfTable() {
+        // Arrange:
+        final Ed25519PrecomputedTable table = new Ed25519PrecomputedTable(createRandomRows(2, 2));
+
+        // Act:
+        table.get(0, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateTableFromRowsOfDifferentLengths() {
+        // Arrange:
+        final Ed25519GroupElement[][] rows = new Ed25519GroupElement[][] {
+                createRandomRows(1, 2)[0],
+                createRandomRows(1, 3)[0]
+        };
+
+        // Act:
+        new Ed25519PrecomputedTable(rows);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateTableFromGroupElementsNotInPrecomputedCoordinateSystem() {
+        // Act:
+        new Ed25519PrecomputedTable(new Ed25519GroupElement[] { MathUtils.getRandomGroupElement() });
+    }
+
+    private static Ed25519GroupElement[][] createRandomRows(final int rowCount, final int rowLength) {
+        final Ed25519GroupElement[][] rows = new Ed25519GroupElement[rowCount][rowLength];
+        for (int i = 0; i < rowCount; i++) {
+            for (int j = 0; j < rowLength; j++) {
+                rows[i][j] = MathUtils.toRepresentation(MathUtils.getRandomGroupElement(), CoordinateSystem.PRECOMPUTED);
+            }
+        }
+
+        return rows;
+    }
+}
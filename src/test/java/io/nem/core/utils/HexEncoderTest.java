@@ -135,4 +135,44 @@ public class HexEncoderTest {
     }
 
     //endregion
+
+    //region getUpperCaseString / encodeUpperCase
+
+    @Test
+    public void getUpperCaseStringCanConvertBytesToUpperCaseHexString() {
+        // Act:
+        final String output = HexEncoder.getUpperCaseString(new byte[]{0x00, 0x0d, 0x4e, (byte)0xab, (byte)0xff});
+
+        // Assert:
+        Assert.assertThat(output, IsEqual.equalTo("000D4EABFF"));
+    }
+
+    @Test
+    public void getUpperCaseStringMatchesUpperCasedGetString() {
+        // Arrange:
+        final byte[] input = new byte[256];
+        for (int i = 0; i < input.length; ++i) {
+            input[i] = (byte)i;
+        }
+
+        // Act:
+        final String output = HexEncoder.getUpperCaseString(input);
+
+        // Assert:
+        Assert.assertThat(output, IsEqual.equalTo(HexEncoder.getString(input).toUpperCase()));
+    }
+
+    @Test
+    public void encodeUpperCaseWritesAsciiHexCharactersAtOffset() {
+        // Arrange:
+        final byte[] destination = new byte[]{'<', 0, 0, 0, 0, '>'};
+
+        // Act:
+        HexEncoder.encodeUpperCase(new byte[]{0x1f, (byte)0xa0}, destination, 1);
+
+        // Assert:
+        Assert.assertThat(StringEncoder.getString(destination), IsEqual.equalTo("<1FA0>"));
+    }
+
+    //endregion
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingRepositoryTest {
+    private static final String HASH = "18C036C20B32348D63684E09A13128A2C18F6A75650D3A5FB43853D716E5E219";
+
+    private final AtomicInteger heightRequests = new AtomicInteger();
+    private final BlockchainRepository blockchainHttp = mock(BlockchainRepository.class);
+    private final TransactionRepository transactionHttp = mock(TransactionRepository.class);
+    private final ChainDataCache cache = new ChainDataCache(100, 10);
+
+    private void chainHeightIs(long height) {
+        when(blockchainHttp.getBlockchainHeight()).thenReturn(Observable.fromCallable(() -> {
+            heightRequests.incrementAndGet();
+            return BigInteger.valueOf(height);
+        }));
+    }
+
+    @Test
+    void shouldRequestFinalBlockOnce() {
+        chainHeightIs(100);
+        BlockInfo block = block(50);
+        AtomicInteger requests = new AtomicInteger();
+        when(blockchainHttp.getBlockByHeight(BigInteger.valueOf(50))).thenReturn(Observable.fromCallable(() -> {
+            requests.incrementAndGet();
+            return block;
+        }));
+        BlockchainRepository repository = new CachingBlockchainRepository(blockchainHttp, cache);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(block, repository.getBlockByHeight(BigInteger.valueOf(50)).blockingFirst());
+        }
+
+        assertEquals(1, requests.get());
+        assertEquals(1, heightRequests.get());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void shouldNotCacheBlockWithinFinalityDepth() {
+        chainHeightIs(100);
+        BlockInfo block = block(95);
+        when(blockchainHttp.getBlockByHeight(BigInteger.valueOf(95))).thenReturn(Observable.just(block));
+        BlockchainRepository repository = new CachingBlockchainRepository(blockchainHttp, cache);
+
+        repository.getBlockByHeight(BigInteger.valueOf(95)).blockingFirst();
+        repository.getBlockByHeight(BigInteger.valueOf(95)).blockingFirst();
+
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMisses());
+        verify(blockchainHttp, times(2)).getBlockByHeight(BigInteger.valueOf(95));
+    }
+
+    @Test
+    void shouldNotRequestChainHeightForBlocksBelowKnownFinalHeight() {
+        chainHeightIs(100);
+        when(blockchainHttp.getBlockByHeight(any(BigInteger.class))).thenAnswer(invocation ->
+                Observable.just(block(((BigInteger) invocation.getArguments()[0]).longValue())));
+        BlockchainRepository repository = new CachingBlockchainRepository(blockchainHttp, cache);
+
+        for (int height = 1; height <= 20; height++) {
+            repository.getBlockByHeight(BigInteger.valueOf(height)).blockingFirst();
+        }
+
+        assertEquals(1, heightRequests.get());
+        assertEquals(20, cache.size());
+    }
+
+    @Test
+    void shouldReturnBlockUncachedWhenChainHeightRequestFails() {
+        when(blockchainHttp.getBlockchainHeight()).thenReturn(Observable.error(new RuntimeException("unavailable")));
+        BlockInfo block = block(50);
+        when(blockchainHttp.getBlockByHeight(BigInteger.valueOf(50))).thenReturn(Observable.just(block));
+        BlockchainRepository repository = new CachingBlockchainRepository(blockchainHttp, cache);
+
+        assertSame(block, repository.getBlockByHeight(BigInteger.valueOf(50)).blockingFirst());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldCacheFinalBlockTransactionsPerQuery() {
+        chainHeightIs(100);
+        List<Transaction> transactions = Arrays.asList(transaction(50), transaction(50), transaction(50));
+        when(blockchainHttp.getBlockTransactions(BigInteger.valueOf(50))).thenReturn(Observable.just(transactions));
+        when(blockchainHttp.getBlockTransactions(eq(BigInteger.valueOf(50)), any(QueryParams.class))).thenReturn(Observable.just(transactions));
+        BlockchainRepository repository = new CachingBlockchainRepository(blockchainHttp, cache);
+
+        repository.getBlockTransactions(BigInteger.valueOf(50)).blockingFirst();
+        repository.getBlockTransactions(BigInteger.valueOf(50)).blockingFirst();
+        repository.getBlockTransactions(BigInteger.valueOf(50), new QueryParams(10, null)).blockingFirst();
+        assertSame(transactions, repository.getBlockTransactions(BigInteger.valueOf(50), new QueryParams(10, null)).blockingFirst());
+
+        verify(blockchainHttp, times(1)).getBlockTransactions(BigInteger.valueOf(50));
+        verify(blockchainHttp, times(1)).getBlockTransactions(eq(BigInteger.valueOf(50)), any(QueryParams.class));
+        assertEquals(6, cache.getWeight());
+        assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    void shouldRequestFinalTransactionOnceIgnoringHashCase() {
+        chainHeightIs(100);
+        Transaction transaction = transaction(50);
+        when(transactionHttp.getTransaction(anyString())).thenReturn(Observable.just(transaction));
+        TransactionRepository repository = new CachingTransactionRepository(transactionHttp, blockchainHttp, cache);
+
+        assertSame(transaction, repository.getTransaction(HASH).blockingFirst());
+        assertSame(transaction, repository.getTransaction(HASH.toLowerCase()).blockingFirst());
+
+        verify(transactionHttp, times(1)).getTransaction(HASH);
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void shouldNotCacheUnconfirmedTransaction() {
+        chainHeightIs(100);
+        Transaction transaction = transaction(0);
+        when(transactionHttp.getTransaction(HASH)).thenReturn(Observable.just(transaction));
+        TransactionRepository repository = new CachingTransactionRepository(transactionHttp, blockchainHttp, cache);
+
+        repository.getTransaction(HASH).blockingFirst();
+        repository.getTransaction(HASH).blockingFirst();
+
+        verify(transactionHttp, times(2)).getTransaction(HASH);
+        assertEquals(0, heightRequests.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldShareChainHeightBetweenRepositories() {
+        chainHeightIs(100);
+        Transaction transaction = transaction(50);
+        when(transactionHttp.getTransaction(HASH)).thenReturn(Observable.just(transaction));
+        BlockchainRepository blockchainRepository = new CachingBlockchainRepository(blockchainHttp, cache);
+        TransactionRepository repository = new CachingTransactionRepository(transactionHttp, blockchainRepository, cache);
+
+        blockchainRepository.getBlockchainHeight().blockingFirst();
+        repository.getTransaction(HASH).blockingFirst();
+
+        assertEquals(100, cache.getChainHeight());
+        assertEquals(1, heightRequests.get());
+        assertEquals(1, cache.size());
+    }
+
+    private static BlockInfo block(long height) {
+        BlockInfo block = mock(BlockInfo.class);
+        when(block.getHeight()).thenReturn(BigInteger.valueOf(height));
+        return block;
+    }
+
+    private static Transaction transaction(long height) {
+        Transaction transaction = mock(Transaction.class);
+        when(transaction.getTransactionInfo()).thenReturn(Optional.of(TransactionInfo.create(BigInteger.valueOf(height), HASH, HASH)));
+        return transaction;
+    }
+}
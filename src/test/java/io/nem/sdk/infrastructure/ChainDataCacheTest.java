@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChainDataCacheTest {
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        ChainDataCache cache = new ChainDataCache(10, 5);
+        cache.put("a", "value", 1);
+
+        assertEquals("value", cache.get("a"));
+        assertEquals("value", cache.get("a"));
+        assertEquals("value", cache.get("a"));
+        assertNull(cache.get("b"));
+
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.75, cache.getHitRate());
+    }
+
+    @Test
+    void hitRateIsZeroWithoutRequests() {
+        assertEquals(0.0, new ChainDataCache(10, 5).getHitRate());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesUntilWeightFits() {
+        ChainDataCache cache = new ChainDataCache(10, 5);
+        cache.put("a", "a", 4);
+        cache.put("b", "b", 4);
+        cache.get("a");
+
+        cache.put("c", "c", 5);
+
+        assertEquals("a", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("c", cache.get("c"));
+        assertEquals(9, cache.getWeight());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldNotCacheEntryHeavierThanCache() {
+        ChainDataCache cache = new ChainDataCache(10, 5);
+        cache.put("a", "a", 4);
+
+        cache.put("b", "b", 11);
+
+        assertEquals("a", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(4, cache.getWeight());
+        assertEquals(1, cache.getSkipped());
+    }
+
+    @Test
+    void shouldCacheEntryHeavierThanSegmentShareOfMaxWeight() {
+        // 16 segments of 1024 each when the weight was split between them
+        ChainDataCache cache = new ChainDataCache(16_384, 5);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("transaction:" + i, i, 1);
+        }
+
+        cache.put("blockTransactions:1", "transactions", 2_000);
+        cache.put("blockTransactions:2", "transactions", 16_384);
+
+        assertNull(cache.get("blockTransactions:1"));
+        assertEquals("transactions", cache.get("blockTransactions:2"));
+        assertEquals(16_384, cache.getWeight());
+        assertEquals(1, cache.size());
+        assertEquals(0, cache.getSkipped());
+    }
+
+    @Test
+    void shouldEvictOtherSegmentsForHeavyEntry() {
+        ChainDataCache cache = new ChainDataCache(16_384, 5);
+        for (int i = 0; i < 16_000; i++) {
+            cache.put("transaction:" + i, i, 1);
+        }
+
+        // the segment of the entry holds about 1000 transactions, less than the excess weight of 1616
+        cache.put("blockTransactions:1", "transactions", 2_000);
+
+        assertEquals("transactions", cache.get("blockTransactions:1"));
+        assertEquals(16_384, cache.getWeight());
+        assertEquals(16_384 - 2_000 + 1, cache.size());
+        assertEquals(0, cache.getSkipped());
+    }
+
+    @Test
+    void shouldReplaceEntryWeight() {
+        ChainDataCache cache = new ChainDataCache(10, 5);
+        cache.put("a", "a", 4);
+
+        cache.put("a", "b", 2);
+
+        assertEquals("b", cache.get("a"));
+        assertEquals(2, cache.getWeight());
+    }
+
+    @Test
+    void shouldStayWithinMaxWeightWithSegments() {
+        ChainDataCache cache = new ChainDataCache(10_000, 5);
+        for (int i = 0; i < 50_000; i++) {
+            cache.put("transaction:" + i, i, 1 + i % 3);
+        }
+
+        assertTrue(cache.getWeight() <= 10_000);
+        assertTrue(cache.getWeight() > 9_000);
+    }
+
+    @Test
+    void heightIsFinalBelowFinalityDepth() {
+        ChainDataCache cache = new ChainDataCache(10, 5);
+        cache.observeChainHeight(BigInteger.valueOf(100));
+        cache.observeChainHeight(BigInteger.valueOf(90));
+
+        assertEquals(100, cache.getChainHeight());
+        assertTrue(cache.isFinal(BigInteger.ONE));
+        assertTrue(cache.isFinal(BigInteger.valueOf(95)));
+        assertFalse(cache.isFinal(BigInteger.valueOf(96)));
+        assertFalse(cache.isFinal(BigInteger.ZERO));
+    }
+
+    @Test
+    void clearShouldRemoveEntriesAndResetCounters() {
+        ChainDataCache cache = new ChainDataCache(10, 5);
+        cache.put("a", "a", 4);
+        cache.put("b", "b", 11);
+        cache.get("a");
+        cache.observeChainHeight(BigInteger.TEN);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getSkipped());
+        assertEquals(10, cache.getChainHeight());
+    }
+
+    @Test
+    void cannotCreateCacheWithNegativeBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new ChainDataCache(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new ChainDataCache(10, -1));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.reactivex.core.Vertx;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientContextTest {
+    private static final String HOST = "http://localhost:3000";
+
+    @Test
+    void defaultOptionsShouldKeepConnectionsAlive() {
+        WebClientOptions options = ClientContext.defaultOptions();
+
+        assertTrue(options.isKeepAlive());
+        assertEquals(20, options.getMaxPoolSize());
+        assertFalse(options.isPipelining());
+        assertTrue(options.isTryUseCompression());
+        assertEquals(HttpVersion.HTTP_1_1, options.getProtocolVersion());
+    }
+
+    @Test
+    void repositoriesCreatedFromContextShouldShareItsClient() throws MalformedURLException {
+        try (ClientContext context = ClientContext.create()) {
+            AccountHttp accountHttp = new AccountHttp(HOST, context);
+            TransactionHttp transactionHttp = new TransactionHttp(HOST, context);
+            NetworkHttp networkHttp = new NetworkHttp(HOST, context);
+            BlockchainHttp blockchainHttp = new BlockchainHttp(HOST, networkHttp);
+
+            assertTrue(context.ownsVertx());
+            for (Http http : new Http[]{accountHttp, transactionHttp, networkHttp, blockchainHttp}) {
+                assertSame(context, http.getContext());
+                assertSame(context.getClient(), http.client);
+            }
+        }
+    }
+
+    @Test
+    void repositoriesCreatedWithoutContextShouldShareTheDefaultContext() throws MalformedURLException {
+        MosaicHttp mosaicHttp = new MosaicHttp(HOST);
+        NamespaceHttp namespaceHttp = new NamespaceHttp(HOST);
+
+        assertSame(ClientContext.getDefault(), mosaicHttp.getContext());
+        assertSame(ClientContext.getDefault(), namespaceHttp.getContext());
+    }
+
+    @Test
+    void closingContextShouldNotCloseBorrowedVertx() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            ClientContext context = ClientContext.create(vertx, new WebClientOptions().setMaxPoolSize(1));
+            context.createHttpClient();
+            context.close();
+
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            vertx.runOnContext(v -> future.complete(true));
+
+            assertFalse(context.ownsVertx());
+            assertTrue(future.get(5, TimeUnit.SECONDS));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    void cannotCreateRepositoryWithoutContext() {
+        assertThrows(NullPointerException.class, () -> new AccountHttp(HOST, (ClientContext) null));
+        assertThrows(NullPointerException.class, () -> new Listener(HOST, null));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonArrayElementSplitterTest {
+    private static final String FIRST = "{\"name\":\"a]}\\\"{[\\\\\",\"values\":[[1,0],{\"x\":[]}]}";
+    private static final String SECOND = "[{\"y\":\"\\\\\"}]";
+    private static final String RESPONSE = " [\n" + FIRST + " ,\t" + SECOND + ",{}]\r\n";
+
+    @Test
+    void shouldSplitArrayIntoElements() {
+        JsonArrayElementSplitter splitter = new JsonArrayElementSplitter();
+
+        List<String> elements = toStrings(splitter.feed(bytes(RESPONSE)));
+
+        assertEquals(Arrays.asList(FIRST, SECOND, "{}"), elements);
+        assertTrue(splitter.isCompleted());
+    }
+
+    @Test
+    void shouldSplitArrayReceivedInChunksOfAnySize() {
+        byte[] response = bytes(RESPONSE);
+        for (int chunkSize = 1; chunkSize <= response.length; chunkSize++) {
+            JsonArrayElementSplitter splitter = new JsonArrayElementSplitter();
+            List<String> elements = new ArrayList<>();
+            for (int offset = 0; offset < response.length; offset += chunkSize) {
+                elements.addAll(toStrings(splitter.feed(Arrays.copyOfRange(response, offset, Math.min(response.length, offset + chunkSize)))));
+            }
+
+            assertEquals(Arrays.asList(FIRST, SECOND, "{}"), elements);
+            assertTrue(splitter.isCompleted());
+        }
+    }
+
+    @Test
+    void shouldEmitElementsAsSoonAsTheyAreComplete() {
+        JsonArrayElementSplitter splitter = new JsonArrayElementSplitter();
+
+        List<byte[]> first = splitter.feed(bytes("[" + FIRST + ",{\"a\""));
+        List<byte[]> second = splitter.feed(bytes(":1}"));
+        List<byte[]> last = splitter.feed(bytes("]"));
+
+        assertEquals(Arrays.asList(FIRST), toStrings(first));
+        assertEquals(Arrays.asList("{\"a\":1}"), toStrings(second));
+        assertTrue(last.isEmpty());
+        assertTrue(splitter.isCompleted());
+    }
+
+    @Test
+    void shouldSplitEmptyArray() {
+        JsonArrayElementSplitter splitter = new JsonArrayElementSplitter();
+
+        assertTrue(splitter.feed(bytes("[ ]")).isEmpty());
+        assertTrue(splitter.isCompleted());
+    }
+
+    @Test
+    void cannotSplitInvalidArrays() {
+        for (String response : Arrays.asList("{}", "[1]", "[{}{}]", "[{},]", "[,{}]", "[{}]]", "[]{}")) {
+            assertThrows(IllegalArgumentException.class, () -> new JsonArrayElementSplitter().feed(bytes(response)), response);
+        }
+    }
+
+    @Test
+    void incompleteArrayIsNotCompleted() {
+        JsonArrayElementSplitter splitter = new JsonArrayElementSplitter();
+
+        splitter.feed(bytes("[{\"a\":\"]\"}"));
+
+        assertFalse(splitter.isCompleted());
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> toStrings(List<byte[]> elements) {
+        List<String> strings = new ArrayList<>();
+        for (byte[] element : elements) {
+            strings.add(new String(element, StandardCharsets.UTF_8));
+        }
+        return strings;
+    }
+}
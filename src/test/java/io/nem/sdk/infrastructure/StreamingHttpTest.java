@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.transaction.Transaction;
+import io.nem.sdk.model.transaction.TransactionType;
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingHttpTest {
+    private static final String TRANSFER_TRANSACTION = "{\"meta\":{\"hash\":\"18C036C20B32348D63684E09A13128A2C18F6A75650D3A5FB43853D716E5E219\",\"height\":[1,0],\"id\":\"59FDA0733F17CF0001772CA7\",\"index\":19,\"merkleComponentHash\":\"18C036C20B32348D63684E09A13128A2C18F6A75650D3A5FB43853D716E5E219\"},\"transaction\":{\"deadline\":[10000,0],\"fee\":[0,0],\"message\":{\"payload\":\"746573742D6D657373616765\",\"type\":0},\"mosaics\":[{\"amount\":[3863990592,95248],\"id\":[3646934825,3576016193]}],\"recipient\":\"9050B9837EFAB4BBE8A4B9BB32D812F9885C00D8FC1650E142\",\"signature\":\"553E696EB4A54E43A11D180EBA57E4B89D0048C9DD2604A9E0608120018B9E02F6EE63025FEEBCED3293B622AF8581334D0BDAB7541A9E7411E7EE4EF0BC5D0E\",\"signer\":\"B4F12E7C9F6946091E2CB8B6D3A12B50D17CCBBF646386EA27CE2946A7423DCF\",\"type\":16724,\"version\":36867}}";
+
+    private ClientContext context;
+    private HttpServer server;
+    private volatile Handler<HttpServerRequest> handler;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        context = ClientContext.create();
+        CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+        context.getVertx().getDelegate().createHttpServer()
+                .requestHandler(request -> handler.handle(request))
+                .listen(0, "localhost", result -> {
+                    if (result.succeeded()) {
+                        listening.complete(result.result());
+                    } else {
+                        listening.completeExceptionally(result.cause());
+                    }
+                });
+        server = listening.get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+        context.close();
+    }
+
+    @Test
+    void shouldEmitTransactionsBeforeResponseEnds() throws Exception {
+        CompletableFuture<Transaction> firstTransaction = new CompletableFuture<>();
+        handler = request -> {
+            assertEquals("/block/1/transactions", request.path());
+            HttpServerResponse response = request.response().setChunked(true);
+            response.write("[" + TRANSFER_TRANSACTION);
+            firstTransaction.thenRun(() -> context.getVertx().runOnContext(v -> response.end("," + TRANSFER_TRANSACTION + "]")));
+        };
+
+        List<Transaction> transactions = blockchainHttp().streamBlockTransactions(BigInteger.ONE)
+                .doOnNext(firstTransaction::complete)
+                .toList()
+                .timeout(5, TimeUnit.SECONDS)
+                .blockingGet();
+
+        assertEquals(2, transactions.size());
+        for (Transaction transaction : transactions) {
+            assertEquals(TransactionType.TRANSFER, transaction.getType());
+        }
+    }
+
+    @Test
+    void shouldCancelResponseAfterFirstTransaction() throws Exception {
+        handler = request -> request.response().end("[" + TRANSFER_TRANSACTION + "," + TRANSFER_TRANSACTION + "," + TRANSFER_TRANSACTION + "]");
+
+        Transaction transaction = blockchainHttp().streamBlockTransactions(BigInteger.ONE)
+                .timeout(5, TimeUnit.SECONDS)
+                .blockingFirst();
+
+        assertEquals(TransactionType.TRANSFER, transaction.getType());
+    }
+
+    @Test
+    void shouldPauseResponseUntilSubscriberRequestsMore() throws Exception {
+        // about 18 MB, far more than the socket buffers and the prefetched chunks can hold
+        int count = 20_000;
+        AtomicInteger written = new AtomicInteger();
+        CompletableFuture<Void> writeQueueFull = new CompletableFuture<>();
+        handler = request -> {
+            HttpServerResponse response = request.response().setChunked(true);
+            response.write("[" + TRANSFER_TRANSACTION);
+            written.set(1);
+            writeUntilQueueFull(response, written, count, writeQueueFull);
+        };
+
+        TestSubscriber<Transaction> subscriber = blockchainHttp().streamBlockTransactions(BigInteger.ONE).test(1);
+        writeQueueFull.get(5, TimeUnit.SECONDS);
+        int writtenBefore;
+        do {
+            writtenBefore = written.get();
+            Thread.sleep(200);
+        } while (written.get() != writtenBefore);
+
+        subscriber.assertValueCount(1);
+        subscriber.assertNotTerminated();
+        assertTrue(written.get() < count);
+
+        subscriber.request(2);
+        subscriber.awaitCount(3);
+        subscriber.assertValueCount(3);
+
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.awaitTerminalEvent(30, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+        subscriber.assertValueCount(count);
+        assertEquals(count, written.get());
+    }
+
+    @Test
+    void shouldFailWhenResponseIsNotSuccessful() throws Exception {
+        handler = request -> request.response().setStatusCode(404).setStatusMessage("Not Found").end("{\"code\":\"ResourceNotFound\"}");
+
+        Flowable<Transaction> transactions = blockchainHttp().streamBlockTransactions(BigInteger.ONE).timeout(5, TimeUnit.SECONDS);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, transactions::blockingLast);
+        assertEquals("Not Found", exception.getMessage());
+    }
+
+    @Test
+    void shouldFailWhenResponseEndsInsideArray() throws Exception {
+        handler = request -> request.response().end("[" + TRANSFER_TRANSACTION + ",");
+
+        Flowable<Transaction> transactions = blockchainHttp().streamBlockTransactions(BigInteger.ONE).timeout(5, TimeUnit.SECONDS);
+
+        assertThrows(IllegalStateException.class, transactions::blockingLast);
+    }
+
+    private static void writeUntilQueueFull(HttpServerResponse response, AtomicInteger written, int count, CompletableFuture<Void> writeQueueFull) {
+        while (!response.writeQueueFull()) {
+            if (count == written.get()) {
+                response.end("]");
+                return;
+            }
+
+            response.write("," + TRANSFER_TRANSACTION);
+            written.incrementAndGet();
+        }
+
+        writeQueueFull.complete(null);
+        response.drainHandler(v -> writeUntilQueueFull(response, written, count, writeQueueFull));
+    }
+
+    private BlockchainHttp blockchainHttp() throws Exception {
+        return new BlockchainHttp("http://localhost:" + server.actualPort(), context);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nem.sdk.model.account.AccountInfo;
+import io.nem.sdk.model.blockchain.BlockInfo;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.MosaicInfo;
+import io.nem.sdk.model.mosaic.XEM;
+import io.nem.sdk.model.namespace.NamespaceInfo;
+import io.nem.sdk.model.namespace.NamespaceType;
+import io.vertx.reactivex.core.buffer.Buffer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingJsonDecoderTest {
+    private static final String PUBLIC_KEY = "1026D70E1954775749C6811084D6450A3184D977383F0E4282CD47118AF37755";
+    private static final String ACCOUNT_JSON = "{\"meta\":{},\"account\":{" +
+            "\"address\":\"90E8FEBD671DD41BEE94EC3BA5831CB608A312C2F203BA84AC\"," +
+            "\"addressHeight\":[1,0]," +
+            "\"publicKey\":\"" + PUBLIC_KEY + "\"," +
+            "\"publicKeyHeight\":[4294967295,0]," +
+            "\"mosaics\":[{\"id\":[3646934825,3576016193],\"amount\":[3863990592,95248]},{\"id\":[1,2],\"amount\":[0,0]}]," +
+            "\"importance\":[405653170,0]," +
+            "\"importanceHeight\":[0,0]}}";
+    private static final String BLOCK_JSON = "{\"meta\":{\"hash\":\"AB\",\"generationHash\":\"CD\",\"totalFee\":[10,0],\"numTransactions\":25}," +
+            "\"block\":{\"signature\":\"EF\",\"signer\":\"" + PUBLIC_KEY + "\",\"version\":36867,\"type\":32835," +
+            "\"height\":[1,0],\"timestamp\":[0,1],\"difficulty\":[276447232,23283]," +
+            "\"previousBlockHash\":\"00\",\"blockTransactionsHash\":\"11\"}}";
+    private static final String MOSAIC_JSON = "{\"meta\":{\"active\":true,\"index\":0,\"id\":\"59FDA0733F17CF0001772CBC\"}," +
+            "\"mosaic\":{\"namespaceId\":[929036875,2226345261],\"mosaicId\":[3646934825,3576016193]," +
+            "\"supply\":[3403414400,2095475],\"height\":[1,0],\"owner\":\"" + PUBLIC_KEY + "\"," +
+            "\"properties\":[[2,0],[6,0],[0,0]],\"levy\":{}}}";
+    private static final String NAMESPACE_JSON = "{\"meta\":{\"active\":true,\"index\":0,\"id\":\"59FDA0733F17CF0001772CBB\"}," +
+            "\"namespace\":{\"type\":1,\"depth\":2,\"level0\":[929036875,2226345261],\"level1\":[1,2]," +
+            "\"parentId\":[929036875,2226345261],\"owner\":\"" + PUBLIC_KEY + "\"," +
+            "\"ownerAddress\":\"90E8FEBD671DD41BEE94EC3BA5831CB608A312C2F203BA84AC\"," +
+            "\"startHeight\":[1,0],\"endHeight\":[4294967295,4294967295]}}";
+
+    private static ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void setup() {
+        objectMapper = new ObjectMapper();
+        objectMapper.configure(DeserializationFeature.USE_LONG_FOR_INTS, true);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Test
+    void shouldDecodeAccountInfoLikeDtoMapping() throws Exception {
+        AccountInfo accountInfo = StreamingJsonDecoder.decodeObject(bytes(ACCOUNT_JSON), StreamingJsonDecoder::readAccountInfo);
+        AccountInfo expected = AccountHttp.toAccountInfo(objectMapper.readValue(ACCOUNT_JSON, AccountInfoDTO.class));
+
+        assertEquals("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", accountInfo.getAddress().plain());
+        assertEquals(expected.getAddress(), accountInfo.getAddress());
+        assertEquals(expected.getAddressHeight(), accountInfo.getAddressHeight());
+        assertEquals(expected.getPublicKey(), accountInfo.getPublicKey());
+        assertEquals(expected.getPublicKeyHeight(), accountInfo.getPublicKeyHeight());
+        assertEquals(expected.getImportance(), accountInfo.getImportance());
+        assertEquals(expected.getImportanceHeight(), accountInfo.getImportanceHeight());
+        assertEquals(2, accountInfo.getMosaics().size());
+        assertEquals(XEM.MOSAICID, accountInfo.getMosaics().get(0).getId());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expected.getMosaics().get(i).getId(), accountInfo.getMosaics().get(i).getId());
+            assertEquals(expected.getMosaics().get(i).getAmount(), accountInfo.getMosaics().get(i).getAmount());
+        }
+    }
+
+    @Test
+    void shouldDecodeArrayOfAccountInfos() throws Exception {
+        List<AccountInfo> accountInfos = StreamingJsonDecoder.decodeArray(bytes("[" + ACCOUNT_JSON + "," + ACCOUNT_JSON + "]"), StreamingJsonDecoder::readAccountInfo);
+        List<AccountInfo> empty = StreamingJsonDecoder.decodeArray(bytes("[]"), StreamingJsonDecoder::readAccountInfo);
+
+        assertEquals(2, accountInfos.size());
+        assertEquals(BigInteger.valueOf(405653170), accountInfos.get(1).getImportance());
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    void shouldDecodeBlockInfoLikeDtoMapping() throws Exception {
+        BlockInfo blockInfo = StreamingJsonDecoder.decodeObject(bytes(BLOCK_JSON), StreamingJsonDecoder.blockInfoReader(NetworkType.MIJIN_TEST));
+        BlockInfo expected = BlockchainHttp.toBlockInfo(objectMapper.readValue(BLOCK_JSON, BlockInfoDTO.class), NetworkType.MIJIN_TEST);
+
+        assertEquals(expected.getHash(), blockInfo.getHash());
+        assertEquals(expected.getGenerationHash(), blockInfo.getGenerationHash());
+        assertEquals(expected.getTotalFee(), blockInfo.getTotalFee());
+        assertEquals(expected.getNumTransactions(), blockInfo.getNumTransactions());
+        assertEquals(expected.getSignature(), blockInfo.getSignature());
+        assertEquals(expected.getSigner(), blockInfo.getSigner());
+        assertEquals(3, blockInfo.getVersion().intValue());
+        assertEquals(expected.getVersion(), blockInfo.getVersion());
+        assertEquals(expected.getType(), blockInfo.getType());
+        assertEquals(expected.getHeight(), blockInfo.getHeight());
+        assertEquals(BigInteger.ONE.shiftLeft(32), blockInfo.getTimestamp());
+        assertEquals(expected.getTimestamp(), blockInfo.getTimestamp());
+        assertEquals(expected.getDifficulty(), blockInfo.getDifficulty());
+        assertEquals(expected.getPreviousBlockHash(), blockInfo.getPreviousBlockHash());
+        assertEquals(expected.getBlockTransactionsHash(), blockInfo.getBlockTransactionsHash());
+    }
+
+    @Test
+    void shouldDecodeMosaicInfoLikeDtoMapping() throws Exception {
+        MosaicInfo mosaicInfo = StreamingJsonDecoder.decodeObject(bytes(MOSAIC_JSON), StreamingJsonDecoder.mosaicInfoReader(NetworkType.MIJIN_TEST));
+        MosaicInfo expected = MosaicHttp.toMosaicInfo(objectMapper.readValue(MOSAIC_JSON, MosaicInfoDTO.class), NetworkType.MIJIN_TEST);
+
+        assertEquals(expected.isActive(), mosaicInfo.isActive());
+        assertEquals(expected.getIndex(), mosaicInfo.getIndex());
+        assertEquals(expected.getMetaId(), mosaicInfo.getMetaId());
+        assertEquals(expected.getNamespaceId(), mosaicInfo.getNamespaceId());
+        assertEquals(XEM.MOSAICID, mosaicInfo.getMosaicId());
+        assertEquals(expected.getSupply(), mosaicInfo.getSupply());
+        assertEquals(expected.getHeight(), mosaicInfo.getHeight());
+        assertEquals(expected.getOwner(), mosaicInfo.getOwner());
+        assertFalse(mosaicInfo.isSupplyMutable());
+        assertTrue(mosaicInfo.isTransferable());
+        assertFalse(mosaicInfo.isLevyMutable());
+        assertEquals(expected.isTransferable(), mosaicInfo.isTransferable());
+        assertEquals(6, mosaicInfo.getDivisibility());
+        assertEquals(expected.getDuration(), mosaicInfo.getDuration());
+    }
+
+    @Test
+    void shouldDecodeNamespaceInfoLikeDtoMapping() throws Exception {
+        NamespaceInfo namespaceInfo = StreamingJsonDecoder.decodeObject(bytes(NAMESPACE_JSON), StreamingJsonDecoder.namespaceInfoReader(NetworkType.MIJIN_TEST));
+        NamespaceInfo expected = NamespaceHttp.toNamespaceInfo(objectMapper.readValue(NAMESPACE_JSON, NamespaceInfoDTO.class), NetworkType.MIJIN_TEST);
+
+        assertEquals(expected.isActive(), namespaceInfo.isActive());
+        assertEquals(expected.getMetaId(), namespaceInfo.getMetaId());
+        assertEquals(NamespaceType.SubNamespace, namespaceInfo.getType());
+        assertEquals(expected.getDepth(), namespaceInfo.getDepth());
+        assertEquals(expected.getLevels(), namespaceInfo.getLevels());
+        assertEquals(2, namespaceInfo.getLevels().size());
+        assertEquals(expected.getOwner(), namespaceInfo.getOwner());
+        assertEquals(expected.getStartHeight(), namespaceInfo.getStartHeight());
+        assertEquals(BigInteger.valueOf(-1), namespaceInfo.getEndHeight());
+        assertEquals(expected.getEndHeight(), namespaceInfo.getEndHeight());
+        assertEquals(expected.getId(), namespaceInfo.getId());
+    }
+
+    @Test
+    void shouldSkipUnknownFields() throws Exception {
+        String json = "{\"unknown\":{\"nested\":[1,{\"a\":[]}]}," + ACCOUNT_JSON.substring(1, ACCOUNT_JSON.length() - 2) + ",\"extra\":[[1]]}}";
+
+        AccountInfo accountInfo = StreamingJsonDecoder.decodeObject(bytes(json), StreamingJsonDecoder::readAccountInfo);
+
+        assertEquals(PUBLIC_KEY, accountInfo.getPublicKey());
+    }
+
+    @Test
+    void cannotDecodeUnexpectedResponses() {
+        assertThrows(JsonParseException.class, () -> StreamingJsonDecoder.decodeObject(bytes("{\"meta\":{}}"), StreamingJsonDecoder::readAccountInfo));
+        assertThrows(JsonParseException.class, () -> StreamingJsonDecoder.decodeObject(bytes("[]"), StreamingJsonDecoder::readAccountInfo));
+        assertThrows(JsonParseException.class, () -> StreamingJsonDecoder.decodeObject(bytes(ACCOUNT_JSON.replace("[1,0]", "\"1\"")), StreamingJsonDecoder::readAccountInfo));
+        assertThrows(JsonParseException.class, () -> StreamingJsonDecoder.decodeObject(bytes(ACCOUNT_JSON + "{}"), StreamingJsonDecoder::readAccountInfo));
+        assertThrows(JsonParseException.class, () -> StreamingJsonDecoder.decodeArray(bytes("[1]"), StreamingJsonDecoder::readAccountInfo));
+    }
+
+    @Test
+    void shouldFallBackWhenStreamingDecoderFails() throws Exception {
+        Buffer body = Buffer.buffer("{\"value\":1}");
+        JsonParseException streamingException = new JsonParseException(null, "unexpected");
+        long fallbackCount = Http.getFallbackCount();
+
+        String decoded = Http.<String>decodeWithFallback(json -> "streaming", json -> "fallback").apply(body);
+        long fallbackCountAfterDecoded = Http.getFallbackCount();
+        String fallback = Http.<String>decodeWithFallback(json -> {
+            throw streamingException;
+        }, json -> new String(json, StandardCharsets.UTF_8)).apply(body);
+
+        assertEquals("streaming", decoded);
+        assertEquals("{\"value\":1}", fallback);
+        assertEquals(fallbackCount, fallbackCountAfterDecoded);
+        assertEquals(fallbackCount + 1, Http.getFallbackCount());
+        assertSame(streamingException, Http.getLastFallbackCause().get());
+    }
+
+    @Test
+    void shouldKeepStreamingExceptionWhenFallbackFails() {
+        JsonParseException streamingException = new JsonParseException(null, "unexpected");
+        IllegalStateException fallbackException = new IllegalStateException("fallback");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> Http.<String>decodeWithFallback(json -> {
+            throw streamingException;
+        }, json -> {
+            throw fallbackException;
+        }).apply(Buffer.buffer("{}")));
+
+        assertSame(fallbackException, exception);
+        assertEquals(Arrays.asList(streamingException), Arrays.asList(exception.getSuppressed()));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.nem.sdk.model.transaction.*;
+import io.vertx.core.json.JsonObject;
+import io.vertx.reactivex.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the tests of {@link TransactionMappingTest} against the streaming decoder.
+ */
+class StreamingTransactionDecoderTest extends TransactionMappingTest {
+    private static final String TRANSFER_META = "\"meta\":{\"hash\":\"18C036C20B32348D63684E09A13128A2C18F6A75650D3A5FB43853D716E5E219\",\"height\":[1,0],\"id\":\"59FDA0733F17CF0001772CA7\",\"index\":19,\"merkleComponentHash\":\"18C036C20B32348D63684E09A13128A2C18F6A75650D3A5FB43853D716E5E219\"}";
+    private static final String TRANSFER_TRANSACTION = "\"transaction\":{\"deadline\":[10000,0],\"fee\":[0,0],\"message\":{\"payload\":\"746573742D6D657373616765\",\"type\":0},\"mosaics\":[{\"amount\":[3863990592,95248],\"id\":[3646934825,3576016193]}],\"recipient\":\"9050B9837EFAB4BBE8A4B9BB32D812F9885C00D8FC1650E142\",\"signature\":\"553E696EB4A54E43A11D180EBA57E4B89D0048C9DD2604A9E0608120018B9E02F6EE63025FEEBCED3293B622AF8581334D0BDAB7541A9E7411E7EE4EF0BC5D0E\",\"signer\":\"B4F12E7C9F6946091E2CB8B6D3A12B50D17CCBBF646386EA27CE2946A7423DCF\",\"type\":16724,\"version\":36867}";
+    private static final String TRANSFER_JSON = "{" + TRANSFER_META + "," + TRANSFER_TRANSACTION + "}";
+
+    @Override
+    Transaction map(JsonObject transactionDTO) throws Exception {
+        Transaction transaction = StreamingTransactionDecoder.decodeTransaction(bytes(transactionDTO.encode()));
+
+        // the validation reads the fields the mapping copies from an aggregate into its inner transactions
+        super.map(transactionDTO);
+        return transaction;
+    }
+
+    @Test
+    void shouldDecodeFieldsInAnyOrder() throws Exception {
+        String json = "{\"unknown\":[{}],\"transaction\":{\"version\":36867,\"type\":16724,\"signer\":\"B4F12E7C9F6946091E2CB8B6D3A12B50D17CCBBF646386EA27CE2946A7423DCF\"," +
+                "\"signature\":\"553E696EB4A54E43A11D180EBA57E4B89D0048C9DD2604A9E0608120018B9E02F6EE63025FEEBCED3293B622AF8581334D0BDAB7541A9E7411E7EE4EF0BC5D0E\"," +
+                "\"recipient\":\"9050B9837EFAB4BBE8A4B9BB32D812F9885C00D8FC1650E142\",\"mosaics\":[{\"id\":[3646934825,3576016193],\"amount\":[3863990592,95248]}]," +
+                "\"message\":{\"type\":0,\"payload\":\"746573742D6D657373616765\"},\"fee\":[0,0],\"deadline\":[10000,0]}," +
+                "\"meta\":{\"merkleComponentHash\":\"18C036C20B32348D63684E09A13128A2C18F6A75650D3A5FB43853D716E5E219\",\"index\":19,\"id\":\"59FDA0733F17CF0001772CA7\"," +
+                "\"height\":[1,0],\"hash\":\"18C036C20B32348D63684E09A13128A2C18F6A75650D3A5FB43853D716E5E219\"}}";
+
+        Transaction transaction = StreamingTransactionDecoder.decodeTransaction(bytes(json));
+
+        validateStandaloneTransaction(transaction, new JsonObject(TRANSFER_JSON));
+        assertEquals(new TransactionMapping().apply(new JsonObject(TRANSFER_JSON)).getDeadline().getInstant(), transaction.getDeadline().getInstant());
+    }
+
+    @Test
+    void shouldDecodeInnerTransactionsWithoutMetaWithMetaOfAggregate() throws Exception {
+        String json = "{" + TRANSFER_META + ",\"transaction\":{\"deadline\":[10000,0],\"fee\":[5,0],\"signature\":\"AB\",\"signer\":\"B4F12E7C9F6946091E2CB8B6D3A12B50D17CCBBF646386EA27CE2946A7423DCF\"," +
+                "\"transactions\":[{" + TRANSFER_TRANSACTION + "}],\"type\":16961,\"version\":36867}}";
+
+        AggregateTransaction aggregate = (AggregateTransaction) StreamingTransactionDecoder.decodeTransaction(bytes(json));
+        Transaction innerTransaction = aggregate.getInnerTransactions().get(0);
+
+        assertEquals(TransactionType.AGGREGATE_BONDED, aggregate.getType());
+        assertEquals(0, aggregate.getCosignatures().size());
+        assertEquals("AB", innerTransaction.getSignature().get());
+        assertEquals(BigInteger.valueOf(5), innerTransaction.getFee());
+        assertEquals(aggregate.getTransactionInfo().get().getHash(), innerTransaction.getTransactionInfo().get().getHash());
+        assertEquals(aggregate.getTransactionInfo().get().getIndex(), innerTransaction.getTransactionInfo().get().getIndex());
+    }
+
+    @Test
+    void shouldDecodeTransactionArrayElementWise() throws Exception {
+        List<Transaction> transactions = Http.decodeTransactions(Buffer.buffer("[" + TRANSFER_JSON + ", " + TRANSFER_JSON + "]"));
+        List<Transaction> empty = Http.decodeTransactions(Buffer.buffer("[]"));
+
+        assertEquals(2, transactions.size());
+        validateStandaloneTransaction(transactions.get(1), new JsonObject(TRANSFER_JSON));
+        assertEquals(0, empty.size());
+        assertThrows(IllegalStateException.class, () -> Http.decodeTransactions(Buffer.buffer("[" + TRANSFER_JSON)));
+    }
+
+    @Test
+    void cannotDecodeTransactionOfTypeWithoutDefaultCodec() {
+        TransactionCodec transferCodec = TransactionMapping.getCodec(TransactionType.TRANSFER.getValue());
+        TransactionMapping.registerCodec(TransactionType.TRANSFER.getValue(), (input, mapping) -> transferCodec.decode(input, mapping));
+        try {
+            assertThrows(JsonParseException.class, () -> StreamingTransactionDecoder.decodeTransaction(bytes(TRANSFER_JSON)));
+        } finally {
+            TransactionMapping.registerCodec(TransactionType.TRANSFER.getValue(), transferCodec);
+        }
+
+        assertThrows(JsonParseException.class, () -> StreamingTransactionDecoder.decodeTransaction(bytes(TRANSFER_JSON.replace("16724", "23387"))));
+    }
+
+    @Test
+    void shouldFallBackToMappingForTransactionOfRegisteredType() throws Exception {
+        TransactionMapping.registerCodec(0x5D5D, TransactionMapping.getCodec(TransactionType.TRANSFER.getValue()));
+        long fallbackCount = Http.getFallbackCount();
+
+        List<Transaction> transactions = Http.decodeTransactions(Buffer.buffer("[" + TRANSFER_JSON + "," + TRANSFER_JSON.replace("16724", "23901") + "]"));
+
+        assertEquals(2, transactions.size());
+        validateStandaloneTransaction(transactions.get(1), new JsonObject(TRANSFER_JSON));
+        assertEquals(fallbackCount + 1, Http.getFallbackCount());
+        assertTrue(Http.getLastFallbackCause().get() instanceof JsonParseException);
+    }
+
+    @Test
+    void cannotDecodeTransactionWithoutRequiredFields() {
+        assertThrows(JsonParseException.class, () -> StreamingTransactionDecoder.decodeTransaction(bytes("{" + TRANSFER_TRANSACTION + "}")));
+        assertThrows(JsonParseException.class, () -> StreamingTransactionDecoder.decodeTransaction(bytes(TRANSFER_JSON.replace("\"fee\":[0,0],", ""))));
+        assertThrows(JsonParseException.class, () -> StreamingTransactionDecoder.decodeTransaction(bytes(TRANSFER_JSON.replace("\"deadline\":[10000,0]", "\"deadline\":\"10000\""))));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.infrastructure;
+
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.transaction.Deadline;
+import io.nem.sdk.model.transaction.PlainMessage;
+import io.nem.sdk.model.transaction.SignedTransaction;
+import io.nem.sdk.model.transaction.TransactionType;
+import io.nem.sdk.model.transaction.TransferTransaction;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionHttpTest {
+
+    @Test
+    void shouldCreateAnnounceRequestBodyFromSignedPayload() {
+        Account account = new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", NetworkType.MIJIN_TEST);
+        SignedTransaction signedTransaction = TransferTransaction.create(
+                new Deadline(2, ChronoUnit.HOURS),
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Collections.emptyList(),
+                PlainMessage.create("test-message"),
+                NetworkType.MIJIN_TEST).signWith(account);
+
+        byte[] body = TransactionHttp.createPayloadRequestBody(signedTransaction);
+
+        JsonObject expected = new JsonObject().put("payload", signedTransaction.getPayload());
+        assertEquals(expected, new JsonObject(new String(body, StandardCharsets.UTF_8)));
+        assertEquals(expected.encode(), new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldCreateAnnounceRequestBodyFromHexPayload() {
+        SignedTransaction signedTransaction = new SignedTransaction("0abc", "hash", TransactionType.TRANSFER);
+
+        byte[] body = TransactionHttp.createPayloadRequestBody(signedTransaction);
+
+        assertEquals("{\"payload\":\"0ABC\"}", new String(body, StandardCharsets.UTF_8));
+    }
+}
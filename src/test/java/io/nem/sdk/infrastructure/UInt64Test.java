@@ -27,6 +27,10 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UInt64Test {
 
@@ -78,4 +82,54 @@ class UInt64Test {
         BigInteger result = UInt64.fromIntArray(input);
         assertEquals(expected, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shortNegativeBigIntegerShouldBeReturnedAsTwosComplement() {
+        int[] result = UInt64.fromBigInteger(BigInteger.valueOf(-1));
+        assertArrayEquals(new int[]{-1, -1}, result);
+    }
+
+    @Test
+    void fromIntArrayShouldNotModifyTheInput() {
+        int[] input = new int[]{-1, -2};
+        UInt64.fromIntArray(input);
+        assertArrayEquals(new int[]{-1, -2}, input);
+    }
+
+    @Test
+    void smallValuesShouldBeCached() {
+        assertSame(UInt64.ZERO, UInt64.valueOf(0));
+        assertSame(UInt64.valueOf(1023), UInt64.valueOf(BigInteger.valueOf(1023)));
+        assertEquals(UInt64.valueOf(1024), UInt64.valueOf(1024));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provider")
+    void valueShouldBeCreatedFromParts(int[] parts, BigInteger expected) {
+        UInt64 value = UInt64.valueOf(parts[0], parts[1]);
+        assertEquals(expected, value.toBigInteger());
+        assertEquals(parts[0], value.getLower());
+        assertEquals(parts[1], value.getHigher());
+        assertEquals(UInt64.valueOf(expected), value);
+        assertEquals(UInt64.valueOf(expected).hashCode(), value.hashCode());
+    }
+
+    @Test
+    void valuesAboveLongMaxValueShouldBeUnsigned() {
+        UInt64 max = UInt64.valueOf(new BigInteger("18446744073709551615"));
+        assertEquals(-1L, max.longValue());
+        assertEquals(new BigInteger("18446744073709551615"), max.toBigInteger());
+        assertEquals(BigInteger.valueOf(-1), max.toSignedBigInteger());
+        assertEquals("18446744073709551615", max.toString());
+        assertEquals(max, UInt64.valueOf(BigInteger.valueOf(-1)));
+        assertTrue(max.compareTo(UInt64.valueOf(Long.MAX_VALUE)) > 0);
+        assertTrue(UInt64.ZERO.compareTo(max) < 0);
+        assertNotEquals(max, UInt64.valueOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void cannotCreateValueOutsideOfSixtyFourBits() {
+        assertThrows(IllegalArgumentException.class, () -> UInt64.valueOf(BigInteger.ONE.shiftLeft(64)));
+        assertThrows(IllegalArgumentException.class, () -> UInt64.valueOf(BigInteger.ONE.shiftLeft(63).negate().subtract(BigInteger.ONE)));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.account;
+
+import io.nem.core.crypto.CryptoEngines;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountGeneratorTest {
+
+    @Test
+    void shouldGenerateDistinctValidAccounts() {
+        AccountGenerator generator = createGenerator(NetworkType.MIJIN_TEST);
+
+        List<Account> accounts = generator.generate(50).toList().blockingGet();
+
+        assertEquals(50, accounts.size());
+        Set<String> privateKeys = new HashSet<>();
+        for (Account account : accounts) {
+            Account expected = new Account(account.getPrivateKey(), NetworkType.MIJIN_TEST);
+            assertEquals(expected.getPublicKey(), account.getPublicKey());
+            assertEquals(expected.getAddress(), account.getAddress());
+            privateKeys.add(account.getPrivateKey());
+        }
+
+        assertEquals(50, privateKeys.size());
+    }
+
+    @Test
+    void shouldGenerateAccountsWithAddressPrefix() {
+        AccountGenerator generator = createGenerator(NetworkType.MIJIN_TEST);
+
+        List<Account> accounts = generator.generateWithPrefix(3, "sc").toList().blockingGet();
+
+        assertEquals(3, accounts.size());
+        for (Account account : accounts) {
+            assertTrue(account.getAddress().plain().startsWith("SC"));
+            assertEquals(new Account(account.getPrivateKey(), NetworkType.MIJIN_TEST).getAddress(), account.getAddress());
+        }
+    }
+
+    @Test
+    void shouldGenerateAccountsWithAddressSuffix() {
+        AccountGenerator generator = createGenerator(NetworkType.MAIN_NET);
+
+        List<Account> accounts = generator.generateWithSuffix(2, "7").toList().blockingGet();
+
+        assertEquals(2, accounts.size());
+        for (Account account : accounts) {
+            assertTrue(account.getAddress().plain().endsWith("7"));
+            assertEquals(NetworkType.MAIN_NET, account.getAddress().getNetworkType());
+        }
+    }
+
+    @Test
+    void shouldRejectPrefixesNotPossibleForNetwork() {
+        AccountGenerator generator = createGenerator(NetworkType.MIJIN_TEST);
+
+        assertThrows(IllegalArgumentException.class, () -> generator.generateWithPrefix(1, "N"));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateWithPrefix(1, "SE"));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateWithSuffix(1, "1"));
+    }
+
+    @Test
+    void shouldGenerateNoAccountsForZeroCount() {
+        AccountGenerator generator = createGenerator(NetworkType.MIJIN_TEST);
+
+        List<Account> accounts = generator.generate(0).toList().blockingGet();
+
+        assertTrue(accounts.isEmpty());
+    }
+
+    @Test
+    void shouldReportThroughput() {
+        AccountGenerator generator = createGenerator(NetworkType.MIJIN_TEST);
+        assertEquals(0.0, generator.getKeysPerSecond());
+
+        generator.generateWithSuffix(2, "A").blockingSubscribe();
+
+        assertEquals(2, generator.getGeneratedAccounts());
+        assertTrue(generator.getGeneratedKeys() >= 2);
+        assertTrue(generator.getElapsedTime(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(generator.getKeysPerSecond() > 0);
+    }
+
+    @Test
+    void cannotCreateGeneratorWithNonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new AccountGenerator(NetworkType.MIJIN_TEST, CryptoEngines.defaultEngine(), Schedulers.computation(), 0));
+    }
+
+    private static AccountGenerator createGenerator(NetworkType networkType) {
+        return new AccountGenerator(networkType, CryptoEngines.defaultEngine(), Schedulers.computation(), 2);
+    }
+}
@@ -17,6 +17,7 @@
 package io.nem.sdk.model.account;
 
 import io.nem.core.crypto.KeyPair;
+import io.nem.core.crypto.PreparedSigner;
 import io.nem.core.crypto.ed25519.Ed25519CryptoEngine;
 import io.nem.sdk.model.blockchain.NetworkType;
 import io.nem.sdk.model.mosaic.Mosaic;
@@ -86,6 +87,26 @@ class AccountTest {
         assertEquals("350AE56BC97DB805E2098AB2C596FA4C6B37EF974BF24DFD61CD9F77C7687424", signedTransaction.getHash());
     }
 
+    @Test
+    void shouldSignTransactionWithPreparedSigner() {
+        Account account = new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", NetworkType.MIJIN_TEST);
+        TransferTransaction transferTransaction = TransferTransaction.create(
+                new FakeDeadline(),
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Collections.singletonList(
+                        new Mosaic(new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100))
+                ),
+                PlainMessage.Empty,
+                NetworkType.MIJIN_TEST
+        );
+
+        try (PreparedSigner signer = account.createPreparedSigner()) {
+            SignedTransaction signedTransaction = transferTransaction.signWith(signer);
+            assertEquals("A5000000773891AD01DD4CDF6E3A55C186C673E256D7DF9D471846F1943CC3529E4E02B38B9AF3F8D13784645FF5FAAFA94A321B94933C673D12DE60E4BC05ABA56F750E1026D70E1954775749C6811084D6450A3184D977383F0E4282CD47118AF37755039054410000000000000000010000000000000090E8FEBD671DD41BEE94EC3BA5831CB608A312C2F203BA84AC01000100672B0000CE5600006400000000000000", signedTransaction.getPayload());
+            assertEquals("350AE56BC97DB805E2098AB2C596FA4C6B37EF974BF24DFD61CD9F77C7687424", signedTransaction.getHash());
+        }
+    }
+
     @Test
     void shouldAcceptKeyPairAsConstructor() {
         KeyPair random = KeyPair.random(new Ed25519CryptoEngine());
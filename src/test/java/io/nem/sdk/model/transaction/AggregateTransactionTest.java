@@ -16,6 +16,7 @@
 
 package io.nem.sdk.model.transaction;
 
+import io.nem.core.crypto.Signer;
 import io.nem.sdk.infrastructure.TransactionMapping;
 import io.nem.sdk.model.account.Account;
 import io.nem.sdk.model.account.Address;
@@ -28,10 +29,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -114,12 +120,52 @@ public class AggregateTransactionTest {
 
         SignedTransaction signedTransaction = cosignatoryAccount.signTransactionWithCosignatories(aggregateTx, Arrays.asList(cosignatoryAccount2));
 
-        assertEquals("2d010000", signedTransaction.getPayload().substring(0, 8));
+        assertEquals("2D010000", signedTransaction.getPayload().substring(0, 8));
         assertEquals("5100000051000000", signedTransaction.getPayload().substring(240, 256));
         //assertEquals("039054419050B9837EFAB4BBE8A4B9BB32D812F9885C00D8FC1650E1420D000000746573742D6D65737361676568B3FBB18729C1FDE225C57F8CE080FA828F0067E451A3FD81FA628842B0B763", signedTransaction.getPayload().substring(320, 474));
 
     }
 
+    @Test
+    void shouldWriteCosignaturesInOrderOfCosignatories() {
+        AggregateTransaction aggregateTx = createAggregateWithTransfers(20);
+        Account initiator = new Account("2a2b1f5d366a5dd5dc56c3c757cf4fe6c66e2787087692cf329d7a49a594658b", NetworkType.MIJIN_TEST);
+        List<Account> cosignatories = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            cosignatories.add(new Account(String.format("%064x", i + 1), NetworkType.MIJIN_TEST));
+        }
+
+        SignedTransaction signedTransaction = aggregateTx.signTransactionWithCosigners(initiator, cosignatories, new ForkJoinPool(3));
+
+        byte[] signedPayload = aggregateTx.signWith(initiator).getPayloadBytes();
+        byte[] payload = signedTransaction.getPayloadBytes();
+        assertEquals(signedPayload.length + 7 * 96, payload.length);
+        assertEquals(payload.length, ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN).getInt());
+        assertArrayEquals(Arrays.copyOfRange(signedPayload, 4, signedPayload.length), Arrays.copyOfRange(payload, 4, signedPayload.length));
+        assertEquals(Transaction.createTransactionHash(signedPayload), signedTransaction.getHash());
+        for (int i = 0; i < 7; i++) {
+            int offset = signedPayload.length + i * 96;
+            Signer signer = new Signer(cosignatories.get(i).getKeyPair());
+            assertArrayEquals(cosignatories.get(i).getKeyPair().getPublicKey().getRaw(), Arrays.copyOfRange(payload, offset, offset + 32));
+            assertArrayEquals(signer.sign(signedTransaction.getHashBytes()).getBytes(), Arrays.copyOfRange(payload, offset + 32, offset + 96));
+        }
+
+        assertTrue(new TransactionVerifier().isValid(TransactionReader.read(payload)));
+    }
+
+    @Test
+    void shouldSignWithoutCosignatoriesLikeSignWith() {
+        Account initiator = new Account("2a2b1f5d366a5dd5dc56c3c757cf4fe6c66e2787087692cf329d7a49a594658b", NetworkType.MIJIN_TEST);
+        for (AggregateTransaction aggregateTx : Arrays.asList(createAggregateWithTransfers(0), createAggregateWithTransfers(3))) {
+            SignedTransaction expected = aggregateTx.signWith(initiator);
+
+            SignedTransaction signedTransaction = aggregateTx.signTransactionWithCosigners(initiator, Collections.emptyList());
+
+            assertEquals(expected.getPayload(), signedTransaction.getPayload());
+            assertEquals(expected.getHash(), signedTransaction.getHash());
+        }
+    }
+
     @Test
     void shouldFindAccountInAsASignerOfTheTransaction() {
         JsonObject aggregateTransferTransactionDTO = new JsonObject("{\"meta\":{\"hash\":\"671653C94E2254F2A23EFEDB15D67C38332AED1FBD24B063C0A8E675582B6A96\",\"height\":[18160,0],\"id\":\"5A0069D83F17CF0001777E55\",\"index\":0,\"merkleComponentHash\":\"81E5E7AE49998802DABC816EC10158D3A7879702FF29084C2C992CD1289877A7\"},\"transaction\":{\"cosignatures\":[{\"signature\":\"5780C8DF9D46BA2BCF029DCC5D3BF55FE1CB5BE7ABCF30387C4637DDEDFC2152703CA0AD95F21BB9B942F3CC52FCFC2064C7B84CF60D1A9E69195F1943156C07\",\"signer\":\"A5F82EC8EBB341427B6785C8111906CD0DF18838FB11B51CE0E18B5E79DFF630\"}],\"deadline\":[3266625578,11],\"fee\":[0,0],\"signature\":\"939673209A13FF82397578D22CC96EB8516A6760C894D9B7535E3A1E068007B9255CFA9A914C97142A7AE18533E381C846B69D2AE0D60D1DC8A55AD120E2B606\",\"signer\":\"7681ED5023141D9CDCF184E5A7B60B7D466739918ED5DA30F7E71EA7B86EFF2D\",\"transactions\":[{\"meta\":{\"aggregateHash\":\"3D28C804EDD07D5A728E5C5FFEC01AB07AFA5766AE6997B38526D36015A4D006\",\"aggregateId\":\"5A0069D83F17CF0001777E55\",\"height\":[18160,0],\"id\":\"5A0069D83F17CF0001777E56\",\"index\":0},\"transaction\":{\"message\":{\"payload\":\"746573742D6D657373616765\",\"type\":0},\"mosaics\":[{\"amount\":[3863990592,95248],\"id\":[3646934825,3576016193]}],\"recipient\":\"9050B9837EFAB4BBE8A4B9BB32D812F9885C00D8FC1650E142\",\"signer\":\"B4F12E7C9F6946091E2CB8B6D3A12B50D17CCBBF646386EA27CE2946A7423DCF\",\"type\":16724,\"version\":36867}}],\"type\":16705,\"version\":36867}}");
@@ -137,4 +183,19 @@ public class AggregateTransactionTest {
                         NetworkType.MIJIN_TEST)));
 
     }
+
+    private static AggregateTransaction createAggregateWithTransfers(int count) {
+        PublicAccount signer = new PublicAccount("B694186EE4AB0558CA4AFCFDD43B42114AE71094F5A1FC4A913FE9971CACD21D", NetworkType.MIJIN_TEST);
+        List<Transaction> innerTransactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            innerTransactions.add(TransferTransaction.create(
+                    new FakeDeadline(),
+                    new Address("SBILTA367K2LX2FEXG5TFWAS7GEFYAGY7QLFBYKC", NetworkType.MIJIN_TEST),
+                    Collections.singletonList(XEM.createRelative(BigInteger.valueOf(i))),
+                    new PlainMessage("message-" + i),
+                    NetworkType.MIJIN_TEST).toAggregate(signer));
+        }
+
+        return AggregateTransaction.createComplete(new FakeDeadline(), innerTransactions, NetworkType.MIJIN_TEST);
+    }
 }
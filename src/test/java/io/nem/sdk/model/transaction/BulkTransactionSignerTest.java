@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkTransactionSignerTest {
+    static Account account;
+    static Account otherAccount;
+    static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void setup() {
+        account = new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", NetworkType.MIJIN_TEST);
+        otherAccount = new Account("5098D500390934F81EA416D9A2F50F276DE446E28488E1801212931E3470DA31", NetworkType.MIJIN_TEST);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void signAllWithAccountReturnsSignedTransactionsInOrder() {
+        List<TransferTransaction> transactions = createTransactions(100);
+        BulkTransactionSigner signer = new BulkTransactionSigner(pool, 8);
+
+        List<SignedTransaction> signedTransactions = signer.signAll(transactions, account);
+
+        assertEquals(100, signedTransactions.size());
+        for (int i = 0; i < transactions.size(); ++i) {
+            assertSignedTransactionEquals(transactions.get(i).signWith(account), signedTransactions.get(i));
+        }
+    }
+
+    @Test
+    void signAllWithKeySelectorSignsEachTransactionWithSelectedAccount() {
+        List<TransferTransaction> transactions = createTransactions(50);
+        BulkTransactionSigner signer = new BulkTransactionSigner(pool, 4);
+
+        List<SignedTransaction> signedTransactions = signer.signAll(transactions, transaction -> selectAccount(transactions, transaction));
+
+        assertEquals(50, signedTransactions.size());
+        for (int i = 0; i < transactions.size(); ++i) {
+            Account expectedAccount = i % 2 == 0 ? account : otherAccount;
+            assertSignedTransactionEquals(transactions.get(i).signWith(expectedAccount), signedTransactions.get(i));
+        }
+    }
+
+    @Test
+    void signAllSupportsSequentialLists() {
+        List<TransferTransaction> transactions = new LinkedList<>(createTransactions(20));
+        BulkTransactionSigner signer = new BulkTransactionSigner(pool, 3);
+
+        List<SignedTransaction> signedTransactions = signer.signAll(transactions, account);
+
+        assertEquals(20, signedTransactions.size());
+        assertSignedTransactionEquals(transactions.get(19).signWith(account), signedTransactions.get(19));
+    }
+
+    @Test
+    void signAllWithEmptyListReturnsEmptyList() {
+        BulkTransactionSigner signer = new BulkTransactionSigner(pool);
+
+        List<SignedTransaction> signedTransactions = signer.signAll(Collections.emptyList(), account);
+
+        assertTrue(signedTransactions.isEmpty());
+        assertEquals(1, signer.getSignedBatches());
+    }
+
+    @Test
+    void signAllPropagatesKeySelectorFailure() {
+        List<TransferTransaction> transactions = createTransactions(10);
+        BulkTransactionSigner signer = new BulkTransactionSigner(pool, 2);
+
+        assertThrows(IllegalStateException.class, () -> signer.signAll(transactions, transaction -> {
+            throw new IllegalStateException("no key");
+        }));
+        assertThrows(NullPointerException.class, () -> signer.signAll(transactions, transaction -> null));
+        assertEquals(0, signer.getSignedTransactions());
+    }
+
+    @Test
+    void signAllUpdatesMetrics() {
+        BulkTransactionSigner signer = new BulkTransactionSigner(pool, 16);
+        assertEquals(0.0, signer.getTransactionsPerSecond());
+
+        signer.signAll(createTransactions(30), account);
+        signer.signAll(createTransactions(12), otherAccount);
+
+        assertEquals(42, signer.getSignedTransactions());
+        assertEquals(2, signer.getSignedBatches());
+        assertTrue(signer.getElapsedTime(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(signer.getTransactionsPerSecond() > 0);
+
+        signer.resetMetrics();
+
+        assertEquals(0, signer.getSignedTransactions());
+        assertEquals(0, signer.getSignedBatches());
+        assertEquals(0, signer.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void cannotCreateSignerWithNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BulkTransactionSigner(pool, 0));
+    }
+
+    private static Account selectAccount(List<TransferTransaction> transactions, Transaction transaction) {
+        return transactions.indexOf(transaction) % 2 == 0 ? account : otherAccount;
+    }
+
+    private static void assertSignedTransactionEquals(SignedTransaction expected, SignedTransaction actual) {
+        assertEquals(expected.getPayload(), actual.getPayload());
+        assertEquals(expected.getHash(), actual.getHash());
+        assertEquals(expected.getType(), actual.getType());
+    }
+
+    private static List<TransferTransaction> createTransactions(int count) {
+        List<TransferTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            transactions.add(TransferTransaction.create(
+                    new FakeDeadline(),
+                    new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                    Collections.singletonList(
+                            new Mosaic(new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100 + i))
+                    ),
+                    PlainMessage.Empty,
+                    NetworkType.MIJIN_TEST
+            ));
+        }
+
+        return transactions;
+    }
+}
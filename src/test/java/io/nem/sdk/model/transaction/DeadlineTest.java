@@ -18,10 +18,12 @@ package io.nem.sdk.model.transaction;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DeadlineTest {
@@ -44,4 +46,17 @@ class DeadlineTest {
         assertTrue(now.plusHours(2).minusSeconds(1).isBefore(deadline.getLocalDateTime()), "now plus 2 hours is before deadline localtime");
         assertTrue(now.plusMinutes(2 * 60 + 2).isAfter(deadline.getLocalDateTime()), "now plus 2 hours and 2 seconds is after deadline localtime");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCreateADeadlineFromEpochMilliseconds() {
+        Deadline deadline = new Deadline(BigInteger.valueOf(Deadline.TIMESTAMP_NEMSIS_BLOCK.toEpochMilli() + 3600000));
+        assertEquals(3600000, deadline.getInstant());
+    }
+
+    @Test
+    void shouldCreateADeadlineFromMillisecondsSinceNemesisBlock() {
+        Deadline deadline = Deadline.createFromNemesisMilliseconds(BigInteger.valueOf(3600000));
+        assertEquals(3600000, deadline.getInstant());
+        assertEquals(LocalDateTime.ofInstant(Deadline.TIMESTAMP_NEMSIS_BLOCK.plusSeconds(3600), ZoneId.of("UTC")), deadline.getLocalDateTime(ZoneId.of("UTC")));
+    }
+}
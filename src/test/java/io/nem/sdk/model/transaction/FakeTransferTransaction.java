@@ -33,8 +33,28 @@ public class FakeTransferTransaction extends Transaction {
         super(TransactionType.TRANSFER, networkType, version, deadline, fee, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
+    @Override
+    Transaction copyWithSigner(PublicAccount signer) {
+        throw new Error("Method no implemented");
+    }
+
     @Override
     byte[] generateBytes() {
         throw new Error("Method no implemented");
     }
+
+    @Override
+    byte[] generateFlatBufferBytes() {
+        throw new Error("Method no implemented");
+    }
+
+    @Override
+    int getPayloadSize() {
+        throw new Error("Method no implemented");
+    }
+
+    @Override
+    void writeBody(TransactionWriter writer) {
+        throw new Error("Method no implemented");
+    }
 }
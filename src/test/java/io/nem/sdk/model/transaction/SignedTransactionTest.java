@@ -18,7 +18,9 @@ package io.nem.sdk.model.transaction;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SignedTransactionTest {
 
@@ -30,4 +32,39 @@ public class SignedTransactionTest {
         assertEquals("hash", signedTransaction.getHash());
         assertEquals(TransactionType.TRANSFER, signedTransaction.getType());
     }
+
+    @Test
+    void createASignedTransactionFromBytes() {
+        byte[] payload = new byte[]{0x0a, (byte) 0xbc, 0x00, (byte) 0xff};
+        byte[] hash = new byte[]{0x12, (byte) 0xef};
+
+        SignedTransaction signedTransaction = new SignedTransaction(payload, hash, TransactionType.TRANSFER);
+
+        assertEquals("0ABC00FF", signedTransaction.getPayload());
+        assertEquals("12EF", signedTransaction.getHash());
+        assertEquals(4, signedTransaction.getPayloadSize());
+        assertArrayEquals(payload, signedTransaction.getPayloadBytes());
+        assertArrayEquals(hash, signedTransaction.getHashBytes());
+        assertNotSame(payload, signedTransaction.getPayloadBytes());
+        assertSame(signedTransaction.getPayload(), signedTransaction.getPayload());
+    }
+
+    @Test
+    void createASignedTransactionFromHexGivesTheSameBytes() {
+        SignedTransaction signedTransaction = new SignedTransaction("0ABC00FF", "12EF", TransactionType.TRANSFER);
+
+        assertArrayEquals(new byte[]{0x0a, (byte) 0xbc, 0x00, (byte) 0xff}, signedTransaction.getPayloadBytes());
+        assertArrayEquals(new byte[]{0x12, (byte) 0xef}, signedTransaction.getHashBytes());
+        assertEquals(4, signedTransaction.getPayloadSize());
+    }
+
+    @Test
+    void writesPayloadHexAtOffset() {
+        SignedTransaction signedTransaction = new SignedTransaction(new byte[]{0x0a, (byte) 0xbc}, new byte[32], TransactionType.TRANSFER);
+        byte[] destination = new byte[]{'[', 0, 0, 0, 0, ']'};
+
+        signedTransaction.writePayloadHex(destination, 1);
+
+        assertEquals("[0ABC]", new String(destination, StandardCharsets.US_ASCII));
+    }
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicProperties;
+import io.nem.sdk.model.mosaic.MosaicSupplyType;
+import io.nem.sdk.model.mosaic.XEM;
+import io.nem.sdk.model.namespace.NamespaceId;
+import io.nem.sdk.model.namespace.NamespaceType;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionReaderTest {
+    private static final String SECRET = "b778a39a3663719dfc5e48c9d78431b1e45c2af9df538782bf199c189dabeac7680ada57dcec8eee91c4e3bf3bfa9af6ffde90cd1d249d1c6121d7b759a001b1";
+    private static final Address RECIPIENT = new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST);
+    static Account account;
+    static Account cosignatoryAccount;
+
+    @BeforeAll
+    public static void setup() {
+        account = new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", NetworkType.MIJIN_TEST);
+        cosignatoryAccount = new Account("5098D500390934F81EA416D9A2F50F276DE446E28488E1801212931E3470DA31", NetworkType.MIJIN_TEST);
+    }
+
+    @Test
+    void readsSignedTransactionsOfAllTypes() {
+        Set<TransactionType> readTypes = EnumSet.noneOf(TransactionType.class);
+        List<Transaction> transactions = new ArrayList<>(createTransactions());
+        transactions.add(AggregateTransaction.createBonded(new FakeDeadline(), Collections.emptyList(), NetworkType.MIJIN_TEST));
+
+        for (Transaction transaction : transactions) {
+            SignedTransaction signedTransaction = transaction.signWith(account);
+
+            Transaction readTransaction = TransactionReader.read(Hex.decode(signedTransaction.getPayload()));
+
+            assertSame(transaction.getClass(), readTransaction.getClass());
+            assertEquals(transaction.getType(), readTransaction.getType());
+            assertEquals(transaction.getNetworkType(), readTransaction.getNetworkType());
+            assertEquals(transaction.getVersion(), readTransaction.getVersion());
+            assertEquals(transaction.getFee(), readTransaction.getFee());
+            assertEquals(transaction.getDeadline().getInstant(), readTransaction.getDeadline().getInstant());
+            assertEquals(signedTransaction.getPayload().substring(8, 136), readTransaction.getSignature().get());
+            assertEquals(account.getPublicAccount(), readTransaction.getSigner().get());
+            assertFalse(readTransaction.getTransactionInfo().isPresent());
+            assertEquals(signedTransaction.getPayload(), readTransaction.signWith(account).getPayload(), transaction.getType().toString());
+            readTypes.add(readTransaction.getType());
+        }
+
+        assertEquals(EnumSet.allOf(TransactionType.class), readTypes);
+    }
+
+    @Test
+    void readsFieldsOfTransferTransaction() {
+        TransferTransaction transaction = new TransferTransaction(NetworkType.MAIN_NET, 3, new Deadline(2, ChronoUnit.HOURS), BigInteger.valueOf(7), RECIPIENT,
+                Arrays.asList(new Mosaic(XEM.MOSAICID, BigInteger.TEN), new Mosaic(new MosaicId(new BigInteger("6300565133566699912")), BigInteger.ONE)),
+                PlainMessage.create("méssage"));
+
+        TransferTransaction readTransaction = (TransferTransaction) TransactionReader.read(transaction.generateBytes());
+
+        assertEquals(RECIPIENT, readTransaction.getRecipient());
+        assertEquals(transaction.getMosaics().size(), readTransaction.getMosaics().size());
+        assertEquals(XEM.MOSAICID.getId(), readTransaction.getMosaics().get(0).getId().getId());
+        assertEquals(new BigInteger("6300565133566699912"), readTransaction.getMosaics().get(1).getId().getId());
+        assertEquals(BigInteger.TEN, readTransaction.getMosaics().get(0).getAmount());
+        assertEquals("méssage", readTransaction.getMessage().getPayload());
+        assertEquals(NetworkType.MAIN_NET, readTransaction.getNetworkType());
+    }
+
+    @Test
+    void readsUnsignedTransactionsWithoutSignatureAndSigner() {
+        for (Transaction transaction : createTransactions()) {
+            Transaction readTransaction = TransactionReader.read(transaction.generateBytes());
+
+            assertFalse(readTransaction.getSignature().isPresent());
+            assertFalse(readTransaction.getSigner().isPresent());
+            assertArrayEquals(transaction.generateBytes(), readTransaction.generateBytes(), transaction.getType().toString());
+        }
+    }
+
+    @Test
+    void readsAggregateTransactionWithInnerTransactionsAndCosignatures() {
+        List<Transaction> innerTransactions = new ArrayList<>();
+        for (Transaction transaction : createTransactions()) {
+            if (!(transaction instanceof AggregateTransaction)) {
+                innerTransactions.add(transaction.toAggregate(cosignatoryAccount.getPublicAccount()));
+            }
+        }
+
+        AggregateTransaction aggregate = AggregateTransaction.createComplete(new Deadline(2, ChronoUnit.HOURS), innerTransactions, NetworkType.MIJIN_TEST);
+        SignedTransaction signedTransaction = aggregate.signTransactionWithCosigners(account, Collections.singletonList(cosignatoryAccount));
+
+        AggregateTransaction readTransaction = (AggregateTransaction) TransactionReader.read(Hex.decode(signedTransaction.getPayload()));
+
+        assertEquals(innerTransactions.size(), readTransaction.getInnerTransactions().size());
+        for (int i = 0; i < innerTransactions.size(); ++i) {
+            Transaction innerTransaction = readTransaction.getInnerTransactions().get(i);
+            assertSame(innerTransactions.get(i).getClass(), innerTransaction.getClass());
+            assertEquals(cosignatoryAccount.getPublicAccount(), innerTransaction.getSigner().get());
+            assertEquals(aggregate.getDeadline().getInstant(), innerTransaction.getDeadline().getInstant());
+            assertArrayEquals(innerTransactions.get(i).toAggregateTransactionBytes(), innerTransaction.toAggregateTransactionBytes());
+        }
+
+        assertEquals(1, readTransaction.getCosignatures().size());
+        assertEquals(cosignatoryAccount.getPublicAccount(), readTransaction.getCosignatures().get(0).getSigner());
+        assertTrue(new TransactionVerifier().isValid(readTransaction));
+    }
+
+    @Test
+    void readsEmptyAggregateTransactionWithCosignatures() {
+        Account otherCosignatoryAccount = new Account("26b64cb10f005e5988a36744ca19e20d835ccc7c105aaa5f3b212da593180930", NetworkType.MIJIN_TEST);
+        AggregateTransaction aggregate = AggregateTransaction.createComplete(new Deadline(2, ChronoUnit.HOURS), Collections.emptyList(), NetworkType.MIJIN_TEST);
+        SignedTransaction signedTransaction = aggregate.signTransactionWithCosigners(account, Arrays.asList(cosignatoryAccount, otherCosignatoryAccount));
+        byte[] payload = Hex.decode(signedTransaction.getPayload());
+
+        AggregateTransaction readTransaction = (AggregateTransaction) TransactionReader.read(payload);
+
+        assertEquals(payload.length, ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN).getInt());
+        assertTrue(readTransaction.getInnerTransactions().isEmpty());
+        assertEquals(account.getPublicAccount(), readTransaction.getSigner().get());
+        assertEquals(2, readTransaction.getCosignatures().size());
+        assertEquals(cosignatoryAccount.getPublicAccount(), readTransaction.getCosignatures().get(0).getSigner());
+        assertEquals(otherCosignatoryAccount.getPublicAccount(), readTransaction.getCosignatures().get(1).getSigner());
+        assertTrue(new TransactionVerifier().isValid(readTransaction));
+    }
+
+    @Test
+    void readsSubNamespaceAndMosaicProperties() {
+        RegisterNamespaceTransaction subNamespace = (RegisterNamespaceTransaction) TransactionReader.read(
+                RegisterNamespaceTransaction.createSubNamespace(new FakeDeadline(), "sub", new NamespaceId("parent"), NetworkType.MIJIN_TEST).generateBytes());
+        MosaicDefinitionTransaction mosaicDefinition = (MosaicDefinitionTransaction) TransactionReader.read(
+                MosaicDefinitionTransaction.create(new FakeDeadline(), "mosaics", "sname", new MosaicProperties(true, false, true, 4, BigInteger.valueOf(10000)), NetworkType.MIJIN_TEST).generateBytes());
+
+        assertEquals(NamespaceType.SubNamespace, subNamespace.getNamespaceType());
+        assertEquals("sub", subNamespace.getNamespaceName());
+        assertEquals(new NamespaceId("parent").getId(), subNamespace.getParentId().get().getId());
+        assertEquals(new NamespaceId("sname").getId(), mosaicDefinition.getNamespaceId().getId());
+        assertFalse(subNamespace.getDuration().isPresent());
+        assertEquals("mosaics", mosaicDefinition.getMosaicName());
+        assertTrue(mosaicDefinition.getMosaicProperties().isSupplyMutable());
+        assertFalse(mosaicDefinition.getMosaicProperties().isTransferable());
+        assertTrue(mosaicDefinition.getMosaicProperties().isLevyMutable());
+        assertEquals(4, mosaicDefinition.getMosaicProperties().getDivisibility());
+        assertEquals(BigInteger.valueOf(10000), mosaicDefinition.getMosaicProperties().getDuration());
+    }
+
+    @Test
+    void readsFromBufferPositionWithoutChangingIt() {
+        byte[] bytes = createTransactions().get(0).generateBytes();
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 3);
+        buffer.position(3);
+        buffer.put(bytes);
+        buffer.position(3);
+
+        Transaction readTransaction = TransactionReader.read(buffer);
+
+        assertEquals(3, buffer.position());
+        assertArrayEquals(bytes, readTransaction.generateBytes());
+    }
+
+    @Test
+    void cannotReadTruncatedOrUnknownPayload() {
+        byte[] bytes = createTransactions().get(0).generateBytes();
+        byte[] unknownType = bytes.clone();
+        unknownType[102] = 0x7F;
+
+        assertThrows(IllegalArgumentException.class, () -> TransactionReader.read(Arrays.copyOf(bytes, bytes.length - 10)));
+        assertThrows(IllegalArgumentException.class, () -> TransactionReader.read(Arrays.copyOf(bytes, 50)));
+        assertThrows(IllegalArgumentException.class, () -> TransactionReader.read(unknownType));
+    }
+
+    private static List<Transaction> createTransactions() {
+        return Arrays.asList(
+                TransferTransaction.create(new FakeDeadline(), RECIPIENT, Collections.singletonList(new Mosaic(XEM.MOSAICID, BigInteger.valueOf(10000000))), PlainMessage.create("test-message"), NetworkType.MIJIN_TEST),
+                RegisterNamespaceTransaction.createRootNamespace(new FakeDeadline(), "newnamespace", BigInteger.valueOf(10000), NetworkType.MIJIN_TEST),
+                MosaicDefinitionTransaction.create(new FakeDeadline(), "mosaics", "sname", new MosaicProperties(true, true, true, 4, BigInteger.valueOf(10000)), NetworkType.MIJIN_TEST),
+                MosaicSupplyChangeTransaction.create(new FakeDeadline(), new MosaicId(new BigInteger("6300565133566699912")), MosaicSupplyType.INCREASE, BigInteger.valueOf(10), NetworkType.MIJIN_TEST),
+                ModifyMultisigAccountTransaction.create(new FakeDeadline(), 2, -1, Collections.singletonList(
+                        new MultisigCosignatoryModification(MultisigCosignatoryModificationType.ADD, PublicAccount.createFromPublicKey("68b3fbb18729c1fde225c57f8ce080fa828f0067e451a3fd81fa628842b0b763", NetworkType.MIJIN_TEST))), NetworkType.MIJIN_TEST),
+                LockFundsTransaction.create(new FakeDeadline(), XEM.createRelative(BigInteger.valueOf(10)), BigInteger.valueOf(100),
+                        new SignedTransaction("payload", "8498B38D89C1DC8A448EA5824938FF828926CD9F7747B1844B59B4B6807E878B", TransactionType.AGGREGATE_BONDED), NetworkType.MIJIN_TEST),
+                SecretLockTransaction.create(new FakeDeadline(), XEM.createRelative(BigInteger.valueOf(10)), BigInteger.valueOf(100), HashType.SHA3_512, SECRET, RECIPIENT, NetworkType.MIJIN_TEST),
+                SecretProofTransaction.create(new FakeDeadline(), HashType.SHA3_512, SECRET, "9a493664", NetworkType.MIJIN_TEST),
+                SecretProofTransaction.create(new FakeDeadline(), HashType.SHA3_512, SECRET, "", NetworkType.MIJIN_TEST),
+                AggregateTransaction.createComplete(new FakeDeadline(), Collections.singletonList(
+                        TransferTransaction.create(new FakeDeadline(), RECIPIENT, Collections.emptyList(), PlainMessage.Empty, NetworkType.MIJIN_TEST).toAggregate(cosignatoryAccount.getPublicAccount())), NetworkType.MIJIN_TEST));
+    }
+}
@@ -16,11 +16,17 @@
 
 package io.nem.sdk.model.transaction;
 
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
 import io.nem.sdk.model.account.PublicAccount;
 import io.nem.sdk.model.blockchain.NetworkType;
+import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -39,6 +45,30 @@ public class TransactionTest {
         assertEquals("AED6DD7B9575FD29D604A4D3CE57A6F9BE7B88CC3AE0B6C5F3CB26C261592907", hash);
     }
 
+    @Test
+    void generateHashesFromPayloadsInOrder() {
+        List<byte[]> payloads = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            payloads.add(Hex.decode(0 == i % 2 ? "C7000000D0B190DFEEAB0378F943F79CDB7BC44453491890FAA70F5AA95B909E67487408407956BDE32AC977D035FBBA575C11AA034B23402066C16FD6126893F3661B099A49366406ACA952B88BADF5F1E9BE6CE4968141035A60BE503273EA65456B24039054410000000000000000A76541BE0C00000090E8FEBD671DD41BEE94EC3BA5831CB608A312C2F203BA84AC03000300303064000000000000006400000000000000002F00FA0DEDD9086400000000000000443F6D806C05543A6400000000000000" : "E9000000A37C8B0456474FB5E3E910E84B5929293C114E0AF97FEF0D940D3A2A2C337BAFA0C59538E5988229B65A3065B4E9BD57B1AFAEC64DFBE2211B8AF6E742801E08C2F93346E27CE6AD1A9F8F5E3066F8326593A406BDF357ACB041E2F9AB402EFE0390414100000000000000008EEAC2C80C0000006D0000006D000000C2F93346E27CE6AD1A9F8F5E3066F8326593A406BDF357ACB041E2F9AB402EFE0390554101020200B0F93CBEE49EEB9953C6F3985B15A4F238E205584D8F924C621CBE4D7AC6EC2400B1B5581FC81A6970DEE418D2C2978F2724228B7B36C5C6DF71B0162BB04778B4"));
+        }
+
+        List<String> hashes = Transaction.createTransactionHashes(payloads);
+
+        assertEquals(100, hashes.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0 == i % 2 ? "1105F408BA2C2B2769717197954F85DFC6C502C578CC9D0B8DD628BD88330EE7" : "AED6DD7B9575FD29D604A4D3CE57A6F9BE7B88CC3AE0B6C5F3CB26C261592907", hashes.get(i));
+        }
+    }
+
+    @Test
+    void signedTransactionHashMatchesHashOfPayload() {
+        SignedTransaction signedTransaction = TransferTransaction.create(new FakeDeadline(), new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST), Collections.emptyList(), PlainMessage.Empty, NetworkType.MIJIN_TEST)
+                .signWith(new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", NetworkType.MIJIN_TEST));
+
+        assertEquals(Transaction.createTransactionHash(signedTransaction.getPayload()), signedTransaction.getHash());
+        assertEquals(signedTransaction.getPayload(), signedTransaction.getPayload().toUpperCase());
+    }
+
     @Test
     void shouldReturnTransactionIsUnannouncedWhenThereIsNoTransactionInfo() {
         FakeTransferTransaction fakeTransaction = new FakeTransferTransaction(
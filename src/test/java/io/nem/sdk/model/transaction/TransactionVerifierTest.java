@@ -0,0 +1,318 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.core.crypto.Hashes;
+import io.nem.core.crypto.Signature;
+import io.nem.core.crypto.Signer;
+import io.nem.core.crypto.ed25519.Ed25519Utils;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519FieldElement;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.core.utils.HexEncoder;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.reactivex.Observable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionVerifierTest {
+    static Account account;
+    static Account cosignatoryAccount;
+    static Account otherAccount;
+    static Address recipient;
+    static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void setup() {
+        account = new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", NetworkType.MIJIN_TEST);
+        cosignatoryAccount = new Account("5098D500390934F81EA416D9A2F50F276DE446E28488E1801212931E3470DA31", NetworkType.MIJIN_TEST);
+        otherAccount = new Account("26b64cb10f005e5988a36744ca19e20d835ccc7c105aaa5f3b212da593180930", NetworkType.MIJIN_TEST);
+        recipient = new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void fetchedTransactionSignedBySignerIsValid() {
+        TransactionVerifier verifier = new TransactionVerifier(pool);
+
+        assertTrue(verifier.isValid(fetch(createTransfer(BigInteger.valueOf(7), recipient), account)));
+    }
+
+    @Test
+    void transactionWithTamperedFieldsIsNotValid() {
+        TransferTransaction transaction = createTransfer(BigInteger.valueOf(7), recipient);
+        SignedTransaction signedTransaction = transaction.signWith(account);
+        TransactionVerifier verifier = new TransactionVerifier(pool);
+
+        TransferTransaction tamperedFee = createFetchedTransfer(createTransfer(BigInteger.valueOf(8), recipient), signedTransaction, account.getPublicAccount(), null);
+        TransferTransaction tamperedRecipient = createFetchedTransfer(createTransfer(BigInteger.valueOf(7), otherAccount.getAddress()), signedTransaction, account.getPublicAccount(), null);
+        TransferTransaction otherSigner = createFetchedTransfer(transaction, signedTransaction, otherAccount.getPublicAccount(), null);
+
+        assertFalse(verifier.isValid(tamperedFee));
+        assertFalse(verifier.isValid(tamperedRecipient));
+        assertFalse(verifier.isValid(otherSigner));
+    }
+
+    @Test
+    void transactionWithWrongReportedHashIsNotValid() {
+        TransferTransaction transaction = createTransfer(BigInteger.ZERO, recipient);
+        SignedTransaction signedTransaction = transaction.signWith(account);
+        TransactionVerifier verifier = new TransactionVerifier(pool);
+
+        TransferTransaction reportedHash = createFetchedTransfer(transaction, signedTransaction, account.getPublicAccount(), signedTransaction.getHash());
+        TransferTransaction wrongHash = createFetchedTransfer(transaction, signedTransaction, account.getPublicAccount(), transaction.signWith(otherAccount).getHash());
+
+        assertTrue(verifier.isValid(reportedHash));
+        assertFalse(verifier.isValid(wrongHash));
+    }
+
+    @Test
+    void transactionWithoutSignatureIsNotValid() {
+        TransactionVerifier verifier = new TransactionVerifier(pool);
+
+        assertFalse(verifier.isValid(createTransfer(BigInteger.ZERO, recipient)));
+    }
+
+    @Test
+    void transactionWithMalformedSignatureIsNotValid() {
+        TransferTransaction transaction = createTransfer(BigInteger.ZERO, recipient);
+        TransactionVerifier verifier = new TransactionVerifier(pool);
+
+        TransferTransaction malformed = new TransferTransaction(transaction.getNetworkType(), transaction.getVersion(), transaction.getDeadline(), transaction.getFee(), recipient, transaction.getMosaics(), transaction.getMessage(), "ABCD", account.getPublicAccount(), TransactionInfo.create(BigInteger.ONE, "hash", "merkleHash"));
+
+        assertFalse(verifier.isValid(malformed));
+    }
+
+    @Test
+    void aggregateTransactionSignedByCosignatoriesIsValid() {
+        AggregateTransaction aggregate = createAggregate();
+        SignedTransaction signedTransaction = aggregate.signTransactionWithCosigners(account, Collections.singletonList(cosignatoryAccount));
+        TransactionVerifier verifier = new TransactionVerifier(pool);
+
+        AggregateTransaction fetched = createFetchedAggregate(aggregate, signedTransaction, cosignatoryAccount.getPublicAccount());
+        AggregateTransaction otherCosignatory = createFetchedAggregate(aggregate, signedTransaction, otherAccount.getPublicAccount());
+
+        assertTrue(verifier.isValid(fetched));
+        assertFalse(verifier.isValid(otherCosignatory));
+        assertEquals(4, verifier.getVerifiedSignatures());
+    }
+
+    @Test
+    void aggregateTransactionWithTorsionedCosignaturesIsValidUnlessItsBatchFails() {
+        // cosignatures whose R carries an order two torsion component pass the cofactored batch equation, but not the
+        // cofactorless single verification that a failed batch falls back to
+        AggregateTransaction aggregate = createAggregate();
+        SignedTransaction signedTransaction = aggregate.signWith(account);
+        byte[] hash = HexEncoder.getBytes(signedTransaction.getHash());
+        List<AggregateTransactionCosignature> cosignatures = Arrays.asList(
+                createTorsionedCosignature(cosignatoryAccount, hash),
+                createTorsionedCosignature(otherAccount, hash));
+        AggregateTransaction fetched = new AggregateTransaction(
+                aggregate.getNetworkType(),
+                aggregate.getType(),
+                aggregate.getVersion(),
+                Deadline.createFromNemesisMilliseconds(BigInteger.valueOf(aggregate.getDeadline().getInstant())),
+                aggregate.getFee(),
+                aggregate.getInnerTransactions(),
+                cosignatures,
+                signedTransaction.getPayload().substring(8, 136),
+                account.getPublicAccount(),
+                TransactionInfo.create(BigInteger.ONE, signedTransaction.getHash(), signedTransaction.getHash()));
+        List<Transaction> transactions = createFetchedTransfers(6);
+        transactions.set(4, fetched);
+        List<Transaction> transactionsWithInvalid = new ArrayList<>(transactions);
+        TransferTransaction transfer = createTransfer(BigInteger.ZERO, recipient);
+        transactionsWithInvalid.set(5, createFetchedTransfer(transfer, transfer.signWith(account), otherAccount.getPublicAccount(), null));
+        TransactionVerifier verifier = new TransactionVerifier(pool);
+
+        assertFalse(new Signer(cosignatoryAccount.getKeyPair()).verify(hash, new Signature(HexEncoder.getBytes(cosignatures.get(0).getSignature()))));
+        assertFalse(new Signer(otherAccount.getKeyPair()).verify(hash, new Signature(HexEncoder.getBytes(cosignatures.get(1).getSignature()))));
+        assertTrue(verifier.isValid(fetched));
+        assertEquals(-1, verifier.indexOfInvalid(transactions));
+        assertEquals(4, verifier.indexOfInvalid(transactionsWithInvalid));
+    }
+
+    @Test
+    void indexOfInvalidReturnsFirstInvalidTransaction() {
+        List<Transaction> transactions = createFetchedTransfers(100);
+        transactions.set(70, createTransfer(BigInteger.ZERO, recipient));
+        transactions.set(42, fetch(createTransfer(BigInteger.ONE, recipient), account).toAggregate(otherAccount.getPublicAccount()));
+        TransactionVerifier verifier = new TransactionVerifier(pool, 8);
+
+        assertEquals(-1, verifier.indexOfInvalid(createFetchedTransfers(100)));
+        assertEquals(42, verifier.indexOfInvalid(transactions));
+        assertEquals(-1, verifier.indexOfInvalid(Collections.emptyList()));
+    }
+
+    @Test
+    void verifyAllThrowsForInvalidTransaction() {
+        List<Transaction> transactions = createFetchedTransfers(10);
+        Transaction unsigned = createTransfer(BigInteger.ZERO, recipient);
+        transactions.set(3, unsigned);
+        TransactionVerifier verifier = new TransactionVerifier(pool, 2);
+
+        InvalidSignatureException exception = assertThrows(InvalidSignatureException.class, () -> verifier.verifyAll(transactions));
+        assertSame(unsigned, exception.getTransaction());
+    }
+
+    @Test
+    void verifyingTransformersPassValidTransactionsAndFailOnInvalidOnes() {
+        List<Transaction> transactions = createFetchedTransfers(5);
+        Transaction unsigned = createTransfer(BigInteger.ZERO, recipient);
+        TransactionVerifier verifier = new TransactionVerifier(pool);
+
+        assertEquals(transactions, Observable.just(transactions).compose(verifier.verifyingAll()).blockingFirst());
+        assertEquals(transactions, Observable.fromIterable(transactions).compose(verifier.verifying()).toList().blockingGet());
+        assertThrows(InvalidSignatureException.class, () -> Observable.just(transactions, Arrays.asList(unsigned)).compose(verifier.verifyingAll()).blockingLast());
+        assertThrows(InvalidSignatureException.class, () -> Observable.just(unsigned).compose(verifier.verifying()).blockingFirst());
+    }
+
+    @Test
+    void verifyAllUpdatesMetrics() {
+        TransactionVerifier verifier = new TransactionVerifier(pool, 4);
+        assertEquals(0.0, verifier.getSignaturesPerSecond());
+
+        verifier.verifyAll(createFetchedTransfers(12));
+
+        assertEquals(12, verifier.getVerifiedTransactions());
+        assertEquals(12, verifier.getVerifiedSignatures());
+        assertTrue(verifier.getElapsedTime(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(verifier.getSignaturesPerSecond() > 0);
+
+        verifier.resetMetrics();
+
+        assertEquals(0, verifier.getVerifiedTransactions());
+        assertEquals(0, verifier.getVerifiedSignatures());
+        assertEquals(0, verifier.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void cannotCreateVerifierWithNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionVerifier(pool, 0));
+    }
+
+    private static AggregateTransactionCosignature createTorsionedCosignature(Account cosignatory, byte[] hash) {
+        // signs with R' = r * B + (0, -1), so S * B - h * A = R' - (0, -1) is not R'
+        byte[] rawEncodedA = cosignatory.getKeyPair().getPublicKey().getRaw();
+        Ed25519EncodedFieldElement r = new Ed25519EncodedFieldElement(Hashes.sha3_512(rawEncodedA, hash)).modQ();
+        Ed25519GroupElement rB = Ed25519Group.BASE_POINT.scalarMultiply(r);
+        Ed25519FieldElement inverseZ = rB.getZ().invert();
+        Ed25519FieldElement x = rB.getX().multiply(inverseZ).negate();
+        byte[] rawEncodedR = rB.getY().multiply(inverseZ).negate().encode().getRaw();
+        if (x.isNegative()) {
+            rawEncodedR[31] |= (byte) 0x80;
+        }
+
+        Ed25519EncodedFieldElement h = new Ed25519EncodedFieldElement(Hashes.sha3_512(rawEncodedR, rawEncodedA, hash)).modQ();
+        Ed25519EncodedFieldElement s = h.multiplyAndAddModQ(Ed25519Utils.prepareForScalarMultiply(cosignatory.getKeyPair().getPrivateKey()), r);
+        Signature signature = new Signature(rawEncodedR, s.getRaw());
+        return new AggregateTransactionCosignature(HexEncoder.getString(signature.getBytes()), cosignatory.getPublicAccount());
+    }
+
+    private static List<Transaction> createFetchedTransfers(int count) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            transactions.add(fetch(createTransfer(BigInteger.valueOf(i), recipient), i % 2 == 0 ? account : cosignatoryAccount));
+        }
+
+        return transactions;
+    }
+
+    private static TransferTransaction createTransfer(BigInteger fee, Address recipient) {
+        return new TransferTransaction(
+                NetworkType.MIJIN_TEST,
+                3,
+                new Deadline(2, ChronoUnit.HOURS),
+                fee,
+                recipient,
+                Collections.singletonList(new Mosaic(new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100))),
+                PlainMessage.create("verify me"));
+    }
+
+    private static TransferTransaction fetch(TransferTransaction transaction, Account signer) {
+        SignedTransaction signedTransaction = transaction.signWith(signer);
+        return createFetchedTransfer(transaction, signedTransaction, signer.getPublicAccount(), signedTransaction.getHash());
+    }
+
+    private static TransferTransaction createFetchedTransfer(TransferTransaction transaction, SignedTransaction signedTransaction, PublicAccount signer, String hash) {
+        // fetched transactions carry the deadline in milliseconds since the nemesis block
+        return new TransferTransaction(
+                transaction.getNetworkType(),
+                transaction.getVersion(),
+                Deadline.createFromNemesisMilliseconds(BigInteger.valueOf(transaction.getDeadline().getInstant())),
+                transaction.getFee(),
+                transaction.getRecipient(),
+                transaction.getMosaics(),
+                transaction.getMessage(),
+                signedTransaction.getPayload().substring(8, 136),
+                signer,
+                null == hash ? TransactionInfo.createAggregate(BigInteger.ONE, 0, "id", "aggregateHash", "aggregateId") : TransactionInfo.create(BigInteger.ONE, hash, hash));
+    }
+
+    private static AggregateTransaction createAggregate() {
+        return new AggregateTransaction(
+                NetworkType.MIJIN_TEST,
+                TransactionType.AGGREGATE_COMPLETE,
+                2,
+                new Deadline(2, ChronoUnit.HOURS),
+                BigInteger.valueOf(3),
+                Arrays.asList(
+                        createTransfer(BigInteger.ZERO, recipient).toAggregate(account.getPublicAccount()),
+                        createTransfer(BigInteger.ZERO, otherAccount.getAddress()).toAggregate(cosignatoryAccount.getPublicAccount())),
+                Collections.emptyList());
+    }
+
+    private static AggregateTransaction createFetchedAggregate(AggregateTransaction aggregate, SignedTransaction signedTransaction, PublicAccount cosignatory) {
+        // the payload of a cosigned aggregate ends with the cosigner public key and signature
+        String payload = signedTransaction.getPayload();
+        String cosignature = payload.substring(payload.length() - 128);
+        return new AggregateTransaction(
+                aggregate.getNetworkType(),
+                aggregate.getType(),
+                aggregate.getVersion(),
+                Deadline.createFromNemesisMilliseconds(BigInteger.valueOf(aggregate.getDeadline().getInstant())),
+                aggregate.getFee(),
+                aggregate.getInnerTransactions(),
+                Collections.singletonList(new AggregateTransactionCosignature(cosignature, cosignatory)),
+                payload.substring(8, 136),
+                account.getPublicAccount(),
+                TransactionInfo.create(BigInteger.ONE, signedTransaction.getHash(), signedTransaction.getHash()));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.account.PublicAccount;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.MosaicProperties;
+import io.nem.sdk.model.mosaic.MosaicSupplyType;
+import io.nem.sdk.model.mosaic.XEM;
+import io.nem.sdk.model.namespace.NamespaceId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionWriterTest {
+    private static final String SECRET = "b778a39a3663719dfc5e48c9d78431b1e45c2af9df538782bf199c189dabeac7680ada57dcec8eee91c4e3bf3bfa9af6ffde90cd1d249d1c6121d7b759a001b1";
+    private static final PublicAccount SIGNER = new PublicAccount("9A49366406ACA952B88BADF5F1E9BE6CE4968141035A60BE503273EA65456B24", NetworkType.MIJIN_TEST);
+    private static final Address RECIPIENT = new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST);
+
+    @Test
+    void writesLittleEndianScalarsAndBytes() {
+        TransactionWriter writer = new TransactionWriter(19);
+
+        writer.writeByte(0x1FF);
+        writer.writeShort(0x0102);
+        writer.writeInt(0x01020304);
+        writer.writeUInt64(new BigInteger("0102030405060708", 16));
+        writer.writeBytes(new byte[]{9, 10});
+        writer.writeZeros(2);
+
+        assertArrayEquals(new byte[]{-1, 2, 1, 4, 3, 2, 1, 8, 7, 6, 5, 4, 3, 2, 1, 9, 10, 0, 0}, writer.toByteArray());
+    }
+
+    @Test
+    void writesZeroScalarsAsSingleByte() {
+        TransactionWriter writer = new TransactionWriter(0);
+
+        writer.writeShort(0);
+        writer.writeShort(0x10000);
+        writer.writeInt(0);
+        writer.writeUInt64(BigInteger.ZERO);
+
+        assertArrayEquals(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, writer.toByteArray());
+    }
+
+    @Test
+    void writesUnsignedValuesLikeUInt64() {
+        BigInteger[] values = {BigInteger.ONE, new BigInteger("18446744073709551615"), new BigInteger("9223372036854775808"), BigInteger.valueOf(-1)};
+        for (BigInteger value : values) {
+            TransactionWriter writer = new TransactionWriter(8);
+            int[] parts = UInt64.fromBigInteger(value);
+
+            writer.writeUInt64(value);
+
+            byte[] expected = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(parts[0]).putInt(parts[1]).array();
+            assertArrayEquals(expected, writer.toByteArray());
+        }
+    }
+
+    @Test
+    void growsWhenExpectedSizeIsTooSmall() {
+        TransactionWriter writer = new TransactionWriter(2);
+
+        int position = writer.reserveInt();
+        writer.writeBytes(new byte[]{1, 2, 3, 4, 5});
+        writer.putInt(position, 5);
+
+        assertArrayEquals(new byte[]{5, 0, 0, 0, 1, 2, 3, 4, 5}, writer.toByteArray());
+    }
+
+    @Test
+    void generateBytesEqualsFlatBufferBytesForAllTransactionTypes() {
+        for (Transaction transaction : createTransactions()) {
+            assertArrayEquals(transaction.generateFlatBufferBytes(), transaction.generateBytes(), transaction.getType().toString());
+        }
+    }
+
+    @Test
+    void toAggregateTransactionBytesEqualsFlatBufferBytesForAllTransactionTypes() {
+        for (Transaction transaction : createTransactions()) {
+            Transaction innerTransaction = transaction.toAggregate(SIGNER);
+            assertArrayEquals(innerTransaction.toAggregateTransactionFlatBufferBytes(), innerTransaction.toAggregateTransactionBytes(), transaction.getType().toString());
+        }
+    }
+
+    @Test
+    void generateBytesEqualsFlatBufferBytesForAggregateTransactions() {
+        List<Transaction> innerTransactions = new ArrayList<>();
+        for (Transaction transaction : createTransactions()) {
+            innerTransactions.add(transaction.toAggregate(SIGNER));
+        }
+
+        List<AggregateTransaction> aggregateTransactions = Arrays.asList(
+                AggregateTransaction.createComplete(new FakeDeadline(), innerTransactions, NetworkType.MIJIN_TEST),
+                AggregateTransaction.createBonded(new Deadline(2, ChronoUnit.HOURS), innerTransactions.subList(0, 1), NetworkType.MAIN_NET),
+                AggregateTransaction.createBonded(new FakeDeadline(), Collections.emptyList(), NetworkType.MIJIN_TEST));
+
+        for (AggregateTransaction aggregateTransaction : aggregateTransactions) {
+            assertArrayEquals(aggregateTransaction.generateFlatBufferBytes(), aggregateTransaction.generateBytes());
+        }
+    }
+
+    private static List<Transaction> createTransactions() {
+        return Arrays.asList(
+                TransferTransaction.create(new FakeDeadline(), RECIPIENT, Collections.emptyList(), PlainMessage.Empty, NetworkType.MIJIN_TEST),
+                new TransferTransaction(NetworkType.MAIN_NET, 3, new Deadline(2, ChronoUnit.HOURS), BigInteger.valueOf(1234567), RECIPIENT,
+                        Arrays.asList(
+                                new Mosaic(XEM.MOSAICID, BigInteger.valueOf(10000000)),
+                                new Mosaic(new MosaicId(new BigInteger("18446744073709551615")), new BigInteger("9223372036854775808"))),
+                        PlainMessage.create("méssage ✓")),
+                RegisterNamespaceTransaction.createRootNamespace(new FakeDeadline(), "newnamespace", BigInteger.valueOf(10000), NetworkType.MIJIN_TEST),
+                RegisterNamespaceTransaction.createSubNamespace(new FakeDeadline(), "sub", new NamespaceId("newnamespace"), NetworkType.MIJIN_TEST),
+                MosaicDefinitionTransaction.create(new FakeDeadline(), "mosaics", "sname", new MosaicProperties(true, true, true, 4, BigInteger.valueOf(10000)), NetworkType.MIJIN_TEST),
+                MosaicDefinitionTransaction.create(new FakeDeadline(), "m", "sname", new MosaicProperties(false, false, false, 0, BigInteger.ZERO), NetworkType.MIJIN_TEST),
+                MosaicSupplyChangeTransaction.create(new FakeDeadline(), new MosaicId(new BigInteger("6300565133566699912")), MosaicSupplyType.DECREASE, BigInteger.ZERO, NetworkType.MIJIN_TEST),
+                SecretLockTransaction.create(new FakeDeadline(), XEM.createRelative(BigInteger.valueOf(10)), BigInteger.valueOf(100), HashType.SHA3_512, SECRET, RECIPIENT, NetworkType.MIJIN_TEST),
+                SecretProofTransaction.create(new FakeDeadline(), HashType.SHA3_512, SECRET, "9a493664", NetworkType.MIJIN_TEST),
+                SecretProofTransaction.create(new FakeDeadline(), HashType.SHA3_512, SECRET, "", NetworkType.MIJIN_TEST),
+                LockFundsTransaction.create(new FakeDeadline(), XEM.createRelative(BigInteger.valueOf(10)), BigInteger.valueOf(100),
+                        new SignedTransaction("payload", "8498B38D89C1DC8A448EA5824938FF828926CD9F7747B1844B59B4B6807E878B", TransactionType.AGGREGATE_BONDED), NetworkType.MIJIN_TEST),
+                ModifyMultisigAccountTransaction.create(new FakeDeadline(), 2, 1, Arrays.asList(
+                        new MultisigCosignatoryModification(MultisigCosignatoryModificationType.ADD, SIGNER),
+                        new MultisigCosignatoryModification(MultisigCosignatoryModificationType.REMOVE, PublicAccount.createFromPublicKey("cf893ffcc47c33e7f68ab1db56365c156b0736824a0c1e273f9e00b8df8f01eb", NetworkType.MIJIN_TEST))), NetworkType.MIJIN_TEST),
+                ModifyMultisigAccountTransaction.create(new FakeDeadline(), 0, 0, Collections.emptyList(), NetworkType.MIJIN_TEST));
+    }
+}
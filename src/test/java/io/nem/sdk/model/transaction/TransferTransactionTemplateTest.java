@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.sdk.model.transaction;
+
+import io.nem.core.crypto.PreparedSigner;
+import io.nem.sdk.model.account.Account;
+import io.nem.sdk.model.account.Address;
+import io.nem.sdk.model.blockchain.NetworkType;
+import io.nem.sdk.model.mosaic.Mosaic;
+import io.nem.sdk.model.mosaic.MosaicId;
+import io.nem.sdk.model.mosaic.XEM;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransferTransactionTemplateTest {
+    private static final Address RECIPIENT = new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST);
+    private static final Address OTHER_RECIPIENT = new Address("SBILTA367K2LX2FEXG5TFWAS7GEFYAGY7QLFBYKC", NetworkType.MIJIN_TEST);
+    private static final MosaicId OTHER_MOSAIC_ID = new MosaicId(new BigInteger("6300565133566699912"));
+    static Account account;
+
+    @BeforeAll
+    public static void setup() {
+        account = new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", NetworkType.MIJIN_TEST);
+    }
+
+    @Test
+    void shouldCreateTheSamePayloadAsTransferTransaction() {
+        TransferTransactionTemplate template = new TransferTransactionTemplate(createTransfer(RECIPIENT, BigInteger.ONE, BigInteger.TEN, new FakeDeadline(), BigInteger.ZERO));
+        List<BigInteger[]> amounts = Arrays.asList(
+                new BigInteger[]{BigInteger.ZERO, BigInteger.ZERO},
+                new BigInteger[]{BigInteger.valueOf(1000000), BigInteger.valueOf(42)},
+                new BigInteger[]{new BigInteger("18446744073709551615"), BigInteger.valueOf(Long.MAX_VALUE)});
+        Deadline deadline = new Deadline(2, ChronoUnit.HOURS);
+
+        for (BigInteger[] amount : amounts) {
+            SignedTransaction expected = createTransfer(OTHER_RECIPIENT, amount[0], amount[1], deadline, BigInteger.valueOf(300)).signWith(account);
+
+            SignedTransaction signedTransaction = template.signWith(account, OTHER_RECIPIENT, Arrays.asList(amount), deadline, BigInteger.valueOf(300));
+
+            assertEquals(expected.getPayload(), signedTransaction.getPayload());
+            assertEquals(expected.getHash(), signedTransaction.getHash());
+            assertEquals(TransactionType.TRANSFER, signedTransaction.getType());
+        }
+    }
+
+    @Test
+    void shouldCreateTheSamePayloadWithPreparedSigner() {
+        TransferTransactionTemplate template = new TransferTransactionTemplate(createTransfer(RECIPIENT, BigInteger.ONE, BigInteger.TEN, new FakeDeadline(), BigInteger.ZERO));
+        Deadline deadline = new Deadline(1, ChronoUnit.HOURS);
+        SignedTransaction expected = createTransfer(OTHER_RECIPIENT, BigInteger.valueOf(5), BigInteger.valueOf(6), deadline, BigInteger.ZERO).signWith(account);
+
+        try (PreparedSigner signer = account.createPreparedSigner()) {
+            SignedTransaction signedTransaction = template.signWith(signer, OTHER_RECIPIENT, Arrays.asList(BigInteger.valueOf(5), BigInteger.valueOf(6)), deadline, BigInteger.ZERO);
+
+            assertEquals(expected.getPayload(), signedTransaction.getPayload());
+        }
+    }
+
+    @Test
+    void shouldCreatePayloadsFromTemplateWithoutMosaics() {
+        TransferTransaction transfer = TransferTransaction.create(new FakeDeadline(), RECIPIENT, Collections.emptyList(), PlainMessage.create("payroll"), NetworkType.MIJIN_TEST);
+        TransferTransactionTemplate template = new TransferTransactionTemplate(transfer);
+        Deadline deadline = new Deadline(1, ChronoUnit.HOURS);
+        SignedTransaction expected = TransferTransaction.create(deadline, OTHER_RECIPIENT, Collections.emptyList(), PlainMessage.create("payroll"), NetworkType.MIJIN_TEST).signWith(account);
+
+        SignedTransaction signedTransaction = template.signWith(account, OTHER_RECIPIENT, Collections.emptyList(), deadline, BigInteger.ZERO);
+
+        assertEquals(0, template.getMosaicCount());
+        assertEquals(expected.getPayload(), signedTransaction.getPayload());
+    }
+
+    @Test
+    void shouldBeUsableFromManyThreads() {
+        TransferTransactionTemplate template = new TransferTransactionTemplate(createTransfer(RECIPIENT, BigInteger.ONE, BigInteger.TEN, new FakeDeadline(), BigInteger.ZERO));
+        Deadline deadline = new Deadline(1, ChronoUnit.HOURS);
+
+        List<byte[]> payloads = IntStream.range(0, 64).parallel()
+                .mapToObj(i -> template.generateBytes(RECIPIENT, Arrays.asList(BigInteger.valueOf(i), BigInteger.valueOf(2 * i)), deadline, BigInteger.valueOf(i)))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < 64; i++) {
+            byte[] expected = createTransfer(RECIPIENT, BigInteger.valueOf(i), BigInteger.valueOf(2 * i), deadline, BigInteger.valueOf(i)).generateBytes();
+            assertArrayEquals(expected, payloads.get(i));
+        }
+    }
+
+    @Test
+    void cannotCreatePayloadWithInvalidFields() {
+        TransferTransactionTemplate template = new TransferTransactionTemplate(createTransfer(RECIPIENT, BigInteger.ONE, BigInteger.TEN, new FakeDeadline(), BigInteger.ZERO));
+        Deadline deadline = new Deadline(1, ChronoUnit.HOURS);
+        List<BigInteger> amounts = Arrays.asList(BigInteger.ONE, BigInteger.ONE);
+        Address mainNetRecipient = new Address("NDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MAIN_NET);
+
+        assertThrows(IllegalArgumentException.class, () -> template.generateBytes(RECIPIENT, Collections.singletonList(BigInteger.ONE), deadline, BigInteger.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> template.generateBytes(RECIPIENT, Arrays.asList(BigInteger.ONE, BigInteger.valueOf(-1)), deadline, BigInteger.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> template.generateBytes(RECIPIENT, Arrays.asList(BigInteger.ONE, BigInteger.ONE.shiftLeft(64)), deadline, BigInteger.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> template.generateBytes(RECIPIENT, amounts, deadline, BigInteger.valueOf(-1)));
+        assertThrows(IllegalArgumentException.class, () -> template.generateBytes(mainNetRecipient, amounts, deadline, BigInteger.ZERO));
+        assertThrows(NullPointerException.class, () -> template.generateBytes(null, amounts, deadline, BigInteger.ZERO));
+    }
+
+    private static TransferTransaction createTransfer(Address recipient, BigInteger xemAmount, BigInteger otherAmount, Deadline deadline, BigInteger fee) {
+        List<Mosaic> mosaics = new ArrayList<>();
+        mosaics.add(new Mosaic(XEM.MOSAICID, xemAmount));
+        mosaics.add(new Mosaic(OTHER_MOSAIC_ID, otherAmount));
+        return new TransferTransaction(NetworkType.MIJIN_TEST, 3, deadline, fee, recipient, mosaics, PlainMessage.create("salary"));
+    }
+}
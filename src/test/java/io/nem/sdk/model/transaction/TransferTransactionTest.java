@@ -103,6 +103,29 @@ class TransferTransactionTest {
         assertArrayEquals(expected, actual);
     }
 
+    @Test
+    @DisplayName("To aggregate does not modify the transaction")
+    void toAggregateReturnsCopyWithSigner() {
+        TransferTransaction transferTransaction = TransferTransaction.create(
+                new FakeDeadline(),
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Arrays.asList(
+                        new Mosaic(new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100))
+                ),
+                PlainMessage.Empty,
+                NetworkType.MIJIN_TEST
+        );
+        PublicAccount signer = new PublicAccount("9A49366406ACA952B88BADF5F1E9BE6CE4968141035A60BE503273EA65456B24", NetworkType.MIJIN_TEST);
+
+        Transaction aggregateTransaction = transferTransaction.toAggregate(signer);
+
+        assertNotSame(transferTransaction, aggregateTransaction);
+        assertTrue(aggregateTransaction instanceof TransferTransaction);
+        assertEquals(signer, aggregateTransaction.getSigner().get());
+        assertFalse(transferTransaction.getSigner().isPresent());
+        assertEquals(transferTransaction.getMosaics(), ((TransferTransaction) aggregateTransaction).getMosaics());
+    }
+
     @Test
     void serializeAndSignTransaction() {
         TransferTransaction transferTransaction = TransferTransaction.create(